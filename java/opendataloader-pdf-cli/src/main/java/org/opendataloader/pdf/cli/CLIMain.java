@@ -22,10 +22,19 @@ import org.opendataloader.pdf.api.cli.CLIOptions;
 import org.opendataloader.pdf.exceptions.EncryptedTaggedPdfNotSupportedException;
 import org.opendataloader.pdf.exceptions.InvalidPdfFileException;
 import org.opendataloader.pdf.exceptions.TempDirectoryNotWritableException;
+import org.opendataloader.pdf.processors.TriagePreflightProcessor;
+import org.opendataloader.pdf.processors.TriagePreflightProcessor.DocumentTriage;
 import org.verapdf.exceptions.InvalidPasswordException;
 import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.logging.Handler;
 import java.util.logging.Level;
@@ -118,6 +127,9 @@ public class CLIMain {
             return 2;
         }
         configureLogging(quiet);
+        if (config.isTriagePreflight()) {
+            return runTriagePreflight(arguments, config);
+        }
         boolean hasFailure = false;
         try {
             for (String argument : arguments) {
@@ -135,6 +147,74 @@ public class CLIMain {
         return hasFailure ? 1 : 0;
     }
 
+    /**
+     * Runs the triage-only preflight over every PDF named on the command line
+     * (folders are searched recursively) and writes one routing summary for all
+     * of them, to the output folder or to stdout with {@code --to-stdout}.
+     *
+     * @return 0 if every document was triaged, 1 if any input was missing or failed,
+     *         2 if hybrid mode is off
+     */
+    private static int runTriagePreflight(String[] arguments, Config config) {
+        if (!config.isHybridEnabled()) {
+            System.out.println("Error: --triage-preflight requires --hybrid");
+            return 2;
+        }
+        List<String> inputPdfNames = new ArrayList<>();
+        boolean hasFailure = false;
+        for (String argument : arguments) {
+            File file = new File(argument);
+            if (!file.exists()) {
+                LOGGER.log(Level.WARNING, "File or folder " + file.getAbsolutePath() + " not found.");
+                hasFailure = true;
+            } else if (file.isFile() && !isPdfFile(file)) {
+                System.out.println("Error: '" + file.getName()
+                    + "' is not a PDF file. Input must be a PDF file or a folder containing PDF files.");
+                hasFailure = true;
+            } else {
+                collectPdfFiles(file, inputPdfNames);
+            }
+        }
+        List<DocumentTriage> documents = OpenDataLoaderPDF.triagePreflight(inputPdfNames, config);
+        try {
+            if (config.isOutputStdout()) {
+                Writer writer = new OutputStreamWriter(System.out, StandardCharsets.UTF_8);
+                TriagePreflightProcessor.writePreflightJson(writer, config.getHybrid(), documents);
+                writer.write(System.lineSeparator());
+                writer.flush();
+            } else {
+                Path outputPath = TriagePreflightProcessor.writePreflightFile(
+                    Path.of(config.getOutputFolder()), config.getHybrid(), documents);
+                System.out.println("Triage preflight for " + documents.size() + " PDF file"
+                    + (documents.size() == 1 ? "" : "s") + " written to '" + outputPath + "'.");
+            }
+        } catch (IOException exception) {
+            System.out.println("Error: Unable to write triage preflight: " + exception.getMessage());
+            return 1;
+        }
+        for (DocumentTriage document : documents) {
+            if (document.isFailed()) {
+                hasFailure = true;
+            }
+        }
+        return hasFailure ? 1 : 0;
+    }
+
+    private static void collectPdfFiles(File file, List<String> inputPdfNames) {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            if (children == null) {
+                LOGGER.log(Level.WARNING, "Unable to read folder " + file.getAbsolutePath());
+                return;
+            }
+            for (File child : children) {
+                collectPdfFiles(child, inputPdfNames);
+            }
+        } else if (isPdfFile(file)) {
+            inputPdfNames.add(file.getAbsolutePath());
+        }
+    }
+
     private static void configureLogging(boolean quiet) {
         if (!quiet) {
             return;
@@ -120,6 +120,25 @@ class CLIMainTest {
         assertEquals(2, exitCode);
     }
 
+    /**
+     * Triage preflight without a hybrid backend is a usage error: no page would ever be
+     * sent to a backend, so there is nothing to estimate.
+     */
+    @Test
+    void testTriagePreflightWithoutHybridReturnsExitCode2() throws IOException {
+        Path testPdf = tempDir.resolve("test.pdf");
+        Files.write(testPdf, "%PDF-1.4 minimal".getBytes());
+
+        int exitCode = CLIMain.run(new String[]{
+            "--triage-preflight",
+            "--output-dir", tempDir.toString(),
+            testPdf.toString()
+        });
+
+        assertEquals(2, exitCode);
+        assertFalse(Files.exists(tempDir.resolve("triage-preflight.json")));
+    }
+
     /**
      * Non-existent input file must return non-zero exit code.
      */
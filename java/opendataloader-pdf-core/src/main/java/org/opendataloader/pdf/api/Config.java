@@ -15,6 +15,7 @@
  */
 package org.opendataloader.pdf.api;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -70,11 +71,20 @@ public class Config {
     private boolean isGenerateJSON = true;
     private boolean isGenerateText = false;
     private boolean isGenerateTaggedPDF = false;
+    private boolean isGenerateSmile = false;
+    private boolean isGenerateCbor = false;
+    private boolean isGenerateJsonLines = false;
+    private boolean isGenerateElementStream = false;
+    private boolean isGenerateChunks = false;
+    private boolean isGenerateSnapshot = false;
     private boolean useStructTree = false;
     private boolean useHTMLInMarkdown = false;
     private boolean addImageToMarkdown = false;
     private String replaceInvalidChars = " ";
     private String outputFolder;
+    private OutputSink outputSink;
+    private String outputCompression = OUTPUT_COMPRESSION_NONE;
+    private boolean outputArchive = false;
     private String tableMethod = TABLE_METHOD_DEFAULT;
     private String readingOrder = READING_ORDER_XYCUT;
     private String markdownPageSeparator = "";
@@ -83,6 +93,7 @@ public class Config {
     private String imageOutput = IMAGE_OUTPUT_EXTERNAL;
     private String imageFormat = IMAGE_FORMAT_PNG;
     private String imageDir;
+    private String imageStore;
     private Double imageResolution;
     private String pages;
     private List<Integer> cachedPageNumbers;
@@ -113,6 +124,12 @@ public class Config {
     public static final String IMAGE_OUTPUT_EXTERNAL = "external";
     private static Set<String> imageOutputOptions = new HashSet<>();
 
+    /** Output compression: outputs are written uncompressed. */
+    public static final String OUTPUT_COMPRESSION_NONE = "none";
+    /** Output compression: outputs are gzip-compressed as they are written. */
+    public static final String OUTPUT_COMPRESSION_GZIP = "gzip";
+    private static Set<String> outputCompressionOptions = new HashSet<>();
+
     static {
         readingOrderOptions.add(READING_ORDER_OFF);
         readingOrderOptions.add(READING_ORDER_XYCUT);
@@ -123,6 +140,8 @@ public class Config {
         imageOutputOptions.add(IMAGE_OUTPUT_OFF);
         imageOutputOptions.add(IMAGE_OUTPUT_EMBEDDED);
         imageOutputOptions.add(IMAGE_OUTPUT_EXTERNAL);
+        outputCompressionOptions.add(OUTPUT_COMPRESSION_NONE);
+        outputCompressionOptions.add(OUTPUT_COMPRESSION_GZIP);
         hybridOptions.add(HYBRID_OFF);
         hybridOptions.add(HYBRID_DOCLING);
         hybridOptions.add(HYBRID_DOCLING_FAST);  // deprecated alias
@@ -259,6 +278,121 @@ public class Config {
         isGenerateJSON = generateJSON;
     }
 
+    /**
+     * Checks if Smile output generation is enabled: the JSON output in Jackson's binary
+     * Smile encoding.
+     *
+     * @return true if Smile output should be generated, false otherwise.
+     */
+    public boolean isGenerateSmile() {
+        return isGenerateSmile;
+    }
+
+    /**
+     * Enables or disables Smile output generation.
+     *
+     * @param generateSmile true to enable, false to disable.
+     */
+    public void setGenerateSmile(boolean generateSmile) {
+        isGenerateSmile = generateSmile;
+    }
+
+    /**
+     * Checks if CBOR output generation is enabled: the JSON output in the binary CBOR encoding.
+     *
+     * @return true if CBOR output should be generated, false otherwise.
+     */
+    public boolean isGenerateCbor() {
+        return isGenerateCbor;
+    }
+
+    /**
+     * Enables or disables CBOR output generation.
+     *
+     * @param generateCbor true to enable, false to disable.
+     */
+    public void setGenerateCbor(boolean generateCbor) {
+        isGenerateCbor = generateCbor;
+    }
+
+    /**
+     * Checks if JSON Lines output generation is enabled: the elements of the JSON output,
+     * one compact element per line, written page by page.
+     *
+     * @return true if JSON Lines output should be generated, false otherwise.
+     */
+    public boolean isGenerateJsonLines() {
+        return isGenerateJsonLines;
+    }
+
+    /**
+     * Enables or disables JSON Lines output generation.
+     *
+     * @param generateJsonLines true to enable, false to disable.
+     */
+    public void setGenerateJsonLines(boolean generateJsonLines) {
+        isGenerateJsonLines = generateJsonLines;
+    }
+
+    /**
+     * Checks if element stream output generation is enabled: one flat JSON record per
+     * semantic element, with its heading path and table or list position, one per line.
+     *
+     * @return true if element stream output should be generated, false otherwise.
+     */
+    public boolean isGenerateElementStream() {
+        return isGenerateElementStream;
+    }
+
+    /**
+     * Enables or disables element stream output generation.
+     *
+     * @param generateElementStream true to enable, false to disable.
+     */
+    public void setGenerateElementStream(boolean generateElementStream) {
+        isGenerateElementStream = generateElementStream;
+    }
+
+    /**
+     * Checks if chunk output generation is enabled: the text of the document in chunks of at
+     * most {@link #getChunkSize()} estimated tokens, with their heading path and bounding
+     * boxes, one per line.
+     *
+     * @return true if chunk output should be generated, false otherwise.
+     */
+    public boolean isGenerateChunks() {
+        return isGenerateChunks;
+    }
+
+    /**
+     * Enables or disables chunk output generation.
+     *
+     * @param generateChunks true to enable, false to disable.
+     */
+    public void setGenerateChunks(boolean generateChunks) {
+        isGenerateChunks = generateChunks;
+    }
+
+    /**
+     * Checks if snapshot output generation is enabled: the extracted contents in a binary
+     * form that {@link OutputWriter#writeOutputs(String, java.nio.file.Path, Config)} renders
+     * to other formats without parsing the PDF again.
+     *
+     * @return true if snapshot output should be generated, false otherwise.
+     */
+    public boolean isGenerateSnapshot() {
+        return isGenerateSnapshot;
+    }
+
+    /**
+     * Enables or disables snapshot output generation.
+     *
+     * @param generateSnapshot true to enable, false to disable.
+     */
+    public void setGenerateSnapshot(boolean generateSnapshot) {
+        isGenerateSnapshot = generateSnapshot;
+    }
+
     /**
      * Checks if plain text output generation is enabled.
      *
@@ -342,6 +476,95 @@ public class Config {
         this.outputFolder = outputFolder;
     }
 
+    /**
+     * Gets the sink the JSON, Markdown, HTML and text outputs are written to: the sink set with
+     * {@link #setOutputSink(OutputSink)}, or the output folder otherwise, compressed if an
+     * output compression is set.
+     *
+     * @return The output sink.
+     */
+    public OutputSink getOutputSink() {
+        OutputSink sink = outputSink != null ? outputSink
+            : OutputSink.toDirectory(Paths.get(outputFolder != null ? outputFolder : ""));
+        return OUTPUT_COMPRESSION_GZIP.equals(outputCompression) ? OutputSink.gzip(sink) : sink;
+    }
+
+    /**
+     * Sets a sink receiving the JSON, Markdown, HTML and text outputs instead of the output
+     * folder. PDF outputs and extracted image files are still written to the output folder.
+     *
+     * @param outputSink The output sink, or null to write to the output folder.
+     */
+    public void setOutputSink(OutputSink outputSink) {
+        this.outputSink = outputSink;
+    }
+
+    /**
+     * Gets the compression applied to the JSON, Markdown, HTML and text outputs.
+     *
+     * @return The output compression (none or gzip).
+     */
+    public String getOutputCompression() {
+        return outputCompression;
+    }
+
+    /**
+     * Sets the compression applied to the JSON, Markdown, HTML and text outputs.
+     * Compressed outputs get the extension of the compression appended to their names.
+     *
+     * @param outputCompression The output compression (none or gzip).
+     * @throws IllegalArgumentException if the compression is not supported.
+     */
+    public void setOutputCompression(String outputCompression) {
+        if (outputCompression != null && !isValidOutputCompression(outputCompression)) {
+            throw new IllegalArgumentException(
+                String.format("Unsupported output compression '%s'. Supported values: %s",
+                    outputCompression, getOutputCompressionOptions(", ")));
+        }
+        this.outputCompression = outputCompression != null
+            ? outputCompression.toLowerCase(Locale.ROOT) : OUTPUT_COMPRESSION_NONE;
+    }
+
+    /**
+     * Checks if the outputs and images of each document are written into one ZIP archive.
+     *
+     * @return true if outputs are archived, false for separate files.
+     */
+    public boolean isOutputArchive() {
+        return outputArchive;
+    }
+
+    /**
+     * Sets whether the JSON, Markdown, HTML, text and image outputs of each document are
+     * written into one ZIP archive named after the document in the output folder. Image
+     * references stay relative to the outputs inside the archive.
+     *
+     * @param outputArchive true to write one archive per document.
+     */
+    public void setOutputArchive(boolean outputArchive) {
+        this.outputArchive = outputArchive;
+    }
+
+    /**
+     * Gets the list of supported output compression options.
+     *
+     * @param delimiter The delimiter to use between options.
+     * @return The string with output compressions separated by the delimiter.
+     */
+    public static String getOutputCompressionOptions(CharSequence delimiter) {
+        return String.join(delimiter, outputCompressionOptions);
+    }
+
+    /**
+     * Checks if the given output compression is valid.
+     *
+     * @param compression The output compression to check.
+     * @return true if the compression is valid, false otherwise.
+     */
+    public static boolean isValidOutputCompression(String compression) {
+        return compression != null && outputCompressionOptions.contains(compression.toLowerCase(Locale.ROOT));
+    }
+
     /**
      * Gets the character, that replaces invalid or unrecognized characters (e.g., �, \u0000).
      *
@@ -676,6 +899,30 @@ public class Config {
         }
     }
 
+    /**
+     * Gets the directory of the content-addressed image store shared across documents.
+     *
+     * @return The image store directory path, or null if images are not shared.
+     */
+    public String getImageStore() {
+        return imageStore;
+    }
+
+    /**
+     * Sets the directory of a content-addressed image store shared across documents.
+     * Identical extracted images are stored there once and linked into each document's
+     * image directory. Empty or whitespace-only strings are treated as null (no store).
+     *
+     * @param imageStore The image store directory path.
+     */
+    public void setImageStore(String imageStore) {
+        if (imageStore != null && imageStore.trim().isEmpty()) {
+            this.imageStore = null;
+        } else {
+            this.imageStore = imageStore;
+        }
+    }
+
     /**
      * Gets the resolution for extracted images.
      *
@@ -919,6 +1166,46 @@ public class Config {
         this.outputStdout = outputStdout;
     }
 
+    private boolean jsonCompact = false;
+
+    /**
+     * Checks if JSON output is written in compact form.
+     *
+     * @return true if JSON is written without indentation and with fixed-precision numbers, false otherwise.
+     */
+    public boolean isJsonCompact() {
+        return jsonCompact;
+    }
+
+    /**
+     * Enables or disables compact JSON output.
+     *
+     * @param jsonCompact true to write JSON without indentation and with fixed-precision numbers.
+     */
+    public void setJsonCompact(boolean jsonCompact) {
+        this.jsonCompact = jsonCompact;
+    }
+
+    private boolean triagePreflight = false;
+
+    /**
+     * Checks if the run is a triage-only preflight instead of a conversion.
+     *
+     * @return true if only triage routing should be reported, false otherwise.
+     */
+    public boolean isTriagePreflight() {
+        return triagePreflight;
+    }
+
+    /**
+     * Enables or disables the triage-only preflight.
+     *
+     * @param triagePreflight true to report triage routing without converting documents.
+     */
+    public void setTriagePreflight(boolean triagePreflight) {
+        this.triagePreflight = triagePreflight;
+    }
+
     private int threads = 1;
 
     public int getThreads() {
@@ -932,23 +1219,53 @@ public class Config {
         this.threads = Math.min(threads, Runtime.getRuntime().availableProcessors());
     }
 
+    /** Default size budget of a chunk, in estimated tokens. */
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * Gets the size budget of a chunk of the chunk output, in estimated tokens.
+     *
+     * @return the chunk size.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Sets the size budget of a chunk of the chunk output, in estimated tokens. Table rows
+     * and list items are never split, so a chunk holding a single larger one exceeds it.
+     *
+     * @param chunkSize the chunk size, at least 1.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("chunk size must be >= 1, got " + chunkSize);
+        }
+        this.chunkSize = chunkSize;
+    }
+
     /**
      * Returns true if any output format requires structured content
      * (reading order, heading levels, list detection, etc.).
      * Text-only output does not need these expensive processing steps.
      */
     public boolean needsStructuredProcessing() {
-        return isGenerateMarkdown() || isGenerateHtml() || isGenerateJSON() || isGeneratePDF();
+        return isGenerateMarkdown() || isGenerateHtml() || isGenerateJSON() || isGenerateJsonLines()
+                || isGenerateElementStream() || isGenerateChunks() || isGeneratePDF() || isGenerateSmile()
+                || isGenerateCbor() || isGenerateSnapshot();
     }
 
     /**
      * Resolves conflicts between individually valid option values.
      * Call once after all setters, before passing the Config to a processor.
      * Currently: in hybrid mode, forces {@code threads} to 1 because the hybrid
-     * pipeline runs sequentially regardless of this value.
+     * pipeline runs sequentially regardless of this value. A triage preflight never
+     * contacts the backend and keeps {@code threads} for its per-document workers.
      */
     public void normalize() {
-        if (isHybridEnabled() && threads > 1) {
+        if (isHybridEnabled() && threads > 1 && !triagePreflight) {
             LOGGER.log(Level.WARNING,
                     "--threads={0} ignored in hybrid mode (forcing threads=1); "
                             + "the hybrid pipeline processes pages sequentially",
@@ -33,47 +33,59 @@ public class FilterConfig {
     private boolean filterSensitiveData = false;
     private final List<SanitizationRule> filterRules;
 
+    private static final String DIGITS = "0123456789";
+
     /** Default rules */
     private void initializeDefaultRules() {
         filterRules.add(new SanitizationRule(
             Pattern.compile("[A-Za-z0-9._%+-]+@[A-Za-z0-9.-]+\\.[A-Za-z]{2,}"),
-            "email@example.com"
+            "email@example.com",
+            "@"
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("[+]\\d+(?:-\\d+)+"),
-            "+00-0000-0000"
+            "+00-0000-0000",
+            "+"
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("[A-Z]{1,2}\\d{6,9}"),
-            "AA0000000"
+            "AA0000000",
+            DIGITS
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b\\d{4}-?\\d{4}-?\\d{4}-?\\d{4}\\b"),
-            "0000-0000-0000-0000"
+            "0000-0000-0000-0000",
+            DIGITS
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b\\d{10,18}\\b"),
-            "0000000000000000"
+            "0000000000000000",
+            DIGITS
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b(?:\\d{1,3}\\.){3}\\d{1,3}\\b"),
-            "0.0.0.0"
+            "0.0.0.0",
+            "."
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b([0-9a-fA-F]{0,4}:){2,7}[0-9a-fA-F]{0,4}\\b"),
-            "0.0.0.0::1"
+            "0.0.0.0::1",
+            ":"
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b(?:[0-9A-Fa-f]{2}:){5}[0-9A-Fa-f]{2}\\b"),
-            "00:00:00:00:00:00"
+            "00:00:00:00:00:00",
+            ":"
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("\\b\\d{15}\\b"),
-            "000000000000000"
+            "000000000000000",
+            DIGITS
         ));
         filterRules.add(new SanitizationRule(
             Pattern.compile("https?://[A-Za-z0-9.-]+(:\\d+)?(/\\S*)?"),
-            "https://example.com"
+            "https://example.com",
+            ":"
         ));
     }
 
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Output archive keeping every output and extracted image in memory, by file name.
+ *
+ * <p>An output is available once the stream it was written to is closed. Images are kept
+ * under the name of the images directory, for example {@code sample_images/imageFile1.png},
+ * matching the relative references in the Markdown, HTML and JSON outputs.
+ */
+public final class MemoryOutputSink implements OutputArchive {
+    private final Map<String, byte[]> outputs = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    @Override
+    public OutputStream openOutputStream(String fileName) {
+        return new ByteArrayOutputStream() {
+            private boolean closed = false;
+
+            @Override
+            public void close() {
+                if (!closed) {
+                    closed = true;
+                    outputs.put(fileName, toByteArray());
+                }
+            }
+        };
+    }
+
+    @Override
+    public void writeStoredEntry(String entryName, byte[] bytes) {
+        outputs.put(entryName, bytes);
+    }
+
+    @Override
+    public boolean hasEntry(String entryName) {
+        return outputs.containsKey(entryName);
+    }
+
+    /**
+     * Gets the names of the outputs and images, in the order they were completed.
+     *
+     * @return the output names
+     */
+    public List<String> getOutputNames() {
+        synchronized (outputs) {
+            return new ArrayList<>(outputs.keySet());
+        }
+    }
+
+    /**
+     * Gets the bytes of an output or image.
+     *
+     * @param fileName the output file name
+     * @return the output bytes, or null if there is no such output
+     */
+    public byte[] getOutput(String fileName) {
+        return outputs.get(fileName);
+    }
+
+    /**
+     * Gets a text output decoded as UTF-8.
+     *
+     * @param fileName the output file name
+     * @return the output text, or null if there is no such output
+     */
+    public String getOutputAsString(String fileName) {
+        byte[] bytes = outputs.get(fileName);
+        return bytes != null ? new String(bytes, StandardCharsets.UTF_8) : null;
+    }
+}
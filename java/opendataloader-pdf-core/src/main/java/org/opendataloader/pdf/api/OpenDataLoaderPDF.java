@@ -17,12 +17,27 @@ package org.opendataloader.pdf.api;
 
 import org.opendataloader.pdf.hybrid.HybridClientFactory;
 import org.opendataloader.pdf.processors.DocumentProcessor;
+import org.opendataloader.pdf.processors.InMemoryDocumentProcessor;
+import org.opendataloader.pdf.processors.TriagePreflightProcessor;
+import org.opendataloader.pdf.processors.TriagePreflightProcessor.DocumentTriage;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.util.List;
 
 /**
  * The main entry point for the opendataloader-pdf library.
- * Use the static method {@link #processFile(String, Config)} to process a PDF.
+ * Use the static method {@link #processFile(String, Config)} to process a PDF file, or
+ * {@link #processBytes(byte[], String, Config)} and its variants to process a PDF held in
+ * memory and get the outputs in memory.
+ *
+ * <p>In-memory processing writes the JSON, Smile, CBOR, Markdown, HTML and text outputs to a
+ * {@link MemoryOutputSink} or a caller-provided {@link OutputSink}; the output folder is not
+ * used. Extracted images are kept with the outputs when the sink is an {@link OutputArchive},
+ * or embedded with {@link Config#IMAGE_OUTPUT_EMBEDDED}. The pdf and tagged-pdf outputs are
+ * not available in memory; use {@link AutoTagger} for in-memory tagging.
  */
 public final class OpenDataLoaderPDF {
 
@@ -40,6 +55,142 @@ public final class OpenDataLoaderPDF {
         DocumentProcessor.processFile(inputPdfName, config);
     }
 
+    /**
+     * Processes a PDF held in a byte array and returns its outputs in memory.
+     *
+     * @param pdf      The PDF data.
+     * @param fileName The document file name, used to name the outputs (e.g. {@code sample.pdf}).
+     * @param config   The configuration object specifying output formats and other options.
+     * @return The outputs and extracted images, by file name.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static MemoryOutputSink processBytes(byte[] pdf, String fileName, Config config) throws IOException {
+        MemoryOutputSink outputs = new MemoryOutputSink();
+        processBytes(pdf, fileName, config, outputs);
+        return outputs;
+    }
+
+    /**
+     * Processes a PDF held in a byte array and writes its outputs to the given sink.
+     *
+     * @param pdf        The PDF data.
+     * @param fileName   The document file name, used to name the outputs.
+     * @param config     The configuration object specifying output formats and other options.
+     * @param outputSink The sink receiving the outputs.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static void processBytes(byte[] pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        InMemoryDocumentProcessor.process(ByteBuffer.wrap(pdf), fileName, config, outputSink);
+    }
+
+    /**
+     * Processes the remaining bytes of a buffer, such as a memory-mapped file, and returns the
+     * outputs in memory. The buffer position is not changed.
+     *
+     * @param pdf      The PDF data.
+     * @param fileName The document file name, used to name the outputs.
+     * @param config   The configuration object specifying output formats and other options.
+     * @return The outputs and extracted images, by file name.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static MemoryOutputSink processBuffer(ByteBuffer pdf, String fileName, Config config) throws IOException {
+        MemoryOutputSink outputs = new MemoryOutputSink();
+        processBuffer(pdf, fileName, config, outputs);
+        return outputs;
+    }
+
+    /**
+     * Processes the remaining bytes of a buffer and writes the outputs to the given sink.
+     *
+     * @param pdf        The PDF data.
+     * @param fileName   The document file name, used to name the outputs.
+     * @param config     The configuration object specifying output formats and other options.
+     * @param outputSink The sink receiving the outputs.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static void processBuffer(ByteBuffer pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        InMemoryDocumentProcessor.process(pdf, fileName, config, outputSink);
+    }
+
+    /**
+     * Processes the whole content of a seekable channel and returns the outputs in memory.
+     * The channel position is not changed and the channel is not closed.
+     *
+     * @param pdf      The channel with the PDF data.
+     * @param fileName The document file name, used to name the outputs.
+     * @param config   The configuration object specifying output formats and other options.
+     * @return The outputs and extracted images, by file name.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static MemoryOutputSink processChannel(SeekableByteChannel pdf, String fileName, Config config)
+            throws IOException {
+        MemoryOutputSink outputs = new MemoryOutputSink();
+        processChannel(pdf, fileName, config, outputs);
+        return outputs;
+    }
+
+    /**
+     * Processes the whole content of a seekable channel and writes the outputs to the given sink.
+     *
+     * @param pdf        The channel with the PDF data.
+     * @param fileName   The document file name, used to name the outputs.
+     * @param config     The configuration object specifying output formats and other options.
+     * @param outputSink The sink receiving the outputs.
+     * @throws IOException If an error occurs during processing.
+     */
+    public static void processChannel(SeekableByteChannel pdf, String fileName, Config config,
+                                      OutputSink outputSink) throws IOException {
+        InMemoryDocumentProcessor.process(pdf, fileName, config, outputSink);
+    }
+
+    /**
+     * Processes the rest of a stream, such as a request body, and returns the outputs in
+     * memory. The stream is not closed.
+     *
+     * @param pdf      The stream with the PDF data.
+     * @param fileName The document file name, used to name the outputs.
+     * @param config   The configuration object specifying output formats and other options.
+     * @return The outputs and extracted images, by file name.
+     * @throws IOException If an error occurs during reading or processing.
+     */
+    public static MemoryOutputSink processStream(InputStream pdf, String fileName, Config config)
+            throws IOException {
+        MemoryOutputSink outputs = new MemoryOutputSink();
+        processStream(pdf, fileName, config, outputs);
+        return outputs;
+    }
+
+    /**
+     * Processes the rest of a stream and writes the outputs to the given sink.
+     *
+     * @param pdf        The stream with the PDF data.
+     * @param fileName   The document file name, used to name the outputs.
+     * @param config     The configuration object specifying output formats and other options.
+     * @param outputSink The sink receiving the outputs.
+     * @throws IOException If an error occurs during reading or processing.
+     */
+    public static void processStream(InputStream pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        InMemoryDocumentProcessor.process(pdf, fileName, config, outputSink);
+    }
+
+    /**
+     * Runs the hybrid triage on the given PDF files without converting them, to estimate
+     * how many pages a hybrid run would send to the backend. Documents are triaged in
+     * parallel, up to {@link Config#getThreads()} at a time.
+     *
+     * @param inputPdfNames The paths to the input PDF files.
+     * @param config        The configuration object specifying the hybrid backend and mode,
+     *                      page selection and filters.
+     * @return One triage outcome per input file, in input order.
+     * @throws IllegalArgumentException If hybrid mode is off.
+     */
+    public static List<DocumentTriage> triagePreflight(List<String> inputPdfNames, Config config) {
+        return TriagePreflightProcessor.triageDocuments(inputPdfNames, config);
+    }
+
     /**
      * Shuts down any cached resources used by the library.
      *
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import java.io.IOException;
+
+/**
+ * Output sink that also receives the extracted image files, so that a document's outputs and
+ * images end up together without an image directory on disk. Images are added under the
+ * name of the images directory, the path image references in the outputs are relative to.
+ */
+public interface OutputArchive extends OutputSink {
+
+    /**
+     * Adds a complete entry whose data is compressed already, such as an encoded image.
+     *
+     * @param entryName the entry name
+     * @param bytes     the entry data
+     * @throws IOException if the entry cannot be written
+     */
+    void writeStoredEntry(String entryName, byte[] bytes) throws IOException;
+
+    /**
+     * Checks whether an entry with the given name has been added.
+     *
+     * @param entryName the entry name
+     * @return true if the archive has the entry
+     */
+    boolean hasEntry(String entryName);
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Destination of the JSON, Markdown, HTML and text outputs of a document.
+ *
+ * <p>Each output is opened by its file name (for example {@code sample.md}) and is complete
+ * when the returned stream is closed. The default sink writes files to the output folder;
+ * callers can supply their own streams with a lambda, for example to upload outputs
+ * directly:
+ * <pre>{@code
+ * config.setOutputSink(fileName -> storage.openUpload(prefix + fileName));
+ * }</pre>
+ *
+ * <p>Text outputs are opened through {@link #openWriter(String)}, which coalesces the many
+ * small writes of the generators before they reach the stream.
+ */
+@FunctionalInterface
+public interface OutputSink {
+
+    /** Buffer between the outputs and a file channel. */
+    int CHANNEL_BUFFER_SIZE = 1 << 20;
+
+    /** Character buffer of the writers opened for text outputs. */
+    int WRITER_BUFFER_SIZE = 1 << 16;
+
+    /** Buffer of the deflater in gzip output. */
+    int GZIP_BUFFER_SIZE = 1 << 16;
+
+    /** Extension appended to the names of gzip-compressed outputs. */
+    String GZIP_EXTENSION = ".gz";
+
+    /**
+     * Opens the output with the given file name.
+     *
+     * @param fileName the output file name, without directory
+     * @return the stream to write the output to; the caller closes it
+     * @throws IOException if the output cannot be opened
+     */
+    OutputStream openOutputStream(String fileName) throws IOException;
+
+    /**
+     * Opens a UTF-8 text output with the given file name.
+     *
+     * @param fileName the output file name, without directory
+     * @return a buffered writer; the caller closes it
+     * @throws IOException if the output cannot be opened
+     */
+    default Writer openWriter(String fileName) throws IOException {
+        return new BufferedWriter(new OutputStreamWriter(openOutputStream(fileName), StandardCharsets.UTF_8),
+            WRITER_BUFFER_SIZE);
+    }
+
+    /**
+     * Describes where the output with the given file name is written, for log messages.
+     *
+     * @param fileName the output file name, without directory
+     * @return the location of the output
+     */
+    default String getLocation(String fileName) {
+        return fileName;
+    }
+
+    /**
+     * Returns a sink writing files into a directory through buffered file channels.
+     * The directory is created when the first output is opened.
+     *
+     * @param directory the output directory
+     * @return the directory sink
+     */
+    static OutputSink toDirectory(Path directory) {
+        return new OutputSink() {
+            @Override
+            public OutputStream openOutputStream(String fileName) throws IOException {
+                Path path = directory.resolve(fileName);
+                Path parent = path.getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                return new BufferedOutputStream(Channels.newOutputStream(FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)),
+                    CHANNEL_BUFFER_SIZE);
+            }
+
+            @Override
+            public String getLocation(String fileName) {
+                return directory.resolve(fileName).toString();
+            }
+        };
+    }
+
+    /**
+     * Returns a sink writing every output to a stream that stays open, such as standard
+     * output. Closing an output flushes the stream instead of closing it.
+     *
+     * @param outputStream the stream receiving the outputs
+     * @param location     description of the stream for log messages
+     * @return the stream sink
+     */
+    static OutputSink toStream(OutputStream outputStream, String location) {
+        return new OutputSink() {
+            @Override
+            public OutputStream openOutputStream(String fileName) {
+                return new FilterOutputStream(outputStream) {
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        out.write(b, off, len);
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        flush();
+                    }
+                };
+            }
+
+            @Override
+            public String getLocation(String fileName) {
+                return location;
+            }
+        };
+    }
+
+    /**
+     * Returns a sink compressing every output with gzip as it is written. The outputs are
+     * opened on the given sink with {@value #GZIP_EXTENSION} appended to their names.
+     *
+     * @param sink the sink receiving the compressed outputs
+     * @return the compressing sink
+     */
+    static OutputSink gzip(OutputSink sink) {
+        return new OutputSink() {
+            @Override
+            public OutputStream openOutputStream(String fileName) throws IOException {
+                OutputStream outputStream = sink.openOutputStream(fileName + GZIP_EXTENSION);
+                try {
+                    return new GZIPOutputStream(outputStream, GZIP_BUFFER_SIZE);
+                } catch (IOException e) {
+                    outputStream.close();
+                    throw e;
+                }
+            }
+
+            @Override
+            public String getLocation(String fileName) {
+                return sink.getLocation(fileName + GZIP_EXTENSION);
+            }
+        };
+    }
+}
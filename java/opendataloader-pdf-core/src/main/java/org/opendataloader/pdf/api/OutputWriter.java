@@ -17,8 +17,10 @@ package org.opendataloader.pdf.api;
 
 import org.opendataloader.pdf.processors.DocumentProcessor;
 import org.opendataloader.pdf.processors.ExtractionResult;
+import org.opendataloader.pdf.processors.ExtractionSnapshot;
 
 import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Writes configured output files (JSON, Markdown, HTML, PDF, text, images,
@@ -49,6 +51,10 @@ import java.io.IOException;
  * }
  * }</pre>
  *
+ * <p>An extraction can also be saved with the {@code snapshot} output format (or
+ * {@link ExtractionSnapshot#write}) and rendered later, in another process, with
+ * {@link #writeOutputs(String, Path, Config)}, which does not parse the PDF again.
+ *
  * <p>For the single-call extraction-and-output pipeline, use
  * {@link OpenDataLoaderPDF#processFile} instead.
  */
@@ -80,4 +86,26 @@ public final class OutputWriter {
         DocumentProcessor.generateOutputs(inputPdfName, extraction.getContents(), config,
                 extraction.getElementMetadata());
     }
+
+    /**
+     * Writes the output files configured on {@code config} from an extraction
+     * snapshot, without parsing the PDF.
+     *
+     * <p>Images are not extracted again: the outputs refer to the image files
+     * written in the run that saved the snapshot. Tagged PDF output needs the
+     * parsed document and is not supported; the annotated PDF output still
+     * reads {@code inputPdfName}.
+     *
+     * @param inputPdfName path to the input PDF file (used for filename derivation
+     *                     and the annotated-PDF output; not parsed)
+     * @param snapshot     snapshot file written with the {@code snapshot} output
+     *                     format, gzip-compressed or not
+     * @param config       configuration controlling which output formats to emit
+     * @throws IOException if the snapshot cannot be read or writing any output
+     *                     file fails
+     * @throws IllegalArgumentException if tagged PDF output is configured
+     */
+    public static void writeOutputs(String inputPdfName, Path snapshot, Config config) throws IOException {
+        DocumentProcessor.generateOutputsFromSnapshot(inputPdfName, ExtractionSnapshot.read(snapshot), config);
+    }
 }
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Output sink writing every output as an entry of one streamed ZIP archive.
+ *
+ * <p>Outputs are deflated; already compressed data such as encoded images is added with
+ * {@link #writeStoredEntry(String, byte[])} and stored as is. Entries may be opened from
+ * several threads: an entry opened while no other one is streaming is written into the
+ * archive directly, and entries opened meanwhile are spooled to temporary files. Spooled and
+ * stored entries that are complete while an entry is streaming are appended after it.
+ */
+public final class ZipOutputSink implements OutputArchive, Closeable {
+    /** Extension of the archive files. */
+    public static final String ZIP_EXTENSION = ".zip";
+
+    private final ZipOutputStream zipOutputStream;
+    private final String location;
+    private final Set<String> entryNames = ConcurrentHashMap.newKeySet();
+    /** Complete entries waiting for the streaming entry to be closed; guarded by this sink. */
+    private final Deque<PendingEntry> pendingEntries = new ArrayDeque<>();
+    /** Spooled entries opened but not closed yet; guarded by this sink. */
+    private final Set<SpooledEntryOutputStream> openSpooledEntries = new LinkedHashSet<>();
+    /** Whether an entry is being written into the archive directly; guarded by this sink. */
+    private boolean streaming = false;
+    private boolean closed = false;
+
+    /**
+     * Creates an archive file, replacing an existing one.
+     *
+     * @param archive the archive file
+     * @throws IOException if the file cannot be created
+     */
+    public ZipOutputSink(Path archive) throws IOException {
+        this(openArchiveFile(archive), archive.toString());
+    }
+
+    /**
+     * Writes an archive to a stream, which is closed with the sink.
+     *
+     * @param outputStream the stream receiving the archive
+     * @param location     description of the archive for log messages
+     */
+    public ZipOutputSink(OutputStream outputStream, String location) {
+        this.zipOutputStream = new ZipOutputStream(outputStream);
+        this.location = location;
+    }
+
+    private static OutputStream openArchiveFile(Path archive) throws IOException {
+        Path directory = archive.getParent() != null ? archive.getParent() : Paths.get("");
+        return OutputSink.toDirectory(directory).openOutputStream(archive.getFileName().toString());
+    }
+
+    @Override
+    public OutputStream openOutputStream(String fileName) throws IOException {
+        addEntryName(fileName);
+        synchronized (this) {
+            if (!streaming) {
+                zipOutputStream.putNextEntry(new ZipEntry(fileName));
+                streaming = true;
+                return new EntryOutputStream();
+            }
+        }
+        SpooledEntryOutputStream entryStream = new SpooledEntryOutputStream(fileName);
+        synchronized (this) {
+            if (closed) {
+                entryStream.discard();
+                throw new IOException("Archive is closed: " + location);
+            }
+            openSpooledEntries.add(entryStream);
+        }
+        return entryStream;
+    }
+
+    @Override
+    public String getLocation(String fileName) {
+        return location + "!/" + fileName;
+    }
+
+    /**
+     * Adds an entry without compressing it, for data that is compressed already.
+     *
+     * @param entryName the entry name
+     * @param bytes     the entry data
+     * @throws IOException if the entry cannot be written
+     */
+    @Override
+    public void writeStoredEntry(String entryName, byte[] bytes) throws IOException {
+        addEntryName(entryName);
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        ZipEntry entry = new ZipEntry(entryName);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(bytes.length);
+        entry.setCompressedSize(bytes.length);
+        entry.setCrc(crc.getValue());
+        append(() -> {
+            zipOutputStream.putNextEntry(entry);
+            zipOutputStream.write(bytes);
+            zipOutputStream.closeEntry();
+        });
+    }
+
+    /**
+     * Checks whether an entry with the given name has been added.
+     *
+     * @param entryName the entry name
+     * @return true if the archive has the entry
+     */
+    @Override
+    public boolean hasEntry(String entryName) {
+        return entryNames.contains(entryName);
+    }
+
+    /**
+     * Gets the description of the archive used in log messages.
+     *
+     * @return the archive location
+     */
+    public String getLocation() {
+        return location;
+    }
+
+    /**
+     * Appends the pending entries and finishes the archive. An entry still streaming ends
+     * with what has been written. Spooled entries still open are left out: their temporary
+     * files are deleted, and the archive is reported as incomplete.
+     *
+     * @throws IOException if the archive cannot be written, or spooled entries were still open
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        List<String> unfinishedEntries = new ArrayList<>();
+        try {
+            for (SpooledEntryOutputStream entryStream : openSpooledEntries) {
+                unfinishedEntries.add(entryStream.entryName);
+                try {
+                    entryStream.discard();
+                } catch (IOException ignored) {
+                    // The entry is reported as unfinished below
+                }
+            }
+            openSpooledEntries.clear();
+            if (streaming) {
+                zipOutputStream.closeEntry();
+                streaming = false;
+            }
+            writePendingEntries();
+        } finally {
+            zipOutputStream.close();
+        }
+        if (!unfinishedEntries.isEmpty()) {
+            throw new IOException("Archive closed before entries were finished: " + unfinishedEntries
+                + " in " + location);
+        }
+    }
+
+    private void addEntryName(String entryName) throws ZipException {
+        if (!entryNames.add(entryName)) {
+            throw new ZipException("Duplicate archive entry: " + entryName);
+        }
+    }
+
+    /**
+     * Writes a complete entry now, or after the streaming entry if there is one.
+     */
+    private synchronized void append(PendingEntry entry) throws IOException {
+        if (closed) {
+            throw new IOException("Archive is closed: " + location);
+        }
+        if (streaming) {
+            pendingEntries.add(entry);
+        } else {
+            entry.write();
+        }
+    }
+
+    private synchronized void closeStreamingEntry() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            zipOutputStream.closeEntry();
+        } finally {
+            streaming = false;
+        }
+        writePendingEntries();
+    }
+
+    private void writePendingEntries() throws IOException {
+        PendingEntry entry;
+        while ((entry = pendingEntries.poll()) != null) {
+            entry.write();
+        }
+    }
+
+    /**
+     * A complete entry to be written into the archive.
+     */
+    @FunctionalInterface
+    private interface PendingEntry {
+        void write() throws IOException;
+    }
+
+    /**
+     * Entry written directly into the archive; no other entry is written until it is closed.
+     */
+    private final class EntryOutputStream extends OutputStream {
+        private boolean entryClosed = false;
+
+        @Override
+        public void write(int b) throws IOException {
+            zipOutputStream.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            zipOutputStream.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!entryClosed) {
+                entryClosed = true;
+                closeStreamingEntry();
+            }
+        }
+    }
+
+    /**
+     * Entry written to a temporary file, appended to the archive when it is closed. The sink
+     * discards it if the archive is closed first.
+     */
+    private final class SpooledEntryOutputStream extends OutputStream {
+        private final String entryName;
+        private final Path spoolFile;
+        private final OutputStream spoolStream;
+        private boolean entryClosed = false;
+
+        SpooledEntryOutputStream(String entryName) throws IOException {
+            this.entryName = entryName;
+            this.spoolFile = Files.createTempFile("opendataloader-entry", ".tmp");
+            this.spoolStream = new BufferedOutputStream(Files.newOutputStream(spoolFile), WRITER_BUFFER_SIZE);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            spoolStream.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            spoolStream.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            synchronized (ZipOutputSink.this) {
+                if (entryClosed) {
+                    return;
+                }
+                entryClosed = true;
+                openSpooledEntries.remove(this);
+            }
+            try {
+                spoolStream.close();
+            } catch (IOException e) {
+                Files.deleteIfExists(spoolFile);
+                throw e;
+            }
+            try {
+                append(this::writeEntry);
+            } catch (IOException e) {
+                Files.deleteIfExists(spoolFile);
+                throw e;
+            }
+        }
+
+        /**
+         * Drops the entry: closes and deletes the temporary file. Called with the sink locked.
+         */
+        private void discard() throws IOException {
+            entryClosed = true;
+            try {
+                spoolStream.close();
+            } finally {
+                Files.deleteIfExists(spoolFile);
+            }
+        }
+
+        private void writeEntry() throws IOException {
+            try {
+                zipOutputStream.putNextEntry(new ZipEntry(entryName));
+                Files.copy(spoolFile, zipOutputStream);
+                zipOutputStream.closeEntry();
+            } finally {
+                Files.deleteIfExists(spoolFile);
+            }
+        }
+    }
+}
@@ -77,10 +77,26 @@ public class CLIOptions {
     public static final String FORMAT_OPTION = "f";
     public static final String FORMAT_LONG_OPTION = "format";
     private static final String FORMAT_DESC = "Output formats (comma-separated). "
-            + "Values: json, text, html, pdf, markdown, tagged-pdf. Default: json. "
+            + "Values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot. Default: json. "
+            + "jsonl writes one JSON element per line, page by page. "
+            + "elements writes one flat record per element with its heading path and table or list position. "
+            + "chunks writes the text in chunks of at most --chunk-size tokens for retrieval, one per line. "
+            + "smile and cbor write the JSON structure in a binary encoding. "
+            + "snapshot saves the extracted contents so that other formats can be rendered later without parsing the PDF again. "
             + "For HTML inside Markdown use --markdown-with-html. "
             + "For image extraction control use --image-output.";
 
+    // ===== Output Compression =====
+    private static final String OUTPUT_COMPRESSION_LONG_OPTION = "output-compression";
+    private static final String OUTPUT_COMPRESSION_DESC = "Compression of json, jsonl, elements, chunks, text, html, markdown, smile, cbor and snapshot "
+            + "outputs, applied while writing. Values: none, gzip (appends .gz to file names). Default: none";
+
+    // ===== Output Archive =====
+    private static final String OUTPUT_ARCHIVE_LONG_OPTION = "output-archive";
+    private static final String OUTPUT_ARCHIVE_DESC = "Write the outputs and extracted images of each document into "
+            + "one ZIP archive named after the document. Images are stored uncompressed. Does not apply to pdf "
+            + "and tagged-pdf outputs";
+
     // ===== Quiet =====
     public static final String QUIET_OPTION = "q";
     private static final String QUIET_LONG_OPTION = "quiet";
@@ -142,6 +158,10 @@ public class CLIOptions {
 
     private static final String IMAGE_DIR_LONG_OPTION = "image-dir";
     private static final String IMAGE_DIR_DESC = "Directory for extracted images (applies only with --image-output external)";
+    private static final String IMAGE_STORE_LONG_OPTION = "image-store";
+    private static final String IMAGE_STORE_DESC = "Content-addressed image store directory shared across documents. " +
+        "Identical images are stored there once and linked into each image directory " +
+        "(applies only with --image-output external)";
 
     private static final String IMAGE_RESOLUTION_LONG_OPTION = "image-resolution";
     private static final String IMAGE_RESOLUTION_DESC = "Set the rendering resolution for images in DPI. " +
@@ -215,7 +235,20 @@ public class CLIOptions {
 
     // ===== Stdout Output =====
     private static final String TO_STDOUT_LONG_OPTION = "to-stdout";
-    private static final String TO_STDOUT_DESC = "Write output to stdout instead of file (single format only)";
+    private static final String TO_STDOUT_DESC = "Write output to stdout instead of file (single format only: "
+            + "text, markdown, html, elements, chunks, jsonl or json, in that order of precedence)";
+
+    // ===== Triage Preflight =====
+    public static final String TRIAGE_PREFLIGHT_LONG_OPTION = "triage-preflight";
+    private static final String TRIAGE_PREFLIGHT_DESC = "Estimate hybrid routing without converting: runs only content filtering "
+            + "and triage, then writes triage-preflight.json with per-document and aggregate page routing "
+            + "(or prints it with --to-stdout). Requires --hybrid; with --hybrid-mode full every page is routed to the backend. "
+            + "No backend is contacted. Documents run in parallel with --threads";
+
+    // ===== JSON Compact =====
+    public static final String JSON_COMPACT_LONG_OPTION = "json-compact";
+    private static final String JSON_COMPACT_DESC = "Write JSON output without indentation and with coordinates at fixed "
+            + "three-decimal precision, through a large output buffer. Smaller and faster to write for large documents";
 
     // ===== Threads =====
     private static final String THREADS_LONG_OPTION = "threads";
@@ -224,6 +257,11 @@ public class CLIOptions {
             + "output may vary slightly on some PDFs. Capped at the number of available CPU cores. "
             + "Applies to the native Java pipeline only; ignored in --hybrid mode";
 
+    // ===== Chunk Size =====
+    private static final String CHUNK_SIZE_LONG_OPTION = "chunk-size";
+    private static final String CHUNK_SIZE_DESC = "Size budget of each chunk of the chunks format, in estimated tokens. "
+            + "Chunks end at headings; table rows and list items are never split. Default: 512";
+
     // ===== Markdown modifiers =====
     public static final String HTML_IN_MARKDOWN_LONG_OPTION = "markdown-with-html";
     private static final String HTML_IN_MARKDOWN_DESC =
@@ -250,6 +288,9 @@ public class CLIOptions {
             new OptionDefinition(FOLDER_LONG_OPTION, FOLDER_OPTION, "string", null, FOLDER_DESC, true),
             new OptionDefinition(PASSWORD_LONG_OPTION, PASSWORD_OPTION, "string", null, PASSWORD_DESC, true),
             new OptionDefinition(FORMAT_LONG_OPTION, FORMAT_OPTION, "string", null, FORMAT_DESC, true),
+            new OptionDefinition(OUTPUT_COMPRESSION_LONG_OPTION, null, "string", "none",
+                    OUTPUT_COMPRESSION_DESC, true),
+            new OptionDefinition(OUTPUT_ARCHIVE_LONG_OPTION, null, "boolean", false, OUTPUT_ARCHIVE_DESC, true),
             new OptionDefinition(QUIET_LONG_OPTION, QUIET_OPTION, "boolean", false, QUIET_DESC, true),
             new OptionDefinition(CONTENT_SAFETY_OFF_LONG_OPTION, null, "string", null, CONTENT_SAFETY_OFF_DESC, true),
             new OptionDefinition(SANITIZE_LONG_OPTION, null, "boolean", false, SANITIZE_DESC, true),
@@ -268,6 +309,7 @@ public class CLIOptions {
             new OptionDefinition(IMAGE_OUTPUT_LONG_OPTION, null, "string", "external", IMAGE_OUTPUT_DESC, true),
             new OptionDefinition(IMAGE_FORMAT_LONG_OPTION, null, "string", "png", IMAGE_FORMAT_DESC, true),
             new OptionDefinition(IMAGE_DIR_LONG_OPTION, null, "string", null, IMAGE_DIR_DESC, true),
+            new OptionDefinition(IMAGE_STORE_LONG_OPTION, null, "string", null, IMAGE_STORE_DESC, true),
             new OptionDefinition(PAGES_LONG_OPTION, null, "string", null, PAGES_DESC, true),
             new OptionDefinition(INCLUDE_HEADER_FOOTER_LONG_OPTION, null, "boolean", false,
                     INCLUDE_HEADER_FOOTER_DESC, true),
@@ -286,6 +328,9 @@ public class CLIOptions {
                     "memory", HYBRID_HANCOM_AI_IMAGE_CACHE_DESC, true),
             new OptionDefinition(TO_STDOUT_LONG_OPTION, null, "boolean", false, TO_STDOUT_DESC, true),
             new OptionDefinition(THREADS_LONG_OPTION, null, "string", "1", THREADS_DESC, true),
+            new OptionDefinition(CHUNK_SIZE_LONG_OPTION, null, "string", "512", CHUNK_SIZE_DESC, true),
+            new OptionDefinition(TRIAGE_PREFLIGHT_LONG_OPTION, null, "boolean", false, TRIAGE_PREFLIGHT_DESC, true),
+            new OptionDefinition(JSON_COMPACT_LONG_OPTION, null, "boolean", false, JSON_COMPACT_DESC, true),
             new OptionDefinition(IMAGE_RESOLUTION_LONG_OPTION, null, "string", null, IMAGE_RESOLUTION_DESC, true),
             new OptionDefinition(EXPORT_OPTIONS_LONG_OPTION, null, "boolean", null, null, false),
             new OptionDefinition(SPACE_RATIO_LONG_OPTION, null, "string", null, SPACE_RATIO_DESC, true),
@@ -378,12 +423,21 @@ public class CLIOptions {
         if (commandLine.hasOption(CLIOptions.USE_STRUCT_TREE_LONG_OPTION)) {
             config.setUseStructTree(true);
         }
+        if (commandLine.hasOption(OUTPUT_ARCHIVE_LONG_OPTION)) {
+            config.setOutputArchive(true);
+        }
         if (commandLine.hasOption(INCLUDE_HEADER_FOOTER_LONG_OPTION)) {
             config.setIncludeHeaderFooter(true);
         }
         if (commandLine.hasOption(DETECT_STRIKETHROUGH_LONG_OPTION)) {
             config.setDetectStrikethrough(true);
         }
+        if (commandLine.hasOption(TRIAGE_PREFLIGHT_LONG_OPTION)) {
+            config.setTriagePreflight(true);
+        }
+        if (commandLine.hasOption(JSON_COMPACT_LONG_OPTION)) {
+            config.setJsonCompact(true);
+        }
         if (commandLine.hasOption(CLIOptions.READING_ORDER_LONG_OPTION)) {
             config.setReadingOrder(commandLine.getOptionValue(CLIOptions.READING_ORDER_LONG_OPTION));
         }
@@ -412,11 +466,13 @@ public class CLIOptions {
         applyContentSafetyOption(config, commandLine);
         applySanitizeOption(config, commandLine);
         applyFormatOption(config, commandLine);
+        applyOutputCompressionOption(config, commandLine);
         applyTableMethodOption(config, commandLine);
         applyImageOptions(config, commandLine);
         applyPagesOption(config, commandLine);
         applyHybridOptions(config, commandLine);
         applyThreadsOption(config, commandLine);
+        applyChunkSizeOption(config, commandLine);
         config.normalize();
     }
 
@@ -445,6 +501,25 @@ public class CLIOptions {
         }
     }
 
+    private static void applyChunkSizeOption(Config config, CommandLine commandLine) {
+        if (!commandLine.hasOption(CHUNK_SIZE_LONG_OPTION)) {
+            return;
+        }
+        String value = commandLine.getOptionValue(CHUNK_SIZE_LONG_OPTION);
+        int chunkSize;
+        try {
+            chunkSize = Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("Option --chunk-size requires an integer >= 1, got '%s'", value));
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Option --chunk-size requires an integer >= 1, got %d", chunkSize));
+        }
+        config.setChunkSize(chunkSize);
+    }
+
     private static void applyImageOptions(Config config, CommandLine commandLine) {
         if (commandLine.hasOption(IMAGE_OUTPUT_LONG_OPTION)) {
             String outputValue = commandLine.getOptionValue(IMAGE_OUTPUT_LONG_OPTION);
@@ -477,6 +552,9 @@ public class CLIOptions {
         if (commandLine.hasOption(IMAGE_DIR_LONG_OPTION)) {
             config.setImageDir(commandLine.getOptionValue(IMAGE_DIR_LONG_OPTION));
         }
+        if (commandLine.hasOption(IMAGE_STORE_LONG_OPTION)) {
+            config.setImageStore(commandLine.getOptionValue(IMAGE_STORE_LONG_OPTION));
+        }
         if (commandLine.hasOption(IMAGE_RESOLUTION_LONG_OPTION)) {
             try {
                 double imageResolution = Double.parseDouble(commandLine.getOptionValue(IMAGE_RESOLUTION_LONG_OPTION));
@@ -498,6 +576,24 @@ public class CLIOptions {
         }
     }
 
+    private static void applyOutputCompressionOption(Config config, CommandLine commandLine) {
+        if (commandLine.hasOption(OUTPUT_COMPRESSION_LONG_OPTION)) {
+            String compressionValue = commandLine.getOptionValue(OUTPUT_COMPRESSION_LONG_OPTION);
+            if (compressionValue == null || compressionValue.trim().isEmpty()) {
+                throw new IllegalArgumentException(
+                        String.format("Option --output-compression requires a value. Supported values: %s",
+                                Config.getOutputCompressionOptions(", ")));
+            }
+            String compression = compressionValue.trim().toLowerCase(Locale.ROOT);
+            if (!Config.isValidOutputCompression(compression)) {
+                throw new IllegalArgumentException(
+                        String.format("Unsupported output compression '%s'. Supported values: %s",
+                                compression, Config.getOutputCompressionOptions(", ")));
+            }
+            config.setOutputCompression(compression);
+        }
+    }
+
     private static void applyTableMethodOption(Config config, CommandLine commandLine) {
         if (commandLine.hasOption(TABLE_METHOD_LONG_OPTION)) {
             String methodValue = commandLine.getOptionValue(TABLE_METHOD_LONG_OPTION);
@@ -580,13 +676,13 @@ public class CLIOptions {
         String[] optionValues = commandLine.getOptionValues(FORMAT_OPTION);
         if (optionValues == null || optionValues.length == 0) {
             throw new IllegalArgumentException(
-                    "Option --format requires at least one value. Supported values: json, text, html, pdf, markdown, tagged-pdf");
+                    "Option --format requires at least one value. Supported values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot");
         }
 
         Set<String> values = parseOptionValues(optionValues);
         if (values.isEmpty()) {
             throw new IllegalArgumentException(
-                    "Option --format requires at least one value. Supported values: json, text, html, pdf, markdown, tagged-pdf");
+                    "Option --format requires at least one value. Supported values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot");
         }
 
         config.setGenerateJSON(false);
@@ -596,6 +692,15 @@ public class CLIOptions {
                 case "json":
                     config.setGenerateJSON(true);
                     break;
+                case "jsonl":
+                    config.setGenerateJsonLines(true);
+                    break;
+                case "elements":
+                    config.setGenerateElementStream(true);
+                    break;
+                case "chunks":
+                    config.setGenerateChunks(true);
+                    break;
                 case "html":
                     config.setGenerateHtml(true);
                     break;
@@ -622,9 +727,18 @@ public class CLIOptions {
                 case "tagged-pdf":
                     config.setGenerateTaggedPDF(true);
                     break;
+                case "smile":
+                    config.setGenerateSmile(true);
+                    break;
+                case "cbor":
+                    config.setGenerateCbor(true);
+                    break;
+                case "snapshot":
+                    config.setGenerateSnapshot(true);
+                    break;
                 default:
                     throw new IllegalArgumentException(String.format(
-                            "Unsupported format '%s'. Supported values: json, text, html, pdf, markdown, tagged-pdf",
+                            "Unsupported format '%s'. Supported values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot",
                             value));
             }
         }
@@ -0,0 +1,388 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.chunks;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
+import org.opendataloader.pdf.entities.SemanticFormula;
+import org.opendataloader.pdf.json.JsonName;
+import org.opendataloader.pdf.json.ObjectMapperHolder;
+import org.opendataloader.pdf.json.serializers.DoubleSerializer;
+import org.opendataloader.pdf.json.serializers.SerializerUtil;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticHeaderOrFooter;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticTOC;
+import org.verapdf.wcag.algorithms.entities.SemanticTOCI;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.lists.ListItem;
+import org.verapdf.wcag.algorithms.entities.lists.PDFList;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Splits the extracted contents into chunks of bounded size for retrieval, written as JSON
+ * Lines: one chunk per line with its text, heading path and bounding boxes.
+ *
+ * <p>Chunks follow the document structure. A heading starts a new chunk, and each paragraph,
+ * table row and list item is added whole to the current chunk while it fits in the size
+ * budget. Table rows and list items are never split: one larger than the budget becomes a
+ * chunk of its own. Only a paragraph larger than the budget is divided, between words.
+ * Sizes are estimated in tokens by {@link #estimateTokens(String)}.
+ */
+public class ChunkGenerator implements Closeable {
+
+    private static final Logger LOGGER = Logger.getLogger(ChunkGenerator.class.getCanonicalName());
+
+    /** Extension of the chunk output files. */
+    public static final String CHUNKS_EXTENSION = "chunks.jsonl";
+
+    /** Average number of characters per token in words of alphabetic scripts. */
+    private static final int CHARACTERS_PER_TOKEN = 4;
+    private static final String UNIT_SEPARATOR = "\n";
+    private static final String TABLE_CELL_SEPARATOR = " | ";
+
+    private final JsonGenerator jsonGenerator;
+    private final String chunksFileName;
+    private final int chunkSize;
+    private final boolean includeHeaderFooter;
+
+    /** Headings the current chunk is under, outermost first. */
+    private final Deque<SemanticHeading> headingPath = new ArrayDeque<>();
+    private final StringBuilder chunkText = new StringBuilder();
+    private int chunkTokens = 0;
+    /** Whether the current chunk has more than headings. */
+    private boolean chunkHasBody = false;
+    /** Union of the bounding boxes of the current chunk on each page, by page number. */
+    private final Map<Integer, double[]> chunkBoxes = new TreeMap<>();
+    private int chunkIndex = 0;
+
+    /**
+     * Creates a ChunkGenerator that writes to the given output sink.
+     */
+    public ChunkGenerator(File inputPdf, Config config, OutputSink outputSink) throws IOException {
+        String cutPdfFileName = inputPdf.getName();
+        String outputFileName = cutPdfFileName.substring(0, cutPdfFileName.length() - 3) + CHUNKS_EXTENSION;
+        this.chunksFileName = outputSink.getLocation(outputFileName);
+        this.jsonGenerator = ObjectMapperHolder.getJsonFactory().createGenerator(
+            outputSink.openOutputStream(outputFileName), JsonEncoding.UTF8);
+        // Lines are ended explicitly, so no separator goes between root values.
+        this.jsonGenerator.setRootValueSeparator(null);
+        this.chunkSize = config.getChunkSize();
+        this.includeHeaderFooter = config.isIncludeHeaderFooter();
+    }
+
+    /**
+     * Writes the chunks of the given contents. The output is flushed after every page, so a
+     * chunk spanning pages is written with the page it ends on.
+     */
+    public void writeChunks(List<List<IObject>> contents) {
+        SerializerUtil.setCompactOutput(true);
+        try {
+            for (List<IObject> pageContents : contents) {
+                for (IObject content : pageContents) {
+                    addContent(content);
+                }
+                jsonGenerator.flush();
+            }
+            writeChunk();
+            LOGGER.log(Level.INFO, "Created {0}", chunksFileName);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unable to create chunks output: " + e.getMessage());
+        } finally {
+            SerializerUtil.clearCompactOutput();
+        }
+    }
+
+    private void addContent(IObject content) throws IOException {
+        if (content instanceof SemanticHeaderOrFooter) {
+            if (includeHeaderFooter) {
+                for (IObject child : ((SemanticHeaderOrFooter) content).getContents()) {
+                    addContent(child);
+                }
+            }
+        } else if (content instanceof SemanticHeading) {
+            addHeading((SemanticHeading) content);
+        } else if (content instanceof SemanticTextNode) {
+            addText(sanitize(((SemanticTextNode) content).getValue()), content.getBoundingBox());
+        } else if (content instanceof SemanticFormula) {
+            addText(sanitize(((SemanticFormula) content).getLatex()), content.getBoundingBox());
+        } else if (content instanceof TableBorder) {
+            addTable((TableBorder) content);
+        } else if (content instanceof PDFList) {
+            for (ListItem item : ((PDFList) content).getListItems()) {
+                addUnit(getItemText(item, item.getContents()), item.getBoundingBox());
+            }
+        } else if (content instanceof SemanticTOC) {
+            addTOC((SemanticTOC) content);
+        }
+    }
+
+    private void addHeading(SemanticHeading heading) throws IOException {
+        if (chunkHasBody) {
+            writeChunk();
+        }
+        while (!headingPath.isEmpty() && headingPath.peekLast().getHeadingLevel() >= heading.getHeadingLevel()) {
+            headingPath.removeLast();
+        }
+        headingPath.addLast(heading);
+        String text = compactWhitespace(heading.getValue());
+        if (!text.isEmpty()) {
+            appendUnit(text, estimateTokens(text), heading.getBoundingBox());
+        }
+    }
+
+    private void addTable(TableBorder table) throws IOException {
+        if (table.isTextBlock()) {
+            for (IObject content : table.getCell(0, 0).getContents()) {
+                addContent(content);
+            }
+            return;
+        }
+        for (TableBorderRow row : table.getRows()) {
+            addUnit(getRowText(row), row.getBoundingBox());
+        }
+    }
+
+    private void addTOC(SemanticTOC toc) throws IOException {
+        for (IObject item : toc.getTOCItems()) {
+            if (item instanceof SemanticTOC) {
+                addTOC((SemanticTOC) item);
+            } else if (item instanceof SemanticTOCI) {
+                SemanticTOCI tocItem = (SemanticTOCI) item;
+                addUnit(getItemText(tocItem, tocItem.getContents()), tocItem.getBoundingBox());
+            }
+        }
+    }
+
+    /**
+     * Adds text that may be divided between words when it is larger than the budget.
+     */
+    private void addText(String text, BoundingBox boundingBox) throws IOException {
+        int tokens = estimateTokens(text);
+        if (tokens <= chunkSize) {
+            addUnit(text, tokens, boundingBox);
+            return;
+        }
+        // The text starts a chunk of its own, after the headings it is under.
+        if (chunkHasBody) {
+            writeChunk();
+        }
+        StringBuilder piece = new StringBuilder();
+        int pieceTokens = 0;
+        for (String word : text.trim().split("\\s+")) {
+            int wordTokens = estimateTokens(word);
+            if (pieceTokens > 0 && pieceTokens + wordTokens > chunkSize - chunkTokens) {
+                // Every piece but the last fills its chunk.
+                addUnit(piece.toString(), pieceTokens, boundingBox);
+                writeChunk();
+                piece.setLength(0);
+                pieceTokens = 0;
+            }
+            if (piece.length() > 0) {
+                piece.append(' ');
+            }
+            piece.append(word);
+            pieceTokens += wordTokens;
+        }
+        addUnit(piece.toString(), pieceTokens, boundingBox);
+    }
+
+    /**
+     * Adds a unit that is never divided.
+     */
+    private void addUnit(String text, BoundingBox boundingBox) throws IOException {
+        addUnit(text, estimateTokens(text), boundingBox);
+    }
+
+    private void addUnit(String text, int tokens, BoundingBox boundingBox) throws IOException {
+        if (text.isBlank()) {
+            return;
+        }
+        if (chunkHasBody && chunkTokens + tokens > chunkSize) {
+            writeChunk();
+        }
+        appendUnit(text, tokens, boundingBox);
+        chunkHasBody = true;
+    }
+
+    private void appendUnit(String text, int tokens, BoundingBox boundingBox) {
+        if (chunkText.length() > 0) {
+            chunkText.append(UNIT_SEPARATOR);
+        }
+        chunkText.append(text);
+        chunkTokens += tokens;
+        if (boundingBox != null && boundingBox.getPageNumber() != null) {
+            double[] box = chunkBoxes.get(boundingBox.getPageNumber());
+            if (box == null) {
+                chunkBoxes.put(boundingBox.getPageNumber(), new double[]{boundingBox.getLeftX(),
+                    boundingBox.getBottomY(), boundingBox.getRightX(), boundingBox.getTopY()});
+            } else {
+                box[0] = Math.min(box[0], boundingBox.getLeftX());
+                box[1] = Math.min(box[1], boundingBox.getBottomY());
+                box[2] = Math.max(box[2], boundingBox.getRightX());
+                box[3] = Math.max(box[3], boundingBox.getTopY());
+            }
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (chunkText.length() > 0) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField(JsonName.CHUNK_INDEX, chunkIndex++);
+            jsonGenerator.writeArrayFieldStart(JsonName.HEADING_PATH);
+            for (SemanticHeading heading : headingPath) {
+                jsonGenerator.writeString(compactWhitespace(heading.getValue()));
+            }
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeStringField(JsonName.CONTENT, chunkText.toString());
+            jsonGenerator.writeNumberField(JsonName.TOKENS, chunkTokens);
+            jsonGenerator.writeArrayFieldStart(JsonName.BOUNDING_BOXES);
+            for (Map.Entry<Integer, double[]> entry : chunkBoxes.entrySet()) {
+                jsonGenerator.writeStartObject();
+                jsonGenerator.writeNumberField(JsonName.PAGE_NUMBER, entry.getKey() + 1);
+                jsonGenerator.writeArrayFieldStart(JsonName.BOUNDING_BOX);
+                for (double coordinate : entry.getValue()) {
+                    DoubleSerializer.writeNumber(jsonGenerator, coordinate);
+                }
+                jsonGenerator.writeEndArray();
+                jsonGenerator.writeEndObject();
+            }
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeEndObject();
+            jsonGenerator.writeRaw('\n');
+        }
+        chunkText.setLength(0);
+        chunkTokens = 0;
+        chunkHasBody = false;
+        chunkBoxes.clear();
+    }
+
+    private String getRowText(TableBorderRow row) {
+        StringBuilder builder = new StringBuilder();
+        TableBorderCell[] cells = row.getCells();
+        for (int columnNumber = 0; columnNumber < cells.length; columnNumber++) {
+            TableBorderCell cell = cells[columnNumber];
+            // Spanning cells are repeated in the columns they cover.
+            if (cell.getColNumber() != columnNumber) {
+                continue;
+            }
+            String cellText = cell.getRowNumber() == row.getRowNumber() ? getPlainText(cell.getContents()) : "";
+            if (columnNumber > 0) {
+                builder.append(TABLE_CELL_SEPARATOR);
+            }
+            builder.append(cellText);
+        }
+        return builder.toString().trim();
+    }
+
+    private String getItemText(SemanticTextNode item, List<IObject> contents) {
+        String itemText = compactWhitespace(item.toString());
+        String contentsText = getPlainText(contents);
+        return contentsText.isEmpty() ? itemText : itemText + UNIT_SEPARATOR + contentsText;
+    }
+
+    private String getPlainText(List<IObject> contents) {
+        List<String> pieces = new ArrayList<>();
+        for (IObject content : contents) {
+            String piece;
+            if (content instanceof SemanticTextNode) {
+                piece = compactWhitespace(((SemanticTextNode) content).getValue());
+            } else if (content instanceof PDFList) {
+                List<String> items = new ArrayList<>();
+                for (ListItem item : ((PDFList) content).getListItems()) {
+                    items.add(getItemText(item, item.getContents()));
+                }
+                piece = String.join(UNIT_SEPARATOR, items);
+            } else if (content instanceof TableBorder) {
+                List<String> rows = new ArrayList<>();
+                for (TableBorderRow row : ((TableBorder) content).getRows()) {
+                    rows.add(getRowText(row));
+                }
+                piece = String.join(UNIT_SEPARATOR, rows);
+            } else {
+                piece = "";
+            }
+            if (!piece.isBlank()) {
+                pieces.add(piece);
+            }
+        }
+        return String.join(" ", pieces);
+    }
+
+    /**
+     * Estimates the number of tokens of a text: every character of Han, Hangul, Hiragana and
+     * Katakana text and every other non-space symbol counts as a token, and words of other
+     * scripts count one token per {@value #CHARACTERS_PER_TOKEN} characters. This is close to
+     * common subword tokenizers without depending on one.
+     *
+     * @param text the text
+     * @return the estimated number of tokens
+     */
+    public static int estimateTokens(String text) {
+        int tokens = 0;
+        int wordLength = 0;
+        for (int index = 0; index < text.length(); ) {
+            int codePoint = text.codePointAt(index);
+            index += Character.charCount(codePoint);
+            if (Character.isLetterOrDigit(codePoint) && !isCharacterToken(codePoint)) {
+                wordLength++;
+                continue;
+            }
+            tokens += (wordLength + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN;
+            wordLength = 0;
+            if (!Character.isWhitespace(codePoint) && !Character.isSpaceChar(codePoint)) {
+                tokens++;
+            }
+        }
+        return tokens + (wordLength + CHARACTERS_PER_TOKEN - 1) / CHARACTERS_PER_TOKEN;
+    }
+
+    private static boolean isCharacterToken(int codePoint) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(codePoint);
+        return script == Character.UnicodeScript.HAN || script == Character.UnicodeScript.HANGUL
+            || script == Character.UnicodeScript.HIRAGANA || script == Character.UnicodeScript.KATAKANA;
+    }
+
+    private static String sanitize(String value) {
+        return value == null ? "" : value.replace("\u0000", " ").trim();
+    }
+
+    private static String compactWhitespace(String value) {
+        return value == null ? "" : value.replace("\u0000", " ").replaceAll("\\s+", " ").trim();
+    }
+
+    @Override
+    public void close() throws IOException {
+        jsonGenerator.close();
+    }
+}
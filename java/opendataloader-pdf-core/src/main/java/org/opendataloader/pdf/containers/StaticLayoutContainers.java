@@ -16,6 +16,8 @@
 package org.opendataloader.pdf.containers;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputArchive;
+import org.opendataloader.pdf.processors.DocumentInfo;
 import org.verapdf.wcag.algorithms.entities.SemanticHeading;
 
 import java.io.File;
@@ -31,22 +33,24 @@ public class StaticLayoutContainers {
 
     private static final ThreadLocal<Long> currentContentId = new ThreadLocal<>();
     private static final ThreadLocal<List<SemanticHeading>> headings = new ThreadLocal<>();
-    private static final ThreadLocal<Integer> imageIndex = new ThreadLocal<>();
     private static final ThreadLocal<Boolean> isUseStructTree = new ThreadLocal<>();
     private static final ThreadLocal<String> imagesDirectory = new ThreadLocal<>();
     private static final ThreadLocal<Boolean> embedImages = new ThreadLocal<>();
     private static final ThreadLocal<String> imageFormat = new ThreadLocal<>();
+    private static final ThreadLocal<OutputArchive> outputArchive = new ThreadLocal<>();
+    private static final ThreadLocal<DocumentInfo> documentInfo = new ThreadLocal<>();
     private static final ThreadLocal<Map<Integer, Double>> replacementCharRatios = ThreadLocal.withInitial(ConcurrentHashMap::new);
     private static final ThreadLocal<Map<String, byte[]>> embeddedImageBytes = ThreadLocal.withInitial(ConcurrentHashMap::new);
 
     public static void clearContainers() {
         currentContentId.set(1L);
         headings.set(Collections.synchronizedList(new LinkedList<>()));
-        imageIndex.set(1);
         isUseStructTree.set(false);
         imagesDirectory.set("");
         embedImages.set(false);
         imageFormat.set(Config.IMAGE_FORMAT_PNG);
+        outputArchive.remove();
+        documentInfo.remove();
         replacementCharRatios.get().clear();
         embeddedImageBytes.get().clear();
     }
@@ -94,16 +98,6 @@ public class StaticLayoutContainers {
         StaticLayoutContainers.isUseStructTree.set(isUseStructTree);
     }
 
-    public static int incrementImageIndex() {
-        int imageIndex = StaticLayoutContainers.imageIndex.get();
-        StaticLayoutContainers.imageIndex.set(imageIndex + 1);
-        return imageIndex;
-    }
-
-    public static void resetImageIndex() {
-        StaticLayoutContainers.imageIndex.set(1);
-    }
-
     public static boolean isEmbedImages() {
         return Boolean.TRUE.equals(embedImages.get());
     }
@@ -121,6 +115,32 @@ public class StaticLayoutContainers {
         StaticLayoutContainers.imageFormat.set(format);
     }
 
+    /**
+     * Gets the archive the outputs and images of the current document are written to.
+     *
+     * @return the archive, or null if outputs are written as separate files
+     */
+    public static OutputArchive getOutputArchive() {
+        return outputArchive.get();
+    }
+
+    public static void setOutputArchive(OutputArchive archive) {
+        StaticLayoutContainers.outputArchive.set(archive);
+    }
+
+    /**
+     * Gets the information of the current document, collected after parsing.
+     *
+     * @return the document information, or null if not collected
+     */
+    public static DocumentInfo getDocumentInfo() {
+        return documentInfo.get();
+    }
+
+    public static void setDocumentInfo(DocumentInfo info) {
+        StaticLayoutContainers.documentInfo.set(info);
+    }
+
     public static void setReplacementCharRatio(int pageNumber, double ratio) {
         replacementCharRatios.get().put(pageNumber, ratio);
     }
@@ -141,10 +161,10 @@ public class StaticLayoutContainers {
         return embeddedImageBytes.get().containsKey(normalizeImageKey(absolutePath));
     }
 
-    // Map-level accessors are used by DocumentProcessor.propagateState so worker threads
-    // share the main thread's cache instance. Today the cache is only touched on the main
-    // thread, but propagating it eliminates a silent-data-loss trap if generators ever
-    // run on workers — matches the CLAUDE.md ThreadLocal-propagation gotcha.
+    // Map-level accessors are used by DocumentProcessor to propagate state, so worker threads
+    // share the main thread's cache instance. Output generators run on workers with
+    // --threads > 1 and read the images the main thread cached; without the shared map they
+    // would silently miss them — matches the CLAUDE.md ThreadLocal-propagation gotcha.
     public static Map<String, byte[]> getEmbeddedImageBytesMap() {
         return embeddedImageBytes.get();
     }
@@ -154,7 +174,7 @@ public class StaticLayoutContainers {
     }
 
     // Image paths flow through String.format with File.separator (cache write side) and
-    // through File.getPath() (cache read side via Base64ImageUtils.toDataUri). The two
+    // through File.getPath() (cache read side via Base64ImageUtils.getImageBytes). The two
     // forms can differ on Windows when the user passes forward-slash output paths
     // (e.g. /tmp/x). Collapse both forms to a single canonical key so writers and readers
     // agree on cache identity.
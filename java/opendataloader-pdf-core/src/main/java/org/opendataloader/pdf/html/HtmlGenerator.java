@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.html;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.entities.SemanticFormula;
 import org.opendataloader.pdf.entities.EnrichedImageChunk;
@@ -36,9 +37,8 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainer
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.List;
@@ -55,8 +55,8 @@ public class HtmlGenerator implements Closeable {
     /** Logger for this class. */
     protected static final Logger LOGGER = Logger.getLogger(HtmlGenerator.class.getCanonicalName());
 
-    /** Writer for the HTML output file. */
-    protected final FileWriter htmlWriter;
+    /** Writer for the HTML output, opened on the output sink of the configuration. */
+    protected final Writer htmlWriter;
     /** Name of the input PDF file. */
     protected final String pdfFileName;
     /** Absolute path to the input PDF file. */
@@ -65,6 +65,8 @@ public class HtmlGenerator implements Closeable {
     protected final String htmlFileName;
     /** Absolute path to the output HTML file. */
     protected final Path htmlFilePath;
+    /** Location of the HTML output as reported by the output sink. */
+    protected final String htmlLocation;
     /** Current table nesting level for tracking nested tables. */
     protected int tableNesting = 0;
     /** String to insert between pages in HTML output. */
@@ -97,11 +99,25 @@ public class HtmlGenerator implements Closeable {
      * @throws IOException if unable to create the output file
      */
     public HtmlGenerator(File inputPdf, Config config) throws IOException {
+        this(inputPdf, config, config.getOutputSink());
+    }
+
+    /**
+     * Creates a new HtmlGenerator writing to the given output sink.
+     *
+     * @param inputPdf the input PDF file
+     * @param config the configuration settings
+     * @param outputSink the sink the HTML file is opened on
+     * @throws IOException if unable to create the output file
+     */
+    public HtmlGenerator(File inputPdf, Config config, OutputSink outputSink) throws IOException {
         this.pdfFileName = inputPdf.getName();
         this.pdfFilePath = inputPdf.toPath().toAbsolutePath();
         this.htmlFileName = pdfFileName.substring(0, pdfFileName.length() - 3) + "html";
-        this.htmlFilePath = Path.of(config.getOutputFolder(), htmlFileName);
-        this.htmlWriter = new FileWriter(htmlFilePath.toFile(), StandardCharsets.UTF_8);
+        this.htmlFilePath = config.getOutputFolder() != null
+            ? Path.of(config.getOutputFolder(), htmlFileName) : Path.of(htmlFileName);
+        this.htmlLocation = outputSink.getLocation(htmlFileName);
+        this.htmlWriter = outputSink.openWriter(htmlFileName);
         this.htmlPageSeparator = escapeHtmlAttribute(config.getHtmlPageSeparator());
         this.selectedPageNumbers = new HashSet<>(config.getPageNumbers());
         this.embedImages = config.isEmbedImages();
@@ -121,7 +137,7 @@ public class HtmlGenerator implements Closeable {
             htmlWriter.write("<title>" + escapeHtmlText(pdfFileName) + "</title>\n");
             htmlWriter.write("</head>\n<body>\n");
 
-            for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                 if (selectedPageNumbers.isEmpty() || selectedPageNumbers.contains(pageNumber + 1)) {
                     writePageSeparator(pageNumber);
                 }
@@ -131,7 +147,7 @@ public class HtmlGenerator implements Closeable {
             }
 
             htmlWriter.write("\n</body>\n</html>");
-            LOGGER.log(Level.INFO, "Created {0}", htmlFilePath);
+            LOGGER.log(Level.INFO, "Created {0}", htmlLocation);
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Unable to create html output: " + e.getMessage());
         }
@@ -229,26 +245,25 @@ public class HtmlGenerator implements Closeable {
             String relativePath = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectoryName(), "/", image.getIndex(), imageFormat);
 
             if (ImagesUtils.isImageFileExists(absolutePath)) {
-                String imageSource;
+                String imageSource = null;
+                byte[] imageBytes = null;
                 if (embedImages) {
                     File imageFile = new File(absolutePath);
-                    imageSource = Base64ImageUtils.toDataUri(imageFile, imageFormat);
-                    if (imageSource == null) {
+                    imageBytes = Base64ImageUtils.getImageBytes(imageFile);
+                    if (imageBytes == null) {
                         LOGGER.log(Level.WARNING, "Failed to convert image to Base64: {0}", absolutePath);
                     }
                 } else {
                     imageSource = relativePath;
                 }
-                if (imageSource != null) {
-                    String escapedSource = escapeHtmlAttribute(imageSource);
+                if (imageSource != null || imageBytes != null) {
                     // Empty alt is correct HTML for "missing description": screen
                     // readers skip it, and our evidence-report flags it as
                     // alt_source="missing". Never synthesize "figureN".
                     String altText = (image instanceof EnrichedImageChunk && ((EnrichedImageChunk) image).hasDescription())
                             ? ((EnrichedImageChunk) image).sanitizeDescription()
                             : "";
-                    String imageString = String.format("<img src=\"%s\" alt=\"%s\">", escapedSource, escapeHtmlAttribute(altText));
-                    htmlWriter.write(imageString);
+                    writeImageTag(imageSource, imageBytes, altText);
                     htmlWriter.write(HtmlSyntax.HTML_LINE_BREAK);
                 }
             }
@@ -257,6 +272,20 @@ public class HtmlGenerator implements Closeable {
         }
     }
 
+    /**
+     * Writes an img tag for the image file, or with the embedded image streamed into the src
+     * attribute as a data URI. Data URIs need no attribute escaping.
+     */
+    private void writeImageTag(String imageSource, byte[] imageBytes, String altText) throws IOException {
+        htmlWriter.write("<img src=\"");
+        if (imageBytes != null) {
+            Base64ImageUtils.writeDataUri(htmlWriter, imageBytes, imageFormat);
+        } else {
+            htmlWriter.write(escapeHtmlAttribute(imageSource));
+        }
+        htmlWriter.write(String.format("\" alt=\"%s\">", escapeHtmlAttribute(altText)));
+    }
+
     /**
      * Writes a SemanticPicture element with figure/figcaption for description.
      *
@@ -268,26 +297,25 @@ public class HtmlGenerator implements Closeable {
             String relativePath = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectoryName(), "/", picture.getPictureIndex(), imageFormat);
 
             if (ImagesUtils.isImageFileExists(absolutePath)) {
-                String imageSource;
+                String imageSource = null;
+                byte[] imageBytes = null;
                 if (embedImages) {
                     File imageFile = new File(absolutePath);
-                    imageSource = Base64ImageUtils.toDataUri(imageFile, imageFormat);
-                    if (imageSource == null) {
+                    imageBytes = Base64ImageUtils.getImageBytes(imageFile);
+                    if (imageBytes == null) {
                         LOGGER.log(Level.WARNING, "Failed to convert image to Base64: {0}", absolutePath);
                     }
                 } else {
                     imageSource = relativePath;
                 }
-                if (imageSource != null) {
+                if (imageSource != null || imageBytes != null) {
                     String altText = picture.hasDescription()
                             ? picture.sanitizeDescription()
                             : "";
-                    String escapedSource = escapeHtmlAttribute(imageSource);
 
                     htmlWriter.write(HtmlSyntax.HTML_FIGURE_TAG);
                     htmlWriter.write(HtmlSyntax.HTML_LINE_BREAK);
-                    String imageString = String.format("<img src=\"%s\" alt=\"%s\">", escapedSource, escapeHtmlAttribute(altText));
-                    htmlWriter.write(imageString);
+                    writeImageTag(imageSource, imageBytes, altText);
                     htmlWriter.write(HtmlSyntax.HTML_LINE_BREAK);
                     htmlWriter.write(HtmlSyntax.HTML_FIGURE_CLOSE_TAG);
                     htmlWriter.write(HtmlSyntax.HTML_LINE_BREAK);
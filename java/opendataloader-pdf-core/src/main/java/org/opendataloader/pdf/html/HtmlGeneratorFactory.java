@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.html;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 
 import java.io.File;
 import java.io.IOException;
@@ -36,4 +37,18 @@ public class HtmlGeneratorFactory {
     public static HtmlGenerator getHtmlGenerator(File inputPdf, Config config) throws IOException {
         return new HtmlGenerator(inputPdf, config);
     }
+
+    /**
+     * Creates a new HtmlGenerator writing to the given output sink.
+     *
+     * @param inputPdf the input PDF file
+     * @param config the configuration settings
+     * @param outputSink the sink the HTML file is opened on
+     * @return a new HtmlGenerator instance
+     * @throws IOException if unable to create the generator
+     */
+    public static HtmlGenerator getHtmlGenerator(File inputPdf, Config config, OutputSink outputSink)
+            throws IOException {
+        return new HtmlGenerator(inputPdf, config, outputSink);
+    }
 }
@@ -15,15 +15,25 @@
  */
 package org.opendataloader.pdf.hybrid;
 
+import java.util.Arrays;
+
 /**
  * Computes text similarity for stream vs OCR comparison.
  * Used by enrichment to decide whether stream text is corrupted.
+ *
+ * <p>Distances are computed with the bit-parallel Levenshtein algorithm of Myers,
+ * in the multi-word block form described by Hyyrö, so each column of the dynamic
+ * programming matrix costs one machine word per 64 characters of the shorter string.
+ * Threshold checks additionally reject pairs through length and character-histogram
+ * lower bounds, and stop scanning as soon as the threshold can no longer be reached.
  */
 public final class TextSimilarity {
 
     /** Default similarity threshold. Below this, stream text is considered corrupted. */
     public static final double DEFAULT_THRESHOLD = 0.5;
 
+    private static final int HISTOGRAM_BUCKETS = 64;
+
     private TextSimilarity() {}
 
     /**
@@ -35,32 +45,179 @@ public final class TextSimilarity {
         if (a.equals(b)) return 1.0;
         if (a.isEmpty() || b.isEmpty()) return 0.0;
 
-        int distance = levenshteinDistance(a, b);
         int maxLen = Math.max(a.length(), b.length());
+        int distance = levenshteinDistance(a, b, maxLen);
         return 1.0 - ((double) distance / maxLen);
     }
 
+    /**
+     * Returns true if {@link #similarity(String, String)} would be at least {@code threshold}.
+     * Cheaper than computing the similarity itself: pairs are rejected by length and
+     * character-histogram bounds first, and the distance computation stops as soon as
+     * the threshold can no longer be reached.
+     */
+    public static boolean isSimilar(String a, String b, double threshold) {
+        if (a == null || b == null) return 0.0 >= threshold;
+        if (a.equals(b)) return 1.0 >= threshold;
+        if (a.isEmpty() || b.isEmpty()) return 0.0 >= threshold;
+
+        int maxLen = Math.max(a.length(), b.length());
+        int maxDistance = maxAllowedDistance(maxLen, threshold);
+        if (maxDistance < 0) return false;
+        if (Math.abs(a.length() - b.length()) > maxDistance) return false;
+        if (histogramLowerBound(a, b) > maxDistance) return false;
+        return levenshteinDistance(a, b, maxDistance) <= maxDistance;
+    }
+
     /**
      * Returns true if stream text should be trusted over OCR text.
      */
     public static boolean trustStream(String streamText, String ocrText, double threshold) {
         if (streamText == null || streamText.isEmpty()) return false;
         if (ocrText == null || ocrText.isEmpty()) return true;
-        return similarity(streamText, ocrText) >= threshold;
+        return isSimilar(streamText, ocrText, threshold);
+    }
+
+    /**
+     * Same decision as {@link #trustStream(String, String, double)}, for a caller that already
+     * holds the {@link #similarity(String, String)} of the two texts and so need not compute
+     * the distance again.
+     */
+    public static boolean trustStream(String streamText, String ocrText, double similarity, double threshold) {
+        if (streamText == null || streamText.isEmpty()) return false;
+        if (ocrText == null || ocrText.isEmpty()) return true;
+        return similarity >= threshold;
+    }
+
+    /**
+     * Largest distance d for which {@code 1 - d / maxLen >= threshold}, evaluated with the
+     * same floating-point expression as {@link #similarity(String, String)}; -1 if none.
+     */
+    private static int maxAllowedDistance(int maxLen, double threshold) {
+        double estimate = Math.floor((1.0 - threshold) * maxLen);
+        int distance = (int) Math.max(-1, Math.min(maxLen, estimate));
+        while (distance < maxLen && 1.0 - ((double) (distance + 1) / maxLen) >= threshold) {
+            distance++;
+        }
+        while (distance >= 0 && 1.0 - ((double) distance / maxLen) < threshold) {
+            distance--;
+        }
+        return distance;
+    }
+
+    /**
+     * Lower bound on the edit distance from character counts. Every edit changes the count
+     * of at most one character on each side, so the distance is at least the surplus of
+     * characters either string has over the other. Characters are folded into a few
+     * buckets, which only weakens the bound.
+     */
+    private static int histogramLowerBound(String a, String b) {
+        int[] counts = new int[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < a.length(); i++) {
+            counts[a.charAt(i) & (HISTOGRAM_BUCKETS - 1)]++;
+        }
+        for (int i = 0; i < b.length(); i++) {
+            counts[b.charAt(i) & (HISTOGRAM_BUCKETS - 1)]--;
+        }
+        int surplusA = 0;
+        int surplusB = 0;
+        for (int count : counts) {
+            if (count > 0) {
+                surplusA += count;
+            } else {
+                surplusB -= count;
+            }
+        }
+        return Math.max(surplusA, surplusB);
     }
 
-    private static int levenshteinDistance(String a, String b) {
-        int[] prev = new int[b.length() + 1];
-        int[] curr = new int[b.length() + 1];
-        for (int j = 0; j <= b.length(); j++) prev[j] = j;
-        for (int i = 1; i <= a.length(); i++) {
-            curr[0] = i;
-            for (int j = 1; j <= b.length(); j++) {
-                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
-                curr[j] = Math.min(Math.min(curr[j - 1] + 1, prev[j] + 1), prev[j - 1] + cost);
+    /**
+     * Computes the Levenshtein distance between two non-empty strings, or any value greater
+     * than {@code maxDistance} once the distance is known to exceed it.
+     */
+    private static int levenshteinDistance(String a, String b, int maxDistance) {
+        // The shorter string is the bit-vector pattern, the longer one is scanned.
+        String pattern = a.length() <= b.length() ? a : b;
+        String text = pattern == a ? b : a;
+        int m = pattern.length();
+        int n = text.length();
+        int words = (m + Long.SIZE - 1) / Long.SIZE;
+        int lastWord = words - 1;
+        int lastBit = (m - 1) % Long.SIZE;
+
+        PatternMasks masks = new PatternMasks(pattern, words);
+        long[] pv = new long[words];
+        long[] mv = new long[words];
+        Arrays.fill(pv, -1L);
+        int score = m;
+
+        for (int j = 0; j < n; j++) {
+            long[] eqWords = masks.get(text.charAt(j));
+            // Global alignment: the top row grows by one per column.
+            int hIn = 1;
+            for (int w = 0; w < words; w++) {
+                long eq = eqWords == null ? 0L : eqWords[w];
+                long pvw = pv[w];
+                long mvw = mv[w];
+                long hInNeg = hIn < 0 ? 1L : 0L;
+                long xv = eq | mvw;
+                eq |= hInNeg;
+                long xh = (((eq & pvw) + pvw) ^ pvw) | eq;
+                long ph = mvw | ~(xh | pvw);
+                long mh = pvw & xh;
+                int bit = w == lastWord ? lastBit : Long.SIZE - 1;
+                int hOut = (int) ((ph >>> bit) & 1L) - (int) ((mh >>> bit) & 1L);
+                ph <<= 1;
+                mh <<= 1;
+                mh |= hInNeg;
+                ph |= hIn > 0 ? 1L : 0L;
+                pv[w] = mh | ~(xv | ph);
+                mv[w] = ph & xv;
+                hIn = hOut;
+            }
+            score += hIn;
+            // The remaining columns can lower the score by at most one each.
+            if (score - (n - j - 1) > maxDistance) {
+                return maxDistance + 1;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Match bit-vectors of the pattern, keyed by character through a small open-addressing table.
+     */
+    private static final class PatternMasks {
+        private final char[] keys;
+        private final long[][] masks;
+        private final int mask;
+
+        PatternMasks(String pattern, int words) {
+            int capacity = Integer.highestOneBit(Math.max(8, pattern.length() * 2 - 1)) << 1;
+            this.keys = new char[capacity];
+            this.masks = new long[capacity][];
+            this.mask = capacity - 1;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                int slot = slot(c);
+                if (masks[slot] == null) {
+                    keys[slot] = c;
+                    masks[slot] = new long[words];
+                }
+                masks[slot][i / Long.SIZE] |= 1L << (i % Long.SIZE);
+            }
+        }
+
+        long[] get(char c) {
+            return masks[slot(c)];
+        }
+
+        private int slot(char c) {
+            int slot = (c * 0x9E3779B1) >>> 16 & mask;
+            while (masks[slot] != null && keys[slot] != c) {
+                slot = (slot + 1) & mask;
             }
-            int[] temp = prev; prev = curr; curr = temp;
+            return slot;
         }
-        return prev[b.length()];
     }
 }
@@ -27,11 +27,17 @@ import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.processors.DocumentProcessor;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
 
 /**
  * Processor for triaging PDF pages to determine the optimal processing path.
@@ -649,13 +655,25 @@ public class TriageProcessor {
             List<IObject> filteredContents,
             int pageNumber,
             TriageThresholds thresholds) {
+        return classifyPage(filteredContents, pageNumber, thresholds, PageContext.resolve(pageNumber));
+    }
+
+    /**
+     * Classifies a page with its document-level state already resolved, so that it can run
+     * on any thread.
+     */
+    private static TriageResult classifyPage(
+            List<IObject> filteredContents,
+            int pageNumber,
+            TriageThresholds thresholds,
+            PageContext context) {
 
         // Extract signals from content
-        TriageSignals signals = extractSignals(filteredContents, pageNumber, thresholds);
+        TriageSignals signals = extractSignals(filteredContents, thresholds, context);
 
         // Signal 0: CID font extraction failure (highest priority)
         // Only fires in hybrid mode (classifyPage is only called from HybridDocumentProcessor)
-        double replacementRatio = StaticLayoutContainers.getReplacementCharRatio(pageNumber);
+        double replacementRatio = context.replacementCharRatio;
         if (replacementRatio >= 0.3) {
             return TriageResult.backend(pageNumber, 1.0, signals);
         }
@@ -718,6 +736,13 @@ public class TriageProcessor {
             List<IObject> filteredContents,
             int pageNumber,
             TriageThresholds thresholds) {
+        return extractSignals(filteredContents, thresholds, PageContext.resolve(pageNumber));
+    }
+
+    private static TriageSignals extractSignals(
+            List<IObject> filteredContents,
+            TriageThresholds thresholds,
+            PageContext context) {
 
         if (filteredContents == null || filteredContents.isEmpty()) {
             return TriageSignals.empty();
@@ -744,14 +769,14 @@ public class TriageProcessor {
                 ? (double) accumulator.lineChunkCount / totalCount : 0.0;
 
         // Check for TableBorder in StaticContainers
-        boolean hasTableBorder = checkTableBorderPresence(pageNumber);
+        boolean hasTableBorder = context.hasTableBorder;
 
-        // Check for suspicious text patterns (grid-like layout)
-        boolean hasSuspiciousPattern = checkSuspiciousPatterns(accumulator.textChunks);
+        // Suspicious text patterns (grid-like layout) were checked during the pass
+        boolean hasSuspiciousPattern = accumulator.hasSuspiciousPattern;
 
         // Count aligned line groups (potential table columns)
         int alignedLineGroups = countAlignedLineGroups(
-                accumulator.textChunks, thresholds.getGridGapMultiplier());
+                accumulator.baselineGroups.values(), thresholds.getGridGapMultiplier());
 
         // Build vector graphics signals
         boolean hasGridLines = accumulator.horizontalLineCount >= MIN_GRID_LINES
@@ -769,16 +794,8 @@ public class TriageProcessor {
         // Calculate large image ratio and aspect ratio
         double largeImageRatio = 0.0;
         double largeImageAspectRatio = accumulator.maxImageAspectRatio;
-        try {
-            BoundingBox pageBoundingBox = DocumentProcessor.getPageBoundingBox(pageNumber);
-            if (pageBoundingBox != null && accumulator.maxImageArea > 0) {
-                double pageArea = pageBoundingBox.getWidth() * pageBoundingBox.getHeight();
-                if (pageArea > 0) {
-                    largeImageRatio = accumulator.maxImageArea / pageArea;
-                }
-            }
-        } catch (Exception e) {
-            // DocumentProcessor may not be initialized in some test contexts
+        if (accumulator.maxImageArea > 0 && context.pageArea > 0) {
+            largeImageRatio = accumulator.maxImageArea / context.pageArea;
         }
 
         return new TriageSignals(
@@ -804,6 +821,36 @@ public class TriageProcessor {
         );
     }
 
+    /**
+     * Document-level inputs of a page triage. They live in thread-local containers, so they
+     * are read on the calling thread before pages are classified in parallel.
+     */
+    private static final class PageContext {
+        final double replacementCharRatio;
+        final boolean hasTableBorder;
+        final double pageArea;
+
+        private PageContext(double replacementCharRatio, boolean hasTableBorder, double pageArea) {
+            this.replacementCharRatio = replacementCharRatio;
+            this.hasTableBorder = hasTableBorder;
+            this.pageArea = pageArea;
+        }
+
+        static PageContext resolve(int pageNumber) {
+            double pageArea = 0.0;
+            try {
+                BoundingBox pageBoundingBox = DocumentProcessor.getPageBoundingBox(pageNumber);
+                if (pageBoundingBox != null) {
+                    pageArea = pageBoundingBox.getWidth() * pageBoundingBox.getHeight();
+                }
+            } catch (Exception e) {
+                // DocumentProcessor may not be initialized in some test contexts
+            }
+            return new PageContext(StaticLayoutContainers.getReplacementCharRatio(pageNumber),
+                    checkTableBorderPresence(pageNumber), pageArea);
+        }
+    }
+
     /**
      * Helper class to accumulate signals during page analysis.
      */
@@ -819,8 +866,10 @@ public class TriageProcessor {
         int maxConsecutiveStreak = 0;
         int rowSeparatorPatternCount = 0;
         boolean lastWasHorizontalLine = false;
+        boolean hasSuspiciousPattern = false;
         TextChunk previousTextChunk = null;
-        List<TextChunk> textChunks = new ArrayList<>();
+        // Keyed by rounded baseline; sorted so a chunk finds its group by neighbour lookup
+        TreeMap<Double, List<TextChunk>> baselineGroups = new TreeMap<>();
         List<double[]> shortHorizontalLines = new ArrayList<>();
         double maxImageArea = 0.0;
         double maxImageAspectRatio = 0.0;
@@ -865,7 +914,6 @@ public class TriageProcessor {
 
         void processTextChunk(TextChunk textChunk) {
             textChunkCount++;
-            textChunks.add(textChunk);
 
             if (textChunk.isWhiteSpaceChunk()) {
                 return;
@@ -873,8 +921,12 @@ public class TriageProcessor {
 
             nonWhitespaceTextCount++;
             lastWasHorizontalLine = false;
+            addToBaselineGroup(textChunk);
 
             if (previousTextChunk != null) {
+                if (!hasSuspiciousPattern && hasLargeGapOnSameBaseline(previousTextChunk, textChunk)) {
+                    hasSuspiciousPattern = true;
+                }
                 if (areSuspiciousTextChunks(previousTextChunk, textChunk)) {
                     tablePatternCount++;
                     currentConsecutiveStreak++;
@@ -888,6 +940,35 @@ public class TriageProcessor {
             previousTextChunk = textChunk;
         }
 
+        /**
+         * Adds a chunk to the group of the nearest rounded baseline within epsilon,
+         * or starts a new group.
+         */
+        private void addToBaselineGroup(TextChunk chunk) {
+            // Round baseline to group similar values
+            double roundedBaseline = Math.round(chunk.getBaseLine() * 10.0) / 10.0;
+            double tolerance = chunk.getHeight() * BASELINE_EPSILON;
+
+            Double matchedKey = null;
+            Double lower = baselineGroups.floorKey(roundedBaseline);
+            Double upper = baselineGroups.ceilingKey(roundedBaseline);
+            if (lower != null && Math.abs(lower - roundedBaseline) < tolerance) {
+                matchedKey = lower;
+            }
+            if (upper != null && Math.abs(upper - roundedBaseline) < tolerance
+                    && (matchedKey == null || upper - roundedBaseline < roundedBaseline - matchedKey)) {
+                matchedKey = upper;
+            }
+
+            if (matchedKey != null) {
+                baselineGroups.get(matchedKey).add(chunk);
+            } else {
+                List<TextChunk> group = new ArrayList<>();
+                group.add(chunk);
+                baselineGroups.put(roundedBaseline, group);
+            }
+        }
+
         /**
          * Detects suspicious text chunks that may indicate table structure.
          */
@@ -962,36 +1043,23 @@ public class TriageProcessor {
     }
 
     /**
-     * Checks for suspicious text patterns indicating possible tables.
-     * Looks for text chunks on the same baseline with large horizontal gaps.
+     * Checks a pair of consecutive non-whitespace text chunks for a suspicious pattern:
+     * chunks on the same baseline separated by a large horizontal gap.
      *
-     * @param textChunks The list of text chunks on the page.
-     * @return true if suspicious patterns are detected, false otherwise.
+     * @param previous The previous text chunk.
+     * @param current  The current text chunk.
+     * @return true if the gap suggests table columns.
      */
-    private static boolean checkSuspiciousPatterns(List<TextChunk> textChunks) {
-        if (textChunks.size() < 2) {
+    private static boolean hasLargeGapOnSameBaseline(TextChunk previous, TextChunk current) {
+        // Note: Y-overlap check removed (Experiment 001, 2026-01-03)
+        // The condition `previous.getTopY() < current.getBottomY()` caused 59% of FPs
+        if (!areOnSameBaseline(previous, current)) {
             return false;
         }
-
-        TextChunk previous = null;
-        for (TextChunk current : textChunks) {
-            if (current.isWhiteSpaceChunk()) {
-                continue;
-            }
-            // Check if text chunks are on the same line with large gap
-            // Note: Y-overlap check removed (Experiment 001, 2026-01-03)
-            // The condition `previous.getTopY() < current.getBottomY()` caused 59% of FPs
-            if (previous != null && areOnSameBaseline(previous, current)) {
-                double gap = current.getLeftX() - previous.getRightX();
-                double avgHeight = (previous.getHeight() + current.getHeight()) / 2.0;
-                // Gap larger than 3x text height suggests table columns
-                if (gap > avgHeight * 3.0) {
-                    return true;
-                }
-            }
-            previous = current;
-        }
-        return false;
+        double gap = current.getLeftX() - previous.getRightX();
+        double avgHeight = (previous.getHeight() + current.getHeight()) / 2.0;
+        // Gap larger than 3x text height suggests table columns
+        return gap > avgHeight * 3.0;
     }
 
     /**
@@ -1011,45 +1079,14 @@ public class TriageProcessor {
      * Counts groups of text chunks with aligned baselines and large gaps.
      * Multiple aligned groups suggest a table structure.
      *
-     * @param textChunks    The list of text chunks.
-     * @param gapMultiplier The gap threshold multiplier.
+     * @param baselineGroups The text chunks grouped by baseline.
+     * @param gapMultiplier  The gap threshold multiplier.
      * @return The number of aligned groups detected.
      */
-    private static int countAlignedLineGroups(List<TextChunk> textChunks, double gapMultiplier) {
-        if (textChunks.size() < 2) {
-            return 0;
-        }
-
-        // Group text chunks by baseline
-        Map<Double, List<TextChunk>> baselineGroups = new HashMap<>();
-        for (TextChunk chunk : textChunks) {
-            if (chunk.isWhiteSpaceChunk()) {
-                continue;
-            }
-            // Round baseline to group similar values
-            double roundedBaseline = Math.round(chunk.getBaseLine() * 10.0) / 10.0;
-
-            // Find existing group within epsilon
-            Double matchedKey = null;
-            for (Double key : baselineGroups.keySet()) {
-                if (Math.abs(key - roundedBaseline) < chunk.getHeight() * BASELINE_EPSILON) {
-                    matchedKey = key;
-                    break;
-                }
-            }
-
-            if (matchedKey != null) {
-                baselineGroups.get(matchedKey).add(chunk);
-            } else {
-                List<TextChunk> group = new ArrayList<>();
-                group.add(chunk);
-                baselineGroups.put(roundedBaseline, group);
-            }
-        }
-
+    private static int countAlignedLineGroups(Collection<List<TextChunk>> baselineGroups, double gapMultiplier) {
         // Count groups with multiple chunks and large gaps
         int alignedGroupCount = 0;
-        for (List<TextChunk> group : baselineGroups.values()) {
+        for (List<TextChunk> group : baselineGroups) {
             if (group.size() >= 2) {
                 // Sort by X position
                 group.sort((a, b) -> Double.compare(a.getLeftX(), b.getLeftX()));
@@ -1099,16 +1136,84 @@ public class TriageProcessor {
     public static Map<Integer, TriageResult> triageAllPages(
             Map<Integer, List<IObject>> pageContents,
             TriageThresholds thresholds) {
+        return triageAllPages(pageContents, thresholds, 1);
+    }
 
-        Map<Integer, TriageResult> results = new HashMap<>();
+    /**
+     * Performs batch triage for all pages, classifying pages in parallel.
+     *
+     * <p>Thread-local document state (table borders, replacement character ratios,
+     * page boxes) is read on the calling thread first; the classification itself only
+     * looks at the page contents and may run on any worker.
+     *
+     * @param pageContents Map of page number to filtered contents.
+     * @param thresholds   The triage thresholds to use.
+     * @param parallelism  The number of worker threads; 1 classifies on the calling thread.
+     * @return Map of page number to triage result.
+     */
+    public static Map<Integer, TriageResult> triageAllPages(
+            Map<Integer, List<IObject>> pageContents,
+            TriageThresholds thresholds,
+            int parallelism) {
+        if (parallelism <= 1 || pageContents.size() <= 1) {
+            return triageAllPages(pageContents, thresholds, (ForkJoinPool) null);
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return triageAllPages(pageContents, thresholds, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
 
-        for (Map.Entry<Integer, List<IObject>> entry : pageContents.entrySet()) {
-            int pageNumber = entry.getKey();
-            List<IObject> contents = entry.getValue();
-            TriageResult result = classifyPage(contents, pageNumber, thresholds);
-            results.put(pageNumber, result);
+    /**
+     * Performs batch triage for all pages on the caller's processing pool, so that no pool
+     * is created per document.
+     *
+     * @param pageContents Map of page number to filtered contents.
+     * @param thresholds   The triage thresholds to use.
+     * @param pool         The pool to classify pages on, or null to classify on the calling thread.
+     * @return Map of page number to triage result.
+     */
+    public static Map<Integer, TriageResult> triageAllPages(
+            Map<Integer, List<IObject>> pageContents,
+            TriageThresholds thresholds,
+            ForkJoinPool pool) {
+
+        List<Integer> pageNumbers = new ArrayList<>(pageContents.keySet());
+        PageContext[] contexts = new PageContext[pageNumbers.size()];
+        for (int i = 0; i < contexts.length; i++) {
+            contexts[i] = PageContext.resolve(pageNumbers.get(i));
+        }
+
+        TriageResult[] pageResults = new TriageResult[contexts.length];
+        IntConsumer classify = i -> {
+            int pageNumber = pageNumbers.get(i);
+            pageResults[i] = classifyPage(pageContents.get(pageNumber), pageNumber, thresholds, contexts[i]);
+        };
+        if (pool != null && pool.getParallelism() > 1 && contexts.length > 1) {
+            try {
+                pool.submit(() -> IntStream.range(0, contexts.length).parallel().forEach(classify)).get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Triage was interrupted", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IllegalStateException("Parallel triage failed", cause);
+            }
+        } else {
+            for (int i = 0; i < contexts.length; i++) {
+                classify.accept(i);
+            }
         }
 
+        Map<Integer, TriageResult> results = new HashMap<>();
+        for (int i = 0; i < pageResults.length; i++) {
+            results.put(pageNumbers.get(i), pageResults[i]);
+        }
         return results;
     }
 
@@ -1129,4 +1234,18 @@ public class TriageProcessor {
         }
         return triageAllPages(pageMap, config);
     }
+
+    /**
+     * Routes every given page to the backend without classifying it, as hybrid full mode does.
+     *
+     * @param pageNumbers The 0-indexed pages to route.
+     * @return Map of page number to a BACKEND result with confidence 1.0 and no signals.
+     */
+    public static Map<Integer, TriageResult> routeAllToBackend(Collection<Integer> pageNumbers) {
+        Map<Integer, TriageResult> results = new HashMap<>();
+        for (int pageNumber : pageNumbers) {
+            results.put(pageNumber, TriageResult.backend(pageNumber, 1.0, TriageSignals.empty()));
+        }
+        return results;
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Binary encodings of the JSON output. Both carry the same document structure as the JSON
+ * file (see {@code schema.json}), written by the same serializers; only the encoding differs.
+ * Both start with a signature, so {@link BinaryJsonReader} recognizes them without the file
+ * extension.
+ */
+public enum BinaryJsonFormat {
+    /** Jackson Smile; repeated field names and short string values are back-referenced. */
+    SMILE("smile", SmileFactory.builder()
+            .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+            .build(),
+            new byte[]{':', ')', '\n'}),
+    /** CBOR (RFC 8949), with the self-described CBOR tag as signature. */
+    CBOR("cbor", CBORFactory.builder()
+            .enable(CBORGenerator.Feature.WRITE_TYPE_HEADER)
+            .build(),
+            new byte[]{(byte) 0xD9, (byte) 0xD9, (byte) 0xF7});
+
+    private final String extension;
+    private final JsonFactory factory;
+    private final byte[] signature;
+
+    BinaryJsonFormat(String extension, JsonFactory factory, byte[] signature) {
+        this.extension = extension;
+        this.factory = factory;
+        this.signature = signature;
+    }
+
+    /**
+     * @return the output file extension, also the {@code --format} value
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * @return the shared factory for generators and parsers of this format
+     */
+    public JsonFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Checks whether the data starts with the signature of this format.
+     *
+     * @param header the first bytes of the data
+     * @param length the number of valid bytes in the header
+     * @return true if the data is in this format
+     */
+    boolean matches(byte[] header, int length) {
+        if (length < signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (header[i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
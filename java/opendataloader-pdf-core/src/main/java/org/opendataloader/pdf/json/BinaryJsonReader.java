@@ -0,0 +1,115 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Reads a document output written as JSON or in one of the {@link BinaryJsonFormat}s.
+ * The encoding is recognized from the leading signature, so the same code reads all of them
+ * into the same tree or bound objects.
+ */
+public final class BinaryJsonReader {
+
+    private static final int SIGNATURE_LENGTH = 3;
+
+    private static final ObjectMapper JSON_MAPPER = new ObjectMapper();
+    private static final Map<BinaryJsonFormat, ObjectMapper> BINARY_MAPPERS = new EnumMap<>(BinaryJsonFormat.class);
+
+    static {
+        for (BinaryJsonFormat format : BinaryJsonFormat.values()) {
+            BINARY_MAPPERS.put(format, new ObjectMapper(format.getFactory()));
+        }
+    }
+
+    private BinaryJsonReader() {
+    }
+
+    /**
+     * Reads a document output file into a tree.
+     *
+     * @param path the JSON, Smile or CBOR file
+     * @return the root node, with the structure described by {@code schema.json}
+     * @throws IOException if the file cannot be read or parsed
+     */
+    public static JsonNode readTree(Path path) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return readTree(inputStream);
+        }
+    }
+
+    /**
+     * Reads a document output from a stream into a tree. The stream is not closed.
+     *
+     * @param inputStream the stream; it must support {@link InputStream#mark}
+     * @return the root node, with the structure described by {@code schema.json}
+     * @throws IOException if the stream cannot be read or parsed
+     */
+    public static JsonNode readTree(InputStream inputStream) throws IOException {
+        return getObjectMapper(detectFormat(inputStream)).readTree(inputStream);
+    }
+
+    /**
+     * Reads a document output file and binds it to the given type.
+     *
+     * @param path the JSON, Smile or CBOR file
+     * @param type the type to bind the root object to
+     * @return the bound object
+     * @throws IOException if the file cannot be read, parsed or bound
+     */
+    public static <T> T readValue(Path path, Class<T> type) throws IOException {
+        try (InputStream inputStream = new BufferedInputStream(Files.newInputStream(path))) {
+            return getObjectMapper(detectFormat(inputStream)).readValue(inputStream, type);
+        }
+    }
+
+    /**
+     * Recognizes the encoding from the signature at the start of the stream, leaving the
+     * stream at its start.
+     *
+     * @param inputStream the stream; it must support {@link InputStream#mark}
+     * @return the binary format, or null for JSON text
+     * @throws IOException if the stream cannot be read
+     */
+    public static BinaryJsonFormat detectFormat(InputStream inputStream) throws IOException {
+        if (!inputStream.markSupported()) {
+            throw new IllegalArgumentException("Input stream must support mark/reset");
+        }
+        byte[] header = new byte[SIGNATURE_LENGTH];
+        inputStream.mark(SIGNATURE_LENGTH);
+        int length = inputStream.readNBytes(header, 0, SIGNATURE_LENGTH);
+        inputStream.reset();
+        for (BinaryJsonFormat format : BinaryJsonFormat.values()) {
+            if (format.matches(header, length)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    private static ObjectMapper getObjectMapper(BinaryJsonFormat format) {
+        return format != null ? BINARY_MAPPERS.get(format) : JSON_MAPPER;
+    }
+}
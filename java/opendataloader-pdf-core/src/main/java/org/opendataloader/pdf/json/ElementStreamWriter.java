@@ -0,0 +1,291 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.JsonGeneratorDelegate;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import org.opendataloader.pdf.api.OutputSink;
+import org.opendataloader.pdf.hybrid.ElementMetadata;
+import org.opendataloader.pdf.json.serializers.SerializerUtil;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticHeaderOrFooter;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticTOC;
+import org.verapdf.wcag.algorithms.entities.SemanticTOCI;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
+import org.verapdf.wcag.algorithms.entities.lists.ListItem;
+import org.verapdf.wcag.algorithms.entities.lists.PDFList;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes the elements of a document as a flat JSON Lines stream: one record per semantic
+ * element, in reading order.
+ *
+ * <p>Tables, lists, tables of contents, headers and footers are not written as nested
+ * objects; their leaf elements get records of their own, written by the serializers of the
+ * JSON output. List and TOC items get a record with their text. Every record also carries
+ * the chain of headings it is under ({@value JsonName#HEADING_PATH}) and, inside a table
+ * cell or list item, the position of that cell or item ({@value JsonName#TABLE_TYPE} and
+ * {@value JsonName#LIST_TYPE} objects). Records are written page by page and each line
+ * stands alone, so the stream can be split and parsed in parallel.
+ */
+public class ElementStreamWriter {
+    private static final Logger LOGGER = Logger.getLogger(ElementStreamWriter.class.getCanonicalName());
+
+    /** Extension of the element stream output files. */
+    public static final String ELEMENT_STREAM_EXTENSION = "elements.jsonl";
+
+    private final RecordGenerator generator;
+    private final SerializerProvider serializerProvider;
+    private final boolean includeHeaderFooter;
+    /** Headings the next record is under, outermost first. */
+    private final Deque<SemanticHeading> headingPath = new ArrayDeque<>();
+    /** Position of the record being written. */
+    private ElementPosition position = ElementPosition.TOP_LEVEL;
+
+    private ElementStreamWriter(JsonGenerator jsonGenerator, boolean includeHeaderFooter) {
+        this.generator = new RecordGenerator(jsonGenerator);
+        this.serializerProvider = ObjectMapperHolder.getObjectMapper().getSerializerProviderInstance();
+        this.includeHeaderFooter = includeHeaderFooter;
+    }
+
+    /**
+     * Writes the element stream of a document to an output sink. The output is flushed after
+     * every page.
+     *
+     * @param outputSink the sink the element stream file is opened on
+     */
+    public static void writeToElementStream(File inputPDF, OutputSink outputSink, List<List<IObject>> contents,
+                                            Map<Long, ElementMetadata> elementMetadata,
+                                            boolean includeHeaderFooter) throws IOException {
+        String fileName = inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + ELEMENT_STREAM_EXTENSION;
+        try (JsonGenerator jsonGenerator = JsonWriter.getJsonGenerator(outputSink, fileName, true)) {
+            // Records are ended explicitly, so no separator goes between root values.
+            jsonGenerator.setRootValueSeparator(null);
+            SerializerUtil.setElementMetadata(elementMetadata);
+            SerializerUtil.setCompactOutput(true);
+            try {
+                ElementStreamWriter writer = new ElementStreamWriter(jsonGenerator, includeHeaderFooter);
+                for (List<IObject> pageContents : contents) {
+                    for (IObject content : pageContents) {
+                        writer.writeElement(content, ElementPosition.TOP_LEVEL);
+                    }
+                    jsonGenerator.flush();
+                }
+            } finally {
+                SerializerUtil.clearElementMetadata();
+                SerializerUtil.clearCompactOutput();
+            }
+            LOGGER.log(Level.INFO, "Created {0}", outputSink.getLocation(fileName));
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Unable to create element stream output: " + ex.getMessage());
+        }
+    }
+
+    private void writeElement(IObject content, ElementPosition elementPosition) throws IOException {
+        if (content instanceof LineArtChunk) {
+            return;
+        }
+        if (content instanceof SemanticHeaderOrFooter) {
+            if (includeHeaderFooter) {
+                writeElements(((SemanticHeaderOrFooter) content).getContents(), elementPosition);
+            }
+        } else if (content instanceof TableBorder) {
+            writeTable((TableBorder) content, elementPosition);
+        } else if (content instanceof PDFList) {
+            writeList((PDFList) content, elementPosition);
+        } else if (content instanceof SemanticTOC) {
+            writeTOC((SemanticTOC) content, elementPosition);
+        } else if (content instanceof SemanticHeading && elementPosition == ElementPosition.TOP_LEVEL) {
+            SemanticHeading heading = (SemanticHeading) content;
+            while (!headingPath.isEmpty() && headingPath.peekLast().getHeadingLevel() >= heading.getHeadingLevel()) {
+                headingPath.removeLast();
+            }
+            writeRecord(heading, elementPosition);
+            headingPath.addLast(heading);
+        } else {
+            writeRecord(content, elementPosition);
+        }
+    }
+
+    private void writeElements(List<IObject> contents, ElementPosition elementPosition) throws IOException {
+        for (IObject content : contents) {
+            writeElement(content, elementPosition);
+        }
+    }
+
+    private void writeTable(TableBorder table, ElementPosition elementPosition) throws IOException {
+        if (table.isTextBlock()) {
+            // A text block is a layout frame, so its contents stay at the position of the block.
+            writeElements(table.getCell(0, 0).getContents(), elementPosition);
+            return;
+        }
+        for (TableBorderRow row : table.getRows()) {
+            TableBorderCell[] cells = row.getCells();
+            for (int columnNumber = 0; columnNumber < cells.length; columnNumber++) {
+                TableBorderCell cell = cells[columnNumber];
+                // Spanning cells are repeated in the rows and columns they cover.
+                if (cell.getColNumber() == columnNumber && cell.getRowNumber() == row.getRowNumber()) {
+                    writeElements(cell.getContents(), elementPosition.inTableCell(table, cell));
+                }
+            }
+        }
+    }
+
+    private void writeList(PDFList list, ElementPosition elementPosition) throws IOException {
+        int itemNumber = 0;
+        for (ListItem item : list.getListItems()) {
+            ElementPosition itemPosition = elementPosition.inListItem(list, ++itemNumber);
+            writeItemRecord(item, JsonName.LIST_ITEM_TYPE, itemPosition);
+            writeElements(item.getContents(), itemPosition);
+        }
+    }
+
+    private void writeTOC(SemanticTOC toc, ElementPosition elementPosition) throws IOException {
+        int itemNumber = 0;
+        for (IObject child : toc.getTOCItems()) {
+            ElementPosition itemPosition = elementPosition.inListItem(toc, ++itemNumber);
+            if (child instanceof SemanticTOCI) {
+                SemanticTOCI item = (SemanticTOCI) child;
+                writeItemRecord(item, JsonName.TOC_ITEM_TYPE, itemPosition);
+                writeElements(item.getContents(), itemPosition);
+            } else {
+                writeElement(child, itemPosition);
+            }
+        }
+    }
+
+    /**
+     * Writes a leaf element with the serializer of the JSON output.
+     */
+    private void writeRecord(IObject content, ElementPosition elementPosition) throws IOException {
+        position = elementPosition;
+        SerializerUtil.writeValue(generator, content, serializerProvider);
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Writes a list or TOC item without its contents, which get records of their own.
+     */
+    private void writeItemRecord(SemanticTextNode item, String type, ElementPosition itemPosition)
+            throws IOException {
+        position = itemPosition;
+        generator.writeStartObject();
+        SerializerUtil.writeEssentialInfo(generator, item, type);
+        SerializerUtil.writeTextInfo(generator, item);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Writes the heading path and the table and list positions of the current record.
+     */
+    private void writeRecordFields() throws IOException {
+        generator.writeArrayFieldStart(JsonName.HEADING_PATH);
+        for (SemanticHeading heading : headingPath) {
+            generator.writeString(heading.getValue());
+        }
+        generator.writeEndArray();
+        if (position.cell != null) {
+            generator.writeObjectFieldStart(JsonName.TABLE_TYPE);
+            writeIdField(position.table);
+            generator.writeNumberField(JsonName.ROW_NUMBER, position.cell.getRowNumber() + 1);
+            generator.writeNumberField(JsonName.COLUMN_NUMBER, position.cell.getColNumber() + 1);
+            generator.writeNumberField(JsonName.ROW_SPAN, position.cell.getRowSpan());
+            generator.writeNumberField(JsonName.COLUMN_SPAN, position.cell.getColSpan());
+            if (position.cell.isHeaderCell()) {
+                generator.writeBooleanField(JsonName.IS_HEADER, true);
+            }
+            generator.writeEndObject();
+        }
+        if (position.list != null) {
+            generator.writeObjectFieldStart(JsonName.LIST_TYPE);
+            writeIdField(position.list);
+            generator.writeNumberField(JsonName.ITEM_NUMBER, position.itemNumber);
+            generator.writeNumberField(JsonName.LIST_DEPTH, position.listDepth);
+            generator.writeEndObject();
+        }
+    }
+
+    private void writeIdField(IObject object) throws IOException {
+        Long id = object.getRecognizedStructureId();
+        if (id != null && id != 0L) {
+            generator.writeNumberField(JsonName.ID, id);
+        }
+    }
+
+    /**
+     * Where a record sits in the tables and lists of the document: the innermost table cell
+     * and list item containing it.
+     */
+    private static final class ElementPosition {
+        static final ElementPosition TOP_LEVEL = new ElementPosition(null, null, null, 0, 0);
+
+        final TableBorder table;
+        final TableBorderCell cell;
+        final IObject list;
+        final int itemNumber;
+        final int listDepth;
+
+        ElementPosition(TableBorder table, TableBorderCell cell, IObject list, int itemNumber, int listDepth) {
+            this.table = table;
+            this.cell = cell;
+            this.list = list;
+            this.itemNumber = itemNumber;
+            this.listDepth = listDepth;
+        }
+
+        ElementPosition inTableCell(TableBorder table, TableBorderCell cell) {
+            return new ElementPosition(table, cell, list, itemNumber, listDepth);
+        }
+
+        ElementPosition inListItem(IObject list, int itemNumber) {
+            return new ElementPosition(table, cell, list, itemNumber, listDepth + 1);
+        }
+    }
+
+    /**
+     * Generator adding the record fields to each top-level object before it is closed, so the
+     * serializers write records without knowing about them.
+     */
+    private final class RecordGenerator extends JsonGeneratorDelegate {
+
+        RecordGenerator(JsonGenerator jsonGenerator) {
+            super(jsonGenerator, false);
+        }
+
+        @Override
+        public void writeEndObject() throws IOException {
+            if (getOutputContext().getParent().inRoot()) {
+                writeRecordFields();
+            }
+            super.writeEndObject();
+        }
+    }
+}
@@ -78,4 +78,10 @@ public class JsonName {
     public static final String PDFUA_TAG = "pdfua_tag";
     public static final String SOURCE_LABEL = "source label";
     public static final String HYBRID = "hybrid";
+    public static final String HEADING_PATH = "heading path";
+    public static final String ITEM_NUMBER = "item number";
+    public static final String LIST_DEPTH = "list depth";
+    public static final String CHUNK_INDEX = "chunk index";
+    public static final String TOKENS = "tokens";
+    public static final String BOUNDING_BOXES = "bounding boxes";
 }
@@ -16,27 +16,22 @@
 package org.opendataloader.pdf.json;
 
 import com.fasterxml.jackson.core.JsonEncoding;
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
-import org.opendataloader.pdf.containers.StaticLayoutContainers;
-import org.verapdf.as.ASAtom;
-import org.verapdf.cos.COSDictionary;
-import org.verapdf.cos.COSObjType;
-import org.verapdf.cos.COSObject;
-import org.verapdf.cos.COSTrailer;
-import org.verapdf.gf.model.impl.cos.GFCosInfo;
-import org.verapdf.pd.PDDocument;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import org.verapdf.tools.StaticResources;
+import org.opendataloader.pdf.api.OutputSink;
+import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.hybrid.ElementMetadata;
 import org.opendataloader.pdf.json.serializers.SerializerUtil;
+import org.opendataloader.pdf.processors.DocumentInfo;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.SemanticHeaderOrFooter;
 import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
-import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -45,11 +40,15 @@ import java.util.logging.Logger;
 
 public class JsonWriter {
     private static final Logger LOGGER = Logger.getLogger(JsonWriter.class.getCanonicalName());
-    private static JsonGenerator getJsonGenerator(String fileName) throws IOException {
-        JsonFactory jsonFactory = new JsonFactory();
-        return jsonFactory.createGenerator(new File(fileName), JsonEncoding.UTF8)
-                .setPrettyPrinter(new DefaultPrettyPrinter())
-                .setCodec(ObjectMapperHolder.getObjectMapper());
+
+    /** Extension of the JSON Lines output files. */
+    public static final String JSON_LINES_EXTENSION = "jsonl";
+
+    static JsonGenerator getJsonGenerator(OutputSink outputSink, String fileName, boolean compact)
+            throws IOException {
+        JsonGenerator generator = ObjectMapperHolder.getJsonFactory().createGenerator(
+                outputSink.openOutputStream(fileName), JsonEncoding.UTF8);
+        return compact ? generator : generator.setPrettyPrinter(new DefaultPrettyPrinter());
     }
 
     public static void writeToJson(File inputPDF, String outputFolder, List<List<IObject>> contents) throws IOException {
@@ -71,40 +70,152 @@ public class JsonWriter {
                                    Map<Long, ElementMetadata> elementMetadata,
                                    Map<String, Object> hybridInfo,
                                    boolean includeHeaderFooter) throws IOException {
-        StaticLayoutContainers.resetImageIndex();
-        String jsonFileName = outputFolder + File.separator + inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + "json";
-        try (JsonGenerator jsonGenerator = getJsonGenerator(jsonFileName)) {
-            jsonGenerator.writeStartObject();
-            writeDocumentInfo(jsonGenerator, inputPDF.getName());
-
-            if (hybridInfo != null && !hybridInfo.isEmpty()) {
-                writeHybridBlock(jsonGenerator, hybridInfo);
-            }
+        writeToJson(inputPDF, outputFolder, contents, elementMetadata, hybridInfo, includeHeaderFooter, false);
+    }
+
+    /**
+     * Writes the JSON output of a document.
+     *
+     * @param compact true to write without indentation and with fixed-precision numbers;
+     *                false for the indented output
+     */
+    public static void writeToJson(File inputPDF, String outputFolder, List<List<IObject>> contents,
+                                   Map<Long, ElementMetadata> elementMetadata,
+                                   Map<String, Object> hybridInfo,
+                                   boolean includeHeaderFooter, boolean compact) throws IOException {
+        writeToJson(inputPDF, OutputSink.toDirectory(Paths.get(outputFolder)), contents, elementMetadata,
+                hybridInfo, includeHeaderFooter, compact);
+    }
 
+    /**
+     * Writes the JSON output of a document to an output sink.
+     *
+     * @param outputSink the sink the JSON file is opened on
+     * @param compact    true to write without indentation and with fixed-precision numbers;
+     *                   false for the indented output
+     */
+    public static void writeToJson(File inputPDF, OutputSink outputSink, List<List<IObject>> contents,
+                                   Map<Long, ElementMetadata> elementMetadata,
+                                   Map<String, Object> hybridInfo,
+                                   boolean includeHeaderFooter, boolean compact) throws IOException {
+        String jsonFileName = inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + "json";
+        try (JsonGenerator jsonGenerator = getJsonGenerator(outputSink, jsonFileName, compact)) {
+            writeDocument(jsonGenerator, inputPDF, contents, elementMetadata, hybridInfo, includeHeaderFooter, compact);
+            LOGGER.log(Level.INFO, "Created {0}", outputSink.getLocation(jsonFileName));
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Unable to create JSON output: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes the JSON output of a document in a binary encoding, to a file with the extension
+     * of the format. The structure is the same as in the JSON file.
+     *
+     * @param format the binary encoding to write
+     */
+    public static void writeToBinaryJson(File inputPDF, String outputFolder, List<List<IObject>> contents,
+                                         Map<Long, ElementMetadata> elementMetadata,
+                                         Map<String, Object> hybridInfo,
+                                         boolean includeHeaderFooter, BinaryJsonFormat format) throws IOException {
+        writeToBinaryJson(inputPDF, OutputSink.toDirectory(Paths.get(outputFolder)), contents, elementMetadata,
+                hybridInfo, includeHeaderFooter, format);
+    }
+
+    /**
+     * Writes the JSON output of a document in a binary encoding to an output sink.
+     *
+     * @param outputSink the sink the file is opened on
+     * @param format     the binary encoding to write
+     */
+    public static void writeToBinaryJson(File inputPDF, OutputSink outputSink, List<List<IObject>> contents,
+                                         Map<Long, ElementMetadata> elementMetadata,
+                                         Map<String, Object> hybridInfo,
+                                         boolean includeHeaderFooter, BinaryJsonFormat format) throws IOException {
+        String fileName = inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + format.getExtension();
+        try (JsonGenerator generator = format.getFactory().createGenerator(outputSink.openOutputStream(fileName))
+                .setCodec(ObjectMapperHolder.getObjectMapper())) {
+            // Binary encodings write numbers natively; the compact path writes raw text.
+            writeDocument(generator, inputPDF, contents, elementMetadata, hybridInfo, includeHeaderFooter, false);
+            LOGGER.log(Level.INFO, "Created {0}", outputSink.getLocation(fileName));
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Unable to create " + format.getExtension() + " output: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes the elements of the JSON output as JSON Lines: each top-level element in compact
+     * form on its own line, without the document information. The output is flushed after
+     * every page, so a consumer reading a pipe can start on the first pages while the rest is
+     * being written.
+     *
+     * @param outputSink the sink the JSON Lines file is opened on
+     */
+    public static void writeToJsonLines(File inputPDF, OutputSink outputSink, List<List<IObject>> contents,
+                                        Map<Long, ElementMetadata> elementMetadata,
+                                        boolean includeHeaderFooter) throws IOException {
+        String fileName = inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + JSON_LINES_EXTENSION;
+        try (JsonGenerator jsonGenerator = getJsonGenerator(outputSink, fileName, true)) {
+            // Lines are ended explicitly, so no separator goes between root values.
+            jsonGenerator.setRootValueSeparator(null);
             SerializerUtil.setElementMetadata(elementMetadata);
+            SerializerUtil.setCompactOutput(true);
             try {
-                jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
-                for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+                SerializerProvider serializerProvider = ObjectMapperHolder.getObjectMapper().getSerializerProviderInstance();
+                for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                     for (IObject content : contents.get(pageNumber)) {
-                        if (content instanceof LineArtChunk) {
-                            continue;
+                        if (isWrittenElement(content, includeHeaderFooter)) {
+                            SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
+                            jsonGenerator.writeRaw('\n');
                         }
-                        if (!includeHeaderFooter && content instanceof SemanticHeaderOrFooter) {
-                            continue;
-                        }
-                        jsonGenerator.writePOJO(content);
                     }
+                    jsonGenerator.flush();
                 }
-                jsonGenerator.writeEndArray();
             } finally {
                 SerializerUtil.clearElementMetadata();
+                SerializerUtil.clearCompactOutput();
             }
-
-            jsonGenerator.writeEndObject();
-            LOGGER.log(Level.INFO, "Created {0}", jsonFileName);
+            LOGGER.log(Level.INFO, "Created {0}", outputSink.getLocation(fileName));
         } catch (Exception ex) {
-            LOGGER.log(Level.WARNING, "Unable to create JSON output: " + ex.getMessage());
+            LOGGER.log(Level.WARNING, "Unable to create JSON Lines output: " + ex.getMessage());
+        }
+    }
+
+    private static boolean isWrittenElement(IObject content, boolean includeHeaderFooter) {
+        if (content instanceof LineArtChunk) {
+            return false;
+        }
+        return includeHeaderFooter || !(content instanceof SemanticHeaderOrFooter);
+    }
+
+    private static void writeDocument(JsonGenerator jsonGenerator, File inputPDF, List<List<IObject>> contents,
+                                      Map<Long, ElementMetadata> elementMetadata, Map<String, Object> hybridInfo,
+                                      boolean includeHeaderFooter, boolean compact) throws IOException {
+        jsonGenerator.writeStartObject();
+        writeDocumentInfo(jsonGenerator, inputPDF.getName());
+
+        if (hybridInfo != null && !hybridInfo.isEmpty()) {
+            writeHybridBlock(jsonGenerator, hybridInfo);
+        }
+
+        SerializerUtil.setElementMetadata(elementMetadata);
+        SerializerUtil.setCompactOutput(compact);
+        try {
+            SerializerProvider serializerProvider = ObjectMapperHolder.getObjectMapper().getSerializerProviderInstance();
+            jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
+                for (IObject content : contents.get(pageNumber)) {
+                    if (isWrittenElement(content, includeHeaderFooter)) {
+                        SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
+                    }
+                }
+            }
+            jsonGenerator.writeEndArray();
+        } finally {
+            SerializerUtil.clearElementMetadata();
+            SerializerUtil.clearCompactOutput();
         }
+
+        jsonGenerator.writeEndObject();
     }
 
     private static void writeHybridBlock(JsonGenerator generator, Map<String, Object> hybridInfo) throws IOException {
@@ -116,19 +227,15 @@ public class JsonWriter {
     }
 
     private static void writeDocumentInfo(JsonGenerator generator, String pdfName) throws IOException {
-        PDDocument document = StaticResources.getDocument();
+        DocumentInfo info = StaticLayoutContainers.getDocumentInfo();
+        if (info == null) {
+            info = DocumentInfo.fromDocument(StaticResources.getDocument());
+        }
         generator.writeStringField(JsonName.FILE_NAME, pdfName);
-        generator.writeNumberField(JsonName.NUMBER_OF_PAGES, document.getNumberOfPages());
-        COSTrailer trailer = document.getDocument().getTrailer();
-        COSObject object = trailer.getKey(ASAtom.INFO);
-        GFCosInfo info = new GFCosInfo((COSDictionary)
-                (object != null && object.getType() == COSObjType.COS_DICT ?
-                        object.getDirectBase() : COSDictionary.construct().get()));
-        generator.writeStringField(JsonName.AUTHOR, info.getAuthor() != null ? info.getAuthor() : info.getXMPCreator());
-        generator.writeStringField(JsonName.TITLE, info.getTitle() != null ? info.getTitle() : info.getXMPTitle());
-        generator.writeStringField(JsonName.CREATION_DATE, info.getCreationDate() != null ?
-                info.getCreationDate() : info.getXMPCreateDate());
-        generator.writeStringField(JsonName.MODIFICATION_DATE, info.getModDate() != null ?
-                info.getModDate() : info.getXMPModifyDate());
+        generator.writeNumberField(JsonName.NUMBER_OF_PAGES, info.getNumberOfPages());
+        generator.writeStringField(JsonName.AUTHOR, info.getAuthor());
+        generator.writeStringField(JsonName.TITLE, info.getTitle());
+        generator.writeStringField(JsonName.CREATION_DATE, info.getCreationDate());
+        generator.writeStringField(JsonName.MODIFICATION_DATE, info.getModificationDate());
     }
 }
@@ -15,7 +15,10 @@
  */
 package org.opendataloader.pdf.json;
 
+import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.opendataloader.pdf.entities.SemanticFormula;
@@ -29,9 +32,15 @@ import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public class ObjectMapperHolder {
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    /** Serializers by runtime class, resolved through the mapper on first use. */
+    private static final Map<Class<?>, JsonSerializer<Object>> resolvedSerializers = new ConcurrentHashMap<>();
+
     static {
 
         SimpleModule module = new SimpleModule("NodeSerializer", new Version(2, 1,
@@ -100,4 +109,28 @@ public class ObjectMapperHolder {
     public static ObjectMapper getObjectMapper() {
         return objectMapper;
     }
+
+    /**
+     * Returns the factory shared by all JSON outputs; its generators use the mapper as codec.
+     */
+    public static JsonFactory getJsonFactory() {
+        return objectMapper.getFactory();
+    }
+
+    /**
+     * Returns the serializer the mapper uses for values of the given class. The lookup runs
+     * once per class; later calls return the same serializer.
+     *
+     * @param type the runtime class of the values
+     * @return the serializer for the class
+     * @throws JsonMappingException if no serializer can be constructed for the class
+     */
+    public static JsonSerializer<Object> getSerializer(Class<?> type) throws JsonMappingException {
+        JsonSerializer<Object> serializer = resolvedSerializers.get(type);
+        if (serializer == null) {
+            serializer = objectMapper.getSerializerProviderInstance().findTypedValueSerializer(type, true, null);
+            resolvedSerializers.putIfAbsent(type, serializer);
+        }
+        return serializer;
+    }
 }
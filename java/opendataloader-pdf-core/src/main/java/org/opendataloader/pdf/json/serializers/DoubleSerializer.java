@@ -26,6 +26,11 @@ import java.math.RoundingMode;
 /**
  * Jackson serializer for Double values.
  * Rounds double values to 3 decimal places for cleaner JSON output.
+ *
+ * <p>In compact output ({@link SerializerUtil#isCompactOutput()}), values are written with
+ * fixed three-decimal precision straight from a reusable character buffer, without
+ * allocating a {@link BigDecimal} or a String per number. The written text is the same as in
+ * the indented output.
  */
 public class DoubleSerializer extends StdSerializer<Double> {
 
@@ -40,10 +45,83 @@ public class DoubleSerializer extends StdSerializer<Double> {
 
     private static final int DEFAULT_ROUNDING_VALUE = 3;
 
+    private static final long FIXED_PRECISION_SCALE = 1000;
+
+    /** From here on {@link Double#toString} switches to exponent notation; such values keep the general path. */
+    private static final double MAX_FIXED_PRECISION_VALUE = 1e7;
+
+    private static final double NEAR_HALF_TOLERANCE = 1e-6;
+
+    private static final ThreadLocal<char[]> NUMBER_BUFFER = ThreadLocal.withInitial(() -> new char[24]);
+
     @Override
     public void serialize(Double number, JsonGenerator jsonGenerator, SerializerProvider serializerProvider)
             throws IOException {
-        jsonGenerator.writeNumber(round(number, DEFAULT_ROUNDING_VALUE));
+        writeNumber(jsonGenerator, number);
+    }
+
+    /**
+     * Writes a value rounded to 3 decimal places, as {@link #serialize} does, without boxing it.
+     *
+     * @param jsonGenerator the generator to write to
+     * @param value the value to write
+     * @throws IOException if writing fails
+     */
+    public static void writeNumber(JsonGenerator jsonGenerator, double value) throws IOException {
+        if (SerializerUtil.isCompactOutput() && writeFixedPrecision(jsonGenerator, value)) {
+            return;
+        }
+        jsonGenerator.writeNumber(round(value, DEFAULT_ROUNDING_VALUE));
+    }
+
+    /**
+     * Writes the value as a plain decimal with up to three fraction digits, trailing zeros
+     * dropped but at least one kept, which is how the rounded value prints on the general path.
+     *
+     * @return false if the value is not finite or too large for plain notation, and nothing was written
+     */
+    private static boolean writeFixedPrecision(JsonGenerator jsonGenerator, double value) throws IOException {
+        double magnitude = Math.abs(value);
+        if (!(magnitude < MAX_FIXED_PRECISION_VALUE)) {
+            return false;
+        }
+        double scaledValue = magnitude * FIXED_PRECISION_SCALE;
+        if (Math.abs(scaledValue - Math.floor(scaledValue) - 0.5) < NEAR_HALF_TOLERANCE) {
+            // Decimal ties are rounded up on the general path, while the binary product may fall
+            // just below the half; let the general path decide them so both outputs agree.
+            return false;
+        }
+        long scaled = Math.round(scaledValue);
+        if (scaled >= MAX_FIXED_PRECISION_VALUE * FIXED_PRECISION_SCALE) {
+            return false;
+        }
+        long integerPart = scaled / FIXED_PRECISION_SCALE;
+        long fraction = scaled % FIXED_PRECISION_SCALE;
+        char[] buffer = NUMBER_BUFFER.get();
+        int position = buffer.length;
+        if (fraction == 0) {
+            buffer[--position] = '0';
+        } else {
+            int digits = 3;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            for (int i = 0; i < digits; i++) {
+                buffer[--position] = (char) ('0' + fraction % 10);
+                fraction /= 10;
+            }
+        }
+        buffer[--position] = '.';
+        do {
+            buffer[--position] = (char) ('0' + integerPart % 10);
+            integerPart /= 10;
+        } while (integerPart != 0);
+        if (value < 0 && scaled != 0) {
+            buffer[--position] = '-';
+        }
+        jsonGenerator.writeRawValue(buffer, position, buffer.length - position);
+        return true;
     }
 
     private static double round(double value, int decimalPlaces) {
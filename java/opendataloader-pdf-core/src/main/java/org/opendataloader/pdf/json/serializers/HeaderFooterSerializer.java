@@ -48,7 +48,7 @@ public class HeaderFooterSerializer extends StdSerializer<SemanticHeaderOrFooter
         jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
         for (IObject content : header.getContents()) {
             if (!(content instanceof LineArtChunk)) {
-                jsonGenerator.writePOJO(content);
+                SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
             }
         }
         jsonGenerator.writeEndArray();
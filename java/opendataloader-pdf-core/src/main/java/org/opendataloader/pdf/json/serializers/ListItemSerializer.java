@@ -40,7 +40,7 @@ public class ListItemSerializer extends StdSerializer<ListItem> {
         jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
         for (IObject content : item.getContents()) {
             if (!(content instanceof LineArtChunk)) {
-                jsonGenerator.writePOJO(content);
+                SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
             }
         }
         jsonGenerator.writeEndArray();
@@ -45,7 +45,7 @@ public class ListSerializer extends StdSerializer<PDFList> {
         }
         jsonGenerator.writeArrayFieldStart(JsonName.LIST_ITEMS);
         for (ListItem item : list.getListItems()) {
-            jsonGenerator.writePOJO(item);
+            SerializerUtil.writeValue(jsonGenerator, item, serializerProvider);
         }
 
         jsonGenerator.writeEndArray();
@@ -65,9 +65,9 @@ public class PictureSerializer extends StdSerializer<SemanticPicture> {
         if (ImagesUtils.isImageFileExists(absolutePath)) {
             if (StaticLayoutContainers.isEmbedImages()) {
                 File imageFile = new File(absolutePath);
-                String dataUri = Base64ImageUtils.toDataUri(imageFile, imageFormat);
-                if (dataUri != null) {
-                    jsonGenerator.writeStringField(JsonName.DATA, dataUri);
+                byte[] imageBytes = Base64ImageUtils.getImageBytes(imageFile);
+                if (imageBytes != null) {
+                    SerializerUtil.writeDataUriField(jsonGenerator, JsonName.DATA, imageBytes, imageFormat);
                     jsonGenerator.writeStringField(JsonName.IMAGE_FORMAT, imageFormat);
                 }
             } else {
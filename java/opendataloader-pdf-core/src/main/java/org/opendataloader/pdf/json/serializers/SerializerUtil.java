@@ -16,8 +16,11 @@
 package org.opendataloader.pdf.json.serializers;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
 import org.opendataloader.pdf.hybrid.ElementMetadata;
 import org.opendataloader.pdf.json.JsonName;
+import org.opendataloader.pdf.json.ObjectMapperHolder;
+import org.opendataloader.pdf.utils.Base64ImageUtils;
 import org.opendataloader.pdf.utils.TextNodeUtils;
 import org.verapdf.tools.TaggedPDFConstants;
 import org.verapdf.wcag.algorithms.entities.IObject;
@@ -27,6 +30,7 @@ import org.verapdf.wcag.algorithms.entities.content.TextBlock;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -44,6 +48,54 @@ public class SerializerUtil {
         ELEMENT_METADATA.remove();
     }
 
+    private static final ThreadLocal<Boolean> COMPACT_OUTPUT = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * Switches the serializers on this thread to compact output: numbers are written with
+     * fixed precision by {@link DoubleSerializer#writeNumber}.
+     */
+    public static void setCompactOutput(boolean compact) {
+        COMPACT_OUTPUT.set(compact);
+    }
+
+    public static boolean isCompactOutput() {
+        return COMPACT_OUTPUT.get();
+    }
+
+    public static void clearCompactOutput() {
+        COMPACT_OUTPUT.remove();
+    }
+
+    /**
+     * Writes a value with the serializer {@link ObjectMapperHolder} resolved for its class,
+     * skipping the per-value provider setup and flush of {@code writePOJO}.
+     */
+    public static void writeValue(JsonGenerator jsonGenerator, Object value, SerializerProvider serializerProvider)
+            throws IOException {
+        if (value == null) {
+            jsonGenerator.writeNull();
+            return;
+        }
+        ObjectMapperHolder.getSerializer(value.getClass()).serialize(value, jsonGenerator, serializerProvider);
+    }
+
+    /**
+     * Writes the embedded image data URI field. Text JSON streams the Base64 text into the
+     * output in chunks; binary formats, which may not take string values from a reader, get
+     * the data URI as one string.
+     */
+    public static void writeDataUriField(JsonGenerator jsonGenerator, String fieldName, byte[] imageBytes,
+                                         String imageFormat) throws IOException {
+        jsonGenerator.writeFieldName(fieldName);
+        if (jsonGenerator.canWriteBinaryNatively()) {
+            jsonGenerator.writeString(Base64ImageUtils.toDataUri(imageBytes, imageFormat));
+        } else {
+            try (Reader reader = Base64ImageUtils.openDataUri(imageBytes, imageFormat)) {
+                jsonGenerator.writeString(reader, Base64ImageUtils.getDataUriLength(imageBytes, imageFormat));
+            }
+        }
+    }
+
     /**
      * Writes element-level metadata fields (confidence, source label, etc.) if available.
      * Call this before writeEndObject() in each serializer.
@@ -138,10 +190,10 @@ public class SerializerUtil {
         }
         jsonGenerator.writeNumberField(JsonName.PAGE_NUMBER, object.getPageNumber() + 1);
         jsonGenerator.writeArrayFieldStart(JsonName.BOUNDING_BOX);
-        jsonGenerator.writePOJO(object.getLeftX());
-        jsonGenerator.writePOJO(object.getBottomY());
-        jsonGenerator.writePOJO(object.getRightX());
-        jsonGenerator.writePOJO(object.getTopY());
+        DoubleSerializer.writeNumber(jsonGenerator, object.getLeftX());
+        DoubleSerializer.writeNumber(jsonGenerator, object.getBottomY());
+        DoubleSerializer.writeNumber(jsonGenerator, object.getRightX());
+        DoubleSerializer.writeNumber(jsonGenerator, object.getTopY());
         jsonGenerator.writeEndArray();
     }
 
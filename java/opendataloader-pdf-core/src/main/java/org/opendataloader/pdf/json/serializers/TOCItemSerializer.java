@@ -40,7 +40,7 @@ public class TOCItemSerializer extends StdSerializer<SemanticTOCI> {
         jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
         for (IObject content : item.getContents()) {
             if (!(content instanceof LineArtChunk)) {
-                jsonGenerator.writePOJO(content);
+                SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
             }
         }
         jsonGenerator.writeEndArray();
@@ -43,7 +43,7 @@ public class TOCSerializer extends StdSerializer<SemanticTOC> {
         }
         jsonGenerator.writeArrayFieldStart(JsonName.TOC_ITEMS);
         for (IObject child : toc.getTOCItems()) {
-            jsonGenerator.writePOJO(child);
+            SerializerUtil.writeValue(jsonGenerator, child, serializerProvider);
         }
         jsonGenerator.writeEndArray();
         SerializerUtil.writeMetadataIfPresent(jsonGenerator, toc);
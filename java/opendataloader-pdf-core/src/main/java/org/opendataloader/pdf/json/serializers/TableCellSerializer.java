@@ -46,7 +46,7 @@ public class TableCellSerializer extends StdSerializer<TableBorderCell> {
         jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
         for (IObject content : cell.getContents()) {
             if (!(content instanceof LineArtChunk)) {
-                jsonGenerator.writePOJO(content);
+                SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
             }
         }
         jsonGenerator.writeEndArray();
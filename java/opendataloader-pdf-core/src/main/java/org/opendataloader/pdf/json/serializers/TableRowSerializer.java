@@ -41,7 +41,7 @@ public class TableRowSerializer extends StdSerializer<TableBorderRow> {
         for (int columnNumber = 0; columnNumber < cells.length; columnNumber++) {
             TableBorderCell cell = cells[columnNumber];
             if (cell.getColNumber() == columnNumber && cell.getRowNumber() == row.getRowNumber()) {
-                jsonGenerator.writePOJO(cell);
+                SerializerUtil.writeValue(jsonGenerator, cell, serializerProvider);
             }
         }
 
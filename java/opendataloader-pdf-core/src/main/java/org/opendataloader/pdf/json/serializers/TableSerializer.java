@@ -41,7 +41,7 @@ public class TableSerializer extends StdSerializer<TableBorder> {
             jsonGenerator.writeArrayFieldStart(JsonName.KIDS);
             for (IObject content : table.getCell(0, 0).getContents()) {
                 if (!(content instanceof LineArtChunk)) {
-                    jsonGenerator.writePOJO(content);
+                    SerializerUtil.writeValue(jsonGenerator, content, serializerProvider);
                 }
             }
             jsonGenerator.writeEndArray();
@@ -56,7 +56,7 @@ public class TableSerializer extends StdSerializer<TableBorder> {
             }
             jsonGenerator.writeArrayFieldStart(JsonName.ROWS);
             for (TableBorderRow row : table.getRows()) {
-                jsonGenerator.writePOJO(row);
+                SerializerUtil.writeValue(jsonGenerator, row, serializerProvider);
             }
             jsonGenerator.writeEndArray();
         }
@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.markdown;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.entities.SemanticFormula;
 import org.opendataloader.pdf.entities.EnrichedImageChunk;
@@ -36,9 +37,7 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.utils.listLabelsDetection.
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -68,9 +67,14 @@ public class MarkdownGenerator implements Closeable {
     protected static final String strikethroughTextMD = "~~";
 
     MarkdownGenerator(File inputPdf, Config config) throws IOException {
+        this(inputPdf, config, config.getOutputSink());
+    }
+
+    MarkdownGenerator(File inputPdf, Config config, OutputSink outputSink) throws IOException {
         String cutPdfFileName = inputPdf.getName();
-        this.markdownFileName = config.getOutputFolder() + File.separator + cutPdfFileName.substring(0, cutPdfFileName.length() - 3) + "md";
-        this.markdownWriter = new FileWriter(markdownFileName, StandardCharsets.UTF_8);
+        String outputFileName = cutPdfFileName.substring(0, cutPdfFileName.length() - 3) + "md";
+        this.markdownFileName = outputSink.getLocation(outputFileName);
+        this.markdownWriter = outputSink.openWriter(outputFileName);
         this.isImageSupported = !config.isImageOutputOff() && config.isGenerateMarkdown();
         this.markdownPageSeparator = config.getMarkdownPageSeparator();
         this.selectedPageNumbers = new HashSet<>(config.getPageNumbers());
@@ -95,7 +99,7 @@ public class MarkdownGenerator implements Closeable {
 
     public void writeToMarkdown(List<List<IObject>> contents) {
         try {
-            for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                 if (selectedPageNumbers.isEmpty() || selectedPageNumbers.contains(pageNumber + 1)) {
                     writePageSeparator(pageNumber);
                 }
@@ -204,17 +208,18 @@ public class MarkdownGenerator implements Closeable {
             String relativePath = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectoryName(), "/", image.getIndex(), imageFormat);
 
             if (ImagesUtils.isImageFileExists(absolutePath)) {
-                String imageSource;
+                String imageSource = null;
+                byte[] imageBytes = null;
                 if (embedImages) {
                     File imageFile = new File(absolutePath);
-                    imageSource = Base64ImageUtils.toDataUri(imageFile, imageFormat);
-                    if (imageSource == null) {
+                    imageBytes = Base64ImageUtils.getImageBytes(imageFile);
+                    if (imageBytes == null) {
                         LOGGER.log(Level.WARNING, "Failed to convert image to Base64: {0}", absolutePath);
                     }
                 } else {
                     imageSource = formatMarkdownLinkDestination(relativePath);
                 }
-                if (imageSource != null) {
+                if (imageSource != null || imageBytes != null) {
                     // No "image N" fallback: PDF/UA forbids false alternatives,
                     // and an empty Markdown alt lets screen readers skip the
                     // image as a decorative element rather than reading a
@@ -222,8 +227,7 @@ public class MarkdownGenerator implements Closeable {
                     String altText = (image instanceof EnrichedImageChunk && ((EnrichedImageChunk) image).hasDescription())
                             ? ((EnrichedImageChunk) image).sanitizeDescription()
                             : "";
-                    String imageString = String.format(MarkdownSyntax.IMAGE_FORMAT, getCorrectMarkdownString(altText), imageSource);
-                    markdownWriter.write(imageString);
+                    writeImageLink(getCorrectMarkdownString(altText), imageSource, imageBytes);
                 }
             }
         } catch (IOException e) {
@@ -231,6 +235,22 @@ public class MarkdownGenerator implements Closeable {
         }
     }
 
+    /**
+     * Writes an image link to the image file, or with the embedded image streamed into the
+     * link destination as a data URI.
+     */
+    private void writeImageLink(String altText, String imageSource, byte[] imageBytes) throws IOException {
+        if (imageBytes == null) {
+            markdownWriter.write(String.format(MarkdownSyntax.IMAGE_FORMAT, altText, imageSource));
+            return;
+        }
+        // IMAGE_FORMAT ends with the destination followed by ')'
+        String imageString = String.format(MarkdownSyntax.IMAGE_FORMAT, altText, "");
+        markdownWriter.write(imageString, 0, imageString.length() - 1);
+        Base64ImageUtils.writeDataUri(markdownWriter, imageBytes, imageFormat);
+        markdownWriter.write(imageString, imageString.length() - 1, 1);
+    }
+
     /**
      * Writes a SemanticPicture with its description as alt text.
      *
@@ -242,22 +262,22 @@ public class MarkdownGenerator implements Closeable {
             String relativePath = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectoryName(), "/", picture.getPictureIndex(), imageFormat);
 
             if (ImagesUtils.isImageFileExists(absolutePath)) {
-                String imageSource;
+                String imageSource = null;
+                byte[] imageBytes = null;
                 if (embedImages) {
                     File imageFile = new File(absolutePath);
-                    imageSource = Base64ImageUtils.toDataUri(imageFile, imageFormat);
-                    if (imageSource == null) {
+                    imageBytes = Base64ImageUtils.getImageBytes(imageFile);
+                    if (imageBytes == null) {
                         LOGGER.log(Level.WARNING, "Failed to convert image to Base64: {0}", absolutePath);
                     }
                 } else {
                     imageSource = formatMarkdownLinkDestination(relativePath);
                 }
-                if (imageSource != null) {
+                if (imageSource != null || imageBytes != null) {
                     String altText = picture.hasDescription()
                             ? picture.sanitizeDescription()
                             : "";
-                    String imageString = String.format(MarkdownSyntax.IMAGE_FORMAT, getCorrectMarkdownString(altText), imageSource);
-                    markdownWriter.write(imageString);
+                    writeImageLink(getCorrectMarkdownString(altText), imageSource, imageBytes);
                 }
             }
         } catch (IOException e) {
@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.markdown;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 
 import java.io.File;
 import java.io.IOException;
@@ -23,9 +24,14 @@ import java.io.IOException;
 public class MarkdownGeneratorFactory {
     public static MarkdownGenerator getMarkdownGenerator(File inputPdf,
                                                          Config config) throws IOException {
+        return getMarkdownGenerator(inputPdf, config, config.getOutputSink());
+    }
+
+    public static MarkdownGenerator getMarkdownGenerator(File inputPdf, Config config,
+                                                         OutputSink outputSink) throws IOException {
         if (config.isUseHTMLInMarkdown()) {
-            return new MarkdownHTMLGenerator(inputPdf, config);
+            return new MarkdownHTMLGenerator(inputPdf, config, outputSink);
         }
-        return new MarkdownGenerator(inputPdf, config);
+        return new MarkdownGenerator(inputPdf, config, outputSink);
     }
 }
@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.markdown;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
@@ -31,6 +32,10 @@ public class MarkdownHTMLGenerator extends MarkdownGenerator {
         super(inputPdf, config);
     }
 
+    protected MarkdownHTMLGenerator(File inputPdf, Config config, OutputSink outputSink) throws IOException {
+        super(inputPdf, config, outputSink);
+    }
+
     @Override
     protected void writeTable(TableBorder table) throws IOException {
         enterTable();
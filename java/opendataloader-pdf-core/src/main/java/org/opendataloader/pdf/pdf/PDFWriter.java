@@ -44,7 +44,6 @@ import org.verapdf.wcag.algorithms.entities.lists.PDFList;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
 import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
-import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
 
 import java.io.File;
 import java.io.IOException;
@@ -62,16 +61,16 @@ public class PDFWriter {
 
     public void updatePDF(File inputPDF, String password, String outputFolder, List<List<IObject>> contents) throws IOException {
         try (PDDocument document = Loader.loadPDF(inputPDF, password)) {
-            for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                 annotations.add(new ArrayList<>());
                 pageBoundingBoxes.add(DocumentProcessor.getPageBoundingBox(pageNumber));
             }
-            for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                 for (IObject content : contents.get(pageNumber)) {
                     drawContent(content, PDFLayer.CONTENT);
                 }
             }
-            for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            for (int pageNumber = 0; pageNumber < contents.size(); pageNumber++) {
                 document.getPage(pageNumber).getAnnotations().addAll(annotations.get(pageNumber));
             }
             annotations.clear();
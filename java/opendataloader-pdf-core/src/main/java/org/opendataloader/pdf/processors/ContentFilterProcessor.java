@@ -17,11 +17,14 @@ package org.opendataloader.pdf.processors;
 
 import org.opendataloader.pdf.api.Config;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
+import org.verapdf.gf.model.factory.chunks.ChunkParser;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.content.IChunk;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
 import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
 import org.verapdf.wcag.algorithms.entities.content.TextChunk;
 import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.semanticalgorithms.utils.ChunksMergeUtils;
 import org.verapdf.wcag.algorithms.semanticalgorithms.utils.TextChunkUtils;
 
 import java.io.IOException;
@@ -43,6 +46,11 @@ public class ContentFilterProcessor {
     /**
      * Filters and cleans page contents based on configuration.
      *
+     * <p>After duplicate text removal, the remaining filters run as one pass: decoration images,
+     * tiny text and out-of-page content are dropped, close text chunks are merged, and each
+     * finished chunk is trimmed, space-compressed, split and appended to the result. The output
+     * is the same as running the filters one after another.
+     *
      * @param inputPdfName the path to the PDF file
      * @param contents the raw page contents
      * @param pageNumber the page number (0-indexed)
@@ -54,25 +62,16 @@ public class ContentFilterProcessor {
                                                     Config config) throws IOException {
         List<IObject> pageContents = new ArrayList<>(contents);
         TextProcessor.removeSameTextChunks(pageContents);
-        pageContents = DocumentProcessor.removeNullObjectsFromList(pageContents);
-        TextProcessor.removeTextDecorationImages(pageContents);
-        pageContents = DocumentProcessor.removeNullObjectsFromList(pageContents);
-        if (config.getFilterConfig().isFilterTinyText()) {
-            TextProcessor.filterTinyText(pageContents);
-            pageContents = DocumentProcessor.removeNullObjectsFromList(pageContents);
-        }
-        if (config.getFilterConfig().isFilterOutOfPage()) {
-            filterOutOfPageContents(pageNumber, pageContents);
-            pageContents = DocumentProcessor.removeNullObjectsFromList(pageContents);
+        PageContentsFilter filter = new PageContentsFilter(pageNumber, config, pageContents.size());
+        for (IObject object : pageContents) {
+            if (object != null) {
+                filter.accept(object);
+            }
         }
-        TextProcessor.mergeCloseTextChunks(pageContents);
-        pageContents = DocumentProcessor.removeNullObjectsFromList(pageContents);
-        TextProcessor.trimTextChunksWhiteSpaces(pageContents);
-        filterConsecutiveSpaces(pageContents);
-        pageContents = splitTextChunksByWhiteSpacesInPageContents(pageContents);
+        pageContents = filter.finish();
         // HiddenText detection moved to DocumentProcessor (sequential post-processing)
         // to avoid ContrastRatioConsumer per-thread PDF rendering overhead
-        double replacementCharRatio = TextProcessor.measureReplacementCharRatio(pageContents);
+        double replacementCharRatio = filter.getReplacementCharRatio();
         StaticLayoutContainers.setReplacementCharRatio(pageNumber, replacementCharRatio);
         if (replacementCharRatio >= 0.3) {
             LOGGER.log(Level.WARNING,
@@ -81,7 +80,6 @@ public class ContentFilterProcessor {
                 + "Text extraction may be incomplete. Consider enabling hybrid OCR fallback with --hybrid docling-fast.",
                 new Object[]{pageNumber + 1, replacementCharRatio});
         }
-        TextProcessor.replaceUndefinedCharacters(pageContents, config.getReplaceInvalidChars());
         processBackgrounds(pageNumber, pageContents);
         return pageContents;
     }
@@ -111,14 +109,6 @@ public class ContentFilterProcessor {
         }
     }
 
-    private static void filterConsecutiveSpaces(List<IObject> pageContents) {
-        for (IObject object : pageContents) {
-            if (object instanceof TextChunk) {
-                ((TextChunk) object).compressSpaces();
-            }
-        }
-    }
-
     private static boolean isBackground(IObject content, BoundingBox pageBoundingBox) {
         return (content.getBoundingBox().getWidth() > 0.5 * pageBoundingBox.getWidth() &&
             content.getBoundingBox().getHeight() > 0.1 * pageBoundingBox.getHeight()) ||
@@ -126,31 +116,109 @@ public class ContentFilterProcessor {
                 content.getBoundingBox().getHeight() > 0.5 * pageBoundingBox.getHeight());
     }
 
-    private static void filterOutOfPageContents(int pageNumber, List<IObject> contents) {
-        BoundingBox pageBoundingBox = DocumentProcessor.getPageBoundingBox(pageNumber);
-        if (pageBoundingBox == null) {
-            return;
-        }
-        pageBoundingBox.move(-pageBoundingBox.getLeftX(), -pageBoundingBox.getBottomY());
-        for (int index = 0; index < contents.size(); index++) {
-            IObject object = contents.get(index);
-            if (object != null && pageBoundingBox.notOverlaps(object.getBoundingBox())) {
-                contents.set(index, null);
+    /**
+     * Single-pass equivalent of the page filters that follow duplicate text removal.
+     * Objects are fed in page order. The last accepted text chunk is held back, with the
+     * non-text objects that follow it, until the next text chunk shows whether the two merge;
+     * it is only trimmed and split after decoration images have been matched against it.
+     */
+    private static final class PageContentsFilter {
+        private final boolean filterTinyText;
+        private final BoundingBox pageBoundingBox;
+        private final String replacementCharacterString;
+        private final List<IObject> result;
+        private final List<IObject> trailingObjects = new ArrayList<>();
+        private TextChunk lastTextChunk;
+        private TextChunk pendingTextChunk;
+        private int totalChars;
+        private int replacementChars;
+
+        private PageContentsFilter(int pageNumber, Config config, int expectedSize) {
+            this.filterTinyText = config.getFilterConfig().isFilterTinyText();
+            BoundingBox pageBoundingBox = config.getFilterConfig().isFilterOutOfPage()
+                ? DocumentProcessor.getPageBoundingBox(pageNumber) : null;
+            if (pageBoundingBox != null) {
+                pageBoundingBox.move(-pageBoundingBox.getLeftX(), -pageBoundingBox.getBottomY());
             }
+            this.pageBoundingBox = pageBoundingBox;
+            String replacementCharacterString = config.getReplaceInvalidChars();
+            this.replacementCharacterString = ChunkParser.REPLACEMENT_CHARACTER_STRING.equals(replacementCharacterString)
+                ? null : replacementCharacterString;
+            this.result = new ArrayList<>(expectedSize);
         }
-    }
 
-    private static List<IObject> splitTextChunksByWhiteSpacesInPageContents(List<IObject> contents) {
-        List<IObject> newContents = new ArrayList<>();
-        for (IObject object : contents) {
+        private void accept(IObject object) {
             if (object instanceof TextChunk) {
                 TextChunk textChunk = (TextChunk) object;
-                List<TextChunk> splitChunks = TextChunkUtils.splitTextChunkByWhiteSpaces(textChunk);
-                newContents.addAll(splitChunks);
+                // Decoration images are matched against the previous text chunk, filtered or not.
+                lastTextChunk = textChunk;
+                if (filterTinyText && TextProcessor.isTinyText(textChunk)) {
+                    return;
+                }
+                if (isOutOfPage(textChunk)) {
+                    return;
+                }
+                acceptTextChunk(textChunk);
             } else {
-                newContents.add(object);
+                if (object instanceof ImageChunk && lastTextChunk != null &&
+                    TextProcessor.isTextChunkDecorationImage((ImageChunk) object, lastTextChunk)) {
+                    return;
+                }
+                if (isOutOfPage(object)) {
+                    return;
+                }
+                if (pendingTextChunk != null) {
+                    trailingObjects.add(object);
+                } else {
+                    result.add(object);
+                }
+            }
+        }
+
+        private boolean isOutOfPage(IObject object) {
+            return pageBoundingBox != null && pageBoundingBox.notOverlaps(object.getBoundingBox());
+        }
+
+        private void acceptTextChunk(TextChunk textChunk) {
+            if (pendingTextChunk != null && trailingObjects.isEmpty() &&
+                TextProcessor.areMergeableTextChunks(pendingTextChunk, textChunk)) {
+                pendingTextChunk = TextChunkUtils.unionTextChunks(pendingTextChunk, textChunk);
+                return;
             }
+            flush();
+            pendingTextChunk = textChunk;
+        }
+
+        private void flush() {
+            if (pendingTextChunk == null) {
+                return;
+            }
+            TextChunk trimmedTextChunk = ChunksMergeUtils.getTrimTextChunk(pendingTextChunk);
+            trimmedTextChunk.compressSpaces();
+            for (TextChunk textChunk : TextChunkUtils.splitTextChunkByWhiteSpaces(trimmedTextChunk)) {
+                String value = textChunk.getValue();
+                totalChars += value.length();
+                replacementChars += TextProcessor.countReplacementChars(value);
+                if (replacementCharacterString != null) {
+                    TextProcessor.replaceUndefinedCharacters(textChunk, replacementCharacterString);
+                }
+                result.add(textChunk);
+            }
+            result.addAll(trailingObjects);
+            trailingObjects.clear();
+            pendingTextChunk = null;
+        }
+
+        private List<IObject> finish() {
+            flush();
+            return result;
+        }
+
+        /**
+         * @return The share of replacement characters in the emitted text, measured before replacement.
+         */
+        private double getReplacementCharRatio() {
+            return totalChars == 0 ? 0.0 : (double) replacementChars / totalChars;
         }
-        return newContents;
     }
 }
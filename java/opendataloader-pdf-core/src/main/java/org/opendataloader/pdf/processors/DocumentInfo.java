@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSDictionary;
+import org.verapdf.cos.COSObjType;
+import org.verapdf.cos.COSObject;
+import org.verapdf.gf.model.impl.cos.GFCosInfo;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Document-level information the outputs read from the parsed PDF: the number of pages, the
+ * info dictionary entries and the crop box of every page.
+ *
+ * <p>It is collected once after parsing, so that outputs can also be written when the PDF is
+ * not open, as when rendering from an {@link ExtractionSnapshot}.
+ */
+public final class DocumentInfo {
+
+    private final int numberOfPages;
+    private final String author;
+    private final String title;
+    private final String creationDate;
+    private final String modificationDate;
+    private final List<BoundingBox> pageBoundingBoxes;
+
+    /**
+     * @param pageBoundingBoxes the crop box of every page, with null for pages without one
+     */
+    public DocumentInfo(int numberOfPages, String author, String title, String creationDate,
+                        String modificationDate, List<BoundingBox> pageBoundingBoxes) {
+        this.numberOfPages = numberOfPages;
+        this.author = author;
+        this.title = title;
+        this.creationDate = creationDate;
+        this.modificationDate = modificationDate;
+        this.pageBoundingBoxes = Collections.unmodifiableList(new ArrayList<>(pageBoundingBoxes));
+    }
+
+    /**
+     * Collects the information of a parsed document. Info dictionary entries fall back to the
+     * corresponding XMP metadata.
+     *
+     * @param document the parsed document
+     * @return the document information
+     */
+    public static DocumentInfo fromDocument(PDDocument document) {
+        COSObject object = document.getDocument().getTrailer().getKey(ASAtom.INFO);
+        GFCosInfo info = new GFCosInfo((COSDictionary)
+                (object != null && object.getType() == COSObjType.COS_DICT ?
+                        object.getDirectBase() : COSDictionary.construct().get()));
+        int numberOfPages = document.getNumberOfPages();
+        List<BoundingBox> pageBoundingBoxes = new ArrayList<>(numberOfPages);
+        for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+            double[] cropBox = document.getPage(pageNumber).getCropBox();
+            pageBoundingBoxes.add(cropBox != null ? new BoundingBox(pageNumber, cropBox) : null);
+        }
+        return new DocumentInfo(numberOfPages,
+                info.getAuthor() != null ? info.getAuthor() : info.getXMPCreator(),
+                info.getTitle() != null ? info.getTitle() : info.getXMPTitle(),
+                info.getCreationDate() != null ? info.getCreationDate() : info.getXMPCreateDate(),
+                info.getModDate() != null ? info.getModDate() : info.getXMPModifyDate(),
+                pageBoundingBoxes);
+    }
+
+    public int getNumberOfPages() {
+        return numberOfPages;
+    }
+
+    public String getAuthor() {
+        return author;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getCreationDate() {
+        return creationDate;
+    }
+
+    public String getModificationDate() {
+        return modificationDate;
+    }
+
+    /**
+     * Gets the crop box of a page.
+     *
+     * @param pageNumber the page number (0-indexed)
+     * @return a copy of the crop box, or null if not available
+     */
+    public BoundingBox getPageBoundingBox(int pageNumber) {
+        if (pageNumber < 0 || pageNumber >= pageBoundingBoxes.size()) {
+            return null;
+        }
+        BoundingBox boundingBox = pageBoundingBoxes.get(pageNumber);
+        return boundingBox != null ? new BoundingBox(boundingBox) : null;
+    }
+}
@@ -15,9 +15,12 @@
  */
 package org.opendataloader.pdf.processors;
 
+import org.opendataloader.pdf.chunks.ChunkGenerator;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.hybrid.ElementMetadata;
 import org.opendataloader.pdf.processors.readingorder.XYCutPlusPlusSorter;
+import org.opendataloader.pdf.json.BinaryJsonFormat;
+import org.opendataloader.pdf.json.ElementStreamWriter;
 import org.opendataloader.pdf.json.JsonWriter;
 import org.opendataloader.pdf.markdown.MarkdownGenerator;
 import org.opendataloader.pdf.markdown.MarkdownGeneratorFactory;
@@ -26,20 +29,18 @@ import org.opendataloader.pdf.html.HtmlGenerator;
 import org.opendataloader.pdf.html.HtmlGeneratorFactory;
 import org.opendataloader.pdf.pdf.PDFWriter;
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputArchive;
+import org.opendataloader.pdf.api.OutputSink;
+import org.opendataloader.pdf.api.ZipOutputSink;
 import org.opendataloader.pdf.text.TextGenerator;
 import org.opendataloader.pdf.utils.ContentSanitizer;
 import org.opendataloader.pdf.utils.FileUtils;
+import org.opendataloader.pdf.utils.ImageStore;
 import org.opendataloader.pdf.utils.ImagesUtils;
 import org.opendataloader.pdf.utils.TextNodeUtils;
-import org.verapdf.as.ASAtom;
 import org.verapdf.containers.StaticCoreContainers;
-import org.verapdf.cos.COSDictionary;
-import org.verapdf.cos.COSObjType;
-import org.verapdf.cos.COSObject;
-import org.verapdf.cos.COSTrailer;
 import org.verapdf.exceptions.InvalidPasswordException;
 import org.verapdf.gf.model.impl.containers.StaticStorages;
-import org.verapdf.gf.model.impl.cos.GFCosInfo;
 import org.verapdf.gf.model.impl.sa.GFSAPDFDocument;
 import org.verapdf.parser.PDFFlavour;
 import org.verapdf.pd.PDDocument;
@@ -65,7 +66,10 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.logging.Level;
@@ -84,7 +88,7 @@ public class DocumentProcessor {
      * - Clears static containers to remove lingering references
      * Should always be called in a finally block.
      */
-    private static void closePdfResources() {
+    static void closePdfResources() {
         clearCleanupStep("PDDocument", () -> {
             PDDocument document = StaticResources.getDocument();
             if (document != null) {
@@ -175,7 +179,7 @@ public class DocumentProcessor {
     public static ExtractionResult extractContents(String inputPdfName, Config config) throws IOException {
         long t0 = System.nanoTime();
         preprocessing(inputPdfName, config);
-        calculateDocumentInfo();
+        DocumentInfo documentInfo = calculateDocumentInfo();
         Set<Integer> pagesToProcess = getValidPageNumbers(config);
         List<List<IObject>> contents;
         if (StaticLayoutContainers.isUseStructTree()) {
@@ -196,9 +200,7 @@ public class DocumentProcessor {
             contents = processDocument(inputPdfName, config, pagesToProcess);
         }
         sortContents(contents, config);
-        ContentSanitizer contentSanitizer = new ContentSanitizer(config.getFilterConfig().getFilterRules(),
-            config.getFilterConfig().isFilterSensitiveData());
-        contentSanitizer.sanitizeContents(contents);
+        sanitizeContents(inputPdfName, contents, config);
         long extractionNs = System.nanoTime() - t0;
 
         // Re-key metadata by actual IObject IDs in contents.
@@ -208,7 +210,27 @@ public class DocumentProcessor {
         Map<Long, ElementMetadata> remappedMetadata = remapMetadataToContents(rawMetadata, contents);
 
         return new ExtractionResult(contents, extractionNs, HybridDocumentProcessor.getLastHybridTimings(),
-            remappedMetadata);
+            remappedMetadata, documentInfo);
+    }
+
+    /**
+     * Sanitizes the page contents, on a pool of {@code --threads} workers that see the calling
+     * thread's document state when more than one thread is configured.
+     */
+    private static void sanitizeContents(String inputPdfName, List<List<IObject>> contents, Config config) {
+        ContentSanitizer contentSanitizer = new ContentSanitizer(config.getFilterConfig().getFilterRules(),
+            config.getFilterConfig().isFilterSensitiveData());
+        int parallelism = Math.min(config.getThreads(), contents.size());
+        if (parallelism <= 1) {
+            contentSanitizer.sanitizeContents(contents);
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            contentSanitizer.sanitizeContents(contents, pool, captureProcessingState(inputPdfName, config));
+        } finally {
+            pool.shutdown();
+        }
     }
 
     /**
@@ -218,7 +240,7 @@ public class DocumentProcessor {
      * @param config the configuration containing page selection
      * @return Set of valid 0-indexed page numbers to process, or null for all pages
      */
-    private static Set<Integer> getValidPageNumbers(Config config) {
+    static Set<Integer> getValidPageNumbers(Config config) {
         List<Integer> requestedPages = config.getPageNumbers();
         if (requestedPages.isEmpty()) {
             return null; // null means process all pages
@@ -258,47 +280,8 @@ public class DocumentProcessor {
         int totalPages = StaticContainers.getDocument().getNumberOfPages();
         List<List<IObject>> contents = new ArrayList<>(Collections.nCopies(totalPages, null));
 
-        // Capture ALL ThreadLocal state from main thread for propagation to workers
         final var document = StaticContainers.getDocument();
-        final var pdDocument = StaticResources.getDocument();
-        final var tableBordersCollection = StaticContainers.getTableBordersCollection();
-        final var accumulatedNodeMapper = StaticContainers.getAccumulatedNodeMapper();
-        final var objectKeyMapper = StaticContainers.getObjectKeyMapper();
-        final var linesCollection = StaticContainers.getLinesCollection();
-        final boolean keepLineBreaks = StaticContainers.isKeepLineBreaks();
-        final boolean isDataLoader = StaticContainers.isDataLoader();
-        final var isIgnoreCharsWithoutUnicode = StaticContainers.getIsIgnoreCharactersWithoutUnicode();
-        final var textLineSpaceRatio = StaticContainers.getTextLineSpaceRatio();
-
-        // Capture StaticLayoutContainers state (shared mutable — synchronized list for headings)
-        final var headings = StaticLayoutContainers.getHeadings();
-        final long contentId = StaticLayoutContainers.getCurrentContentId();
-        final boolean useStructTree = StaticLayoutContainers.isUseStructTree();
-        final var embeddedImageBytesMap = StaticLayoutContainers.getEmbeddedImageBytesMap();
-
-        // Runnable that propagates ThreadLocal state to the current (worker) thread
-        final Runnable propagateState = () -> {
-            StaticResources.setDocument(pdDocument);
-            // veraPDF StaticContainers
-            StaticContainers.setDocument(document);
-            StaticContainers.setTableBordersCollection(tableBordersCollection);
-            StaticContainers.setAccumulatedNodeMapper(accumulatedNodeMapper);
-            StaticContainers.setObjectKeyMapper(objectKeyMapper);
-            StaticContainers.setLinesCollection(linesCollection);
-            StaticContainers.setKeepLineBreaks(keepLineBreaks);
-            StaticContainers.setIsDataLoader(isDataLoader);
-            StaticContainers.setIsIgnoreCharactersWithoutUnicode(isIgnoreCharsWithoutUnicode);
-            StaticContainers.setFileName(inputPdfName);
-            StaticContainers.setPassword(config.getPassword());
-            // Project StaticLayoutContainers — share the same headings list across workers
-            StaticLayoutContainers.setHeadings(headings);
-            StaticLayoutContainers.setCurrentContentId(contentId);
-            StaticLayoutContainers.setIsUseStructTree(useStructTree);
-            StaticLayoutContainers.setEmbeddedImageBytesMap(embeddedImageBytesMap);
-            if (textLineSpaceRatio != null) {
-                StaticContainers.setTextLineSpaceRatio(textLineSpaceRatio);
-            }
-        };
+        final Runnable propagateState = captureProcessingState(inputPdfName, config);
 
         // Pre-fetch all page artifacts on main thread (document access is ThreadLocal)
         List<?>[] pageArtifacts = new List<?>[totalPages];
@@ -434,6 +417,66 @@ public class DocumentProcessor {
         return contents;
     }
 
+    /**
+     * Captures the calling thread's document state, and returns a runnable that sets it on the
+     * worker thread it runs on. Every worker pool of a document uses it: the per-page stages,
+     * the content sanitizer and the output generators.
+     */
+    private static Runnable captureProcessingState(String inputPdfName, Config config) {
+        // Capture ALL ThreadLocal state from main thread for propagation to workers
+        final var document = StaticContainers.getDocument();
+        final var pdDocument = StaticResources.getDocument();
+        final var tableBordersCollection = StaticContainers.getTableBordersCollection();
+        final var accumulatedNodeMapper = StaticContainers.getAccumulatedNodeMapper();
+        final var objectKeyMapper = StaticContainers.getObjectKeyMapper();
+        final var linesCollection = StaticContainers.getLinesCollection();
+        final boolean keepLineBreaks = StaticContainers.isKeepLineBreaks();
+        final boolean isDataLoader = StaticContainers.isDataLoader();
+        final var isIgnoreCharsWithoutUnicode = StaticContainers.getIsIgnoreCharactersWithoutUnicode();
+        final var textLineSpaceRatio = StaticContainers.getTextLineSpaceRatio();
+
+        // Capture StaticLayoutContainers state (shared mutable — synchronized list for headings)
+        final var headings = StaticLayoutContainers.getHeadings();
+        final long contentId = StaticLayoutContainers.getCurrentContentId();
+        final boolean useStructTree = StaticLayoutContainers.isUseStructTree();
+        final var embeddedImageBytesMap = StaticLayoutContainers.getEmbeddedImageBytesMap();
+        // Output state, set before the generators run
+        final String imagesDirectory = StaticLayoutContainers.getImagesDirectory();
+        final boolean embedImages = StaticLayoutContainers.isEmbedImages();
+        final String imageFormat = StaticLayoutContainers.getImageFormat();
+        final OutputArchive outputArchive = StaticLayoutContainers.getOutputArchive();
+        final DocumentInfo documentInfo = StaticLayoutContainers.getDocumentInfo();
+
+        // Runnable that propagates ThreadLocal state to the current (worker) thread
+        return () -> {
+            StaticResources.setDocument(pdDocument);
+            // veraPDF StaticContainers
+            StaticContainers.setDocument(document);
+            StaticContainers.setTableBordersCollection(tableBordersCollection);
+            StaticContainers.setAccumulatedNodeMapper(accumulatedNodeMapper);
+            StaticContainers.setObjectKeyMapper(objectKeyMapper);
+            StaticContainers.setLinesCollection(linesCollection);
+            StaticContainers.setKeepLineBreaks(keepLineBreaks);
+            StaticContainers.setIsDataLoader(isDataLoader);
+            StaticContainers.setIsIgnoreCharactersWithoutUnicode(isIgnoreCharsWithoutUnicode);
+            StaticContainers.setFileName(inputPdfName);
+            StaticContainers.setPassword(config.getPassword());
+            // Project StaticLayoutContainers — share the same headings list across workers
+            StaticLayoutContainers.setHeadings(headings);
+            StaticLayoutContainers.setCurrentContentId(contentId);
+            StaticLayoutContainers.setIsUseStructTree(useStructTree);
+            StaticLayoutContainers.setEmbeddedImageBytesMap(embeddedImageBytesMap);
+            StaticLayoutContainers.setImagesDirectory(imagesDirectory);
+            StaticLayoutContainers.setEmbedImages(embedImages);
+            StaticLayoutContainers.setImageFormat(imageFormat);
+            StaticLayoutContainers.setOutputArchive(outputArchive);
+            StaticLayoutContainers.setDocumentInfo(documentInfo);
+            if (textLineSpaceRatio != null) {
+                StaticContainers.setTextLineSpaceRatio(textLineSpaceRatio);
+            }
+        };
+    }
+
     /**
      * Checks if a page should be processed based on the filter.
      *
@@ -458,6 +501,10 @@ public class DocumentProcessor {
             for (IObject obj : pageContents) {
                 collectMetadata(obj, rawMetadata, remapped);
             }
+            // Every entry already found: the remaining pages cannot add anything.
+            if (remapped.size() == rawMetadata.size()) {
+                break;
+            }
         }
         return remapped;
     }
@@ -548,62 +595,289 @@ public class DocumentProcessor {
                                            Map<Long, ElementMetadata> elementMetadata) throws IOException {
         // Stdout mode: write primary format to stdout, skip file I/O
         if (config.isOutputStdout()) {
-            java.io.Writer stdoutWriter = new java.io.BufferedWriter(
-                new java.io.OutputStreamWriter(System.out, java.nio.charset.StandardCharsets.UTF_8));
-            if (config.isGenerateText()) {
-                TextGenerator textGenerator = new TextGenerator(stdoutWriter, config);
-                textGenerator.writeToText(contents);
-                stdoutWriter.flush();
-            } else if (config.isGenerateMarkdown()) {
-                MarkdownGenerator markdownGenerator = new MarkdownGenerator(stdoutWriter, config);
-                markdownGenerator.writeToMarkdown(contents);
-                stdoutWriter.flush();
-            }
-            // JSON and HTML stdout not yet supported
+            writeToStdout(new File(inputPdfName), contents, config, elementMetadata);
             return;
         }
 
         File inputPDF = new File(inputPdfName);
         new File(config.getOutputFolder()).mkdirs();
-        if (!config.isImageOutputOff() && (config.isGenerateHtml() || config.isGenerateMarkdown() || config.isGenerateJSON())) {
+        if (!config.isOutputArchive()) {
+            generateOutputs(inputPDF, contents, config, elementMetadata, config.getOutputSink());
+            return;
+        }
+        ZipOutputSink outputArchive = new ZipOutputSink(Paths.get(config.getOutputFolder(),
+            FileUtils.getBaseName(inputPDF.getName()) + ZipOutputSink.ZIP_EXTENSION));
+        try {
+            generateOutputs(inputPDF, contents, config, elementMetadata, outputArchive);
+        } finally {
+            outputArchive.close();
+        }
+        LOGGER.log(Level.INFO, "Created {0}", outputArchive.getLocation());
+    }
+
+    /**
+     * Writes the configured outputs from an extraction loaded from a snapshot, without opening
+     * the PDF. Images are not extracted again: the outputs refer to the image files written
+     * with the snapshot, if they are still in place. The input PDF is only read for the pdf
+     * output.
+     *
+     * <p><strong>Internal API.</strong> Like
+     * {@link #generateOutputs(String, List, Config, Map)}, this is {@code public} only for the
+     * {@link org.opendataloader.pdf.api.OutputWriter} facade.
+     *
+     * @throws IllegalArgumentException if tagged PDF output is configured, which needs the
+     *                                  parsed document
+     */
+    public static void generateOutputsFromSnapshot(String inputPdfName, ExtractionResult extraction,
+                                                   Config config) throws IOException {
+        if (config.isGenerateTaggedPDF()) {
+            throw new IllegalArgumentException(
+                "tagged-pdf output needs the parsed document and cannot be written from a snapshot");
+        }
+        try {
+            updateStaticContainers(config);
+            StaticLayoutContainers.setDocumentInfo(extraction.getDocumentInfo());
+            generateOutputs(inputPdfName, extraction.getContents(), config, extraction.getElementMetadata());
+        } finally {
+            closePdfResources();
+        }
+    }
+
+    /**
+     * Writes the first configured of text, Markdown, HTML, element stream, chunks, JSON Lines and JSON to stdout with
+     * the generators of the output files. No images are extracted in this mode.
+     */
+    private static void writeToStdout(File inputPDF, List<List<IObject>> contents, Config config,
+                                      Map<Long, ElementMetadata> elementMetadata) throws IOException {
+        OutputSink stdoutSink = OutputSink.toStream(System.out, "stdout");
+        if (config.isGenerateText()) {
+            try (TextGenerator textGenerator = new TextGenerator(stdoutSink.openWriter(inputPDF.getName()), config)) {
+                textGenerator.writeToText(contents);
+            }
+        } else if (config.isGenerateMarkdown()) {
+            try (MarkdownGenerator markdownGenerator = new MarkdownGenerator(stdoutSink.openWriter(inputPDF.getName()),
+                config)) {
+                markdownGenerator.writeToMarkdown(contents);
+            }
+        } else if (config.isGenerateHtml()) {
+            try (HtmlGenerator htmlGenerator = HtmlGeneratorFactory.getHtmlGenerator(inputPDF, config, stdoutSink)) {
+                htmlGenerator.writeToHtml(contents);
+            }
+        } else if (config.isGenerateElementStream()) {
+            ElementStreamWriter.writeToElementStream(inputPDF, stdoutSink, contents, elementMetadata,
+                config.isIncludeHeaderFooter());
+        } else if (config.isGenerateChunks()) {
+            try (ChunkGenerator chunkGenerator = new ChunkGenerator(inputPDF, config, stdoutSink)) {
+                chunkGenerator.writeChunks(contents);
+            }
+        } else if (config.isGenerateJsonLines()) {
+            JsonWriter.writeToJsonLines(inputPDF, stdoutSink, contents, elementMetadata,
+                config.isIncludeHeaderFooter());
+        } else if (config.isGenerateJSON()) {
+            JsonWriter.writeToJson(inputPDF, stdoutSink, contents, elementMetadata, null,
+                config.isIncludeHeaderFooter(), config.isJsonCompact());
+        }
+    }
+
+    /**
+     * Writes the images and outputs of a document, opening the JSON, Markdown, HTML and text
+     * outputs on the given sink. If the sink is an {@link OutputArchive}, the extracted images
+     * are added to it instead of an image directory.
+     *
+     * <p><strong>Internal API.</strong> Like
+     * {@link #generateOutputs(String, List, Config, Map)}, this is {@code public} only for the
+     * facades in the {@code api} package.
+     */
+    public static void generateOutputs(File inputPDF, List<List<IObject>> contents, Config config,
+                                       Map<Long, ElementMetadata> elementMetadata,
+                                       OutputSink outputSink) throws IOException {
+        StaticLayoutContainers.setOutputArchive(outputSink instanceof OutputArchive ? (OutputArchive) outputSink : null);
+        try {
+            writeOutputs(inputPDF, contents, config, elementMetadata, outputSink);
+        } finally {
+            StaticLayoutContainers.setOutputArchive(null);
+        }
+    }
+
+    private static void writeOutputs(File inputPDF, List<List<IObject>> contents, Config config,
+                                     Map<Long, ElementMetadata> elementMetadata,
+                                     OutputSink outputSink) throws IOException {
+        if (!config.isImageOutputOff() && (config.isGenerateHtml() || config.isGenerateMarkdown() || config.isGenerateJSON()
+                || config.isGenerateJsonLines() || config.isGenerateElementStream() || config.isGenerateSmile()
+                || config.isGenerateCbor() || config.isGenerateSnapshot())) {
             String imagesDirectory;
             if (config.getImageDir() != null && !config.getImageDir().isEmpty()) {
                 imagesDirectory = config.getImageDir();
             } else {
-                String fileName = Paths.get(inputPdfName).getFileName().toString();
-                imagesDirectory = config.getOutputFolder() + File.separator + FileUtils.getBaseName(fileName) + MarkdownSyntax.IMAGES_DIRECTORY_SUFFIX;
+                String fileName = inputPDF.getName();
+                // Without an output folder (in-memory outputs) only the directory name is used.
+                String outputFolder = config.getOutputFolder() != null ? config.getOutputFolder() + File.separator : "";
+                imagesDirectory = outputFolder + FileUtils.getBaseName(fileName) + MarkdownSyntax.IMAGES_DIRECTORY_SUFFIX;
             }
             StaticLayoutContainers.setImagesDirectory(imagesDirectory);
-            ImagesUtils imagesUtils = new ImagesUtils(config.getImageResolution());
-            imagesUtils.write(contents);
+            // Without the parsed document, as when rendering from a snapshot, the images are not
+            // extracted again and the outputs refer to the image files already written.
+            if (StaticContainers.getDocument() != null) {
+                ImageStore imageStore = config.getImageStore() != null ? new ImageStore(Paths.get(config.getImageStore())) : null;
+                ImagesUtils imagesUtils = new ImagesUtils(config.getImageResolution(), imageStore);
+                imagesUtils.write(contents, config.getThreads());
+            }
         }
+        // Tagged PDF output modifies the shared document in place, so it runs on this thread
+        // before the generators that read the document.
         if (config.isGenerateTaggedPDF()) {
             AutoTaggingProcessor.createTaggedPDF(inputPDF, config.getOutputFolder(),
                 StaticResources.getDocument(), contents);
         }
+        // The remaining outputs only read the contents and the image files written above.
+        List<OutputTask> outputTasks = new ArrayList<>();
         if (config.isGeneratePDF()) {
-            PDFWriter pdfWriter = new PDFWriter();
-            pdfWriter.updatePDF(inputPDF, config.getPassword(), config.getOutputFolder(), contents);
+            outputTasks.add(() -> new PDFWriter().updatePDF(inputPDF, config.getPassword(),
+                config.getOutputFolder(), contents));
         }
+        List<OutputTask> imageOutputTasks = new ArrayList<>();
         if (config.isGenerateJSON()) {
-            JsonWriter.writeToJson(inputPDF, config.getOutputFolder(), contents, elementMetadata,
-                    null, config.isIncludeHeaderFooter());
+            imageOutputTasks.add(() -> JsonWriter.writeToJson(inputPDF, outputSink, contents,
+                elementMetadata, null, config.isIncludeHeaderFooter(), config.isJsonCompact()));
+        }
+        if (config.isGenerateJsonLines()) {
+            imageOutputTasks.add(() -> JsonWriter.writeToJsonLines(inputPDF, outputSink, contents,
+                elementMetadata, config.isIncludeHeaderFooter()));
+        }
+        if (config.isGenerateElementStream()) {
+            imageOutputTasks.add(() -> ElementStreamWriter.writeToElementStream(inputPDF, outputSink, contents,
+                elementMetadata, config.isIncludeHeaderFooter()));
+        }
+        if (config.isGenerateSmile()) {
+            imageOutputTasks.add(() -> JsonWriter.writeToBinaryJson(inputPDF, outputSink, contents,
+                elementMetadata, null, config.isIncludeHeaderFooter(), BinaryJsonFormat.SMILE));
+        }
+        if (config.isGenerateCbor()) {
+            imageOutputTasks.add(() -> JsonWriter.writeToBinaryJson(inputPDF, outputSink, contents,
+                elementMetadata, null, config.isIncludeHeaderFooter(), BinaryJsonFormat.CBOR));
         }
         if (config.isGenerateMarkdown()) {
-            try (MarkdownGenerator markdownGenerator = MarkdownGeneratorFactory.getMarkdownGenerator(inputPDF,
-                config)) {
-                markdownGenerator.writeToMarkdown(contents);
-            }
+            imageOutputTasks.add(() -> {
+                try (MarkdownGenerator markdownGenerator = MarkdownGeneratorFactory.getMarkdownGenerator(inputPDF,
+                    config, outputSink)) {
+                    markdownGenerator.writeToMarkdown(contents);
+                }
+            });
         }
         if (config.isGenerateHtml()) {
-            try (HtmlGenerator htmlGenerator = HtmlGeneratorFactory.getHtmlGenerator(inputPDF, config)) {
-                htmlGenerator.writeToHtml(contents);
-            }
+            imageOutputTasks.add(() -> {
+                try (HtmlGenerator htmlGenerator = HtmlGeneratorFactory.getHtmlGenerator(inputPDF, config,
+                    outputSink)) {
+                    htmlGenerator.writeToHtml(contents);
+                }
+            });
+        }
+        if (config.isEmbedImages()) {
+            imageOutputTasks = releaseEmbeddedImagesAfter(imageOutputTasks);
         }
+        outputTasks.addAll(imageOutputTasks);
         if (config.isGenerateText()) {
-            try (TextGenerator textGenerator = new TextGenerator(inputPDF, config)) {
-                textGenerator.writeToText(contents);
+            outputTasks.add(() -> {
+                try (TextGenerator textGenerator = new TextGenerator(inputPDF, config, outputSink)) {
+                    textGenerator.writeToText(contents);
+                }
+            });
+        }
+        if (config.isGenerateChunks()) {
+            outputTasks.add(() -> {
+                try (ChunkGenerator chunkGenerator = new ChunkGenerator(inputPDF, config, outputSink)) {
+                    chunkGenerator.writeChunks(contents);
+                }
+            });
+        }
+        if (config.isGenerateSnapshot()) {
+            // Runs after image extraction, so the snapshot keeps the image file indices.
+            outputTasks.add(() -> ExtractionSnapshot.writeToSnapshot(inputPDF, outputSink, contents,
+                elementMetadata));
+        }
+        runOutputTasks(inputPDF, outputTasks, config);
+    }
+
+    /**
+     * Wraps the outputs that inline embedded images so that the cached image bytes are
+     * released as soon as the last of them has been written, in whatever order they finish.
+     */
+    private static List<OutputTask> releaseEmbeddedImagesAfter(List<OutputTask> imageOutputTasks) {
+        final Map<String, byte[]> embeddedImageBytes = StaticLayoutContainers.getEmbeddedImageBytesMap();
+        final AtomicInteger remainingTasks = new AtomicInteger(imageOutputTasks.size());
+        List<OutputTask> releasingTasks = new ArrayList<>(imageOutputTasks.size());
+        for (OutputTask imageOutputTask : imageOutputTasks) {
+            releasingTasks.add(() -> {
+                try {
+                    imageOutputTask.run();
+                } finally {
+                    if (remainingTasks.decrementAndGet() == 0) {
+                        embeddedImageBytes.clear();
+                    }
+                }
+            });
+        }
+        return releasingTasks;
+    }
+
+    /**
+     * Writes one output format.
+     */
+    @FunctionalInterface
+    private interface OutputTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * Runs the output tasks in order on the calling thread, or with more than one thread on a
+     * pool of up to {@code --threads} workers that see the calling thread's document state.
+     * Every task runs to completion; the first failure is rethrown afterwards.
+     */
+    private static void runOutputTasks(File inputPDF, List<OutputTask> outputTasks, Config config)
+            throws IOException {
+        int parallelism = Math.min(config.getThreads(), outputTasks.size());
+        if (parallelism <= 1) {
+            for (OutputTask outputTask : outputTasks) {
+                outputTask.run();
+            }
+            return;
+        }
+        final Runnable propagateState = captureProcessingState(inputPDF.getPath(), config);
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<ForkJoinTask<Void>> futures = new ArrayList<>(outputTasks.size());
+            for (OutputTask outputTask : outputTasks) {
+                futures.add(pool.submit(() -> {
+                    propagateState.run();
+                    outputTask.run();
+                    return null;
+                }));
             }
+            Throwable failure = null;
+            for (ForkJoinTask<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                }
+            }
+            if (failure instanceof IOException) {
+                throw (IOException) failure;
+            }
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure != null) {
+                throw new IOException("Output generation failed", failure);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Output generation was interrupted", e);
+        } finally {
+            pool.shutdown();
         }
     }
 
@@ -828,7 +1102,7 @@ public class DocumentProcessor {
      * @return a new list without null objects
      */
     public static List<IObject> removeNullObjectsFromList(List<IObject> contents) {
-        List<IObject> newContents = new ArrayList<>();
+        List<IObject> newContents = new ArrayList<>(contents.size());
         for (IObject content : contents) {
             if (content != null) {
                 newContents.add(content);
@@ -837,20 +1111,15 @@ public class DocumentProcessor {
         return newContents;
     }
 
-    private static void calculateDocumentInfo() {
-        PDDocument document = StaticResources.getDocument();
-        LOGGER.log(Level.INFO, () -> "Number of pages: " + document.getNumberOfPages());
-        COSTrailer trailer = document.getDocument().getTrailer();
-        GFCosInfo info = getInfo(trailer);
-        LOGGER.log(Level.INFO, () -> "Author: " + (info.getAuthor() != null ? info.getAuthor() : info.getXMPCreator()));
-        LOGGER.log(Level.INFO, () -> "Title: " + (info.getTitle() != null ? info.getTitle() : info.getXMPTitle()));
-        LOGGER.log(Level.INFO, () -> "Creation date: " + (info.getCreationDate() != null ? info.getCreationDate() : info.getXMPCreateDate()));
-        LOGGER.log(Level.INFO, () -> "Modification date: " + (info.getModDate() != null ? info.getModDate() : info.getXMPModifyDate()));
-    }
-
-    private static GFCosInfo getInfo(COSTrailer trailer) {
-        COSObject object = trailer.getKey(ASAtom.INFO);
-        return new GFCosInfo((COSDictionary) (object != null && object.getType() == COSObjType.COS_DICT ? object.getDirectBase() : COSDictionary.construct().get()));
+    private static DocumentInfo calculateDocumentInfo() {
+        DocumentInfo documentInfo = DocumentInfo.fromDocument(StaticResources.getDocument());
+        LOGGER.log(Level.INFO, () -> "Number of pages: " + documentInfo.getNumberOfPages());
+        LOGGER.log(Level.INFO, () -> "Author: " + documentInfo.getAuthor());
+        LOGGER.log(Level.INFO, () -> "Title: " + documentInfo.getTitle());
+        LOGGER.log(Level.INFO, () -> "Creation date: " + documentInfo.getCreationDate());
+        LOGGER.log(Level.INFO, () -> "Modification date: " + documentInfo.getModificationDate());
+        StaticLayoutContainers.setDocumentInfo(documentInfo);
+        return documentInfo;
     }
 
     /**
@@ -867,7 +1136,8 @@ public class DocumentProcessor {
     }
 
     /**
-     * Gets the bounding box for a page.
+     * Gets the bounding box for a page. Without an open document, the crop boxes of the
+     * current {@link DocumentInfo} are used.
      *
      * @param pageNumber the page number (0-indexed)
      * @return the page bounding box, or null if not available
@@ -875,7 +1145,8 @@ public class DocumentProcessor {
     public static BoundingBox getPageBoundingBox(int pageNumber) {
         PDDocument document = StaticResources.getDocument();
         if (document == null) {
-            return null;
+            DocumentInfo documentInfo = StaticLayoutContainers.getDocumentInfo();
+            return documentInfo != null ? documentInfo.getPageBoundingBox(pageNumber) : null;
         }
         double[] cropBox = document.getPage(pageNumber).getCropBox();
         if (cropBox == null) {
@@ -33,13 +33,20 @@ public class ExtractionResult {
     private final long extractionNs;
     private final JsonNode hybridTimings;
     private final Map<Long, ElementMetadata> elementMetadata;
+    private final DocumentInfo documentInfo;
 
     public ExtractionResult(List<List<IObject>> contents, long extractionNs, JsonNode hybridTimings,
-                             Map<Long, ElementMetadata> elementMetadata) {
+                             Map<Long, ElementMetadata> elementMetadata, DocumentInfo documentInfo) {
         this.contents = contents;
         this.extractionNs = extractionNs;
         this.hybridTimings = hybridTimings;
         this.elementMetadata = elementMetadata != null ? elementMetadata : Collections.emptyMap();
+        this.documentInfo = documentInfo;
+    }
+
+    public ExtractionResult(List<List<IObject>> contents, long extractionNs, JsonNode hybridTimings,
+                             Map<Long, ElementMetadata> elementMetadata) {
+        this(contents, extractionNs, hybridTimings, elementMetadata, null);
     }
 
     public ExtractionResult(List<List<IObject>> contents, long extractionNs, JsonNode hybridTimings) {
@@ -61,4 +68,12 @@ public class ExtractionResult {
     public Map<Long, ElementMetadata> getElementMetadata() {
         return elementMetadata;
     }
+
+    /**
+     * Document information collected after parsing, or {@code null} if the result was not
+     * produced by {@link DocumentProcessor#extractContents}.
+     */
+    public DocumentInfo getDocumentInfo() {
+        return documentInfo;
+    }
 }
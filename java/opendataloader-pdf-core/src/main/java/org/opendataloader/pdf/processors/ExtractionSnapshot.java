@@ -0,0 +1,1201 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import org.opendataloader.pdf.api.OutputSink;
+import org.opendataloader.pdf.containers.StaticLayoutContainers;
+import org.opendataloader.pdf.entities.EnrichedImageChunk;
+import org.opendataloader.pdf.entities.SemanticFootnote;
+import org.opendataloader.pdf.entities.SemanticFormula;
+import org.opendataloader.pdf.entities.SemanticPicture;
+import org.opendataloader.pdf.hybrid.ElementMetadata;
+import org.verapdf.tools.StaticResources;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticCaption;
+import org.verapdf.wcag.algorithms.entities.SemanticHeaderOrFooter;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticParagraph;
+import org.verapdf.wcag.algorithms.entities.SemanticTOC;
+import org.verapdf.wcag.algorithms.entities.SemanticTOCI;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
+import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
+import org.verapdf.wcag.algorithms.entities.content.LineChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextBlock;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextColumn;
+import org.verapdf.wcag.algorithms.entities.content.TextLine;
+import org.verapdf.wcag.algorithms.entities.enums.SemanticType;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.geometry.MultiBoundingBox;
+import org.verapdf.wcag.algorithms.entities.lists.ListItem;
+import org.verapdf.wcag.algorithms.entities.lists.PDFList;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+import org.verapdf.wcag.algorithms.semanticalgorithms.utils.StreamInfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Saves an {@link ExtractionResult} as a compact binary snapshot and reads it back, so that
+ * outputs can be rendered again without parsing the PDF (see
+ * {@link org.opendataloader.pdf.api.OutputWriter#writeOutputs(String, Path, org.opendataloader.pdf.api.Config)}).
+ *
+ * <p>A snapshot holds the extracted contents of every page with their bounding boxes, IDs,
+ * levels, indices and stream positions, the element metadata and the {@link DocumentInfo};
+ * timings of the extraction are not kept. Numbers are written as variable-length integers and
+ * every string after its first occurrence as a reference to it, so repeated font names cost a
+ * byte or two. Objects the outputs do not render are left out, with a warning.
+ *
+ * <p>Snapshots are only read by the same format version. A gzip-compressed snapshot, as
+ * written with {@code --output-compression gzip}, is decompressed when read.
+ */
+public final class ExtractionSnapshot {
+    private static final Logger LOGGER = Logger.getLogger(ExtractionSnapshot.class.getCanonicalName());
+
+    /** Extension of the snapshot output files. */
+    public static final String SNAPSHOT_EXTENSION = "snapshot";
+
+    /** "ODLS" */
+    private static final int MAGIC = 0x4F444C53;
+    private static final int VERSION = 1;
+
+    private static final int NULL_OBJECT = 0;
+    private static final int TEXT_NODE = 1;
+    private static final int PARAGRAPH = 2;
+    private static final int HEADING = 3;
+    private static final int CAPTION = 4;
+    private static final int FOOTNOTE = 5;
+    private static final int LIST_ITEM = 6;
+    private static final int TOC_ITEM = 7;
+    private static final int LIST = 8;
+    private static final int TOC = 9;
+    private static final int TABLE = 10;
+    private static final int HEADER_OR_FOOTER = 11;
+    private static final int IMAGE = 12;
+    private static final int ENRICHED_IMAGE = 13;
+    private static final int PICTURE = 14;
+    private static final int FORMULA = 15;
+    private static final int LINE_ART = 16;
+    private static final int LINE = 17;
+    private static final int TEXT_LINE = 18;
+    private static final int TEXT_CHUNK = 19;
+
+    private static final int NO_BOUNDING_BOX = 0;
+    private static final int SINGLE_PAGE_BOUNDING_BOX = 1;
+    private static final int MULTI_PAGE_BOUNDING_BOX = 2;
+
+    private static final int EMPTY_CELL = 0;
+    private static final int CELL = 1;
+    private static final int SPANNED_CELL = 2;
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+
+    /**
+     * Deepest nesting of objects a snapshot may have. Outputs nest far less; the limit keeps a
+     * malformed snapshot from exhausting the stack of the reader.
+     */
+    private static final int MAX_OBJECT_DEPTH = 256;
+
+    private ExtractionSnapshot() {
+    }
+
+    /**
+     * Writes the snapshot of a document to an output sink.
+     *
+     * @param outputSink the sink the snapshot file is opened on
+     */
+    public static void writeToSnapshot(File inputPDF, OutputSink outputSink, List<List<IObject>> contents,
+                                       Map<Long, ElementMetadata> elementMetadata) throws IOException {
+        String fileName = inputPDF.getName().substring(0, inputPDF.getName().length() - 3) + SNAPSHOT_EXTENSION;
+        try (OutputStream outputStream = outputSink.openOutputStream(fileName)) {
+            DocumentInfo documentInfo = StaticLayoutContainers.getDocumentInfo();
+            if (documentInfo == null && StaticResources.getDocument() != null) {
+                documentInfo = DocumentInfo.fromDocument(StaticResources.getDocument());
+            }
+            write(new ExtractionResult(contents, 0, null, elementMetadata, documentInfo), outputStream);
+            LOGGER.log(Level.INFO, "Created {0}", outputSink.getLocation(fileName));
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Unable to create snapshot output: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Writes the snapshot of an extraction. The stream is flushed but not closed.
+     *
+     * @param extraction the extraction; without {@link ExtractionResult#getDocumentInfo()}, the
+     *                   snapshot only records the number of pages
+     * @param outputStream the stream to write to
+     * @throws IOException if writing fails
+     */
+    public static void write(ExtractionResult extraction, OutputStream outputStream) throws IOException {
+        DataOutputStream output = new DataOutputStream(new BufferedOutputStream(outputStream));
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        new SnapshotWriter(output).writeExtraction(extraction);
+        output.flush();
+    }
+
+    /**
+     * Reads a snapshot, gzip-compressed or not.
+     *
+     * @param inputStream the stream to read from; it is not closed
+     * @return the extraction, with its contents, element metadata and document information, and
+     *         no timings
+     * @throws IOException if the stream is not a snapshot of this version, is malformed or
+     *                     truncated, or cannot be read
+     */
+    public static ExtractionResult read(InputStream inputStream) throws IOException {
+        InputStream bufferedStream = new BufferedInputStream(inputStream);
+        bufferedStream.mark(2);
+        int firstByte = bufferedStream.read();
+        int secondByte = bufferedStream.read();
+        bufferedStream.reset();
+        if ((firstByte | (secondByte << 8)) == GZIP_MAGIC) {
+            bufferedStream = new BufferedInputStream(new GZIPInputStream(bufferedStream));
+        }
+        DataInputStream input = new DataInputStream(bufferedStream);
+        try {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("Not an extraction snapshot");
+            }
+            int version = input.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported extraction snapshot version " + version);
+            }
+            // The snapshot is held in memory, as its contents will be, so that every count and
+            // length read from it is checked against the data that remains.
+            DataInputStream snapshot = new DataInputStream(new ByteArrayInputStream(input.readAllBytes()));
+            return new SnapshotReader(snapshot).readExtraction();
+        } catch (EOFException e) {
+            throw new IOException("Malformed extraction snapshot: unexpected end of data", e);
+        } catch (RuntimeException e) {
+            throw new IOException("Malformed extraction snapshot: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reads a snapshot file, gzip-compressed or not.
+     *
+     * @param snapshotFile the snapshot file
+     * @return the extraction, with its contents, element metadata and document information, and
+     *         no timings
+     * @throws IOException if the file is not a snapshot of this version or cannot be read
+     */
+    public static ExtractionResult read(Path snapshotFile) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(snapshotFile)) {
+            return read(inputStream);
+        }
+    }
+
+    private static final class SnapshotWriter {
+        private final DataOutputStream output;
+        /** Index of every string written so far. */
+        private final Map<String, Integer> strings = new HashMap<>();
+        private final Set<Class<?>> skippedClasses = new HashSet<>();
+
+        private SnapshotWriter(DataOutputStream output) {
+            this.output = output;
+        }
+
+        private void writeExtraction(ExtractionResult extraction) throws IOException {
+            DocumentInfo documentInfo = extraction.getDocumentInfo();
+            writeDocumentInfo(documentInfo != null ? documentInfo : new DocumentInfo(extraction.getContents().size(),
+                null, null, null, null, Collections.emptyList()));
+            List<List<IObject>> contents = extraction.getContents();
+            writeUnsignedInt(contents.size());
+            for (List<IObject> pageContents : contents) {
+                writeObjects(pageContents);
+            }
+            Map<Long, ElementMetadata> elementMetadata = extraction.getElementMetadata();
+            writeUnsignedInt(elementMetadata.size());
+            for (Map.Entry<Long, ElementMetadata> entry : elementMetadata.entrySet()) {
+                writeLong(entry.getKey());
+                writeElementMetadata(entry.getValue());
+            }
+        }
+
+        private void writeDocumentInfo(DocumentInfo documentInfo) throws IOException {
+            writeUnsignedInt(documentInfo.getNumberOfPages());
+            writeString(documentInfo.getAuthor());
+            writeString(documentInfo.getTitle());
+            writeString(documentInfo.getCreationDate());
+            writeString(documentInfo.getModificationDate());
+            for (int pageNumber = 0; pageNumber < documentInfo.getNumberOfPages(); pageNumber++) {
+                writeBoundingBox(documentInfo.getPageBoundingBox(pageNumber));
+            }
+        }
+
+        private void writeObjects(List<? extends IObject> objects) throws IOException {
+            List<IObject> supportedObjects = new ArrayList<>(objects.size());
+            for (IObject object : objects) {
+                if (object == null || getTag(object) != NULL_OBJECT) {
+                    supportedObjects.add(object);
+                } else if (skippedClasses.add(object.getClass())) {
+                    LOGGER.log(Level.WARNING, "Snapshot skips unsupported content " + object.getClass().getSimpleName());
+                }
+            }
+            writeUnsignedInt(supportedObjects.size());
+            for (IObject object : supportedObjects) {
+                writeObject(object);
+            }
+        }
+
+        private void writeObject(IObject object) throws IOException {
+            int tag = object != null ? getTag(object) : NULL_OBJECT;
+            writeUnsignedInt(tag);
+            if (tag == NULL_OBJECT) {
+                return;
+            }
+            writeNullableLong(object.getRecognizedStructureId());
+            writeString(object.getLevel());
+            writeNullableLong(object.getIndex() != null ? Long.valueOf(object.getIndex()) : null);
+            writeBoundingBox(object.getBoundingBox());
+            switch (tag) {
+                case TEXT_NODE:
+                case PARAGRAPH:
+                case HEADING:
+                case CAPTION:
+                case FOOTNOTE:
+                case LIST_ITEM:
+                case TOC_ITEM:
+                    writeTextNode(tag, (SemanticTextNode) object);
+                    break;
+                case LIST:
+                    writeList((PDFList) object);
+                    break;
+                case TOC:
+                    SemanticTOC toc = (SemanticTOC) object;
+                    writeObjects(toc.getTOCItems());
+                    writeNullableLong(toc.getPreviousTOCId());
+                    writeNullableLong(toc.getNextTOCId());
+                    break;
+                case TABLE:
+                    writeTable((TableBorder) object);
+                    break;
+                case HEADER_OR_FOOTER:
+                    SemanticHeaderOrFooter headerOrFooter = (SemanticHeaderOrFooter) object;
+                    writeString(headerOrFooter.getSemanticType().name());
+                    writeObjects(headerOrFooter.getContents());
+                    break;
+                case ENRICHED_IMAGE:
+                    EnrichedImageChunk enrichedImage = (EnrichedImageChunk) object;
+                    writeStreamInfos(enrichedImage.getStreamInfos());
+                    writeString(enrichedImage.hasDescription() ? enrichedImage.getDescription() : null);
+                    writeString(enrichedImage.getAltSource() != null ? enrichedImage.getAltSource().name() : null);
+                    break;
+                case IMAGE:
+                    writeStreamInfos(((ImageChunk) object).getStreamInfos());
+                    break;
+                case PICTURE:
+                    SemanticPicture picture = (SemanticPicture) object;
+                    writeLong(picture.getPictureIndex());
+                    writeString(picture.hasDescription() ? picture.getDescription() : null);
+                    break;
+                case FORMULA:
+                    SemanticFormula formula = (SemanticFormula) object;
+                    writeString(formula.getLatex());
+                    writeStreamInfos(formula.getStreamInfos());
+                    break;
+                case TEXT_LINE:
+                    writeTextLine((TextLine) object);
+                    break;
+                case TEXT_CHUNK:
+                    writeTextChunk((TextChunk) object);
+                    break;
+                default:
+                    // Line art and lines are written with their bounding box only.
+                    break;
+            }
+        }
+
+        private static int getTag(IObject object) {
+            if (object instanceof ListItem) {
+                return LIST_ITEM;
+            } else if (object instanceof SemanticTOCI) {
+                return TOC_ITEM;
+            } else if (object instanceof SemanticHeading) {
+                return HEADING;
+            } else if (object instanceof SemanticCaption) {
+                return CAPTION;
+            } else if (object instanceof SemanticFootnote) {
+                return FOOTNOTE;
+            } else if (object instanceof SemanticParagraph) {
+                return PARAGRAPH;
+            } else if (object instanceof SemanticTextNode) {
+                return TEXT_NODE;
+            } else if (object instanceof PDFList) {
+                return LIST;
+            } else if (object instanceof SemanticTOC) {
+                return TOC;
+            } else if (object instanceof TableBorder) {
+                return TABLE;
+            } else if (object instanceof SemanticHeaderOrFooter) {
+                return HEADER_OR_FOOTER;
+            } else if (object instanceof EnrichedImageChunk) {
+                return ENRICHED_IMAGE;
+            } else if (object instanceof ImageChunk) {
+                return IMAGE;
+            } else if (object instanceof SemanticPicture) {
+                return PICTURE;
+            } else if (object instanceof SemanticFormula) {
+                return FORMULA;
+            } else if (object instanceof LineArtChunk) {
+                return LINE_ART;
+            } else if (object instanceof LineChunk) {
+                return LINE;
+            } else if (object instanceof TextLine) {
+                return TEXT_LINE;
+            } else if (object instanceof TextChunk) {
+                return TEXT_CHUNK;
+            }
+            return NULL_OBJECT;
+        }
+
+        private void writeTextNode(int tag, SemanticTextNode textNode) throws IOException {
+            if (tag == TEXT_NODE) {
+                writeString(textNode.getSemanticType() != null ? textNode.getSemanticType().name() : null);
+            }
+            output.writeBoolean(textNode.isHiddenText());
+            writeUnsignedInt(textNode.getColumns().size());
+            for (TextColumn textColumn : textNode.getColumns()) {
+                writeUnsignedInt(textColumn.getBlocks().size());
+                for (TextBlock textBlock : textColumn.getBlocks()) {
+                    writeUnsignedInt(textBlock.getLines().size());
+                    for (TextLine textLine : textBlock.getLines()) {
+                        writeTextLine(textLine);
+                    }
+                }
+            }
+            switch (tag) {
+                case HEADING:
+                    writeLong(((SemanticHeading) textNode).getHeadingLevel());
+                    break;
+                case CAPTION:
+                    writeNullableLong(((SemanticCaption) textNode).getLinkedContentId());
+                    break;
+                case LIST_ITEM:
+                    ListItem listItem = (ListItem) textNode;
+                    writeLong(listItem.getLabelLength());
+                    writeObjects(listItem.getContents());
+                    break;
+                case TOC_ITEM:
+                    writeObjects(((SemanticTOCI) textNode).getContents());
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private void writeList(PDFList list) throws IOException {
+            writeString(list.getNumberingStyle());
+            writeObjects(list.getListItems());
+            writeNullableLong(list.getPreviousListId());
+            writeNullableLong(list.getNextListId());
+        }
+
+        private void writeTable(TableBorder table) throws IOException {
+            int numberOfRows = table.getNumberOfRows();
+            int numberOfColumns = table.getNumberOfColumns();
+            writeUnsignedInt(numberOfRows);
+            writeUnsignedInt(numberOfColumns);
+            for (int rowNumber = 0; rowNumber < numberOfRows; rowNumber++) {
+                TableBorderRow row = table.getRows()[rowNumber];
+                writeBoundingBox(row.getBoundingBox());
+                for (int columnNumber = 0; columnNumber < numberOfColumns; columnNumber++) {
+                    TableBorderCell cell = row.getCells()[columnNumber];
+                    if (cell == null) {
+                        writeUnsignedInt(EMPTY_CELL);
+                    } else if (cell.getRowNumber() != rowNumber || cell.getColNumber() != columnNumber) {
+                        writeUnsignedInt(SPANNED_CELL);
+                    } else {
+                        writeUnsignedInt(CELL);
+                        writeUnsignedInt(cell.getRowSpan());
+                        writeUnsignedInt(cell.getColSpan());
+                        writeString(cell.getSemanticType() != null ? cell.getSemanticType().name() : null);
+                        writeNullableLong(cell.getRecognizedStructureId());
+                        writeBoundingBox(cell.getBoundingBox());
+                        writeObjects(cell.getContents());
+                    }
+                }
+            }
+            writeNullableLong(table.getPreviousTableId());
+            writeNullableLong(table.getNextTableId());
+        }
+
+        private void writeTextLine(TextLine textLine) throws IOException {
+            writeUnsignedInt(textLine.getTextChunks().size());
+            for (TextChunk textChunk : textLine.getTextChunks()) {
+                writeBoundingBox(textChunk.getBoundingBox());
+                writeTextChunk(textChunk);
+            }
+        }
+
+        private void writeTextChunk(TextChunk textChunk) throws IOException {
+            writeString(textChunk.getValue());
+            writeString(textChunk.getFontName());
+            output.writeDouble(textChunk.getFontSize());
+            output.writeDouble(textChunk.getFontWeight());
+            output.writeDouble(textChunk.getItalicAngle());
+            output.writeDouble(textChunk.getBaseLine());
+            double[] fontColor = textChunk.getFontColor();
+            if (fontColor == null) {
+                writeUnsignedInt(0);
+            } else {
+                writeUnsignedInt(fontColor.length + 1);
+                for (double component : fontColor) {
+                    output.writeDouble(component);
+                }
+            }
+            output.writeDouble(textChunk.getSlantDegree());
+            output.writeDouble(textChunk.getTextStart());
+            output.writeDouble(textChunk.getTextEnd());
+            output.writeBoolean(textChunk.isUnderlinedText());
+            output.writeBoolean(textChunk.isStrikethroughText());
+            output.writeBoolean(textChunk.isHiddenText());
+            writeStreamInfos(textChunk.getStreamInfos());
+        }
+
+        private void writeStreamInfos(List<StreamInfo> streamInfos) throws IOException {
+            writeUnsignedInt(streamInfos.size());
+            for (StreamInfo streamInfo : streamInfos) {
+                writeLong(streamInfo.getOperatorIndex());
+                writeString(streamInfo.getXObjectName());
+                writeLong(streamInfo.getStartIndex());
+                writeLong(streamInfo.getEndIndex());
+            }
+        }
+
+        private void writeElementMetadata(ElementMetadata metadata) throws IOException {
+            output.writeDouble(metadata.getAiScore());
+            writeLong(metadata.getSourceLabel());
+            writeLong(metadata.getDlaObjectId());
+            writeString(metadata.getHeadingInferenceMethod());
+            writeNullableDouble(metadata.getBboxHeightPx());
+            writeString(metadata.getWordMatchMethod());
+            writeLong(metadata.getMatchedWordCount());
+            ElementMetadata.TsrMetadata tsr = metadata.getTsr();
+            output.writeBoolean(tsr != null);
+            if (tsr != null) {
+                writeLong(tsr.getNumCells());
+                writeString(tsr.getHtml());
+                writeLong(tsr.getRunTimeMs());
+            }
+            ElementMetadata.CaptionMetadata caption = metadata.getCaption();
+            output.writeBoolean(caption != null);
+            if (caption != null) {
+                writeString(caption.getText());
+                writeString(caption.getLanguage());
+                writeLong(caption.getRunTimeMs());
+            }
+            ElementMetadata.RegionlistResolution regionlistResolution = metadata.getRegionlistResolution();
+            output.writeBoolean(regionlistResolution != null);
+            if (regionlistResolution != null) {
+                writeString(regionlistResolution.getStrategy());
+                output.writeBoolean(regionlistResolution.isTsrAttempted());
+                writeString(regionlistResolution.getTsrResult());
+            }
+            writeString(metadata.getTextSource());
+            writeNullableDouble(metadata.getStreamOcrSimilarity());
+        }
+
+        private void writeBoundingBox(BoundingBox boundingBox) throws IOException {
+            if (boundingBox == null) {
+                writeUnsignedInt(NO_BOUNDING_BOX);
+            } else if (boundingBox instanceof MultiBoundingBox && boundingBox.getPageNumber() != null &&
+                !boundingBox.getPageNumber().equals(boundingBox.getLastPageNumber())) {
+                writeUnsignedInt(MULTI_PAGE_BOUNDING_BOX);
+                writeUnsignedInt(boundingBox.getPageNumber());
+                writeUnsignedInt(boundingBox.getLastPageNumber() - boundingBox.getPageNumber());
+                for (int pageNumber = boundingBox.getPageNumber(); pageNumber <= boundingBox.getLastPageNumber();
+                     pageNumber++) {
+                    writeBoundingBox(boundingBox.getBoundingBox(pageNumber));
+                }
+            } else {
+                writeUnsignedInt(SINGLE_PAGE_BOUNDING_BOX);
+                writeNullableLong(boundingBox.getPageNumber() != null ? Long.valueOf(boundingBox.getPageNumber()) : null);
+                output.writeDouble(boundingBox.getLeftX());
+                output.writeDouble(boundingBox.getBottomY());
+                output.writeDouble(boundingBox.getRightX());
+                output.writeDouble(boundingBox.getTopY());
+            }
+        }
+
+        /**
+         * Writes a string as 0 for null, as 1 followed by its UTF-8 bytes on its first
+         * occurrence, and as its index plus 2 after that.
+         */
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                writeUnsignedInt(0);
+                return;
+            }
+            Integer index = strings.get(value);
+            if (index != null) {
+                writeUnsignedInt(index + 2L);
+                return;
+            }
+            strings.put(value, strings.size());
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeUnsignedInt(1);
+            writeUnsignedInt(bytes.length);
+            output.write(bytes);
+        }
+
+        private void writeNullableLong(Long value) throws IOException {
+            output.writeBoolean(value != null);
+            if (value != null) {
+                writeLong(value);
+            }
+        }
+
+        private void writeNullableDouble(Double value) throws IOException {
+            output.writeBoolean(value != null);
+            if (value != null) {
+                output.writeDouble(value);
+            }
+        }
+
+        /** Writes a signed number as a zigzag-encoded variable-length integer. */
+        private void writeLong(long value) throws IOException {
+            writeUnsignedInt((value << 1) ^ (value >> 63));
+        }
+
+        /** Writes a number as a variable-length integer, 7 bits per byte. */
+        private void writeUnsignedInt(long value) throws IOException {
+            while ((value & ~0x7FL) != 0) {
+                output.writeByte((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            output.writeByte((int) value);
+        }
+    }
+
+    private static final class SnapshotReader {
+        private final DataInputStream input;
+        private final List<String> strings = new ArrayList<>();
+        private final Map<Long, PDFList> lists = new HashMap<>();
+        private final Map<PDFList, Long> nextListIds = new LinkedHashMap<>();
+        private final Map<Long, SemanticTOC> tocs = new HashMap<>();
+        private final Map<SemanticTOC, Long> nextTOCIds = new LinkedHashMap<>();
+        private final Map<Long, TableBorder> tables = new HashMap<>();
+        private final Map<TableBorder, Long> nextTableIds = new LinkedHashMap<>();
+        /** Nesting depth of the object being read. */
+        private int depth = 0;
+
+        private SnapshotReader(DataInputStream input) {
+            this.input = input;
+        }
+
+        private ExtractionResult readExtraction() throws IOException {
+            DocumentInfo documentInfo = readDocumentInfo();
+            int numberOfPages = readCount();
+            List<List<IObject>> contents = new ArrayList<>(numberOfPages);
+            for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+                contents.add(readObjects());
+            }
+            int numberOfMetadata = readCount();
+            Map<Long, ElementMetadata> elementMetadata = new HashMap<>();
+            for (int index = 0; index < numberOfMetadata; index++) {
+                elementMetadata.put(readLong(), readElementMetadata());
+            }
+            connectSplitObjects();
+            return new ExtractionResult(contents, 0, null, elementMetadata, documentInfo);
+        }
+
+        /**
+         * Restores the links of lists, tables of contents and tables continued on another
+         * page, once all of them are read.
+         */
+        private void connectSplitObjects() {
+            for (Map.Entry<PDFList, Long> entry : nextListIds.entrySet()) {
+                PDFList nextList = lists.get(entry.getValue());
+                if (nextList != null) {
+                    PDFList.setListConnected(entry.getKey(), nextList);
+                }
+            }
+            for (Map.Entry<SemanticTOC, Long> entry : nextTOCIds.entrySet()) {
+                SemanticTOC nextTOC = tocs.get(entry.getValue());
+                if (nextTOC != null) {
+                    SemanticTOC.setTOCConnected(entry.getKey(), nextTOC);
+                }
+            }
+            for (Map.Entry<TableBorder, Long> entry : nextTableIds.entrySet()) {
+                TableBorder nextTable = tables.get(entry.getValue());
+                if (nextTable != null) {
+                    entry.getKey().setNextTable(nextTable);
+                    nextTable.setPreviousTable(entry.getKey());
+                }
+            }
+        }
+
+        private DocumentInfo readDocumentInfo() throws IOException {
+            int numberOfPages = readCount();
+            String author = readString();
+            String title = readString();
+            String creationDate = readString();
+            String modificationDate = readString();
+            List<BoundingBox> pageBoundingBoxes = new ArrayList<>(numberOfPages);
+            for (int pageNumber = 0; pageNumber < numberOfPages; pageNumber++) {
+                pageBoundingBoxes.add(readBoundingBox());
+            }
+            return new DocumentInfo(numberOfPages, author, title, creationDate, modificationDate, pageBoundingBoxes);
+        }
+
+        private List<IObject> readObjects() throws IOException {
+            int numberOfObjects = readCount();
+            List<IObject> objects = new ArrayList<>(numberOfObjects);
+            for (int index = 0; index < numberOfObjects; index++) {
+                objects.add(readObject());
+            }
+            return objects;
+        }
+
+        private IObject readObject() throws IOException {
+            if (depth >= MAX_OBJECT_DEPTH) {
+                throw malformed("objects nested deeper than " + MAX_OBJECT_DEPTH + " levels");
+            }
+            depth++;
+            try {
+                return readObjectContents();
+            } finally {
+                depth--;
+            }
+        }
+
+        private IObject readObjectContents() throws IOException {
+            int tag = readUnsignedInt();
+            if (tag == NULL_OBJECT) {
+                return null;
+            }
+            Long id = readNullableLong();
+            String level = readString();
+            Long index = readNullableLong();
+            BoundingBox boundingBox = readBoundingBox();
+            IObject object;
+            switch (tag) {
+                case TEXT_NODE:
+                case PARAGRAPH:
+                case HEADING:
+                case CAPTION:
+                case FOOTNOTE:
+                case LIST_ITEM:
+                case TOC_ITEM:
+                    object = readTextNode(tag, boundingBox, id);
+                    break;
+                case LIST:
+                    object = readList(boundingBox, id);
+                    break;
+                case TOC:
+                    object = readTOC(boundingBox, id);
+                    break;
+                case TABLE:
+                    object = readTable(boundingBox, id);
+                    break;
+                case HEADER_OR_FOOTER:
+                    SemanticHeaderOrFooter headerOrFooter = new SemanticHeaderOrFooter(
+                        readEnum(SemanticType.class, readString()));
+                    headerOrFooter.addContents(readObjects());
+                    headerOrFooter.setBoundingBox(boundingBox);
+                    object = headerOrFooter;
+                    break;
+                case ENRICHED_IMAGE:
+                    ImageChunk source = new ImageChunk(boundingBox);
+                    if (index != null) {
+                        source.setIndex(toInt(index));
+                    }
+                    source.getStreamInfos().addAll(readStreamInfos());
+                    String description = readString();
+                    String altSource = readString();
+                    object = new EnrichedImageChunk(source, description,
+                        altSource != null ? readEnum(EnrichedImageChunk.AltSource.class, altSource) : null);
+                    break;
+                case IMAGE:
+                    ImageChunk image = new ImageChunk(boundingBox);
+                    image.getStreamInfos().addAll(readStreamInfos());
+                    object = image;
+                    break;
+                case PICTURE:
+                    object = new SemanticPicture(boundingBox, readInt(), readString());
+                    break;
+                case FORMULA:
+                    SemanticFormula formula = new SemanticFormula(boundingBox, readString());
+                    formula.getStreamInfos().addAll(readStreamInfos());
+                    object = formula;
+                    break;
+                case LINE_ART:
+                    object = new LineArtChunk(boundingBox);
+                    break;
+                case LINE:
+                    if (boundingBox == null) {
+                        throw malformed("line without a bounding box");
+                    }
+                    object = new LineChunk(boundingBox.getPageNumber(), boundingBox.getLeftX(),
+                        boundingBox.getBottomY(), boundingBox.getRightX(), boundingBox.getTopY());
+                    break;
+                case TEXT_LINE:
+                    object = readTextLine();
+                    break;
+                case TEXT_CHUNK:
+                    object = readTextChunk(boundingBox);
+                    break;
+                default:
+                    throw malformed("unknown object type " + tag);
+            }
+            if (id != null) {
+                object.setRecognizedStructureId(id);
+            }
+            if (level != null) {
+                object.setLevel(level);
+            }
+            if (index != null) {
+                object.setIndex(toInt(index));
+            }
+            return object;
+        }
+
+        private SemanticTextNode readTextNode(int tag, BoundingBox boundingBox, Long id) throws IOException {
+            SemanticTextNode textNode;
+            switch (tag) {
+                case PARAGRAPH:
+                    textNode = new SemanticParagraph();
+                    break;
+                case HEADING:
+                    textNode = new SemanticHeading();
+                    break;
+                case CAPTION:
+                    textNode = new SemanticCaption();
+                    break;
+                case FOOTNOTE:
+                    textNode = new SemanticFootnote();
+                    break;
+                case LIST_ITEM:
+                    textNode = new ListItem(new MultiBoundingBox(), id);
+                    break;
+                case TOC_ITEM:
+                    textNode = new SemanticTOCI(new MultiBoundingBox(), id);
+                    break;
+                default:
+                    String semanticType = readString();
+                    textNode = semanticType != null ?
+                        new SemanticTextNode(readEnum(SemanticType.class, semanticType)) : new SemanticTextNode();
+                    break;
+            }
+            boolean hiddenText = input.readBoolean();
+            int numberOfColumns = readCount();
+            for (int columnNumber = 0; columnNumber < numberOfColumns; columnNumber++) {
+                TextColumn textColumn = new TextColumn();
+                int numberOfBlocks = readCount();
+                for (int blockNumber = 0; blockNumber < numberOfBlocks; blockNumber++) {
+                    TextBlock textBlock = new TextBlock(new MultiBoundingBox());
+                    int numberOfLines = readCount();
+                    for (int lineNumber = 0; lineNumber < numberOfLines; lineNumber++) {
+                        textBlock.add(readTextLine());
+                    }
+                    textColumn.getBlocks().add(textBlock);
+                }
+                textNode.getColumns().add(textColumn);
+            }
+            switch (tag) {
+                case HEADING:
+                    ((SemanticHeading) textNode).setHeadingLevel(readInt());
+                    break;
+                case CAPTION:
+                    ((SemanticCaption) textNode).setLinkedContentId(readNullableLong());
+                    break;
+                case LIST_ITEM:
+                    ListItem listItem = (ListItem) textNode;
+                    listItem.setLabelLength(readInt());
+                    listItem.getContents().addAll(readObjects());
+                    break;
+                case TOC_ITEM:
+                    ((SemanticTOCI) textNode).setContents(readObjects());
+                    break;
+                default:
+                    break;
+            }
+            textNode.setHiddenText(hiddenText);
+            textNode.setBoundingBox(boundingBox);
+            return textNode;
+        }
+
+        private PDFList readList(BoundingBox boundingBox, Long id) throws IOException {
+            PDFList list = new PDFList();
+            list.setNumberingStyle(readString());
+            for (IObject listItem : readObjects()) {
+                if (!(listItem instanceof ListItem)) {
+                    throw malformed("list with an item of another type");
+                }
+                list.add((ListItem) listItem);
+            }
+            list.setBoundingBox(boundingBox);
+            readNullableLong();
+            Long nextListId = readNullableLong();
+            if (id != null) {
+                lists.put(id, list);
+            }
+            if (nextListId != null) {
+                nextListIds.put(list, nextListId);
+            }
+            return list;
+        }
+
+        private SemanticTOC readTOC(BoundingBox boundingBox, Long id) throws IOException {
+            SemanticTOC toc = new SemanticTOC();
+            for (IObject item : readObjects()) {
+                if (item instanceof SemanticTOC) {
+                    toc.add((SemanticTOC) item);
+                } else if (item instanceof SemanticTOCI) {
+                    toc.add((SemanticTOCI) item);
+                }
+            }
+            toc.setBoundingBox(boundingBox);
+            readNullableLong();
+            Long nextTOCId = readNullableLong();
+            if (id != null) {
+                tocs.put(id, toc);
+            }
+            if (nextTOCId != null) {
+                nextTOCIds.put(toc, nextTOCId);
+            }
+            return toc;
+        }
+
+        /** Rebuilds a table the way {@link TableStructureNormalizer} does. */
+        private TableBorder readTable(BoundingBox boundingBox, Long id) throws IOException {
+            int numberOfRows = readCount();
+            int numberOfColumns = readCount();
+            // Every slot of the table takes at least one byte
+            if ((long) numberOfRows * numberOfColumns > remaining()) {
+                throw malformed("table of " + numberOfRows + " by " + numberOfColumns + " cells");
+            }
+            TableBorder table = new TableBorder(numberOfRows, numberOfColumns);
+            table.setRecognizedStructureId(id);
+            table.setBoundingBox(boundingBox);
+            for (int rowNumber = 0; rowNumber < numberOfRows; rowNumber++) {
+                TableBorderRow row = getOrCreateRow(table, rowNumber, numberOfColumns, id);
+                row.setBoundingBox(readBoundingBox());
+                for (int columnNumber = 0; columnNumber < numberOfColumns; columnNumber++) {
+                    int cellTag = readUnsignedInt();
+                    if (cellTag != EMPTY_CELL && cellTag != CELL && cellTag != SPANNED_CELL) {
+                        throw malformed("unknown table cell type " + cellTag);
+                    }
+                    if (cellTag != CELL) {
+                        // Cells spanning several slots are filled in when their origin is read.
+                        continue;
+                    }
+                    int rowSpan = readUnsignedInt();
+                    int colSpan = readUnsignedInt();
+                    if (rowSpan < 1 || colSpan < 1) {
+                        throw malformed("table cell spanning " + rowSpan + " by " + colSpan + " cells");
+                    }
+                    TableBorderCell cell = new TableBorderCell(rowNumber, columnNumber, rowSpan, colSpan, id);
+                    String semanticType = readString();
+                    if (semanticType != null) {
+                        cell.setSemanticType(readEnum(SemanticType.class, semanticType));
+                    }
+                    Long cellId = readNullableLong();
+                    if (cellId != null) {
+                        cell.setRecognizedStructureId(cellId);
+                    }
+                    cell.setBoundingBox(readBoundingBox());
+                    cell.setContents(readObjects());
+                    for (int spannedRow = rowNumber; spannedRow < Math.min(rowNumber + rowSpan, numberOfRows);
+                         spannedRow++) {
+                        TableBorderRow spannedTableRow = getOrCreateRow(table, spannedRow, numberOfColumns, id);
+                        for (int spannedColumn = columnNumber;
+                             spannedColumn < Math.min(columnNumber + colSpan, numberOfColumns); spannedColumn++) {
+                            spannedTableRow.getCells()[spannedColumn] = cell;
+                        }
+                    }
+                }
+            }
+            table.calculateCoordinatesUsingBoundingBoxesOfRowsAndColumns();
+            readNullableLong();
+            Long nextTableId = readNullableLong();
+            if (id != null) {
+                tables.put(id, table);
+            }
+            if (nextTableId != null) {
+                nextTableIds.put(table, nextTableId);
+            }
+            return table;
+        }
+
+        /**
+         * Gets a row of a table being read, creating it if needed. Rows are also created
+         * before they are read, to place the cells spanning into them.
+         */
+        private static TableBorderRow getOrCreateRow(TableBorder table, int rowNumber, int numberOfColumns,
+                                                     Long tableId) {
+            TableBorderRow row = table.getRows()[rowNumber];
+            if (row == null) {
+                row = new TableBorderRow(rowNumber, numberOfColumns, tableId);
+                table.getRows()[rowNumber] = row;
+            }
+            return row;
+        }
+
+        private TextLine readTextLine() throws IOException {
+            TextLine textLine = new TextLine();
+            int numberOfChunks = readCount();
+            for (int index = 0; index < numberOfChunks; index++) {
+                textLine.add(readTextChunk(readBoundingBox()));
+            }
+            return textLine;
+        }
+
+        private TextChunk readTextChunk(BoundingBox boundingBox) throws IOException {
+            String value = readString();
+            String fontName = readString();
+            double fontSize = input.readDouble();
+            double fontWeight = input.readDouble();
+            double italicAngle = input.readDouble();
+            double baseLine = input.readDouble();
+            int fontColorLength = readUnsignedInt();
+            double[] fontColor = null;
+            if (fontColorLength > 0) {
+                if (fontColorLength - 1 > remaining() / Double.BYTES) {
+                    throw malformed("font color of " + (fontColorLength - 1) + " components");
+                }
+                fontColor = new double[fontColorLength - 1];
+                for (int index = 0; index < fontColor.length; index++) {
+                    fontColor[index] = input.readDouble();
+                }
+            }
+            double slantDegree = input.readDouble();
+            TextChunk textChunk = new TextChunk(boundingBox, value, fontName, fontSize, fontWeight, italicAngle,
+                baseLine, fontColor, null, slantDegree);
+            textChunk.setTextStart(input.readDouble());
+            textChunk.setTextEnd(input.readDouble());
+            textChunk.adjustSymbolEndsToBoundingBox(null);
+            if (input.readBoolean()) {
+                textChunk.setIsUnderlinedText();
+            }
+            if (input.readBoolean()) {
+                textChunk.setIsStrikethroughText();
+            }
+            if (input.readBoolean()) {
+                textChunk.setHiddenText(true);
+            }
+            textChunk.getStreamInfos().addAll(readStreamInfos());
+            return textChunk;
+        }
+
+        private List<StreamInfo> readStreamInfos() throws IOException {
+            int numberOfStreamInfos = readCount();
+            List<StreamInfo> streamInfos = new ArrayList<>(numberOfStreamInfos);
+            for (int index = 0; index < numberOfStreamInfos; index++) {
+                int operatorIndex = readInt();
+                String xObjectName = readString();
+                int startIndex = readInt();
+                int endIndex = readInt();
+                streamInfos.add(new StreamInfo(operatorIndex, xObjectName, startIndex, endIndex));
+            }
+            return streamInfos;
+        }
+
+        private ElementMetadata readElementMetadata() throws IOException {
+            ElementMetadata metadata = new ElementMetadata()
+                .setAiScore(input.readDouble())
+                .setSourceLabel(readInt())
+                .setDlaObjectId(readInt())
+                .setHeadingInferenceMethod(readString())
+                .setBboxHeightPx(readNullableDouble())
+                .setWordMatchMethod(readString())
+                .setMatchedWordCount(readInt());
+            if (input.readBoolean()) {
+                metadata.setTsr(new ElementMetadata.TsrMetadata()
+                    .setNumCells(readInt())
+                    .setHtml(readString())
+                    .setRunTimeMs(readLong()));
+            }
+            if (input.readBoolean()) {
+                metadata.setCaption(new ElementMetadata.CaptionMetadata()
+                    .setText(readString())
+                    .setLanguage(readString())
+                    .setRunTimeMs(readLong()));
+            }
+            if (input.readBoolean()) {
+                metadata.setRegionlistResolution(new ElementMetadata.RegionlistResolution()
+                    .setStrategy(readString())
+                    .setTsrAttempted(input.readBoolean())
+                    .setTsrResult(readString()));
+            }
+            return metadata
+                .setTextSource(readString())
+                .setStreamOcrSimilarity(readNullableDouble());
+        }
+
+        private BoundingBox readBoundingBox() throws IOException {
+            return readBoundingBox(true);
+        }
+
+        /**
+         * Reads a bounding box; the page boxes of a multi-page one are single-page boxes.
+         */
+        private BoundingBox readBoundingBox(boolean multiPage) throws IOException {
+            int type = readUnsignedInt();
+            if (type == NO_BOUNDING_BOX) {
+                return null;
+            }
+            if (type == MULTI_PAGE_BOUNDING_BOX) {
+                if (!multiPage) {
+                    throw malformed("multi-page bounding box inside another");
+                }
+                readUnsignedInt();
+                int numberOfPages = readCount() + 1;
+                MultiBoundingBox boundingBox = new MultiBoundingBox();
+                for (int index = 0; index < numberOfPages; index++) {
+                    BoundingBox pageBoundingBox = readBoundingBox(false);
+                    if (pageBoundingBox != null) {
+                        boundingBox.union(pageBoundingBox);
+                    }
+                }
+                return boundingBox;
+            }
+            if (type != SINGLE_PAGE_BOUNDING_BOX) {
+                throw malformed("unknown bounding box type " + type);
+            }
+            Long pageNumber = readNullableLong();
+            double leftX = input.readDouble();
+            double bottomY = input.readDouble();
+            double rightX = input.readDouble();
+            double topY = input.readDouble();
+            // A bounding box without a page is an empty one.
+            return pageNumber != null ? new BoundingBox(toInt(pageNumber), leftX, bottomY, rightX, topY) :
+                new BoundingBox();
+        }
+
+        private String readString() throws IOException {
+            int reference = readUnsignedInt();
+            if (reference == 0) {
+                return null;
+            }
+            if (reference > 1) {
+                if (reference - 2 >= strings.size()) {
+                    throw malformed("reference to string " + (reference - 2) + " of " + strings.size());
+                }
+                return strings.get(reference - 2);
+            }
+            int length = readUnsignedInt();
+            if (length > remaining()) {
+                throw malformed("string of " + length + " bytes");
+            }
+            byte[] bytes = new byte[length];
+            input.readFully(bytes);
+            String value = new String(bytes, StandardCharsets.UTF_8);
+            strings.add(value);
+            return value;
+        }
+
+        private Long readNullableLong() throws IOException {
+            return input.readBoolean() ? readLong() : null;
+        }
+
+        private Double readNullableDouble() throws IOException {
+            return input.readBoolean() ? input.readDouble() : null;
+        }
+
+        private long readLong() throws IOException {
+            long value = readUnsignedLong();
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+        private int readInt() throws IOException {
+            return toInt(readLong());
+        }
+
+        private int readUnsignedInt() throws IOException {
+            long value = readUnsignedLong();
+            if (value < 0 || value > Integer.MAX_VALUE) {
+                throw malformed("number " + Long.toUnsignedString(value) + " out of range");
+            }
+            return (int) value;
+        }
+
+        /**
+         * Reads the number of items that follow. Every item takes at least one byte, so a count
+         * beyond the data that remains is malformed, and no list is sized from it.
+         */
+        private int readCount() throws IOException {
+            int count = readUnsignedInt();
+            if (count > remaining()) {
+                throw malformed("count of " + count + " items");
+            }
+            return count;
+        }
+
+        private int remaining() throws IOException {
+            return input.available();
+        }
+
+        private static int toInt(long value) throws IOException {
+            if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+                throw malformed("number " + value + " out of range");
+            }
+            return (int) value;
+        }
+
+        private static <E extends Enum<E>> E readEnum(Class<E> type, String name) throws IOException {
+            try {
+                return Enum.valueOf(type, name);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw malformed("unknown " + type.getSimpleName() + " " + name);
+            }
+        }
+
+        private static IOException malformed(String detail) {
+            return new IOException("Malformed extraction snapshot: " + detail);
+        }
+
+        private long readUnsignedLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = input.readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw malformed("number longer than 64 bits");
+        }
+    }
+}
@@ -37,6 +37,7 @@ import org.opendataloader.pdf.hybrid.TriageLogger;
 import org.opendataloader.pdf.hybrid.TriageProcessor;
 import org.opendataloader.pdf.hybrid.TriageProcessor.TriageDecision;
 import org.opendataloader.pdf.hybrid.TriageProcessor.TriageResult;
+import org.opendataloader.pdf.utils.SpatialIndex;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
 import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
@@ -56,6 +57,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -269,23 +271,8 @@ public class HybridDocumentProcessor {
         Map<Integer, List<IObject>> filteredContents = filterAllPages(inputPdfName, config, pagesToProcess, totalPages);
 
         // Phase 2: Triage all pages (or skip if full mode)
-        Map<Integer, TriageResult> triageResults;
-        if (config.getHybridConfig().isFullMode()) {
-            // Full mode: skip triage, route all pages to backend
-            LOGGER.log(Level.INFO, "Hybrid mode=full: skipping triage, all pages to backend");
-            triageResults = new HashMap<>();
-            for (int pageNumber : filteredContents.keySet()) {
-                if (shouldProcessPage(pageNumber, pagesToProcess)) {
-                    triageResults.put(pageNumber,
-                        TriageResult.backend(pageNumber, 1.0, TriageProcessor.TriageSignals.empty()));
-                }
-            }
-        } else {
-            // Auto mode: dynamic triage based on page content
-            triageResults = TriageProcessor.triageAllPages(
-                filteredContents, config.getHybridConfig()
-            );
-        }
+        Map<Integer, TriageResult> triageResults = triagePages(filteredContents, pagesToProcess,
+            config.getHybridConfig(), triageParallelism(filteredContents.size()));
 
         // Log triage summary
         logTriageSummary(triageResults);
@@ -433,6 +420,48 @@ public class HybridDocumentProcessor {
      * {@link #processDocument} so the caller still gets a per-page result list, but
      * skips triage and the backend chunk loop entirely.
      */
+    /**
+     * Routes the filtered pages: all to the backend in full mode, otherwise by triage.
+     *
+     * @param filteredContents Map of page number to filtered contents.
+     * @param pagesToProcess   The selected pages, or null for all pages.
+     * @param hybridConfig     The hybrid configuration.
+     * @param parallelism      The number of triage workers; 1 triages on the calling thread.
+     * @return Map of page number to triage result.
+     */
+    static Map<Integer, TriageResult> triagePages(Map<Integer, List<IObject>> filteredContents,
+                                                  Set<Integer> pagesToProcess,
+                                                  HybridConfig hybridConfig,
+                                                  int parallelism) {
+        if (hybridConfig.isFullMode()) {
+            // Full mode: skip triage, route all pages to backend
+            LOGGER.log(Level.INFO, "Hybrid mode=full: skipping triage, all pages to backend");
+            List<Integer> backendPages = new ArrayList<>();
+            for (int pageNumber : filteredContents.keySet()) {
+                if (shouldProcessPage(pageNumber, pagesToProcess)) {
+                    backendPages.add(pageNumber);
+                }
+            }
+            return TriageProcessor.routeAllToBackend(backendPages);
+        }
+        // Auto mode: dynamic triage based on page content
+        return TriageProcessor.triageAllPages(filteredContents, new TriageProcessor.TriageThresholds(), parallelism);
+    }
+
+    /**
+     * Returns the number of triage workers for a document.
+     *
+     * <p>Hybrid mode forces {@code --threads} to 1 because the backend pipeline is sequential.
+     * That rule does not apply to triage: its workers only classify page contents and never
+     * read the thread-local document state, so triage is sized by the available processors.
+     *
+     * @param pageCount The number of pages to triage.
+     * @return The parallelism, at least 1 and at most the page count.
+     */
+    static int triageParallelism(int pageCount) {
+        return Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), pageCount));
+    }
+
     private static List<List<IObject>> processAllPagesAsJavaFallback(
             String inputPdfName,
             Config config,
@@ -908,11 +937,12 @@ public class HybridDocumentProcessor {
 
             // Replace SemanticPicture entries with matched EnrichedImageChunk
             if (!javaImageChunks.isEmpty()) {
+                SpatialIndex<ImageChunk> javaImageIndex = SpatialIndex.ofCenters(javaImageChunks);
                 List<IObject> enriched = new ArrayList<>(backendPage.size());
                 for (IObject obj : backendPage) {
                     if (obj instanceof SemanticPicture) {
                         SemanticPicture picture = (SemanticPicture) obj;
-                        ImageChunk matched = findMatchingImageChunk(picture, javaImageChunks);
+                        ImageChunk matched = findMatchingImageChunk(picture, javaImageIndex);
                         if (matched != null) {
                             // Author-authored /Alt wins over AI caption. If the
                             // matched chunk is already an EnrichedImageChunk with
@@ -982,8 +1012,11 @@ public class HybridDocumentProcessor {
             // Replace backend TextChunks with Java TextChunks that carry StreamInfo,
             // and copy StreamInfos to SemanticFormula objects
             if (!javaTextChunks.isEmpty()) {
-                enrichTextStreamInfos(backendPage, javaTextChunks, hybridConfig);
-                enrichFormulaStreamInfos(backendPage, javaTextChunks);
+                // Index chunk centers once per page so each backend node only
+                // compares against the Java chunks around its bbox.
+                SpatialIndex<TextChunk> javaTextIndex = SpatialIndex.ofCenters(javaTextChunks);
+                enrichTextStreamInfos(backendPage, javaTextIndex, hybridConfig);
+                enrichFormulaStreamInfos(backendPage, javaTextIndex);
             } else if (hybridConfig.isOcrAuto() || hybridConfig.isOcrForce()) {
                 // OCR-only (scanned) page: no Java TextChunks to compare against,
                 // so text_source cannot be inferred from stream/OCR similarity.
@@ -1108,11 +1141,11 @@ public class HybridDocumentProcessor {
      * This preserves the backend's structural decisions (heading/paragraph/reading order)
      * while using the Java TextChunks that carry StreamInfo.
      */
-    private static void enrichTextStreamInfos(List<IObject> backendPage, List<TextChunk> javaTextChunks,
+    private static void enrichTextStreamInfos(List<IObject> backendPage, SpatialIndex<TextChunk> javaTextChunks,
                                                HybridConfig config) {
         if (javaTextChunks.isEmpty()) return;
 
-        Set<Integer> usedJavaIndices = new HashSet<>();
+        BitSet usedJavaIndices = new BitSet(javaTextChunks.size());
         enrichTextStreamInfosRecursive(backendPage, javaTextChunks, usedJavaIndices, config);
     }
 
@@ -1122,7 +1155,7 @@ public class HybridDocumentProcessor {
      * and any other container that holds nested IObjects.
      */
     private static void enrichTextStreamInfosRecursive(
-            List<IObject> objects, List<TextChunk> javaTextChunks, Set<Integer> usedJavaIndices,
+            List<IObject> objects, SpatialIndex<TextChunk> javaTextChunks, BitSet usedJavaIndices,
             HybridConfig config) {
 
         for (IObject obj : objects) {
@@ -1169,7 +1202,7 @@ public class HybridDocumentProcessor {
      * Records the text source decision in ElementMetadata.
      */
     private static void enrichSingleTextNode(
-            SemanticTextNode textNode, List<TextChunk> javaTextChunks, Set<Integer> usedJavaIndices,
+            SemanticTextNode textNode, SpatialIndex<TextChunk> javaTextChunks, BitSet usedJavaIndices,
             HybridConfig config) {
 
         // Force mode: always keep OCR text, don't replace with stream
@@ -1185,8 +1218,8 @@ public class HybridDocumentProcessor {
 
         List<TextChunk> matched = new ArrayList<>();
         double tol = 5.0;
-        for (int i = 0; i < javaTextChunks.size(); i++) {
-            if (usedJavaIndices.contains(i)) continue;
+        for (int i : javaTextChunks.candidates(nLeft - tol, nBottom - tol, nRight + tol, nTop + tol)) {
+            if (usedJavaIndices.get(i)) continue;
             TextChunk javaChunk = javaTextChunks.get(i);
             if (javaChunk.getStreamInfos().isEmpty()) continue;
 
@@ -1195,7 +1228,7 @@ public class HybridDocumentProcessor {
 
             if (jCx >= nLeft - tol && jCx <= nRight + tol && jCy >= nBottom - tol && jCy <= nTop + tol) {
                 matched.add(javaChunk);
-                usedJavaIndices.add(i);
+                usedJavaIndices.set(i);
             }
         }
 
@@ -1210,9 +1243,10 @@ public class HybridDocumentProcessor {
         if (config != null && config.isOcrAuto()) {
             String streamText = extractTextFromChunks(matched);
             String ocrText = extractTextFromNode(textNode);
+            // The similarity is recorded in the metadata, so the decision reuses it
             double sim = TextSimilarity.similarity(streamText, ocrText);
 
-            if (!TextSimilarity.trustStream(streamText, ocrText, TextSimilarity.DEFAULT_THRESHOLD)) {
+            if (!TextSimilarity.trustStream(streamText, ocrText, sim, TextSimilarity.DEFAULT_THRESHOLD)) {
                 // Stream text is corrupted — keep OCR text (backend TextChunks)
                 LOGGER.fine(() -> "OCR auto: stream text untrusted (sim="
                     + String.format("%.2f", sim)
@@ -1319,13 +1353,13 @@ public class HybridDocumentProcessor {
      * In OCR auto mode, compares stream vs OCR text similarity before copying.
      */
     private static void matchAndReplaceStreamInfos(
-            TextChunk backendChunk, List<TextChunk> javaTextChunks, Set<Integer> usedJavaIndices,
+            TextChunk backendChunk, SpatialIndex<TextChunk> javaTextChunks, BitSet usedJavaIndices,
             HybridConfig config) {
         double bCx = backendChunk.getCenterX();
         double bCy = backendChunk.getCenterY();
         double tol = 5.0;
-        for (int i = 0; i < javaTextChunks.size(); i++) {
-            if (usedJavaIndices.contains(i)) continue;
+        for (int i : javaTextChunks.candidates(bCx - tol, bCy - tol, bCx + tol, bCy + tol)) {
+            if (usedJavaIndices.get(i)) continue;
             TextChunk javaChunk = javaTextChunks.get(i);
             if (javaChunk.getStreamInfos().isEmpty()) continue;
             double jCx = javaChunk.getCenterX();
@@ -1341,7 +1375,7 @@ public class HybridDocumentProcessor {
                     }
                 }
                 backendChunk.getStreamInfos().addAll(javaChunk.getStreamInfos());
-                usedJavaIndices.add(i);
+                usedJavaIndices.set(i);
                 return;
             }
         }
@@ -1354,7 +1388,7 @@ public class HybridDocumentProcessor {
      * whose centers fall within the formula's bbox and copy their StreamInfos directly
      * to the formula's StreamInfo list (inherited from BaseObject).
      */
-    private static void enrichFormulaStreamInfos(List<IObject> backendPage, List<TextChunk> javaTextChunks) {
+    private static void enrichFormulaStreamInfos(List<IObject> backendPage, SpatialIndex<TextChunk> javaTextChunks) {
         for (IObject obj : backendPage) {
             if (obj instanceof SemanticFormula) {
                 enrichSingleFormula((SemanticFormula) obj, javaTextChunks);
@@ -1366,7 +1400,7 @@ public class HybridDocumentProcessor {
      * Copies StreamInfos from Java TextChunks to a SemanticFormula by bbox overlap.
      * Allows reuse of Java chunks since formula content often IS the text content.
      */
-    private static void enrichSingleFormula(SemanticFormula formula, List<TextChunk> javaTextChunks) {
+    private static void enrichSingleFormula(SemanticFormula formula, SpatialIndex<TextChunk> javaTextChunks) {
         if (!formula.getStreamInfos().isEmpty()) return;
 
         double fLeft = formula.getLeftX();
@@ -1375,7 +1409,7 @@ public class HybridDocumentProcessor {
         double fTop = formula.getTopY();
         double tol = 5.0;
 
-        for (TextChunk javaChunk : javaTextChunks) {
+        for (TextChunk javaChunk : javaTextChunks.query(fLeft - tol, fBottom - tol, fRight + tol, fTop + tol)) {
             if (javaChunk.getStreamInfos().isEmpty()) continue;
             double jCx = javaChunk.getCenterX();
             double jCy = javaChunk.getCenterY();
@@ -1390,7 +1424,7 @@ public class HybridDocumentProcessor {
      * Finds the ImageChunk whose center point lies within the SemanticPicture's bounding box.
      * Returns null if no candidate's center is contained (with 1pt tolerance).
      */
-    private static ImageChunk findMatchingImageChunk(SemanticPicture picture, List<ImageChunk> candidates) {
+    private static ImageChunk findMatchingImageChunk(SemanticPicture picture, SpatialIndex<ImageChunk> candidates) {
         double picLeft = picture.getLeftX();
         double picRight = picture.getRightX();
         double picBottom = picture.getBottomY();
@@ -1399,7 +1433,7 @@ public class HybridDocumentProcessor {
         ImageChunk best = null;
         double bestDist = Double.MAX_VALUE;
 
-        for (ImageChunk chunk : candidates) {
+        for (ImageChunk chunk : candidates.query(picLeft - 1, picBottom - 1, picRight + 1, picTop + 1)) {
             double cx = chunk.getCenterX();
             double cy = chunk.getCenterY();
             // Center-point containment (with 1pt tolerance)
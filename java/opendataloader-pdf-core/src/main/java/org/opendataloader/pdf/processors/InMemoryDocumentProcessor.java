@@ -0,0 +1,194 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputArchive;
+import org.opendataloader.pdf.api.OutputSink;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+
+/**
+ * Processes PDF documents held by the caller and writes their outputs to an output sink.
+ *
+ * <p>The parser and the page renderer open the document by path, so the input is copied once
+ * into a private temporary file, which is deleted when processing ends. Outputs and, with an
+ * {@link OutputArchive} sink, extracted images never touch the file system.
+ */
+public final class InMemoryDocumentProcessor {
+    private static final String PDF_EXTENSION = ".pdf";
+    private static final int COPY_BUFFER_SIZE = 1 << 20;
+
+    private InMemoryDocumentProcessor() {
+    }
+
+    /**
+     * Processes the remaining bytes of a buffer, which may be a memory-mapped file. The
+     * buffer position is not changed.
+     *
+     * @param pdf        the PDF data
+     * @param fileName   the document file name, used to name the outputs
+     * @param config     the configuration settings
+     * @param outputSink the sink receiving the outputs
+     * @throws IOException if unable to process the document
+     */
+    public static void process(ByteBuffer pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        process(fileName, config, outputSink, target -> {
+            ByteBuffer data = pdf.duplicate();
+            while (data.hasRemaining()) {
+                target.write(data);
+            }
+        });
+    }
+
+    /**
+     * Processes the whole content of a channel, from its start. The channel position is not
+     * changed.
+     *
+     * @param pdf        the channel with the PDF data
+     * @param fileName   the document file name, used to name the outputs
+     * @param config     the configuration settings
+     * @param outputSink the sink receiving the outputs
+     * @throws IOException if unable to process the document
+     */
+    public static void process(SeekableByteChannel pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        process(fileName, config, outputSink, target -> {
+            if (pdf instanceof FileChannel) {
+                FileChannel source = (FileChannel) pdf;
+                long size = source.size();
+                for (long position = 0; position < size; ) {
+                    long transferred = source.transferTo(position, size - position, target);
+                    if (transferred <= 0) {
+                        // The file was truncated while being copied
+                        throw new EOFException("PDF channel ended at byte " + position + " of " + size);
+                    }
+                    position += transferred;
+                }
+                return;
+            }
+            long position = pdf.position();
+            try {
+                pdf.position(0);
+                ByteBuffer buffer = ByteBuffer.allocate(COPY_BUFFER_SIZE);
+                while (pdf.read(buffer) >= 0) {
+                    buffer.flip();
+                    while (buffer.hasRemaining()) {
+                        target.write(buffer);
+                    }
+                    buffer.clear();
+                }
+            } finally {
+                pdf.position(position);
+            }
+        });
+    }
+
+    /**
+     * Processes the rest of a stream. The stream is not closed.
+     *
+     * @param pdf        the stream with the PDF data
+     * @param fileName   the document file name, used to name the outputs
+     * @param config     the configuration settings
+     * @param outputSink the sink receiving the outputs
+     * @throws IOException if unable to process the document
+     */
+    public static void process(InputStream pdf, String fileName, Config config, OutputSink outputSink)
+            throws IOException {
+        process(fileName, config, outputSink, target -> {
+            OutputStream outputStream = Channels.newOutputStream(target);
+            pdf.transferTo(outputStream);
+            outputStream.flush();
+        });
+    }
+
+    private static void process(String fileName, Config config, OutputSink outputSink, InputCopy inputCopy)
+            throws IOException {
+        validateConfig(config, outputSink);
+        Path directory = Files.createTempDirectory("opendataloader-input");
+        Path inputPdf = directory.resolve(getPdfFileName(fileName));
+        try {
+            try (FileChannel target = FileChannel.open(inputPdf, StandardOpenOption.CREATE_NEW,
+                    StandardOpenOption.WRITE)) {
+                inputCopy.copyTo(target);
+            }
+            try {
+                ExtractionResult extraction = DocumentProcessor.extractContents(inputPdf.toString(), config);
+                DocumentProcessor.generateOutputs(inputPdf.toFile(), extraction.getContents(), config,
+                    extraction.getElementMetadata(), outputSink);
+            } finally {
+                DocumentProcessor.closePdfResources();
+            }
+        } finally {
+            Files.deleteIfExists(inputPdf);
+            Files.deleteIfExists(directory);
+        }
+    }
+
+    /**
+     * Rejects outputs that can only be written to the output folder.
+     */
+    static void validateConfig(Config config, OutputSink outputSink) {
+        if (config.isGeneratePDF() || config.isGenerateTaggedPDF()) {
+            throw new IllegalArgumentException(
+                "pdf and tagged-pdf outputs are written to the output folder only; "
+                    + "use AutoTagger for in-memory tagging");
+        }
+        boolean hasImageOutputs = config.isGenerateJSON() || config.isGenerateJsonLines()
+            || config.isGenerateElementStream() || config.isGenerateMarkdown() || config.isGenerateHtml()
+            || config.isGenerateSmile() || config.isGenerateCbor();
+        if (hasImageOutputs && !config.isImageOutputOff() && !config.isEmbedImages()
+            && !(outputSink instanceof OutputArchive) && config.getOutputFolder() == null
+            && config.getImageDir() == null) {
+            throw new IllegalArgumentException(
+                "External images need an output folder or image directory; "
+                    + "use embedded images or an OutputArchive sink to keep them in memory");
+        }
+    }
+
+    /**
+     * Gets the name of the temporary input file: the file name part of the given name, with
+     * the PDF extension the output names are derived from.
+     */
+    static String getPdfFileName(String fileName) {
+        String name = fileName != null ? Paths.get(fileName).getFileName().toString() : "";
+        if (name.isEmpty()) {
+            name = "document";
+        }
+        return name.toLowerCase(Locale.ROOT).endsWith(PDF_EXTENSION) ? name : name + PDF_EXTENSION;
+    }
+
+    /**
+     * Copies the caller's input into the temporary file.
+     */
+    @FunctionalInterface
+    private interface InputCopy {
+        void copyTo(FileChannel target) throws IOException;
+    }
+}
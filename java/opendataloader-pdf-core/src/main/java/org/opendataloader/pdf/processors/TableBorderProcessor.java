@@ -15,6 +15,7 @@
  */
 package org.opendataloader.pdf.processors;
 
+import org.opendataloader.pdf.utils.PageSpatialIndex;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
 import org.verapdf.wcag.algorithms.entities.content.LineChunk;
@@ -28,16 +29,20 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.utils.NodeUtils;
 import org.verapdf.wcag.algorithms.semanticalgorithms.utils.TextChunkUtils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.SortedSet;
 
 public class TableBorderProcessor {
 
     private static final double LINE_ART_PERCENT = 0.9;
     private static final double NEIGHBOUR_TABLE_EPSILON = 0.2;
+    private static final double TABLE_LOOKUP_MARGIN = 5.0;
 
     /**
      * Maximum depth for nested table processing.
@@ -69,8 +74,14 @@ public class TableBorderProcessor {
 
             List<IObject> newContents = new ArrayList<>();
             Set<TableBorder> processedTableBorders = new LinkedHashSet<>();
+            SortedSet<TableBorder> pageTableBorders = StaticContainers.getTableBordersCollection().getTableBorders(pageNumber);
+            // Snapshot of the page tables, queried only by this loop: the tables are removed from
+            // the page below, after the last query.
+            PageSpatialIndex<TableBorder> tableBorderIndex = PageSpatialIndex.ofBoundingBoxes(
+                pageTableBorders != null ? pageTableBorders : Collections.emptySet(), TableBorder.class);
             for (IObject content : contents) {
-                TableBorder tableBorder = addContentToTableBorder(content);
+                TableBorder tableBorder = isNearTableBorder(content, pageNumber, tableBorderIndex) ?
+                    addContentToTableBorder(content) : null;
                 if (tableBorder != null) {
                     if (content instanceof LineChunk && tableBorder.isOneCellTable()) {
                         continue;
@@ -95,9 +106,13 @@ public class TableBorderProcessor {
                 }
             }
             Map<TableBorder, TableBorder> normalizedTables = new HashMap<>();
+            // The raw contents are not changed here: the loop above built newContents instead.
+            // Cell contents, which normalization changes, get their own indices in the nested
+            // processTableBorders call of processTableCellContent.
+            PageSpatialIndex<IObject> contentCenters = PageSpatialIndex.ofCenters(contents, IObject.class);
             for (TableBorder border : processedTableBorders) {
                 StaticContainers.getTableBordersCollection().removeTableBorder(border, pageNumber);
-                TableBorder normalizedTable = normalizeAndProcessTableBorder(contents, border, pageNumber);
+                TableBorder normalizedTable = normalizeAndProcessTableBorder(contentCenters, border, pageNumber);
                 normalizedTables.put(border, normalizedTable);
                 // Remove the outer table while processing its contents, then restore the page index
                 // with the final instance so later lookups still see the normalized table.
@@ -120,6 +135,20 @@ public class TableBorderProcessor {
         }
     }
 
+    /**
+     * Cheap pre-check for {@link #addContentToTableBorder}: a table that takes the content lies
+     * on or right next to it. The margin is generous, so only contents far from every table of
+     * the page skip the table lookup.
+     */
+    private static boolean isNearTableBorder(IObject content, int pageNumber, PageSpatialIndex<TableBorder> tableBorderIndex) {
+        if (!Objects.equals(content.getPageNumber(), pageNumber)) {
+            return true;
+        }
+        BoundingBox boundingBox = content.getBoundingBox();
+        double margin = Math.max(TABLE_LOOKUP_MARGIN, Math.max(boundingBox.getWidth(), boundingBox.getHeight()));
+        return !tableBorderIndex.query(boundingBox, margin).isEmpty();
+    }
+
     private static TableBorder addContentToTableBorder(IObject content) {
         if (StaticContainers.getTableBordersCollection() == null) {
             return null;
@@ -171,6 +200,13 @@ public class TableBorderProcessor {
         return normalizedTable;
     }
 
+    private static TableBorder normalizeAndProcessTableBorder(PageSpatialIndex<IObject> rawPageContentCenters,
+                                                              TableBorder tableBorder, int pageNumber) {
+        TableBorder normalizedTable = TableStructureNormalizer.normalize(rawPageContentCenters, tableBorder);
+        processTableBorderContents(normalizedTable, pageNumber);
+        return normalizedTable;
+    }
+
     private static void processTableBorderContents(TableBorder tableBorder, int pageNumber) {
         for (int rowNumber = 0; rowNumber < tableBorder.getNumberOfRows(); rowNumber++) {
             TableBorderRow row = tableBorder.getRow(rowNumber);
@@ -184,6 +220,7 @@ public class TableBorderProcessor {
     }
 
     private static List<IObject> processTableCellContent(List<IObject> contents, int pageNumber) {
+        // Builds new spatial indices over the cell contents as they are after normalization
         List<IObject> newContents = TableBorderProcessor.processTableBorders(contents, pageNumber);
         newContents = TextLineProcessor.processTextLines(newContents);
         List<List<IObject>> contentsList = new ArrayList<>(1);
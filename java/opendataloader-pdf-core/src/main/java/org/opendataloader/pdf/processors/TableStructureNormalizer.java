@@ -15,6 +15,7 @@
  */
 package org.opendataloader.pdf.processors;
 
+import org.opendataloader.pdf.utils.PageSpatialIndex;
 import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.content.LineArtChunk;
 import org.verapdf.wcag.algorithms.entities.content.LineChunk;
@@ -53,6 +54,16 @@ class TableStructureNormalizer {
         if (rawPageContents == null || rawPageContents.isEmpty()) {
             return tableBorder;
         }
+        return normalize(PageSpatialIndex.ofCenters(rawPageContents, IObject.class), tableBorder);
+    }
+
+    /**
+     * Normalizes a table using an index over the centers of the raw page contents, so that
+     * all tables of a page share one index instead of each scanning the whole page. The raw
+     * contents are only read: a rebuilt table holds text chunk parts cut from them and the other
+     * contents as they are, so no position the shared index holds changes before the next table.
+     */
+    static TableBorder normalize(PageSpatialIndex<IObject> rawPageContentCenters, TableBorder tableBorder) {
         if (tableBorder.isTextBlock()) {
             return tableBorder;
         }
@@ -61,7 +72,7 @@ class TableStructureNormalizer {
             return tableBorder;
         }
 
-        List<ColumnSnapshot> columnSnapshots = collectColumnSnapshots(rawPageContents, tableBorder);
+        List<ColumnSnapshot> columnSnapshots = collectColumnSnapshots(rawPageContentCenters, tableBorder);
         int denseColumns = countDenseColumns(columnSnapshots);
         if (denseColumns < 2) {
             return tableBorder;
@@ -80,14 +91,17 @@ class TableStructureNormalizer {
         return rebuiltTable;
     }
 
-    private static List<ColumnSnapshot> collectColumnSnapshots(List<IObject> rawPageContents, TableBorder tableBorder) {
+    private static List<ColumnSnapshot> collectColumnSnapshots(PageSpatialIndex<IObject> rawPageContentCenters,
+                                                               TableBorder tableBorder) {
         List<ColumnSnapshot> columnSnapshots = new ArrayList<>(tableBorder.getNumberOfColumns());
         for (int columnNumber = 0; columnNumber < tableBorder.getNumberOfColumns(); columnNumber++) {
             columnSnapshots.add(new ColumnSnapshot());
         }
 
-        for (IObject content : rawPageContents) {
-            if (content == null || !isInsideTableBounds(content, tableBorder)) {
+        List<IObject> candidates = rawPageContentCenters.query(tableBorder.getLeftX(), tableBorder.getBottomY(),
+            tableBorder.getRightX(), tableBorder.getTopY());
+        for (IObject content : candidates) {
+            if (!isInsideTableBounds(content, tableBorder)) {
                 continue;
             }
 
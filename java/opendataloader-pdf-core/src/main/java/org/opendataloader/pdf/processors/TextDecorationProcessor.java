@@ -24,6 +24,7 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainer
 import org.verapdf.wcag.algorithms.semanticalgorithms.utils.NodeUtils;
 
 import java.util.*;
+import java.util.stream.IntStream;
 
 /**
  * Detects strikethrough and underlined text by finding horizontal line or line-art rules that
@@ -89,14 +90,15 @@ public class TextDecorationProcessor {
             return;
         }
 
+        // Rules are swept bottom to top, so each one is only checked against the chunks whose
+        // strikethrough or underline band contains it. Rules do not affect each other.
+        horizontalRules.sort(Comparator.comparingDouble(rule -> rule.centerY));
+        TextChunkBands bands = new TextChunkBands(textChunks);
         for (HorizontalRuleCandidate rule : horizontalRules) {
             List<TextChunk> strikethroughMatches = new ArrayList<>();
             List<TextChunk> underlineMatches = new ArrayList<>();
 
-            for (TextChunk textChunk : textChunks) {
-                if (textChunk.isWhiteSpaceChunk() || textChunk.isEmpty()) {
-                    continue;
-                }
+            for (TextChunk textChunk : bands.getCandidates(rule.centerY)) {
                 if (detectStrikethrough && isStrikethroughRule(rule, textChunk)) {
                     strikethroughMatches.add(textChunk);
                 }
@@ -262,6 +264,100 @@ public class TextDecorationProcessor {
         return textGroupWidth > 0 && rule.width / textGroupWidth <= MAX_LINE_TO_TEXT_WIDTH_RATIO;
     }
 
+    /**
+     * Vertical bands of the text chunks of a page, in which a rule center has to lie to pass
+     * {@link #isStrikethroughRule} or {@link #isUnderlineRule}. Queried with non-decreasing
+     * rule centers, it keeps the chunks whose band contains the current center active.
+     */
+    private static class TextChunkBands {
+        // Covers rounding differences between the band bounds and the checks themselves.
+        private static final double BAND_PADDING = 1e-6;
+
+        private final List<TextChunk> textChunks = new ArrayList<>();
+        private final double[] bottoms;
+        private final double[] tops;
+        private final int[] byBottom;
+        private final int[] active;
+        private int activeCount;
+        private int nextByBottom;
+
+        private TextChunkBands(List<TextChunk> pageTextChunks) {
+            List<double[]> bands = new ArrayList<>();
+            for (TextChunk textChunk : pageTextChunks) {
+                if (textChunk.isWhiteSpaceChunk() || textChunk.isEmpty()) {
+                    continue;
+                }
+                double[] band = getBand(textChunk);
+                if (band != null) {
+                    textChunks.add(textChunk);
+                    bands.add(band);
+                }
+            }
+            int size = textChunks.size();
+            this.bottoms = new double[size];
+            this.tops = new double[size];
+            for (int i = 0; i < size; i++) {
+                bottoms[i] = bands.get(i)[0];
+                tops[i] = bands.get(i)[1];
+            }
+            this.byBottom = IntStream.range(0, size).boxed()
+                .sorted(Comparator.comparingDouble(i -> bottoms[i]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+            this.active = new int[size];
+        }
+
+        /**
+         * @return The band of a chunk, unbounded if its geometry is not finite,
+         * or null if no rule can match it.
+         */
+        private static double[] getBand(TextChunk textChunk) {
+            double textHeight = textChunk.getHeight();
+            if (textHeight <= 0) {
+                return null;
+            }
+            double centerY = textChunk.getCenterY();
+            double tolerance = textHeight * VERTICAL_CENTER_TOLERANCE;
+            double baseline = textChunk.getBaseLine();
+            double lowerBound = baseline - NodeUtils.UNDERLINED_TEXT_EPSILONS[1] * textHeight;
+            double bottom = Math.min(Math.min(centerY - tolerance, lowerBound), baseline);
+            double top = Math.max(Math.max(centerY + tolerance, lowerBound), baseline);
+            if (!Double.isFinite(bottom) || !Double.isFinite(top)) {
+                return new double[]{Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY};
+            }
+            return new double[]{bottom - BAND_PADDING, top + BAND_PADDING};
+        }
+
+        /**
+         * @param centerY The rule center; not less than in the previous call unless NaN.
+         * @return The chunks that can match a rule with this center, in page order.
+         */
+        private List<TextChunk> getCandidates(double centerY) {
+            if (Double.isNaN(centerY)) {
+                // A NaN center fails no vertical check.
+                return textChunks;
+            }
+            while (nextByBottom < byBottom.length && bottoms[byBottom[nextByBottom]] <= centerY) {
+                active[activeCount++] = byBottom[nextByBottom++];
+            }
+            int kept = 0;
+            for (int i = 0; i < activeCount; i++) {
+                if (tops[active[i]] >= centerY) {
+                    active[kept++] = active[i];
+                }
+            }
+            activeCount = kept;
+            int[] positions = Arrays.copyOf(active, activeCount);
+            // Page order keeps the combined width in isValidMatch summed as before.
+            Arrays.sort(positions);
+            List<TextChunk> candidates = new ArrayList<>(positions.length);
+            for (int position : positions) {
+                candidates.add(textChunks.get(position));
+            }
+            return candidates;
+        }
+    }
+
     /**
      * Normalized geometry for either LineChunk or LineArtChunk.
      */
@@ -23,10 +23,11 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.utils.ChunksMergeUtils;
 import org.verapdf.wcag.algorithms.semanticalgorithms.utils.NodeUtils;
 import org.verapdf.wcag.algorithms.semanticalgorithms.utils.TextChunkUtils;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class TextProcessor {
 
@@ -44,27 +45,25 @@ public class TextProcessor {
         }
         for (IObject object : contents) {
             if (object instanceof TextChunk) {
-                TextChunk textChunk = ((TextChunk) object);
-                if (textChunk.getValue().contains(ChunkParser.REPLACEMENT_CHARACTER_STRING)) {
-                    textChunk.setValue(textChunk.getValue().replace(ChunkParser.REPLACEMENT_CHARACTER_STRING, replacementCharacterString));
-                }
+                replaceUndefinedCharacters((TextChunk) object, replacementCharacterString);
             }
         }
     }
 
+    static void replaceUndefinedCharacters(TextChunk textChunk, String replacementCharacterString) {
+        if (textChunk.getValue().contains(ChunkParser.REPLACEMENT_CHARACTER_STRING)) {
+            textChunk.setValue(textChunk.getValue().replace(ChunkParser.REPLACEMENT_CHARACTER_STRING, replacementCharacterString));
+        }
+    }
+
     public static double measureReplacementCharRatio(List<IObject> contents) {
-        char replacementChar = ChunkParser.REPLACEMENT_CHARACTER_STRING.charAt(0);
         int totalChars = 0;
         int replacementChars = 0;
         for (IObject object : contents) {
             if (object instanceof TextChunk) {
                 String value = ((TextChunk) object).getValue();
                 totalChars += value.length();
-                for (int i = 0; i < value.length(); i++) {
-                    if (value.charAt(i) == replacementChar) {
-                        replacementChars++;
-                    }
-                }
+                replacementChars += countReplacementChars(value);
             }
         }
         if (totalChars == 0) {
@@ -73,18 +72,30 @@ public class TextProcessor {
         return (double) replacementChars / totalChars;
     }
 
+    static int countReplacementChars(String value) {
+        char replacementChar = ChunkParser.REPLACEMENT_CHARACTER_STRING.charAt(0);
+        int replacementChars = 0;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) == replacementChar) {
+                replacementChars++;
+            }
+        }
+        return replacementChars;
+    }
+
     public static void filterTinyText(List<IObject> contents) {
         for (int i = 0; i < contents.size(); i++) {
             IObject object = contents.get(i);
-            if (object instanceof TextChunk) {
-                TextChunk textChunk = ((TextChunk) object);
-                if (textChunk.getBoundingBox().getHeight() <= TEXT_MIN_HEIGHT) {
-                    contents.set(i, null);
-                }
+            if (object instanceof TextChunk && isTinyText((TextChunk) object)) {
+                contents.set(i, null);
             }
         }
     }
 
+    static boolean isTinyText(TextChunk textChunk) {
+        return textChunk.getBoundingBox().getHeight() <= TEXT_MIN_HEIGHT;
+    }
+
     public static void trimTextChunksWhiteSpaces(List<IObject> contents) {
         for (int i = 0; i < contents.size(); i++) {
             IObject object = contents.get(i);
@@ -101,9 +112,7 @@ public class TextProcessor {
             if (object instanceof TextChunk && nextObject instanceof TextChunk) {
                 TextChunk textChunk = (TextChunk) object;
                 TextChunk nextTextChunk = (TextChunk) nextObject;
-                if (TextChunkUtils.areTextChunksHaveSameStyle(textChunk, nextTextChunk) &&
-                    TextChunkUtils.areTextChunksHaveSameBaseLine(textChunk, nextTextChunk) &&
-                    areNeighborsTextChunks(textChunk, nextTextChunk)) {
+                if (areMergeableTextChunks(textChunk, nextTextChunk)) {
                     contents.set(i, null);
                     contents.set(i + 1, TextChunkUtils.unionTextChunks(textChunk, nextTextChunk));
                 }
@@ -111,19 +120,112 @@ public class TextProcessor {
         }
     }
 
+    static boolean areMergeableTextChunks(TextChunk textChunk, TextChunk nextTextChunk) {
+        return TextChunkUtils.areTextChunksHaveSameStyle(textChunk, nextTextChunk) &&
+            TextChunkUtils.areTextChunksHaveSameBaseLine(textChunk, nextTextChunk) &&
+            areNeighborsTextChunks(textChunk, nextTextChunk);
+    }
+
+    /**
+     * Removes text chunks that are drawn again later on the page with the same value at nearly the
+     * same position, such as fake-bold overprinting. Of each group of duplicates the last one is kept.
+     *
+     * <p>Duplicates overlap, so their centers are closer than the widest and tallest chunk with that
+     * value. Chunks are hashed by value and by center on a grid of that cell size, and each chunk is
+     * compared only with the later chunks in its own and the adjacent cells.
+     *
+     * @param contents the page contents; removed chunks are replaced with null
+     */
     public static void removeSameTextChunks(List<IObject> contents) {
-        DocumentProcessor.setIndexesForContentsList(contents);
-        List<IObject> sortedTextChunks = contents.stream().filter(c -> c instanceof TextChunk).sorted(
-                Comparator.comparing(x -> ((TextChunk) x).getValue())).collect(Collectors.toList());
-        TextChunk lastTextChunk = null;
-        for (IObject object : sortedTextChunks) {
+        Map<String, double[]> cellSizes = new HashMap<>();
+        for (IObject object : contents) {
             if (object instanceof TextChunk) {
-                TextChunk currentTextChunk = (TextChunk) object;
-                if (lastTextChunk != null && areSameTextChunks(lastTextChunk, currentTextChunk)) {
-                    contents.set(lastTextChunk.getIndex(), null);
+                TextChunk textChunk = (TextChunk) object;
+                double[] cellSize = cellSizes.computeIfAbsent(textChunk.getValue(), value -> new double[2]);
+                cellSize[0] = Math.max(cellSize[0], textChunk.getBoundingBox().getWidth());
+                cellSize[1] = Math.max(cellSize[1], textChunk.getBoundingBox().getHeight());
+            }
+        }
+        Map<DuplicateCell, List<TextChunk>> cells = new HashMap<>();
+        DuplicateCell probe = new DuplicateCell();
+        for (int index = contents.size() - 1; index >= 0; index--) {
+            IObject object = contents.get(index);
+            if (!(object instanceof TextChunk)) {
+                continue;
+            }
+            TextChunk textChunk = (TextChunk) object;
+            double[] cellSize = cellSizes.get(textChunk.getValue());
+            long cellX = getCellCoordinate(textChunk.getCenterX(), cellSize[0]);
+            long cellY = getCellCoordinate(textChunk.getCenterY(), cellSize[1]);
+            if (hasLaterSameTextChunk(textChunk, cellX, cellY, cells, probe)) {
+                contents.set(index, null);
+            }
+            probe.set(textChunk.getValue(), cellX, cellY);
+            List<TextChunk> cell = cells.get(probe);
+            if (cell == null) {
+                cell = new ArrayList<>(2);
+                cells.put(new DuplicateCell().set(textChunk.getValue(), cellX, cellY), cell);
+            }
+            cell.add(textChunk);
+        }
+    }
+
+    private static boolean hasLaterSameTextChunk(TextChunk textChunk, long cellX, long cellY,
+                                                 Map<DuplicateCell, List<TextChunk>> cells, DuplicateCell probe) {
+        for (long x = cellX - 1; x <= cellX + 1; x++) {
+            for (long y = cellY - 1; y <= cellY + 1; y++) {
+                List<TextChunk> cell = cells.get(probe.set(textChunk.getValue(), x, y));
+                if (cell == null) {
+                    continue;
                 }
-                lastTextChunk = currentTextChunk;
+                for (TextChunk laterTextChunk : cell) {
+                    if (areSameTextChunks(textChunk, laterTextChunk)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long getCellCoordinate(double center, double cellSize) {
+        if (!(cellSize > 0) || !Double.isFinite(cellSize) || !Double.isFinite(center)) {
+            // Without a usable cell size, all chunks with this value share one cell.
+            return 0;
+        }
+        return (long) Math.floor(center / cellSize);
+    }
+
+    /**
+     * Hash key of a grid cell holding text chunks with one value.
+     */
+    private static final class DuplicateCell {
+        private String value;
+        private long cellX;
+        private long cellY;
+
+        private DuplicateCell set(String value, long cellX, long cellY) {
+            this.value = value;
+            this.cellX = cellX;
+            this.cellY = cellY;
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
             }
+            if (!(o instanceof DuplicateCell)) {
+                return false;
+            }
+            DuplicateCell that = (DuplicateCell) o;
+            return cellX == that.cellX && cellY == that.cellY && Objects.equals(value, that.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * Objects.hashCode(value) + Long.hashCode(cellX)) + Long.hashCode(cellY);
         }
     }
 
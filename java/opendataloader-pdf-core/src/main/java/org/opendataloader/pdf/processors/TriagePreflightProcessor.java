@@ -0,0 +1,321 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.hybrid.TriageLogger;
+import org.opendataloader.pdf.hybrid.TriageProcessor;
+import org.opendataloader.pdf.hybrid.TriageProcessor.TriageDecision;
+import org.opendataloader.pdf.hybrid.TriageProcessor.TriageResult;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Triage-only preflight for hybrid mode capacity planning.
+ *
+ * <p>Runs preprocessing, {@link ContentFilterProcessor} and {@link TriageProcessor} for each
+ * document and nothing else: no backend is contacted and no output is generated. The result
+ * tells how many pages a {@code --hybrid} run would send to the backend. With
+ * {@code --hybrid-mode full} the routing is the one the hybrid run uses: every selected page
+ * goes to the backend and no page is triaged.
+ *
+ * <p>Documents are processed in parallel, one document per worker thread. Document state
+ * lives in thread-local containers, so every worker owns its document from preprocessing
+ * to cleanup.
+ *
+ * <p>Output format:
+ * <pre>
+ * {
+ *   "hybrid": "docling-fast",
+ *   "documents": [
+ *     {
+ *       "document": "example.pdf",
+ *       "triage": [ ... per-page decision and signals, as in triage.json ... ],
+ *       "summary": { "totalPages": 10, "javaPages": 8, "backendPages": 2 }
+ *     },
+ *     { "document": "broken.pdf", "error": "..." }
+ *   ],
+ *   "summary": {
+ *     "documents": 2,
+ *     "failedDocuments": 1,
+ *     "totalPages": 10,
+ *     "javaPages": 8,
+ *     "backendPages": 2,
+ *     "backendRatio": 0.2
+ *   }
+ * }
+ * </pre>
+ */
+public final class TriagePreflightProcessor {
+
+    private static final Logger LOGGER = Logger.getLogger(TriagePreflightProcessor.class.getCanonicalName());
+
+    /** Default filename for the preflight summary. */
+    public static final String DEFAULT_FILENAME = "triage-preflight.json";
+
+    private TriagePreflightProcessor() {
+    }
+
+    /**
+     * Triage outcome of one document: the per-page results, or the error that stopped it.
+     */
+    public static final class DocumentTriage {
+        private final String documentName;
+        private final Map<Integer, TriageResult> triageResults;
+        private final String error;
+
+        private DocumentTriage(String documentName, Map<Integer, TriageResult> triageResults, String error) {
+            this.documentName = documentName;
+            this.triageResults = triageResults;
+            this.error = error;
+        }
+
+        public static DocumentTriage success(String documentName, Map<Integer, TriageResult> triageResults) {
+            return new DocumentTriage(documentName, Collections.unmodifiableMap(triageResults), null);
+        }
+
+        public static DocumentTriage failure(String documentName, String error) {
+            return new DocumentTriage(documentName, Collections.emptyMap(), error);
+        }
+
+        public String getDocumentName() {
+            return documentName;
+        }
+
+        /**
+         * @return Map of 0-indexed page number to triage result; empty if the document failed.
+         */
+        public Map<Integer, TriageResult> getTriageResults() {
+            return triageResults;
+        }
+
+        /**
+         * @return The error message, or null if the document was triaged.
+         */
+        public String getError() {
+            return error;
+        }
+
+        public boolean isFailed() {
+            return error != null;
+        }
+
+        public long countPages(TriageDecision decision) {
+            return triageResults.values().stream().filter(r -> r.getDecision() == decision).count();
+        }
+    }
+
+    /**
+     * Triages a single document on the calling thread.
+     *
+     * @param inputPdfName The path to the input PDF file.
+     * @param config       The configuration; only page selection, password, filter and hybrid mode
+     *                     options are used.
+     * @return Map of 0-indexed page number to triage result, for the selected pages.
+     * @throws IOException If the document cannot be read.
+     */
+    public static Map<Integer, TriageResult> triageDocument(String inputPdfName, Config config) throws IOException {
+        try {
+            DocumentProcessor.preprocessing(inputPdfName, config);
+            Set<Integer> pagesToProcess = DocumentProcessor.getValidPageNumbers(config);
+            int totalPages = StaticContainers.getDocument().getNumberOfPages();
+            List<Integer> selectedPages = new ArrayList<>();
+            for (int pageNumber = 0; pageNumber < totalPages; pageNumber++) {
+                if (pagesToProcess == null || pagesToProcess.contains(pageNumber)) {
+                    selectedPages.add(pageNumber);
+                }
+            }
+            if (config.getHybridConfig().isFullMode()) {
+                // Full mode sends every page to the backend, as HybridDocumentProcessor does
+                return TriageProcessor.routeAllToBackend(selectedPages);
+            }
+            Map<Integer, List<IObject>> filteredContents = new HashMap<>();
+            for (int pageNumber : selectedPages) {
+                filteredContents.put(pageNumber, ContentFilterProcessor.getFilteredContents(
+                    inputPdfName,
+                    StaticContainers.getDocument().getArtifacts(pageNumber),
+                    pageNumber,
+                    config
+                ));
+            }
+            return TriageProcessor.triageAllPages(filteredContents, new TriageProcessor.TriageThresholds());
+        } finally {
+            DocumentProcessor.closePdfResources();
+        }
+    }
+
+    /**
+     * Triages the given documents, up to {@code config.getThreads()} at a time.
+     * A document that fails is reported with its error instead of aborting the run.
+     *
+     * @param inputPdfNames The paths to the input PDF files.
+     * @param config        The configuration; hybrid mode must be enabled.
+     * @return One entry per input document, in input order.
+     * @throws IllegalArgumentException If hybrid mode is off, since no page would go to a backend.
+     */
+    public static List<DocumentTriage> triageDocuments(List<String> inputPdfNames, Config config) {
+        if (!config.isHybridEnabled()) {
+            throw new IllegalArgumentException("Triage preflight requires a hybrid backend (--hybrid)");
+        }
+        int parallelism = Math.max(1, Math.min(config.getThreads(), inputPdfNames.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<DocumentTriage>> futures = new ArrayList<>(inputPdfNames.size());
+            for (String inputPdfName : inputPdfNames) {
+                futures.add(executor.submit(() -> triageDocumentSafely(inputPdfName, config)));
+            }
+            List<DocumentTriage> documents = new ArrayList<>(futures.size());
+            for (int i = 0; i < futures.size(); i++) {
+                documents.add(awaitDocument(futures.get(i), inputPdfNames.get(i)));
+            }
+            return documents;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static DocumentTriage triageDocumentSafely(String inputPdfName, Config config) {
+        String documentName = documentName(inputPdfName);
+        try {
+            return DocumentTriage.success(documentName, triageDocument(inputPdfName, config));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Triage preflight failed for {0}: {1}",
+                new Object[]{inputPdfName, e.getMessage()});
+            return DocumentTriage.failure(documentName, String.valueOf(e.getMessage()));
+        }
+    }
+
+    private static DocumentTriage awaitDocument(Future<DocumentTriage> future, String inputPdfName) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Triage preflight was interrupted", e);
+        } catch (ExecutionException e) {
+            return DocumentTriage.failure(documentName(inputPdfName), String.valueOf(e.getCause()));
+        }
+    }
+
+    private static String documentName(String inputPdfName) {
+        Path fileName = Path.of(inputPdfName).getFileName();
+        return fileName != null ? fileName.toString() : inputPdfName;
+    }
+
+    /**
+     * Creates the preflight JSON structure.
+     *
+     * @param hybridBackend The hybrid backend the run is planned for.
+     * @param documents     The per-document triage outcomes.
+     * @return The root ObjectNode with per-document and aggregate routing.
+     */
+    public static ObjectNode createPreflightJson(String hybridBackend, List<DocumentTriage> documents) {
+        TriageLogger triageLogger = new TriageLogger();
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode root = objectMapper.createObjectNode();
+        root.put("hybrid", hybridBackend);
+
+        ArrayNode documentsArray = objectMapper.createArrayNode();
+        int failedDocuments = 0;
+        long totalPages = 0;
+        long javaPages = 0;
+        long backendPages = 0;
+        for (DocumentTriage document : documents) {
+            if (document.isFailed()) {
+                ObjectNode documentNode = objectMapper.createObjectNode();
+                documentNode.put("document", document.getDocumentName());
+                documentNode.put("error", document.getError());
+                documentsArray.add(documentNode);
+                failedDocuments++;
+                continue;
+            }
+            ObjectNode documentNode = triageLogger.createTriageJson(
+                document.getDocumentName(), hybridBackend, document.getTriageResults());
+            // The backend is reported once, at the top level.
+            documentNode.remove("hybrid");
+            documentsArray.add(documentNode);
+            totalPages += document.getTriageResults().size();
+            javaPages += document.countPages(TriageDecision.JAVA);
+            backendPages += document.countPages(TriageDecision.BACKEND);
+        }
+        root.set("documents", documentsArray);
+
+        ObjectNode summaryNode = objectMapper.createObjectNode();
+        summaryNode.put("documents", documents.size());
+        summaryNode.put("failedDocuments", failedDocuments);
+        summaryNode.put("totalPages", totalPages);
+        summaryNode.put("javaPages", javaPages);
+        summaryNode.put("backendPages", backendPages);
+        summaryNode.put("backendRatio", totalPages == 0 ? 0.0 : (double) backendPages / totalPages);
+        root.set("summary", summaryNode);
+        return root;
+    }
+
+    /**
+     * Writes the preflight JSON to a Writer.
+     *
+     * @param writer        The Writer to write to.
+     * @param hybridBackend The hybrid backend the run is planned for.
+     * @param documents     The per-document triage outcomes.
+     * @throws IOException If writing fails.
+     */
+    public static void writePreflightJson(Writer writer, String hybridBackend, List<DocumentTriage> documents)
+            throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.writeValue(writer, createPreflightJson(hybridBackend, documents));
+    }
+
+    /**
+     * Writes the preflight JSON to {@link #DEFAULT_FILENAME} in the output directory.
+     *
+     * @param outputDir     The output directory path.
+     * @param hybridBackend The hybrid backend the run is planned for.
+     * @param documents     The per-document triage outcomes.
+     * @return The path of the written file.
+     * @throws IOException If writing the file fails.
+     */
+    public static Path writePreflightFile(Path outputDir, String hybridBackend, List<DocumentTriage> documents)
+            throws IOException {
+        Files.createDirectories(outputDir);
+        Path outputPath = outputDir.resolve(DEFAULT_FILENAME);
+        try (Writer writer = Files.newBufferedWriter(outputPath)) {
+            writePreflightJson(writer, hybridBackend, documents);
+        }
+        LOGGER.log(Level.INFO, "Triage preflight written to {0}", outputPath);
+        return outputPath;
+    }
+}
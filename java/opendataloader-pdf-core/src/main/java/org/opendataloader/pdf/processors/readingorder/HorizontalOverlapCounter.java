@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors.readingorder;
+
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+/**
+ * Answers {@link XYCutPlusPlusSorter#hasMinimumOverlaps} for many elements of one list at once.
+ *
+ * <p>Relative to an element's x-range, every other element with a positive horizontal overlap
+ * is either nested (its x-range lies inside the element's), enclosing, or straddles one of the
+ * element's edges. Nested and enclosing elements always overlap by the full width of the
+ * narrower one (ratio 1), so they are counted without being visited: two offline sweeps over
+ * the left edges with a Fenwick tree over the right edges. Only straddling elements need the
+ * exact ratio, and they are visited through binary searches on the edge-sorted arrays, only
+ * while the nested and enclosing count alone is below the required minimum.
+ */
+final class HorizontalOverlapCounter {
+
+    private final List<IObject> objects;
+
+    /** Elements with a positive width; the only ones that can overlap anything. */
+    private final int[] members;
+    private final double[] lefts;
+    private final double[] rights;
+
+    /** Member positions sorted by left edge (then right edge), and by right edge. */
+    private final int[] byLeft;
+    private final int[] byRight;
+    private final double[] sortedLefts;
+    private final double[] sortedLeftRights;
+    private final double[] sortedRights;
+    private final double[] distinctRights;
+
+    private final Map<IObject, Integer> occurrences = new IdentityHashMap<>();
+
+    HorizontalOverlapCounter(List<IObject> objects) {
+        this.objects = objects;
+        int count = 0;
+        int[] memberIndices = new int[objects.size()];
+        for (int i = 0; i < objects.size(); i++) {
+            BoundingBox box = objects.get(i).getBoundingBox();
+            if (box != null && box.getWidth() > 0) {
+                memberIndices[count++] = i;
+            }
+        }
+        this.members = Arrays.copyOf(memberIndices, count);
+        this.lefts = new double[count];
+        this.rights = new double[count];
+        for (int m = 0; m < count; m++) {
+            IObject object = objects.get(members[m]);
+            BoundingBox box = object.getBoundingBox();
+            // Adding 0.0 folds -0.0 into 0.0, so sorting agrees with the == and < comparisons.
+            lefts[m] = box.getLeftX() + 0.0;
+            rights[m] = box.getRightX() + 0.0;
+            occurrences.merge(object, 1, Integer::sum);
+        }
+        this.byLeft = sortedPositions(lefts, rights);
+        this.byRight = sortedPositions(rights, rights);
+        this.sortedLefts = gather(lefts, byLeft);
+        this.sortedLeftRights = gather(rights, byLeft);
+        this.sortedRights = gather(rights, byRight);
+        this.distinctRights = Arrays.stream(sortedRights).distinct().toArray();
+    }
+
+    /**
+     * Evaluates {@link XYCutPlusPlusSorter#hasMinimumOverlaps} for the given elements.
+     *
+     * @param candidates Indices into the list of the elements to check
+     * @param minCount   Minimum number of overlaps required
+     * @return For each candidate, whether it overlaps at least {@code minCount} other elements
+     */
+    boolean[] hasMinimumOverlaps(int[] candidates, int minCount) {
+        // The direct check reports the first overlap found even when minCount is not positive.
+        int required = Math.max(1, minCount);
+        int size = candidates.length;
+        boolean[] result = new boolean[size];
+        double[] candidateLefts = new double[size];
+        double[] candidateRights = new double[size];
+        boolean[] countable = new boolean[size];
+        for (int c = 0; c < size; c++) {
+            BoundingBox box = objects.get(candidates[c]).getBoundingBox();
+            if (box == null || !(box.getWidth() > 0)) {
+                // Nothing overlaps a box without positive width.
+                continue;
+            }
+            if (!Double.isFinite(box.getWidth())) {
+                // Infinite widths make the overlap ratio NaN; keep the direct check for them.
+                result[c] = XYCutPlusPlusSorter.hasMinimumOverlaps(objects.get(candidates[c]), objects, required);
+                continue;
+            }
+            candidateLefts[c] = box.getLeftX() + 0.0;
+            candidateRights[c] = box.getRightX() + 0.0;
+            countable[c] = true;
+        }
+
+        int[] nested = countNested(candidateLefts, candidateRights, countable);
+        int[] enclosing = countEnclosing(candidateLefts, candidateRights, countable);
+        for (int c = 0; c < size; c++) {
+            if (!countable[c]) {
+                continue;
+            }
+            IObject element = objects.get(candidates[c]);
+            double left = candidateLefts[c];
+            double right = candidateRights[c];
+            // A member with the same edges is both nested and enclosing; the element itself is one.
+            int overlaps = nested[c] + enclosing[c] - countEqual(left, right) - occurrences.getOrDefault(element, 0);
+            if (overlaps < required) {
+                overlaps += countStraddling(element, left, right, required - overlaps);
+            }
+            result[c] = overlaps >= required;
+        }
+        return result;
+    }
+
+    /** Members with {@code left >= candidate left} and {@code right <= candidate right}. */
+    private int[] countNested(double[] candidateLefts, double[] candidateRights, boolean[] countable) {
+        int[] counts = new int[candidateLefts.length];
+        Integer[] order = candidateOrder(candidateLefts, countable);
+        int[] tree = new int[distinctRights.length + 1];
+        int next = byLeft.length - 1;
+        for (int k = order.length - 1; k >= 0; k--) {
+            int c = order[k];
+            while (next >= 0 && sortedLefts[next] >= candidateLefts[c]) {
+                add(tree, rank(rights[byLeft[next]]));
+                next--;
+            }
+            counts[c] = prefix(tree, upperBound(distinctRights, candidateRights[c]));
+        }
+        return counts;
+    }
+
+    /** Members with {@code left <= candidate left} and {@code right >= candidate right}. */
+    private int[] countEnclosing(double[] candidateLefts, double[] candidateRights, boolean[] countable) {
+        int[] counts = new int[candidateLefts.length];
+        Integer[] order = candidateOrder(candidateLefts, countable);
+        int[] tree = new int[distinctRights.length + 1];
+        int next = 0;
+        for (int c : order) {
+            while (next < byLeft.length && sortedLefts[next] <= candidateLefts[c]) {
+                add(tree, rank(rights[byLeft[next]]));
+                next++;
+            }
+            counts[c] = next - prefix(tree, lowerBound(distinctRights, candidateRights[c]));
+        }
+        return counts;
+    }
+
+    /** Members with exactly the given edges. */
+    private int countEqual(double left, double right) {
+        int from = lowerBound(sortedLefts, left, 0, sortedLefts.length);
+        int to = upperBound(sortedLefts, left, from, sortedLefts.length);
+        return upperBound(sortedLeftRights, right, from, to) - lowerBound(sortedLeftRights, right, from, to);
+    }
+
+    /**
+     * Counts, up to {@code needed}, the members straddling one edge of the element that pass
+     * the exact overlap ratio check.
+     */
+    private int countStraddling(IObject element, double left, double right, int needed) {
+        BoundingBox elementBox = element.getBoundingBox();
+        int count = 0;
+        // Across the left edge: right edge strictly inside, left edge outside.
+        for (int k = upperBound(sortedRights, left); k < sortedRights.length && sortedRights[k] < right; k++) {
+            int m = byRight[k];
+            if (lefts[m] < left && passes(element, elementBox, m) && ++count >= needed) {
+                return count;
+            }
+        }
+        // Across the right edge: left edge strictly inside, right edge outside.
+        for (int k = upperBound(sortedLefts, left); k < sortedLefts.length && sortedLefts[k] < right; k++) {
+            int m = byLeft[k];
+            if (rights[m] > right && passes(element, elementBox, m) && ++count >= needed) {
+                return count;
+            }
+        }
+        return count;
+    }
+
+    private boolean passes(IObject element, BoundingBox elementBox, int member) {
+        IObject other = objects.get(members[member]);
+        return other != element && XYCutPlusPlusSorter.calculateHorizontalOverlapRatio(
+            elementBox, other.getBoundingBox()) >= XYCutPlusPlusSorter.OVERLAP_THRESHOLD;
+    }
+
+    private int rank(double right) {
+        return lowerBound(distinctRights, right) + 1;
+    }
+
+    private static void add(int[] tree, int position) {
+        for (int i = position; i < tree.length; i += i & -i) {
+            tree[i]++;
+        }
+    }
+
+    /** Number of inserted members whose right edge rank is at most {@code position}. */
+    private static int prefix(int[] tree, int position) {
+        int sum = 0;
+        for (int i = position; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    private static Integer[] candidateOrder(double[] candidateLefts, boolean[] countable) {
+        return IntStream.range(0, candidateLefts.length)
+            .filter(c -> countable[c])
+            .boxed()
+            .sorted((a, b) -> Double.compare(candidateLefts[a], candidateLefts[b]))
+            .toArray(Integer[]::new);
+    }
+
+    private static int[] sortedPositions(double[] values, double[] tieBreaks) {
+        return IntStream.range(0, values.length)
+            .boxed()
+            .sorted((a, b) -> {
+                int compare = Double.compare(values[a], values[b]);
+                return compare != 0 ? compare : Double.compare(tieBreaks[a], tieBreaks[b]);
+            })
+            .mapToInt(Integer::intValue)
+            .toArray();
+    }
+
+    private static double[] gather(double[] values, int[] positions) {
+        double[] result = new double[positions.length];
+        for (int k = 0; k < positions.length; k++) {
+            result[k] = values[positions[k]];
+        }
+        return result;
+    }
+
+    private static int lowerBound(double[] sorted, double key) {
+        return lowerBound(sorted, key, 0, sorted.length);
+    }
+
+    private static int upperBound(double[] sorted, double key) {
+        return upperBound(sorted, key, 0, sorted.length);
+    }
+
+    /** First position in {@code [low, high)} whose value is {@code >= key}. */
+    private static int lowerBound(double[] sorted, double key, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** First position in {@code [low, high)} whose value is {@code > key}. */
+    private static int upperBound(double[] sorted, double key, int low, int high) {
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -19,8 +19,10 @@ import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * XY-Cut++ algorithm for reading order detection based on arXiv:2504.10258.
@@ -142,6 +144,7 @@ public class XYCutPlusPlusSorter {
      * @param objects List of objects to analyze
      * @param beta    Threshold multiplier for width comparison (e.g., 0.7 = 70% of max width)
      * @return List of cross-layout elements
+     * @see HorizontalOverlapCounter
      */
     static List<IObject> identifyCrossLayoutElements(List<IObject> objects, double beta) {
         List<IObject> crossLayoutElements = new ArrayList<>();
@@ -165,20 +168,25 @@ public class XYCutPlusPlusSorter {
         // With beta=0.7, element must be at least 70% as wide as the widest element
         double threshold = beta * maxWidth;
 
-        for (IObject obj : objects) {
-            BoundingBox bbox = obj.getBoundingBox();
-            if (bbox == null) {
-                continue;
+        // Criterion 1: Width exceeds threshold (close to max width)
+        int[] candidates = new int[objects.size()];
+        int candidateCount = 0;
+        for (int i = 0; i < objects.size(); i++) {
+            BoundingBox bbox = objects.get(i).getBoundingBox();
+            if (bbox != null && bbox.getWidth() >= threshold) {
+                candidates[candidateCount++] = i;
             }
+        }
+        if (candidateCount == 0) {
+            return crossLayoutElements;
+        }
 
-            double width = bbox.getWidth();
-
-            // Criterion 1: Width exceeds threshold (close to max width)
-            if (width >= threshold) {
-                // Criterion 2: Overlaps with at least MIN_OVERLAP_COUNT other elements
-                if (hasMinimumOverlaps(obj, objects, MIN_OVERLAP_COUNT)) {
-                    crossLayoutElements.add(obj);
-                }
+        // Criterion 2: Overlaps with at least MIN_OVERLAP_COUNT other elements
+        candidates = Arrays.copyOf(candidates, candidateCount);
+        boolean[] overlapping = new HorizontalOverlapCounter(objects).hasMinimumOverlaps(candidates, MIN_OVERLAP_COUNT);
+        for (int c = 0; c < candidateCount; c++) {
+            if (overlapping[c]) {
+                crossLayoutElements.add(objects.get(candidates[c]));
             }
         }
 
@@ -323,6 +331,9 @@ public class XYCutPlusPlusSorter {
      * <p>
      * The algorithm prefers horizontal cuts first (Y-axis split) when there's a significant
      * horizontal gap, which properly handles layouts with wide headers followed by columns.
+     * <p>
+     * The objects are sorted once, in every order the recursion needs; each region keeps
+     * its members in those orders, and a cut partitions them without sorting again.
      *
      * @param objects              List of objects to segment
      * @param preferHorizontalFirst Initial preference (used as tiebreaker)
@@ -333,9 +344,21 @@ public class XYCutPlusPlusSorter {
             return objects != null ? new ArrayList<>(objects) : new ArrayList<>();
         }
 
+        Layout layout = new Layout(objects);
+        List<IObject> result = new ArrayList<>(objects.size());
+        segment(layout, layout.root(), preferHorizontalFirst, result);
+        return result;
+    }
+
+    private static void segment(Layout layout, Region region, boolean preferHorizontalFirst, List<IObject> result) {
+        if (region.size() <= 1) {
+            layout.appendInReadingOrder(region, result);
+            return;
+        }
+
         // Find best cuts in both directions using projection-based detection
-        CutInfo horizontalCut = findBestHorizontalCutWithProjection(objects);
-        CutInfo verticalCut = findBestVerticalCutWithProjection(objects);
+        CutInfo horizontalCut = findBestHorizontalCutWithProjection(layout, region);
+        CutInfo verticalCut = findBestVerticalCutWithProjection(layout, region);
 
         // Choose cut direction based on gap sizes
         // Apply minimum gap threshold to avoid splitting on insignificant gaps
@@ -352,24 +375,77 @@ public class XYCutPlusPlusSorter {
             useHorizontalCut = false;
         } else {
             // No valid cuts found - sort by Y then X (reading order)
-            return sortByYThenX(objects);
+            layout.appendInReadingOrder(region, result);
+            return;
         }
 
-        if (useHorizontalCut) {
-            List<List<IObject>> groups = splitByHorizontalCut(objects, horizontalCut.position);
-            // Safety: if split produced only one group, fall back to prevent infinite recursion
-            if (groups.size() <= 1) {
-                return sortByYThenX(objects);
-            }
-            return flatMapRecursive(groups, preferHorizontalFirst);
-        } else {
-            List<List<IObject>> groups = splitByVerticalCut(objects, verticalCut.position);
-            // Safety: if split produced only one group, fall back to prevent infinite recursion
-            if (groups.size() <= 1) {
-                return sortByYThenX(objects);
+        Region[] groups = splitByCut(layout, region, useHorizontalCut,
+            useHorizontalCut ? horizontalCut.position : verticalCut.position);
+        // Safety: if split produced only one group, fall back to prevent infinite recursion
+        if (groups[0].size() == 0 || groups[1].size() == 0) {
+            layout.appendInReadingOrder(region, result);
+            return;
+        }
+        for (Region group : groups) {
+            segment(layout, group, preferHorizontalFirst, result);
+        }
+    }
+
+    /**
+     * Splits a region at a cut, in place in the layout's orders. Objects whose center is above
+     * a horizontal cut, or left of a vertical cut, form the first group.
+     *
+     * @param layout        Coordinates of all objects
+     * @param region        Objects to split
+     * @param horizontalCut True to cut at a Y coordinate, false to cut at an X coordinate
+     * @param position      Coordinate of the cut
+     * @return The two groups, either of which may be empty
+     */
+    private static Region[] splitByCut(Layout layout, Region region, boolean horizontalCut, double position) {
+        boolean[] first = layout.scratch;
+        for (int i : region.inInputOrder) {
+            first[i] = horizontalCut ? layout.centerY[i] > position : layout.centerX[i] < position;
+        }
+        return region.partition(first);
+    }
+
+    /**
+     * Split objects by a horizontal cut at the given Y coordinate.
+     * Objects above the cut come first, then objects below.
+     *
+     * @param objects List of objects to split
+     * @param cutY    Y coordinate of the cut
+     * @return List of the non-empty groups: [above, below]
+     */
+    static List<List<IObject>> splitByHorizontalCut(List<IObject> objects, double cutY) {
+        return splitByCut(objects, true, cutY);
+    }
+
+    /**
+     * Split objects by a vertical cut at the given X coordinate.
+     * Objects to the left come first, then objects to the right.
+     *
+     * @param objects List of objects to split
+     * @param cutX    X coordinate of the cut
+     * @return List of the non-empty groups: [left, right]
+     */
+    static List<List<IObject>> splitByVerticalCut(List<IObject> objects, double cutX) {
+        return splitByCut(objects, false, cutX);
+    }
+
+    private static List<List<IObject>> splitByCut(List<IObject> objects, boolean horizontalCut, double position) {
+        Layout layout = new Layout(objects);
+        List<List<IObject>> groups = new ArrayList<>(2);
+        for (Region region : splitByCut(layout, layout.root(), horizontalCut, position)) {
+            if (region.size() > 0) {
+                List<IObject> group = new ArrayList<>(region.size());
+                for (int i : region.inInputOrder) {
+                    group.add(objects.get(i));
+                }
+                groups.add(group);
             }
-            return flatMapRecursive(groups, preferHorizontalFirst);
         }
+        return groups;
     }
 
     /**
@@ -386,29 +462,145 @@ public class XYCutPlusPlusSorter {
     }
 
     /**
-     * Recursively process groups and flatten results.
+     * Coordinates of the objects being segmented, with their indices sorted once in every
+     * order the recursion reads them in. Ties keep the input order, as a stable sort would.
      */
-    private static List<IObject> flatMapRecursive(List<List<IObject>> groups, boolean preferHorizontalFirst) {
-        List<IObject> result = new ArrayList<>();
-        for (List<IObject> group : groups) {
-            result.addAll(recursiveSegment(group, preferHorizontalFirst));
+    private static final class Layout {
+        final List<IObject> objects;
+        final double[] left;
+        final double[] right;
+        final double[] top;
+        final double[] bottom;
+        final double[] width;
+        final double[] centerX;
+        final double[] centerY;
+        final boolean[] scratch;
+
+        Layout(List<IObject> objects) {
+            this.objects = objects;
+            int size = objects.size();
+            left = new double[size];
+            right = new double[size];
+            top = new double[size];
+            bottom = new double[size];
+            width = new double[size];
+            centerX = new double[size];
+            centerY = new double[size];
+            scratch = new boolean[size];
+            for (int i = 0; i < size; i++) {
+                IObject obj = objects.get(i);
+                BoundingBox bbox = obj.getBoundingBox();
+                left[i] = bbox.getLeftX();
+                right[i] = bbox.getRightX();
+                top[i] = bbox.getTopY();
+                bottom[i] = bbox.getBottomY();
+                width[i] = bbox.getWidth();
+                centerX[i] = obj.getCenterX();
+                centerY[i] = obj.getCenterY();
+            }
+        }
+
+        Region root() {
+            int size = objects.size();
+            int[] inInputOrder = IntStream.range(0, size).toArray();
+            // Left to right, as findVerticalCutByEdges scans
+            int[] byLeft = sorted(size, (a, b) -> {
+                int compare = Double.compare(left[a], left[b]);
+                return compare != 0 ? compare : Double.compare(right[a], right[b]);
+            });
+            // Top to bottom, as findBestHorizontalCutWithProjection scans
+            int[] byTop = sorted(size, (a, b) -> {
+                int compare = Double.compare(-top[a], -top[b]);
+                return compare != 0 ? compare : Double.compare(-bottom[a], -bottom[b]);
+            });
+            // Reading order, as sortByYThenX sorts
+            int[] byReadingOrder = sorted(size, (a, b) -> {
+                int compare = Double.compare(-top[a], -top[b]);
+                return compare != 0 ? compare : Double.compare(left[a], left[b]);
+            });
+            return new Region(inInputOrder, byLeft, byTop, byReadingOrder);
+        }
+
+        void appendInReadingOrder(Region region, List<IObject> result) {
+            for (int i : region.byReadingOrder) {
+                result.add(objects.get(i));
+            }
+        }
+
+        private static int[] sorted(int size, Comparator<Integer> comparator) {
+            return IntStream.range(0, size).boxed()
+                    .sorted(comparator.thenComparingInt(Integer::intValue))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+    }
+
+    /**
+     * A group of objects under segmentation, as indices into the {@link Layout} in each of its orders.
+     */
+    private static final class Region {
+        final int[] inInputOrder;
+        final int[] byLeft;
+        final int[] byTop;
+        final int[] byReadingOrder;
+
+        Region(int[] inInputOrder, int[] byLeft, int[] byTop, int[] byReadingOrder) {
+            this.inInputOrder = inInputOrder;
+            this.byLeft = byLeft;
+            this.byTop = byTop;
+            this.byReadingOrder = byReadingOrder;
+        }
+
+        int size() {
+            return inInputOrder.length;
+        }
+
+        /**
+         * Splits the region into the members flagged in {@code first} and the rest,
+         * keeping every order.
+         */
+        Region[] partition(boolean[] first) {
+            int firstSize = 0;
+            for (int i : inInputOrder) {
+                if (first[i]) {
+                    firstSize++;
+                }
+            }
+            int[][] firstOrders = new int[4][firstSize];
+            int[][] secondOrders = new int[4][size() - firstSize];
+            int[][] orders = {inInputOrder, byLeft, byTop, byReadingOrder};
+            for (int o = 0; o < orders.length; o++) {
+                int f = 0;
+                int s = 0;
+                for (int i : orders[o]) {
+                    if (first[i]) {
+                        firstOrders[o][f++] = i;
+                    } else {
+                        secondOrders[o][s++] = i;
+                    }
+                }
+            }
+            return new Region[]{
+                new Region(firstOrders[0], firstOrders[1], firstOrders[2], firstOrders[3]),
+                new Region(secondOrders[0], secondOrders[1], secondOrders[2], secondOrders[3])
+            };
         }
-        return result;
     }
 
     /**
      * Find the best vertical cut using projection profile.
      * Projects all objects onto the X-axis and finds the largest gap.
      *
-     * @param objects List of objects
+     * @param layout Coordinates of all objects
+     * @param region Objects to cut
      * @return CutInfo containing position and gap size
      */
-    private static CutInfo findBestVerticalCutWithProjection(List<IObject> objects) {
-        if (objects.size() < 2) {
+    private static CutInfo findBestVerticalCutWithProjection(Layout layout, Region region) {
+        if (region.size() < 2) {
             return new CutInfo(0, 0);
         }
 
-        CutInfo edgeCut = findVerticalCutByEdges(objects);
+        CutInfo edgeCut = findVerticalCutByEdges(layout, region, false, 0);
 
         // If the edge gap is already significant, use it directly.
         if (edgeCut.gap >= MIN_GAP_THRESHOLD) {
@@ -418,21 +610,23 @@ public class XYCutPlusPlusSorter {
         // When edge gap is small, narrow outlier elements (e.g., page numbers,
         // footnote markers) may bridge an otherwise clear column gap.
         // Retry without elements narrower than 10% of the region width.
-        if (objects.size() >= 3) {
-            BoundingBox region = calculateBoundingRegion(objects);
-            if (region != null) {
-                double regionWidth = region.getWidth();
+        if (region.size() >= 3) {
+            List<IObject> objects = new ArrayList<>(region.size());
+            for (int i : region.inInputOrder) {
+                objects.add(layout.objects.get(i));
+            }
+            BoundingBox bounds = calculateBoundingRegion(objects);
+            if (bounds != null) {
+                double regionWidth = bounds.getWidth();
                 double narrowThreshold = regionWidth * NARROW_ELEMENT_WIDTH_RATIO;
-                List<IObject> filtered = new ArrayList<>();
-                for (IObject obj : objects) {
-                    BoundingBox bbox = obj.getBoundingBox();
-                    double width = bbox.getWidth();
-                    if (width >= narrowThreshold) {
-                        filtered.add(obj);
+                int filteredSize = 0;
+                for (int i : region.inInputOrder) {
+                    if (layout.width[i] >= narrowThreshold) {
+                        filteredSize++;
                     }
                 }
-                if (filtered.size() >= 2 && filtered.size() < objects.size()) {
-                    CutInfo filteredCut = findVerticalCutByEdges(filtered);
+                if (filteredSize >= 2 && filteredSize < region.size()) {
+                    CutInfo filteredCut = findVerticalCutByEdges(layout, region, true, narrowThreshold);
                     if (filteredCut.gap > edgeCut.gap && filteredCut.gap >= MIN_GAP_THRESHOLD) {
                         return filteredCut;
                     }
@@ -445,22 +639,23 @@ public class XYCutPlusPlusSorter {
 
     /**
      * Find vertical cut by edge gaps.
-     * Finds the largest gap between rightX of one element and leftX of the next.
+     * Finds the largest gap between rightX of one element and leftX of the next,
+     * optionally only among elements at least {@code minWidth} wide.
      */
-    private static CutInfo findVerticalCutByEdges(List<IObject> objects) {
-        List<IObject> sorted = new ArrayList<>(objects);
-        sorted.sort(Comparator.comparingDouble((IObject o) -> o.getBoundingBox().getLeftX())
-                .thenComparingDouble(o -> o.getBoundingBox().getRightX()));
-
+    private static CutInfo findVerticalCutByEdges(Layout layout, Region region, boolean skipNarrow, double minWidth) {
         double largestGap = 0;
         double cutPosition = 0;
-        Double prevRight = null;
+        boolean first = true;
+        double prevRight = 0;
 
-        for (IObject obj : sorted) {
-            double left = obj.getLeftX();
-            double right = obj.getRightX();
+        for (int i : region.byLeft) {
+            if (skipNarrow && !(layout.width[i] >= minWidth)) {
+                continue;
+            }
+            double left = layout.left[i];
+            double right = layout.right[i];
 
-            if (prevRight != null && left > prevRight) {
+            if (!first && left > prevRight) {
                 double gap = left - prevRight;
                 if (gap > largestGap) {
                     largestGap = gap;
@@ -468,7 +663,8 @@ public class XYCutPlusPlusSorter {
                 }
             }
 
-            prevRight = (prevRight == null) ? right : Math.max(prevRight, right);
+            prevRight = first ? right : Math.max(prevRight, right);
+            first = false;
         }
 
         return new CutInfo(cutPosition, largestGap);
@@ -478,28 +674,26 @@ public class XYCutPlusPlusSorter {
      * Find the best horizontal cut using projection profile.
      * Projects all objects onto the Y-axis and finds the largest gap.
      *
-     * @param objects List of objects
+     * @param layout Coordinates of all objects
+     * @param region Objects to cut
      * @return CutInfo containing position and gap size
      */
-    private static CutInfo findBestHorizontalCutWithProjection(List<IObject> objects) {
-        if (objects.size() < 2) {
+    private static CutInfo findBestHorizontalCutWithProjection(Layout layout, Region region) {
+        if (region.size() < 2) {
             return new CutInfo(0, 0);
         }
 
-        // Sort by topY descending (PDF: top to bottom)
-        List<IObject> sorted = new ArrayList<>(objects);
-        sorted.sort(Comparator.comparingDouble((IObject o) -> -o.getBoundingBox().getTopY())
-                .thenComparingDouble(o -> -o.getBoundingBox().getBottomY()));
-
         double largestGap = 0;
         double cutPosition = 0;
-        Double prevBottom = null;
+        boolean first = true;
+        double prevBottom = 0;
 
-        for (IObject obj : sorted) {
-            double top = obj.getTopY();
-            double bottom = obj.getBottomY();
+        // Top to bottom (PDF: higher Y = top)
+        for (int i : region.byTop) {
+            double top = layout.top[i];
+            double bottom = layout.bottom[i];
 
-            if (prevBottom != null && prevBottom > top) {
+            if (!first && prevBottom > top) {
                 double gap = prevBottom - top;
                 if (gap > largestGap) {
                     largestGap = gap;
@@ -507,76 +701,13 @@ public class XYCutPlusPlusSorter {
                 }
             }
 
-            prevBottom = (prevBottom == null) ? bottom : Math.min(prevBottom, bottom);
+            prevBottom = first ? bottom : Math.min(prevBottom, bottom);
+            first = false;
         }
 
         return new CutInfo(cutPosition, largestGap);
     }
 
-    /**
-     * Split objects by a horizontal cut at the given Y coordinate.
-     * Objects above the cut come first, then objects below.
-     *
-     * @param objects List of objects to split
-     * @param cutY    Y coordinate of the cut
-     * @return List of two groups: [above, below]
-     */
-    static List<List<IObject>> splitByHorizontalCut(List<IObject> objects, double cutY) {
-        List<IObject> above = new ArrayList<>();
-        List<IObject> below = new ArrayList<>();
-
-        for (IObject obj : objects) {
-            // Use center Y to determine which group
-            double centerY = obj.getCenterY();
-            if (centerY > cutY) {
-                above.add(obj);
-            } else {
-                below.add(obj);
-            }
-        }
-
-        List<List<IObject>> groups = new ArrayList<>();
-        if (!above.isEmpty()) {
-            groups.add(above);
-        }
-        if (!below.isEmpty()) {
-            groups.add(below);
-        }
-        return groups;
-    }
-
-    /**
-     * Split objects by a vertical cut at the given X coordinate.
-     * Objects to the left come first, then objects to the right.
-     *
-     * @param objects List of objects to split
-     * @param cutX    X coordinate of the cut
-     * @return List of two groups: [left, right]
-     */
-    static List<List<IObject>> splitByVerticalCut(List<IObject> objects, double cutX) {
-        List<IObject> left = new ArrayList<>();
-        List<IObject> right = new ArrayList<>();
-
-        for (IObject obj : objects) {
-            // Use center X to determine which group
-            double centerX = obj.getCenterX();
-            if (centerX < cutX) {
-                left.add(obj);
-            } else {
-                right.add(obj);
-            }
-        }
-
-        List<List<IObject>> groups = new ArrayList<>();
-        if (!left.isEmpty()) {
-            groups.add(left);
-        }
-        if (!right.isEmpty()) {
-            groups.add(right);
-        }
-        return groups;
-    }
-
     // ========== PHASE 4: MERGING ==========
 
     /**
@@ -16,6 +16,7 @@
 package org.opendataloader.pdf.text;
 
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputSink;
 import org.verapdf.wcag.algorithms.entities.*;
 import org.verapdf.wcag.algorithms.entities.lists.ListItem;
 import org.verapdf.wcag.algorithms.entities.lists.PDFList;
@@ -24,9 +25,7 @@ import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
 
 import java.io.Closeable;
 import java.io.File;
-import java.io.FileWriter;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -59,9 +58,17 @@ public class TextGenerator implements Closeable {
     private final boolean includeHeaderFooter;
 
     public TextGenerator(File inputPdf, Config config) throws IOException {
+        this(inputPdf, config, config.getOutputSink());
+    }
+
+    /**
+     * Creates a TextGenerator that writes to the given output sink.
+     */
+    public TextGenerator(File inputPdf, Config config, OutputSink outputSink) throws IOException {
         String cutPdfFileName = inputPdf.getName();
-        this.textFileName = config.getOutputFolder() + File.separator + cutPdfFileName.substring(0, cutPdfFileName.length() - 3) + "txt";
-        this.textWriter = new FileWriter(textFileName, StandardCharsets.UTF_8);
+        String outputFileName = cutPdfFileName.substring(0, cutPdfFileName.length() - 3) + "txt";
+        this.textFileName = outputSink.getLocation(outputFileName);
+        this.textWriter = outputSink.openWriter(outputFileName);
         this.textPageSeparator = config.getTextPageSeparator();
         this.selectedPageNumbers = new HashSet<>(config.getPageNumbers());
         this.includeHeaderFooter = config.isIncludeHeaderFooter();
@@ -19,6 +19,9 @@ import org.opendataloader.pdf.containers.StaticLayoutContainers;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.util.Base64;
 import java.util.logging.Level;
@@ -40,6 +43,12 @@ public final class Base64ImageUtils {
         // Private constructor to prevent instantiation
     }
 
+    /**
+     * Number of image bytes encoded per chunk when streaming a data URI; a multiple of 3, so
+     * only the last chunk is padded.
+     */
+    private static final int STREAM_CHUNK_BYTES = 3 * 1024;
+
     /**
      * Converts an image file to a Base64 data URI string.
      * Images larger than {@link #MAX_EMBEDDED_IMAGE_SIZE} will be skipped.
@@ -49,6 +58,31 @@ public final class Base64ImageUtils {
      * @return The Base64 data URI string, or null if conversion fails or image is too large
      */
     public static String toDataUri(File imageFile, String format) {
+        byte[] fileContent = getImageBytes(imageFile);
+        return fileContent != null ? toDataUri(fileContent, format) : null;
+    }
+
+    /**
+     * Converts encoded image bytes to a Base64 data URI string.
+     *
+     * @param imageBytes The encoded image
+     * @param format The image format (png, jpeg)
+     * @return The Base64 data URI string
+     */
+    public static String toDataUri(byte[] imageBytes, String format) {
+        String base64 = Base64.getEncoder().encodeToString(imageBytes);
+        String mimeType = getMimeType(format);
+        return String.format("data:%s;base64,%s", mimeType, base64);
+    }
+
+    /**
+     * Gets the encoded bytes of an image to embed.
+     * Images larger than {@link #MAX_EMBEDDED_IMAGE_SIZE} will be skipped.
+     *
+     * @param imageFile The image file
+     * @return The image bytes, or null if the image cannot be read or is too large
+     */
+    public static byte[] getImageBytes(File imageFile) {
         try {
             // Embedded mode keeps encoded image bytes in memory keyed by the path
             // generators expect — no disk roundtrip in production.
@@ -69,15 +103,55 @@ public final class Base64ImageUtils {
                     new Object[]{(long) fileContent.length, MAX_EMBEDDED_IMAGE_SIZE, imageFile.getName()});
                 return null;
             }
-            String base64 = Base64.getEncoder().encodeToString(fileContent);
-            String mimeType = getMimeType(format);
-            return String.format("data:%s;base64,%s", mimeType, base64);
+            return fileContent;
         } catch (IOException e) {
             LOGGER.log(Level.WARNING, "Unable to convert image to Base64: " + e.getMessage());
             return null;
         }
     }
 
+    /**
+     * Writes the data URI of an image to a writer, encoding the Base64 text in chunks
+     * instead of building it as one string.
+     *
+     * @param writer The writer to write to
+     * @param imageBytes The encoded image
+     * @param format The image format (png, jpeg)
+     * @throws IOException if writing fails
+     */
+    public static void writeDataUri(Writer writer, byte[] imageBytes, String format) throws IOException {
+        try (Reader reader = openDataUri(imageBytes, format)) {
+            reader.transferTo(writer);
+        }
+    }
+
+    /**
+     * Opens a reader over the data URI of an image; the Base64 text is encoded chunk by chunk
+     * as it is read.
+     *
+     * @param imageBytes The encoded image
+     * @param format The image format (png, jpeg)
+     * @return The reader
+     */
+    public static Reader openDataUri(byte[] imageBytes, String format) {
+        return new DataUriReader(getDataUriPrefix(format), imageBytes);
+    }
+
+    /**
+     * Gets the length of the data URI of an image without building it.
+     *
+     * @param imageBytes The encoded image
+     * @param format The image format (png, jpeg)
+     * @return The number of characters of the data URI
+     */
+    public static int getDataUriLength(byte[] imageBytes, String format) {
+        return getDataUriPrefix(format).length() + 4 * ((imageBytes.length + 2) / 3);
+    }
+
+    private static String getDataUriPrefix(String format) {
+        return "data:" + getMimeType(format) + ";base64,";
+    }
+
     /**
      * Gets the MIME type for the given image format.
      *
@@ -97,4 +171,61 @@ public final class Base64ImageUtils {
                 return "image/png";
         }
     }
+
+    private static final class DataUriReader extends Reader {
+        private final byte[] imageBytes;
+        private final ByteBuffer encoded = ByteBuffer.allocate(4 * STREAM_CHUNK_BYTES / 3);
+        private String prefix;
+        private int prefixPosition;
+        private int bytePosition;
+
+        private DataUriReader(String prefix, byte[] imageBytes) {
+            this.prefix = prefix;
+            this.imageBytes = imageBytes;
+            encoded.limit(0);
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (prefix != null) {
+                int count = Math.min(length, prefix.length() - prefixPosition);
+                prefix.getChars(prefixPosition, prefixPosition + count, buffer, offset);
+                prefixPosition += count;
+                if (prefixPosition == prefix.length()) {
+                    prefix = null;
+                }
+                return count;
+            }
+            if (!encoded.hasRemaining() && !encodeNextChunk()) {
+                return -1;
+            }
+            int count = Math.min(length, encoded.remaining());
+            for (int i = 0; i < count; i++) {
+                buffer[offset + i] = (char) encoded.get();
+            }
+            return count;
+        }
+
+        private boolean encodeNextChunk() {
+            if (bytePosition == imageBytes.length) {
+                return false;
+            }
+            int count = Math.min(STREAM_CHUNK_BYTES, imageBytes.length - bytePosition);
+            encoded.clear();
+            encoded.put(Base64.getEncoder().encode(ByteBuffer.wrap(imageBytes, bytePosition, count)));
+            encoded.flip();
+            bytePosition += count;
+            return true;
+        }
+
+        @Override
+        public void close() {
+            prefix = null;
+            bytePosition = imageBytes.length;
+            encoded.limit(0);
+        }
+    }
 }
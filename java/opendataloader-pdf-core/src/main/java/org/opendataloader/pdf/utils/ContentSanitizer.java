@@ -17,34 +17,79 @@ import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
 import java.util.Comparator;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
+import java.util.stream.IntStream;
 
 public class ContentSanitizer {
     private static final Logger LOGGER = Logger.getLogger(ContentSanitizer.class.getName());
     private final List<SanitizationRule> rules;
+    private final RulePrefilter[] prefilters;
     private final boolean contentSafetyEnabled;
 
     public ContentSanitizer(List<SanitizationRule> rules) {
-        this.rules = rules;
-        this.contentSafetyEnabled = true;
+        this(rules, true);
     }
 
     public ContentSanitizer(List<SanitizationRule> rules, boolean contentSafetyEnabled) {
         this.rules = rules;
+        this.prefilters = new RulePrefilter[rules.size()];
+        for (int i = 0; i < prefilters.length; i++) {
+            prefilters[i] = RulePrefilter.of(rules.get(i).getRequiredCharacters());
+        }
         this.contentSafetyEnabled = contentSafetyEnabled;
     }
 
     public void sanitizeContents(List<List<IObject>> contents) {
+        sanitizeContents(contents, null, null);
+    }
+
+    /**
+     * Sanitizes the text of all pages. Pages share no text objects, so with a pool of more than
+     * one worker they are processed concurrently on that pool.
+     *
+     * @param contents    the document contents organized by page
+     * @param pool        the pool to sanitize pages on, or null to sanitize them on the calling thread
+     * @param workerSetup run on the worker before each page, to propagate the document state; may be null
+     * @throws IllegalStateException if sanitizing on the pool fails or is interrupted
+     */
+    public void sanitizeContents(List<List<IObject>> contents, ForkJoinPool pool, Runnable workerSetup) {
         if (!contentSafetyEnabled) {
             return;
         }
 
-        for (List<IObject> pageContents : contents) {
-            for (IObject obj : pageContents) {
-                processObject(obj);
+        if (pool == null || pool.getParallelism() <= 1 || contents.size() <= 1) {
+            for (List<IObject> pageContents : contents) {
+                sanitizePage(pageContents);
             }
+            return;
+        }
+        try {
+            pool.submit(() ->
+                IntStream.range(0, contents.size()).parallel().forEach(pageNumber -> {
+                    if (workerSetup != null) {
+                        workerSetup.run();
+                    }
+                    sanitizePage(contents.get(pageNumber));
+                })
+            ).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Content sanitization was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("Content sanitization failed", e.getCause());
+        }
+    }
+
+    private void sanitizePage(List<IObject> pageContents) {
+        for (IObject obj : pageContents) {
+            processObject(obj);
         }
     }
 
@@ -253,7 +298,23 @@ public class ContentSanitizer {
     protected List<ReplacementInfo> findAllReplacements(String originalText) {
         List<ReplacementInfo> replacements = new ArrayList<>();
 
-        for (SanitizationRule rule : rules) {
+        // One pass collects the ASCII characters of the text; rules whose matches need a
+        // character the text lacks are skipped without running their matcher.
+        long presentLow = 0;
+        long presentHigh = 0;
+        for (int i = 0; i < originalText.length(); i++) {
+            char c = originalText.charAt(i);
+            if (c < 64) {
+                presentLow |= 1L << c;
+            } else if (c < 128) {
+                presentHigh |= 1L << (c - 64);
+            }
+        }
+        for (int i = 0; i < rules.size(); i++) {
+            if (!prefilters[i].mayMatch(presentLow, presentHigh)) {
+                continue;
+            }
+            SanitizationRule rule = rules.get(i);
             Matcher matcher = rule.getPattern().matcher(originalText);
             while (matcher.find()) {
                 replacements.add(new ReplacementInfo(matcher.start(), matcher.end(), rule.getReplacement()));
@@ -294,6 +355,44 @@ public class ContentSanitizer {
         }
     }
 
+    /**
+     * The characters a rule's matches need, as a 128-bit set of ASCII characters.
+     */
+    private static class RulePrefilter {
+        private static final RulePrefilter ALWAYS = new RulePrefilter(-1L, -1L);
+
+        private final long requiredLow;
+        private final long requiredHigh;
+
+        private RulePrefilter(long requiredLow, long requiredHigh) {
+            this.requiredLow = requiredLow;
+            this.requiredHigh = requiredHigh;
+        }
+
+        private static RulePrefilter of(String requiredCharacters) {
+            if (requiredCharacters == null || requiredCharacters.isEmpty()) {
+                return ALWAYS;
+            }
+            long low = 0;
+            long high = 0;
+            for (int i = 0; i < requiredCharacters.length(); i++) {
+                char c = requiredCharacters.charAt(i);
+                if (c < 64) {
+                    low |= 1L << c;
+                } else if (c < 128) {
+                    high |= 1L << (c - 64);
+                } else {
+                    return ALWAYS;
+                }
+            }
+            return new RulePrefilter(low, high);
+        }
+
+        private boolean mayMatch(long presentLow, long presentHigh) {
+            return this == ALWAYS || (requiredLow & presentLow) != 0 || (requiredHigh & presentHigh) != 0;
+        }
+    }
+
     private static class ChunkInfo {
         int start;
         int end;
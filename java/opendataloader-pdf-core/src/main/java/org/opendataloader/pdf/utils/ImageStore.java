@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Content-addressed store of encoded images shared by the documents of a batch.
+ *
+ * <p>Each distinct image is kept once in the store directory, named by the SHA-256 of its
+ * bytes. The image file a document refers to is a hard link to the stored file, so outputs
+ * keep their usual per-document image paths. Where the file system cannot link, the stored
+ * file is copied instead.
+ *
+ * <p>Instances are safe to share between threads and processes writing to the same directory:
+ * a stored file is written under a temporary name and moved into place.
+ */
+public final class ImageStore {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final Path directory;
+
+    /**
+     * Creates a store in the given directory; the directory is created on first use.
+     *
+     * @param directory the store directory
+     */
+    public ImageStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Stores the image unless an identical one is stored already, and makes the target file
+     * refer to it.
+     *
+     * @param imageBytes  the encoded image
+     * @param imageFormat the image format, used as the extension of the stored file
+     * @param target      the image file of the document
+     * @return the stored file
+     * @throws IOException if the image cannot be stored or linked
+     */
+    public Path write(byte[] imageBytes, String imageFormat, Path target) throws IOException {
+        Path stored = directory.resolve(sha256(imageBytes) + "." + imageFormat);
+        if (!Files.exists(stored)) {
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "image", ".tmp");
+            try {
+                Files.write(temporary, imageBytes);
+                Files.move(temporary, stored, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                // Stored concurrently by another writer with the same content
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        }
+        Files.deleteIfExists(target);
+        try {
+            Files.createLink(target, stored);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(stored, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        return stored;
+    }
+
+    static String sha256(byte[] bytes) {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        byte[] hash = digest.digest(bytes);
+        char[] hex = new char[hash.length * 2];
+        for (int i = 0; i < hash.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(hash[i] >> 4) & 0xF];
+            hex[2 * i + 1] = HEX_DIGITS[hash[i] & 0xF];
+        }
+        return new String(hex);
+    }
+}
@@ -15,6 +15,8 @@
  */
 package org.opendataloader.pdf.utils;
 
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputArchive;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.entities.SemanticPicture;
 import org.opendataloader.pdf.markdown.MarkdownSyntax;
@@ -37,13 +39,28 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Semaphore;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ImagesUtils {
     private static final Logger LOGGER = Logger.getLogger(ImagesUtils.class.getCanonicalName());
 
+    /**
+     * Rasters each encoding thread may have waiting or in progress, bounding the images held
+     * in memory when the calling thread renders faster than the workers encode.
+     */
+    private static final int MAX_PENDING_IMAGES_PER_THREAD = 2;
+
     private final Double imageResolution;
     /**
      * Tracks whether the images output directory has already been created for this
@@ -53,17 +70,47 @@ public class ImagesUtils {
      */
     private boolean imagesDirectoryInitialized = false;
 
+    /**
+     * Index of the next image file. Numbering is state of this writer, not of the thread,
+     * so nothing else that runs for the document can reset or advance it.
+     */
+    private int imageIndex = 1;
+
+    /**
+     * Image indices of the XObjects whose file holds the XObject itself, recorded when that file
+     * is written, so that every further occurrence of the same image refers to that file instead
+     * of writing its own. An occurrence that only yields a crop of the page is not recorded.
+     */
+    private final Map<Long, Integer> xObjectImageIndices = new HashMap<>();
+
+    private final ImageStore imageStore;
+
+    /**
+     * Page whose rendering the page renderer may hold after the last crop, or null.
+     */
+    private Integer renderedPageNumber;
+
     public ImagesUtils () {
         this(null);
     }
 
     public ImagesUtils(Double imageResolution) {
+        this(imageResolution, null);
+    }
+
+    /**
+     * @param imageResolution the rendering resolution in DPI, or null for the default
+     * @param imageStore      the store shared across documents, or null to write each file
+     */
+    public ImagesUtils(Double imageResolution, ImageStore imageStore) {
         this.imageResolution = imageResolution;
+        this.imageStore = imageStore;
     }
 
     public void createImagesDirectory(String path) {
-        // Embedded mode is self-contained: no external image directory is created.
-        if (StaticLayoutContainers.isEmbedImages()) {
+        // Embedded mode is self-contained, and archived images are entries of the archive:
+        // no external image directory is created.
+        if (StaticLayoutContainers.isEmbedImages() || StaticLayoutContainers.getOutputArchive() != null) {
             return;
         }
         File directory = new File(path);
@@ -73,22 +120,55 @@ public class ImagesUtils {
     }
 
     public void write(List<List<IObject>> contents) {
+        write(contents, 1);
+    }
+
+    /**
+     * Writes the images and pictures of all pages. Image indices and file names are assigned on
+     * the calling thread as the images are obtained, in reading order, so they do not depend on
+     * the number of threads. Repeated occurrences of an image XObject share the file of the
+     * first one, unless that file is a crop of the page because the XObject could not be decoded.
+     *
+     * <p>With more than one thread, the rasters are still obtained on the calling thread, which
+     * owns the page renderer, and are encoded on up to {@code threads} workers. At most
+     * {@value #MAX_PENDING_IMAGES_PER_THREAD} rasters per worker are in flight.
+     *
+     * @param contents the contents of all pages
+     * @param threads  the number of encoding threads
+     */
+    public void write(List<List<IObject>> contents, int threads) {
+        List<ImageTarget> targets = new ArrayList<>();
         for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
             for (IObject content : contents.get(pageNumber)) {
-                writeFromContents(content);
+                collectFromContents(content, targets);
             }
         }
+        // Crops are cut from a rendering of the whole page; taking all crops of a page in a row
+        // renders each page once. The sort is stable, so reading order is kept within a page.
+        targets.sort(Comparator.comparingInt(ImageTarget::getPageNumber));
+        if (threads > 1 && targets.size() > 1) {
+            writeConcurrently(targets, Math.min(threads, targets.size()));
+        } else {
+            for (ImageTarget target : targets) {
+                if (!assignImageFile(target)) {
+                    continue;
+                }
+                releaseRenderedPage(target.getPageNumber());
+                createImageFile(target);
+            }
+        }
+        releaseRenderedPage(null);
     }
 
-    private void writeFromContents(IObject content) {
+    private void collectFromContents(IObject content, List<ImageTarget> targets) {
         if (content instanceof ImageChunk) {
-            writeImage((ImageChunk) content);
+            targets.add(createImageTarget((ImageChunk) content));
         } else if (content instanceof SemanticPicture) {
-            writePicture((SemanticPicture) content);
+            targets.add(createPictureTarget((SemanticPicture) content));
         } else if (content instanceof PDFList) {
             for (ListItem listItem : ((PDFList) content).getListItems()) {
                 for (IObject item : listItem.getContents()) {
-                    writeFromContents(item);
+                    collectFromContents(item, targets);
                 }
             }
         } else if (content instanceof TableBorder) {
@@ -98,36 +178,82 @@ public class ImagesUtils {
                     TableBorderCell cell = cells[columnNumber];
                     if (cell.getColNumber() == columnNumber && cell.getRowNumber() == row.getRowNumber()) {
                         for (IObject item : cell.getContents()) {
-                            writeFromContents(item);
+                            collectFromContents(item, targets);
                         }
                     }
                 }
             }
         } else if (content instanceof SemanticHeaderOrFooter) {
             for (IObject item : ((SemanticHeaderOrFooter) content).getContents()) {
-                writeFromContents(item);
+                collectFromContents(item, targets);
             }
         }
     }
 
     protected void writeImage(ImageChunk chunk) {
-        int currentImageIndex = StaticLayoutContainers.incrementImageIndex();
-        ensureImagesDirectoryInitialized();
-        String imageFormat = StaticLayoutContainers.getImageFormat();
-        String fileName = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectory(),
-            File.separator, currentImageIndex, imageFormat);
-        chunk.setIndex(currentImageIndex);
-        StreamInfo streamInfo = chunk.getStreamInfos() != null && !chunk.getStreamInfos().isEmpty() ? chunk.getStreamInfos().get(0) : null;
-        createImageFile(chunk.getBoundingBox(), fileName, imageFormat, streamInfo != null ? streamInfo.getXImageObjectKey() : null);
+        ImageTarget target = createImageTarget(chunk);
+        if (assignImageFile(target)) {
+            createImageFile(target);
+        }
     }
 
     protected void writePicture(SemanticPicture picture) {
+        createImageFile(createPictureTarget(picture));
+    }
+
+    private ImageTarget createImageTarget(ImageChunk chunk) {
+        StreamInfo streamInfo = chunk.getStreamInfos() != null && !chunk.getStreamInfos().isEmpty() ? chunk.getStreamInfos().get(0) : null;
+        ObjectKey xImageObjectKey = streamInfo != null ? streamInfo.getXImageObjectKey() : null;
+        ensureImagesDirectoryInitialized();
+        return new ImageTarget(chunk, StaticLayoutContainers.getImageFormat(), xImageObjectKey);
+    }
+
+    /**
+     * Assigns the chunk of an image target its image index: the index of the file that already
+     * holds the same XObject, or the next index with a file of its own. Runs on the calling
+     * thread just before the target is written, once the earlier occurrences are.
+     *
+     * @return true if the target needs a file of its own; pictures always do
+     */
+    private boolean assignImageFile(ImageTarget target) {
+        if (target.chunk == null) {
+            return true;
+        }
+        Long xObjectId = target.getXObjectId();
+        Integer sharedIndex = xObjectId != null ? xObjectImageIndices.get(xObjectId) : null;
+        if (sharedIndex != null) {
+            target.chunk.setIndex(sharedIndex);
+            return false;
+        }
+        int currentImageIndex = nextImageIndex();
+        target.chunk.setIndex(currentImageIndex);
+        target.setImageFile(currentImageIndex, String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT,
+            StaticLayoutContainers.getImagesDirectory(), File.separator, currentImageIndex, target.imageFormat));
+        return true;
+    }
+
+    /**
+     * Records that the file of the target holds its XObject, copied from its JPEG stream or
+     * decoded, so that later occurrences of the XObject refer to it.
+     */
+    private void recordXObjectFile(ImageTarget target) {
+        Long xObjectId = target.getXObjectId();
+        if (xObjectId != null && target.chunk != null) {
+            xObjectImageIndices.putIfAbsent(xObjectId, target.imageIndex);
+        }
+    }
+
+    private ImageTarget createPictureTarget(SemanticPicture picture) {
         int pictureIndex = picture.getPictureIndex();
         ensureImagesDirectoryInitialized();
         String imageFormat = StaticLayoutContainers.getImageFormat();
         String fileName = String.format(MarkdownSyntax.IMAGE_FILE_NAME_FORMAT, StaticLayoutContainers.getImagesDirectory(),
             File.separator, pictureIndex, imageFormat);
-        createImageFile(picture.getBoundingBox(), fileName, imageFormat, null);
+        return new ImageTarget(picture.getBoundingBox(), pictureIndex, fileName, imageFormat);
+    }
+
+    int nextImageIndex() {
+        return imageIndex++;
     }
 
     private void ensureImagesDirectoryInitialized() {
@@ -145,22 +271,153 @@ public class ImagesUtils {
      * dropped — letting the JVM reclaim the rendered BufferedImage as
      * soon as {@link #writeBufferedImageToFile} returns.
      */
-    private void createImageFile(BoundingBox imageBox, String fileName, String imageFormat, ObjectKey xImageObjectKey) {
+    private void createImageFile(ImageTarget target) {
+        if (writeJpegStream(target)) {
+            return;
+        }
+        BufferedImage targetImage = getTargetImage(target);
+        if (targetImage != null) {
+            writeBufferedImageToFile(targetImage, target.fileName, target.imageFormat);
+        }
+    }
+
+    private BufferedImage getTargetImage(ImageTarget target) {
         if (StaticContainers.getImagesUtils() == null) {
             LOGGER.log(Level.WARNING, "Image extraction will be skipped for this document.");
-            return;
+            return null;
         }
         BufferedImage targetImage = null;
-        if (xImageObjectKey != null) {
-            targetImage = StaticContainers.getImagesUtils().getXObjectImage(imageBox.getPageNumber(), xImageObjectKey);
+        if (target.xImageObjectKey != null) {
+            targetImage = StaticContainers.getImagesUtils().getXObjectImage(target.boundingBox.getPageNumber(),
+                target.xImageObjectKey);
+            if (targetImage != null) {
+                recordXObjectFile(target);
+            }
         }
         if (targetImage == null) {
-            targetImage = StaticContainers.getImagesUtils().getPageSubImage(imageBox, imageResolution);
+            renderedPageNumber = target.getPageNumber();
+            targetImage = getPageSubImage(target.boundingBox);
         }
-        if (targetImage == null) {
+        return targetImage;
+    }
+
+    /**
+     * Drops the page rendering kept by the page renderer for crops once the crops move on
+     * to another page, so that at most one page raster is held during image extraction.
+     *
+     * @param nextPageNumber the page of the next crop, or null when all crops are done
+     */
+    private void releaseRenderedPage(Integer nextPageNumber) {
+        if (renderedPageNumber == null || renderedPageNumber.equals(nextPageNumber)) {
             return;
         }
-        writeBufferedImageToFile(targetImage, fileName, imageFormat);
+        renderedPageNumber = null;
+        if (StaticContainers.getImagesUtils() != null) {
+            clearRenderedPages();
+        }
+    }
+
+    /**
+     * Crops a region from the rendering of its page. The page renderer keeps the rendering
+     * until {@link #clearRenderedPages()}, so the crops of one page share it.
+     *
+     * Package-private to allow observing the crop order in unit tests.
+     */
+    BufferedImage getPageSubImage(BoundingBox boundingBox) {
+        return StaticContainers.getImagesUtils().getPageSubImage(boundingBox, imageResolution);
+    }
+
+    /**
+     * Drops the page rendering kept by the page renderer.
+     *
+     * Package-private to allow observing the releases in unit tests.
+     */
+    void clearRenderedPages() {
+        StaticContainers.getImagesUtils().clearRenderedPages();
+    }
+
+    /**
+     * With JPEG output, copies the stream of a DCT-encoded image XObject to the image file
+     * when it is a plain JPEG, skipping the decode and the lossy re-encode.
+     *
+     * @return true if the image was written
+     */
+    private boolean writeJpegStream(ImageTarget target) {
+        if (target.xImageObjectKey == null || !Config.IMAGE_FORMAT_JPEG.equals(target.imageFormat)) {
+            return false;
+        }
+        byte[] jpegBytes = JpegStreamUtils.getJpegBytes(target.xImageObjectKey);
+        if (jpegBytes == null) {
+            return false;
+        }
+        writeImageBytesToFile(jpegBytes, target.fileName, target.imageFormat);
+        recordXObjectFile(target);
+        return true;
+    }
+
+    /**
+     * Renders the targets in order on the calling thread and encodes them on a pool of
+     * {@code threads} workers that share the calling thread's embed settings and cache.
+     * Rendering waits while the in-flight limit is reached. Every submitted image is waited
+     * for; the first failure is rethrown afterwards with the others suppressed.
+     */
+    private void writeConcurrently(List<ImageTarget> targets, int threads) {
+        final boolean embedImages = StaticLayoutContainers.isEmbedImages();
+        final Map<String, byte[]> embeddedImageBytesMap = StaticLayoutContainers.getEmbeddedImageBytesMap();
+        final OutputArchive outputArchive = StaticLayoutContainers.getOutputArchive();
+        Semaphore pendingImages = new Semaphore(threads * MAX_PENDING_IMAGES_PER_THREAD);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(targets.size());
+            for (ImageTarget target : targets) {
+                if (!assignImageFile(target) || writeJpegStream(target)) {
+                    continue;
+                }
+                releaseRenderedPage(target.getPageNumber());
+                pendingImages.acquire();
+                BufferedImage targetImage;
+                try {
+                    targetImage = getTargetImage(target);
+                } catch (RuntimeException e) {
+                    pendingImages.release();
+                    throw e;
+                }
+                if (targetImage == null) {
+                    pendingImages.release();
+                    continue;
+                }
+                tasks.add(pool.submit(() -> {
+                    try {
+                        StaticLayoutContainers.setEmbedImages(embedImages);
+                        StaticLayoutContainers.setEmbeddedImageBytesMap(embeddedImageBytesMap);
+                        StaticLayoutContainers.setOutputArchive(outputArchive);
+                        writeBufferedImageToFile(targetImage, target.fileName, target.imageFormat);
+                    } finally {
+                        pendingImages.release();
+                    }
+                }));
+            }
+            RuntimeException failure = null;
+            for (ForkJoinTask<?> task : tasks) {
+                try {
+                    task.join();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.log(Level.WARNING, "Image extraction was interrupted");
+        } finally {
+            pool.shutdown();
+        }
     }
 
     /**
@@ -183,6 +440,17 @@ public class ImagesUtils {
                     ByteArrayOutputStream buffer = new ByteArrayOutputStream();
                     ImageIO.write(targetImage, imageFormat, buffer);
                     StaticLayoutContainers.cacheEmbeddedImageBytes(fileName, buffer.toByteArray());
+                } else if (StaticLayoutContainers.getOutputArchive() != null) {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    if (ImageIO.write(targetImage, imageFormat, buffer)) {
+                        StaticLayoutContainers.getOutputArchive().writeStoredEntry(
+                            getArchiveEntryName(fileName), buffer.toByteArray());
+                    }
+                } else if (imageStore != null) {
+                    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                    if (ImageIO.write(targetImage, imageFormat, buffer)) {
+                        imageStore.write(buffer.toByteArray(), imageFormat, Paths.get(fileName));
+                    }
                 } else {
                     File outputFile = new File(fileName);
                     ImageIO.write(targetImage, imageFormat, outputFile);
@@ -199,11 +467,94 @@ public class ImagesUtils {
         }
     }
 
+    /**
+     * Writes already encoded image data to disk or the output archive, or to the embed cache
+     * in embedded mode.
+     *
+     * Package-private to allow direct unit testing.
+     */
+    void writeImageBytesToFile(byte[] imageBytes, String fileName, String imageFormat) {
+        if (StaticLayoutContainers.isEmbedImages()) {
+            StaticLayoutContainers.cacheEmbeddedImageBytes(fileName, imageBytes);
+            return;
+        }
+        try {
+            if (StaticLayoutContainers.getOutputArchive() != null) {
+                StaticLayoutContainers.getOutputArchive().writeStoredEntry(getArchiveEntryName(fileName), imageBytes);
+            } else if (imageStore != null) {
+                imageStore.write(imageBytes, imageFormat, Paths.get(fileName));
+            } else {
+                Files.write(Paths.get(fileName), imageBytes);
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Unable to write image: " + e.getMessage());
+        }
+    }
+
     public static boolean isImageFileExists(String fileName) {
         if (StaticLayoutContainers.isEmbedImages() && StaticLayoutContainers.hasEmbeddedImageBytes(fileName)) {
             return true;
         }
+        OutputArchive outputArchive = StaticLayoutContainers.getOutputArchive();
+        if (outputArchive != null && !StaticLayoutContainers.isEmbedImages()) {
+            return outputArchive.hasEntry(getArchiveEntryName(fileName));
+        }
         File outputFile = new File(fileName);
         return outputFile.exists();
     }
+
+    /**
+     * Gets the archive entry of an image file: the file name under the name of the images
+     * directory, which is the path image references in the outputs are relative to.
+     */
+    static String getArchiveEntryName(String fileName) {
+        File file = new File(fileName);
+        File directory = file.getParentFile();
+        return directory != null ? directory.getName() + "/" + file.getName() : file.getName();
+    }
+
+    /**
+     * An image file to write: the region to render or the XObject to decode, and the image
+     * index and file name assigned to it. The file of an image chunk is assigned when the
+     * target is written; a picture has its file from the start.
+     */
+    private static final class ImageTarget {
+        private final BoundingBox boundingBox;
+        private final ImageChunk chunk;
+        private final String imageFormat;
+        private final ObjectKey xImageObjectKey;
+        private int imageIndex;
+        private String fileName;
+
+        private ImageTarget(ImageChunk chunk, String imageFormat, ObjectKey xImageObjectKey) {
+            this.boundingBox = chunk.getBoundingBox();
+            this.chunk = chunk;
+            this.imageFormat = imageFormat;
+            this.xImageObjectKey = xImageObjectKey;
+        }
+
+        private ImageTarget(BoundingBox boundingBox, int imageIndex, String fileName, String imageFormat) {
+            this.boundingBox = boundingBox;
+            this.chunk = null;
+            this.imageFormat = imageFormat;
+            this.xImageObjectKey = null;
+            this.imageIndex = imageIndex;
+            this.fileName = fileName;
+        }
+
+        private void setImageFile(int imageIndex, String fileName) {
+            this.imageIndex = imageIndex;
+            this.fileName = fileName;
+        }
+
+        private Long getXObjectId() {
+            return xImageObjectKey != null
+                ? ((long) xImageObjectKey.getNumber() << 32) | (xImageObjectKey.getGeneration() & 0xFFFFFFFFL) : null;
+        }
+
+        private int getPageNumber() {
+            Integer pageNumber = boundingBox.getPageNumber();
+            return pageNumber != null ? pageNumber : -1;
+        }
+    }
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.verapdf.as.ASAtom;
+import org.verapdf.as.io.ASInputStream;
+import org.verapdf.cos.COSKey;
+import org.verapdf.cos.COSObjType;
+import org.verapdf.cos.COSObject;
+import org.verapdf.cos.COSStream;
+import org.verapdf.pd.PDDocument;
+import org.verapdf.tools.StaticResources;
+import org.verapdf.wcag.algorithms.entities.ObjectKey;
+
+import java.io.IOException;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reads image XObjects whose stream data already is a complete JPEG file, so it can be
+ * written out as is instead of being decoded and encoded again.
+ */
+public final class JpegStreamUtils {
+    private static final Logger LOGGER = Logger.getLogger(JpegStreamUtils.class.getCanonicalName());
+
+    private static final ASAtom COLOR_TRANSFORM = ASAtom.getASAtom("ColorTransform");
+
+    private JpegStreamUtils() {
+        // Private constructor to prevent instantiation
+    }
+
+    /**
+     * Returns the JPEG data of an image XObject of the current document, if the stream can be
+     * copied unchanged.
+     *
+     * @param xImageObjectKey the key of the image XObject
+     * @return the JPEG file bytes, or null if the image has to be decoded
+     */
+    public static byte[] getJpegBytes(ObjectKey xImageObjectKey) {
+        PDDocument document = StaticResources.getDocument();
+        if (document == null || xImageObjectKey == null) {
+            return null;
+        }
+        COSObject image = document.getDocument().getObject(
+            new COSKey(xImageObjectKey.getNumber(), xImageObjectKey.getGeneration()));
+        if (!isJpegPassthroughCandidate(image)) {
+            return null;
+        }
+        try (ASInputStream data = image.getData(COSStream.FilterFlags.DECRYPT)) {
+            byte[] bytes = data != null ? data.readAllBytes() : null;
+            return isJpegData(bytes) ? bytes : null;
+        } catch (IOException e) {
+            LOGGER.log(Level.FINE, "Unable to read JPEG image stream: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Checks that an image stream is DCT-encoded and needs nothing from its dictionary to be
+     * displayed like the PDF shows it: no soft or stencil mask, no decode array, no colour
+     * transform override, and a gray or RGB colour space. CMYK and ICC-based JPEGs are
+     * decoded, since viewers interpret them differently outside the PDF.
+     */
+    static boolean isJpegPassthroughCandidate(COSObject image) {
+        if (image == null || image.getType() != COSObjType.COS_STREAM) {
+            return false;
+        }
+        if (!isDctOnly(image.getKey(ASAtom.FILTER))) {
+            return false;
+        }
+        if (isKnownKey(image, ASAtom.SMASK) || isKnownKey(image, ASAtom.MASK)
+            || isKnownKey(image, ASAtom.DECODE) || Boolean.TRUE.equals(image.getBooleanKey(ASAtom.IMAGE_MASK))) {
+            return false;
+        }
+        COSObject decodeParms = image.getKey(ASAtom.DECODE_PARMS);
+        if (decodeParms != null && decodeParms.getType() == COSObjType.COS_ARRAY) {
+            decodeParms = decodeParms.size() == 1 ? decodeParms.at(0) : null;
+        }
+        if (decodeParms != null && isKnownKey(decodeParms, COLOR_TRANSFORM)) {
+            return false;
+        }
+        ASAtom colorSpace = image.getNameKey(ASAtom.COLORSPACE);
+        return ASAtom.DEVICEGRAY.equals(colorSpace) || ASAtom.DEVICERGB.equals(colorSpace);
+    }
+
+    /**
+     * Checks for the JPEG start-of-image marker.
+     */
+    static boolean isJpegData(byte[] bytes) {
+        return bytes != null && bytes.length > 2 && (bytes[0] & 0xFF) == 0xFF && (bytes[1] & 0xFF) == 0xD8;
+    }
+
+    private static boolean isDctOnly(COSObject filter) {
+        if (filter == null) {
+            return false;
+        }
+        if (filter.getType() == COSObjType.COS_ARRAY) {
+            return filter.size() == 1 && ASAtom.DCT_DECODE.equals(filter.at(0).getName());
+        }
+        return filter.getType() == COSObjType.COS_NAME && ASAtom.DCT_DECODE.equals(filter.getName());
+    }
+
+    private static boolean isKnownKey(COSObject dictionary, ASAtom key) {
+        return Boolean.TRUE.equals(dictionary.knownKey(key));
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lazily built {@link SpatialIndex} over the objects of one type on one page.
+ *
+ * <p>A processing stage creates it over the page contents it works on. Creation copies the
+ * objects of the indexed type, one pass over the contents; the tree is only built by the first
+ * query, so a stage that ends up asking nothing pays for that copy alone.
+ *
+ * <p>The index is a snapshot of the contents at creation and is never invalidated: later
+ * changes to the collection are not seen. A stage that changes the contents, or moves objects
+ * in them, and queries them again creates a new index over the changed contents. Queries return objects in the order of the contents, and are candidate filters:
+ * callers keep their exact geometric predicate.
+ *
+ * <p>Like {@link SpatialIndex}, an instance belongs to the thread processing the page.
+ *
+ * @param <T> the type of the indexed objects
+ */
+public final class PageSpatialIndex<T extends IObject> {
+
+    private final List<T> items;
+    private final boolean centers;
+    private SpatialIndex<T> index;
+
+    private PageSpatialIndex(Collection<? extends IObject> contents, Class<T> type, boolean centers) {
+        this.items = new ArrayList<>();
+        for (IObject content : contents) {
+            if (type.isInstance(content)) {
+                items.add(type.cast(content));
+            }
+        }
+        this.centers = centers;
+    }
+
+    /**
+     * Creates an index over the bounding boxes of the contents of the given type, for
+     * neighbour and overlap queries.
+     *
+     * @param contents the page contents; the objects of the type are copied, null entries and
+     *                 other types are skipped
+     * @param type     the type of the objects to index
+     * @return the index, built on first use
+     */
+    public static <T extends IObject> PageSpatialIndex<T> ofBoundingBoxes(Collection<? extends IObject> contents,
+                                                                          Class<T> type) {
+        return new PageSpatialIndex<>(contents, type, false);
+    }
+
+    /**
+     * Creates an index over the center points of the contents of the given type, for
+     * containment queries.
+     *
+     * @param contents the page contents; the objects of the type are copied, null entries and
+     *                 other types are skipped
+     * @param type     the type of the objects to index
+     * @return the index, built on first use
+     */
+    public static <T extends IObject> PageSpatialIndex<T> ofCenters(Collection<? extends IObject> contents,
+                                                                    Class<T> type) {
+        return new PageSpatialIndex<>(contents, type, true);
+    }
+
+    /**
+     * Returns the objects whose indexed rectangle or center may lie in the given rectangle.
+     */
+    public List<T> query(double left, double bottom, double right, double top) {
+        return getIndex().query(left, bottom, right, top);
+    }
+
+    /**
+     * Returns the objects whose indexed rectangle or center may lie in the bounding box
+     * widened by the margin on every side.
+     */
+    public List<T> query(BoundingBox boundingBox, double margin) {
+        return query(boundingBox.getLeftX() - margin, boundingBox.getBottomY() - margin,
+            boundingBox.getRightX() + margin, boundingBox.getTopY() + margin);
+    }
+
+    private SpatialIndex<T> getIndex() {
+        if (index == null) {
+            index = centers ? SpatialIndex.ofCenters(items) : SpatialIndex.ofBoundingBoxes(items);
+        }
+        return index;
+    }
+}
@@ -5,10 +5,20 @@ import java.util.regex.Pattern;
 public class SanitizationRule {
     private final Pattern pattern;
     private final String replacement;
+    private final String requiredCharacters;
 
     public SanitizationRule(Pattern pattern, String replacement) {
+        this(pattern, replacement, null);
+    }
+
+    /**
+     * @param requiredCharacters Characters of which every match contains at least one, so that
+     *                           text without any of them is not scanned; null to always scan.
+     */
+    public SanitizationRule(Pattern pattern, String replacement, String requiredCharacters) {
         this.pattern = pattern;
         this.replacement = replacement;
+        this.requiredCharacters = requiredCharacters;
     }
 
     public Pattern getPattern() {
@@ -18,4 +28,8 @@ public class SanitizationRule {
     public String getReplacement() {
         return replacement;
     }
+
+    public String getRequiredCharacters() {
+        return requiredCharacters;
+    }
 }
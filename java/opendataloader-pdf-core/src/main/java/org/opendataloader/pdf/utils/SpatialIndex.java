@@ -0,0 +1,263 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.verapdf.wcag.algorithms.entities.IObject;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Uniform-grid index over the rectangles of a fixed list of page objects.
+ *
+ * <p>Built once per page, it answers "which objects may intersect this rectangle"
+ * by visiting only the grid cells the query touches, instead of scanning the whole
+ * page. Results are item indices in ascending order, so callers that scanned the
+ * list front to back keep the same tie-breaking. The index is a candidate filter:
+ * callers keep their own exact geometric predicate.
+ *
+ * <p>The index is immutable after construction but not safe for concurrent queries;
+ * each page is expected to own its index.
+ */
+public final class SpatialIndex<T> {
+
+    private static final int MAX_CELLS_PER_AXIS = 128;
+    private static final double EPSILON = 1e-6;
+
+    private final List<T> items;
+    private final double[] lefts;
+    private final double[] bottoms;
+    private final double[] rights;
+    private final double[] tops;
+
+    private final double minX;
+    private final double minY;
+    private final double cellWidth;
+    private final double cellHeight;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStarts;
+    private final int[] cellItems;
+
+    private final int[] visitStamps;
+    private int currentStamp;
+
+    private SpatialIndex(List<T> items, double[] lefts, double[] bottoms, double[] rights, double[] tops) {
+        this.items = items;
+        this.lefts = lefts;
+        this.bottoms = bottoms;
+        this.rights = rights;
+        this.tops = tops;
+        int size = items.size();
+
+        double minLeft = Double.POSITIVE_INFINITY;
+        double minBottom = Double.POSITIVE_INFINITY;
+        double maxRight = Double.NEGATIVE_INFINITY;
+        double maxTop = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < size; i++) {
+            minLeft = Math.min(minLeft, lefts[i]);
+            minBottom = Math.min(minBottom, bottoms[i]);
+            maxRight = Math.max(maxRight, rights[i]);
+            maxTop = Math.max(maxTop, tops[i]);
+        }
+        if (size == 0 || !Double.isFinite(minLeft) || !Double.isFinite(maxRight)
+                || !Double.isFinite(minBottom) || !Double.isFinite(maxTop)) {
+            minLeft = 0;
+            minBottom = 0;
+            maxRight = 0;
+            maxTop = 0;
+        }
+        int cellsPerAxis = Math.max(1, Math.min(MAX_CELLS_PER_AXIS, (int) Math.ceil(Math.sqrt(size))));
+        this.minX = minLeft;
+        this.minY = minBottom;
+        this.columns = cellsPerAxis;
+        this.rows = cellsPerAxis;
+        this.cellWidth = maxRight > minLeft ? (maxRight - minLeft) / columns : 1.0;
+        this.cellHeight = maxTop > minBottom ? (maxTop - minBottom) / rows : 1.0;
+
+        // Compressed cell lists: count per cell, prefix-sum, then fill.
+        int cellCount = columns * rows;
+        int[] counts = new int[cellCount + 1];
+        for (int i = 0; i < size; i++) {
+            int col0 = column(lefts[i]);
+            int col1 = column(rights[i]);
+            int row0 = row(bottoms[i]);
+            int row1 = row(tops[i]);
+            for (int r = row0; r <= row1; r++) {
+                for (int c = col0; c <= col1; c++) {
+                    counts[r * columns + c + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < cellCount; cell++) {
+            counts[cell + 1] += counts[cell];
+        }
+        this.cellStarts = counts;
+        this.cellItems = new int[counts[cellCount]];
+        int[] fill = Arrays.copyOf(counts, cellCount);
+        for (int i = 0; i < size; i++) {
+            int col0 = column(lefts[i]);
+            int col1 = column(rights[i]);
+            int row0 = row(bottoms[i]);
+            int row1 = row(tops[i]);
+            for (int r = row0; r <= row1; r++) {
+                for (int c = col0; c <= col1; c++) {
+                    cellItems[fill[r * columns + c]++] = i;
+                }
+            }
+        }
+        this.visitStamps = new int[size];
+    }
+
+    /**
+     * Indexes the bounding boxes of the given objects.
+     *
+     * @param items the objects to index; the list must not change while the index is in use
+     * @return the index
+     */
+    public static <T extends IObject> SpatialIndex<T> ofBoundingBoxes(List<T> items) {
+        int size = items.size();
+        double[] lefts = new double[size];
+        double[] bottoms = new double[size];
+        double[] rights = new double[size];
+        double[] tops = new double[size];
+        for (int i = 0; i < size; i++) {
+            T item = items.get(i);
+            lefts[i] = item.getLeftX();
+            bottoms[i] = item.getBottomY();
+            rights[i] = item.getRightX();
+            tops[i] = item.getTopY();
+        }
+        return new SpatialIndex<>(items, lefts, bottoms, rights, tops);
+    }
+
+    /**
+     * Indexes the center points of the given objects, for center-in-rectangle matching.
+     *
+     * @param items the objects to index; the list must not change while the index is in use
+     * @return the index
+     */
+    public static <T extends IObject> SpatialIndex<T> ofCenters(List<T> items) {
+        int size = items.size();
+        double[] xs = new double[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            T item = items.get(i);
+            xs[i] = item.getCenterX();
+            ys[i] = item.getCenterY();
+        }
+        return new SpatialIndex<>(items, xs, ys, xs, ys);
+    }
+
+    public int size() {
+        return items.size();
+    }
+
+    public boolean isEmpty() {
+        return items.isEmpty();
+    }
+
+    public T get(int index) {
+        return items.get(index);
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns, in ascending order, the indices of items whose indexed rectangle intersects
+     * the query rectangle (boundaries inclusive, widened by a small epsilon so that
+     * floating-point rounding never drops a boundary match).
+     */
+    public int[] candidates(double left, double bottom, double right, double top) {
+        if (items.isEmpty() || left > right || bottom > top) {
+            return new int[0];
+        }
+        double qLeft = left - EPSILON;
+        double qBottom = bottom - EPSILON;
+        double qRight = right + EPSILON;
+        double qTop = top + EPSILON;
+        int col0 = column(qLeft);
+        int col1 = column(qRight);
+        int row0 = row(qBottom);
+        int row1 = row(qTop);
+
+        int stamp = nextStamp();
+        int[] result = new int[8];
+        int count = 0;
+        for (int r = row0; r <= row1; r++) {
+            for (int c = col0; c <= col1; c++) {
+                int cell = r * columns + c;
+                for (int k = cellStarts[cell]; k < cellStarts[cell + 1]; k++) {
+                    int i = cellItems[k];
+                    if (visitStamps[i] == stamp) {
+                        continue;
+                    }
+                    visitStamps[i] = stamp;
+                    if (lefts[i] <= qRight && rights[i] >= qLeft && bottoms[i] <= qTop && tops[i] >= qBottom) {
+                        if (count == result.length) {
+                            result = Arrays.copyOf(result, count * 2);
+                        }
+                        result[count++] = i;
+                    }
+                }
+            }
+        }
+        result = Arrays.copyOf(result, count);
+        Arrays.sort(result);
+        return result;
+    }
+
+    /**
+     * Returns the items whose indexed rectangle intersects the query rectangle, in list order.
+     *
+     * @see #candidates(double, double, double, double)
+     */
+    public List<T> query(double left, double bottom, double right, double top) {
+        int[] indices = candidates(left, bottom, right, top);
+        if (indices.length == 0) {
+            return Collections.emptyList();
+        }
+        List<T> result = new ArrayList<>(indices.length);
+        for (int index : indices) {
+            result.add(items.get(index));
+        }
+        return result;
+    }
+
+    private int nextStamp() {
+        if (++currentStamp == 0) {
+            Arrays.fill(visitStamps, 0);
+            currentStamp = 1;
+        }
+        return currentStamp;
+    }
+
+    private int column(double x) {
+        return clamp((int) Math.floor((x - minX) / cellWidth), columns);
+    }
+
+    private int row(double y) {
+        return clamp((int) Math.floor((y - minY) / cellHeight), rows);
+    }
+
+    private static int clamp(int cell, int cells) {
+        return cell < 0 ? 0 : (cell >= cells ? cells - 1 : cell);
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.OutputWriter;
+import org.opendataloader.pdf.containers.StaticLayoutContainers;
+import org.opendataloader.pdf.processors.DocumentProcessor;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for rendering outputs from a snapshot written on its own: the images the
+ * outputs refer to are written with the snapshot.
+ */
+class SnapshotImagesIntegrationTest {
+
+    private static final String SAMPLE_PDF_WITH_IMAGES = "../../samples/pdf/1901.03003.pdf";
+    private static final String SAMPLE_PDF_BASENAME = "1901.03003";
+
+    private static final Pattern MARKDOWN_IMAGE = Pattern.compile("!\\[[^\\]]*\\]\\(<?([^)>]+)>?\\)");
+    private static final Pattern JSON_SOURCE = Pattern.compile("\"source\"\\s*:\\s*\"([^\"]+)\"");
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        StaticLayoutContainers.clearContainers();
+    }
+
+    @Test
+    void testSnapshotOnlyRunWritesImagesForRenderedOutputs() throws Exception {
+        File samplePdf = new File(SAMPLE_PDF_WITH_IMAGES);
+        if (!samplePdf.exists()) {
+            System.out.println("Skipping test: Sample PDF not found");
+            return;
+        }
+
+        Config snapshotConfig = new Config();
+        snapshotConfig.setOutputFolder(tempDir.toString());
+        snapshotConfig.setImageOutput(Config.IMAGE_OUTPUT_EXTERNAL);
+        snapshotConfig.setGenerateJSON(false);
+        snapshotConfig.setGenerateSnapshot(true);
+        DocumentProcessor.processFile(samplePdf.getAbsolutePath(), snapshotConfig);
+
+        Path snapshot = tempDir.resolve(SAMPLE_PDF_BASENAME + ".snapshot");
+        assertTrue(Files.exists(snapshot), "Snapshot should be written");
+        assertFalse(Files.exists(tempDir.resolve(SAMPLE_PDF_BASENAME + ".json")), "Only the snapshot should be written");
+        Path imagesDirectory = tempDir.resolve(SAMPLE_PDF_BASENAME + "_images");
+        assertTrue(Files.isDirectory(imagesDirectory), "Images should be written with the snapshot");
+
+        Config renderConfig = new Config();
+        renderConfig.setOutputFolder(tempDir.toString());
+        renderConfig.setImageOutput(Config.IMAGE_OUTPUT_EXTERNAL);
+        renderConfig.setGenerateMarkdown(true);
+        renderConfig.setGenerateJSON(true);
+        OutputWriter.writeOutputs(samplePdf.getAbsolutePath(), snapshot, renderConfig);
+
+        List<String> markdownImages = findAll(MARKDOWN_IMAGE,
+            Files.readString(tempDir.resolve(SAMPLE_PDF_BASENAME + ".md")));
+        List<String> jsonImages = findAll(JSON_SOURCE,
+            Files.readString(tempDir.resolve(SAMPLE_PDF_BASENAME + ".json")));
+        assertFalse(markdownImages.isEmpty(), "Markdown rendered from the snapshot should refer to images");
+        assertFalse(jsonImages.isEmpty(), "JSON rendered from the snapshot should refer to images");
+        List<String> images = new ArrayList<>(markdownImages);
+        images.addAll(jsonImages);
+        for (String image : images) {
+            assertTrue(image.startsWith(SAMPLE_PDF_BASENAME + "_images/imageFile"), image);
+            assertTrue(Files.isRegularFile(tempDir.resolve(image)), "Referenced image should exist: " + image);
+        }
+    }
+
+    private static List<String> findAll(Pattern pattern, String text) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(text);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+}
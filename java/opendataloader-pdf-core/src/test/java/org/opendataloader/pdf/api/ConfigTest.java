@@ -19,6 +19,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -335,4 +337,48 @@ class ConfigTest {
         // This will throw "Invalid page range format" because "-1" looks like a range
         assertTrue(exception.getMessage().contains("Invalid page range format"));
     }
+
+    @Test
+    void testSetOutputCompression() {
+        Config config = new Config();
+        assertEquals(Config.OUTPUT_COMPRESSION_NONE, config.getOutputCompression());
+
+        config.setOutputCompression("GZIP");
+        assertEquals(Config.OUTPUT_COMPRESSION_GZIP, config.getOutputCompression());
+
+        config.setOutputCompression(null);
+        assertEquals(Config.OUTPUT_COMPRESSION_NONE, config.getOutputCompression());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"zip", "zstd", ""})
+    void testSetOutputCompressionThrowsExceptionForInvalidValue(String compression) {
+        Config config = new Config();
+        IllegalArgumentException exception = assertThrows(
+            IllegalArgumentException.class,
+            () -> config.setOutputCompression(compression)
+        );
+        assertTrue(exception.getMessage().contains("Unsupported output compression"));
+    }
+
+    @Test
+    void testGetOutputSinkUsesOutputFolder() {
+        Config config = new Config();
+        config.setOutputFolder("out");
+        assertEquals(Path.of("out", "sample.md").toString(), config.getOutputSink().getLocation("sample.md"));
+
+        config.setOutputCompression(Config.OUTPUT_COMPRESSION_GZIP);
+        assertEquals(Path.of("out", "sample.md.gz").toString(), config.getOutputSink().getLocation("sample.md"));
+    }
+
+    @Test
+    void testGetOutputSinkPrefersCallerSink() {
+        Config config = new Config();
+        config.setOutputFolder("out");
+        config.setOutputSink(fileName -> new ByteArrayOutputStream());
+        assertEquals("sample.md", config.getOutputSink().getLocation("sample.md"));
+
+        config.setOutputCompression(Config.OUTPUT_COMPRESSION_GZIP);
+        assertEquals("sample.md.gz", config.getOutputSink().getLocation("sample.md"));
+    }
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryOutputSinkTest {
+
+    @Test
+    void testOutputsAreKeptByName() throws IOException {
+        MemoryOutputSink sink = new MemoryOutputSink();
+        byte[] imageBytes = {1, 2, 3};
+        sink.writeStoredEntry("sample_images/imageFile1.png", imageBytes);
+        Writer writer = sink.openWriter("sample.md");
+        writer.write("# Title");
+        assertNull(sink.getOutput("sample.md"), "output is available once closed");
+        writer.close();
+
+        assertEquals(List.of("sample_images/imageFile1.png", "sample.md"), sink.getOutputNames());
+        assertEquals("# Title", sink.getOutputAsString("sample.md"));
+        assertArrayEquals(imageBytes, sink.getOutput("sample_images/imageFile1.png"));
+        assertTrue(sink.hasEntry("sample_images/imageFile1.png"));
+        assertNull(sink.getOutputAsString("sample.json"));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OutputSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testDirectorySinkWritesFile() throws IOException {
+        OutputSink sink = OutputSink.toDirectory(tempDir.resolve("out"));
+        try (Writer writer = sink.openWriter("sample.md")) {
+            writer.write("# Title");
+            writer.write('\n');
+            writer.write("Text é");
+        }
+
+        Path file = tempDir.resolve("out").resolve("sample.md");
+        assertEquals("# Title\nText é", Files.readString(file, StandardCharsets.UTF_8));
+        assertEquals(file.toString(), sink.getLocation("sample.md"));
+    }
+
+    @Test
+    void testDirectorySinkTruncatesExistingFile() throws IOException {
+        Files.writeString(tempDir.resolve("sample.txt"), "previous longer content");
+        try (Writer writer = OutputSink.toDirectory(tempDir).openWriter("sample.txt")) {
+            writer.write("new");
+        }
+
+        assertEquals("new", Files.readString(tempDir.resolve("sample.txt")));
+    }
+
+    @Test
+    void testGzipSinkCompressesWithExtension() throws IOException {
+        OutputSink sink = OutputSink.gzip(OutputSink.toDirectory(tempDir));
+        try (Writer writer = sink.openWriter("sample.json")) {
+            writer.write("{\"kids\":[]}");
+        }
+
+        Path file = tempDir.resolve("sample.json.gz");
+        assertFalse(Files.exists(tempDir.resolve("sample.json")));
+        try (InputStream inputStream = new GZIPInputStream(Files.newInputStream(file))) {
+            assertEquals("{\"kids\":[]}", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        assertEquals(file.toString(), sink.getLocation("sample.json"));
+    }
+
+    @Test
+    void testCallerProvidedStreams() throws IOException {
+        Map<String, ByteArrayOutputStream> outputs = new HashMap<>();
+        OutputSink sink = fileName -> outputs.computeIfAbsent(fileName, name -> new ByteArrayOutputStream());
+        try (Writer writer = sink.openWriter("sample.html")) {
+            writer.write("<p>");
+            assertEquals(0, outputs.get("sample.html").size(), "small writes are buffered");
+            writer.write("</p>");
+        }
+
+        assertEquals("<p></p>", outputs.get("sample.html").toString(StandardCharsets.UTF_8));
+        assertEquals("sample.html", sink.getLocation("sample.html"));
+    }
+
+    @Test
+    void testStreamSinkLeavesStreamOpen() throws IOException {
+        ClosingTrackingStream stream = new ClosingTrackingStream();
+        OutputSink sink = OutputSink.toStream(stream, "stdout");
+        try (Writer writer = sink.openWriter("sample.json")) {
+            writer.write("{}");
+        }
+        try (Writer writer = sink.openWriter("sample.json")) {
+            writer.write("[]");
+        }
+
+        assertEquals("{}[]", stream.toString(StandardCharsets.UTF_8));
+        assertFalse(stream.closed);
+        assertEquals("stdout", sink.getLocation("sample.json"));
+    }
+
+    private static final class ClosingTrackingStream extends ByteArrayOutputStream {
+        private boolean closed = false;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.api;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ZipOutputSinkTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testEntriesAreWrittenToArchive() throws IOException {
+        Path archive = tempDir.resolve("sample.zip");
+        byte[] imageBytes = {(byte) 0x89, 'P', 'N', 'G'};
+        try (ZipOutputSink sink = new ZipOutputSink(archive)) {
+            sink.writeStoredEntry("sample_images/imageFile1.png", imageBytes);
+            try (Writer writer = sink.openWriter("sample.md")) {
+                writer.write("![](sample_images/imageFile1.png)");
+            }
+            assertTrue(sink.hasEntry("sample.md"));
+            assertEquals(archive + "!/sample.md", sink.getLocation("sample.md"));
+        }
+
+        Map<String, ZipEntry> entries = new LinkedHashMap<>();
+        Map<String, byte[]> contents = readArchive(archive, entries);
+        assertEquals(ZipEntry.STORED, entries.get("sample_images/imageFile1.png").getMethod());
+        assertArrayEquals(imageBytes, contents.get("sample_images/imageFile1.png"));
+        assertEquals(ZipEntry.DEFLATED, entries.get("sample.md").getMethod());
+        assertEquals("![](sample_images/imageFile1.png)",
+            new String(contents.get("sample.md"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testEntriesOpenedTogetherAreBothWritten() throws IOException {
+        Path archive = tempDir.resolve("sample.zip");
+        try (ZipOutputSink sink = new ZipOutputSink(archive)) {
+            Writer json = sink.openWriter("sample.json");
+            Writer html = sink.openWriter("sample.html");
+            json.write("{\"kids\":[]}");
+            html.write("<p></p>");
+            html.close();
+            json.close();
+        }
+
+        Map<String, byte[]> contents = readArchive(archive, new LinkedHashMap<>());
+        assertEquals("{\"kids\":[]}", new String(contents.get("sample.json"), StandardCharsets.UTF_8));
+        assertEquals("<p></p>", new String(contents.get("sample.html"), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testDuplicateEntryIsRejected() throws IOException {
+        try (ZipOutputSink sink = new ZipOutputSink(tempDir.resolve("sample.zip"))) {
+            sink.writeStoredEntry("sample.txt", new byte[]{1});
+            assertThrows(ZipException.class, () -> sink.openOutputStream("sample.txt"));
+        }
+    }
+
+    @Test
+    void testCloseReportsUnfinishedSpooledEntry() throws IOException {
+        Path archive = tempDir.resolve("sample.zip");
+        ZipOutputSink sink = new ZipOutputSink(archive);
+        Writer json = sink.openWriter("sample.json");
+        Writer html = sink.openWriter("sample.html");
+        json.write("{\"kids\":[]}");
+        html.write("<p></p>");
+        html.flush();
+        json.close();
+
+        IOException exception = assertThrows(IOException.class, sink::close);
+        assertTrue(exception.getMessage().contains("sample.html"));
+        html.close();
+
+        Map<String, byte[]> contents = readArchive(archive, new LinkedHashMap<>());
+        assertEquals("{\"kids\":[]}", new String(contents.get("sample.json"), StandardCharsets.UTF_8));
+        assertFalse(contents.containsKey("sample.html"));
+    }
+
+    private static Map<String, byte[]> readArchive(Path archive, Map<String, ZipEntry> entries) throws IOException {
+        Map<String, byte[]> contents = new LinkedHashMap<>();
+        try (InputStream inputStream = Files.newInputStream(archive);
+             ZipInputStream zipInputStream = new ZipInputStream(inputStream)) {
+            ZipEntry entry;
+            while ((entry = zipInputStream.getNextEntry()) != null) {
+                entries.put(entry.getName(), entry);
+                contents.put(entry.getName(), zipInputStream.readAllBytes());
+            }
+        }
+        return contents;
+    }
+}
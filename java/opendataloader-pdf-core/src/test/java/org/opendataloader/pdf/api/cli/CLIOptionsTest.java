@@ -369,6 +369,55 @@ class CLIOptionsTest {
         assertNull(config.getImageDir()); // whitespace-only treated as null (use default)
     }
 
+    @Test
+    void testCreateConfig_withImageStore() throws ParseException {
+        Path imageStore = tempDir.resolve("image-store");
+        String[] args = {"--image-store", imageStore.toString(), testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertEquals(imageStore.toString(), config.getImageStore());
+    }
+
+    @Test
+    void testCreateConfig_defaultImageStore() throws ParseException {
+        String[] args = {testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertNull(config.getImageStore());
+    }
+
+    @Test
+    void testCreateConfig_withOutputCompression() throws ParseException {
+        String[] args = {"--output-compression", "GZIP", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertEquals(Config.OUTPUT_COMPRESSION_GZIP, config.getOutputCompression());
+    }
+
+    @Test
+    void testCreateConfig_withOutputArchive() throws ParseException {
+        String[] args = {"--output-archive", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isOutputArchive());
+    }
+
+    @Test
+    void testCreateConfig_withInvalidOutputCompression() throws ParseException {
+        String[] args = {"--output-compression", "zip", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        assertThrows(IllegalArgumentException.class, () -> CLIOptions.createConfigFromCommandLine(cmd));
+    }
+
     // ===== Hybrid Mode Option Tests =====
 
     @Test
@@ -761,6 +810,78 @@ class CLIOptionsTest {
                 "deprecated value must not appear in supported-values list: " + msg);
     }
 
+    @Test
+    void testCreateConfig_withBinaryJsonFormats() throws ParseException {
+        String[] args = {"--format", "json,smile,cbor", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isGenerateJSON());
+        assertTrue(config.isGenerateSmile());
+        assertTrue(config.isGenerateCbor());
+        assertTrue(config.needsStructuredProcessing());
+    }
+
+    @Test
+    void testCreateConfig_withJsonLinesFormat() throws ParseException {
+        String[] args = {"--format", "jsonl", "--to-stdout", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isGenerateJsonLines());
+        assertFalse(config.isGenerateJSON());
+        assertTrue(config.isOutputStdout());
+        assertTrue(config.needsStructuredProcessing());
+    }
+
+    @Test
+    void testCreateConfig_withElementStreamFormat() throws ParseException {
+        String[] args = {"--format", "elements,markdown", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isGenerateElementStream());
+        assertTrue(config.isGenerateMarkdown());
+        assertFalse(config.isGenerateJsonLines());
+    }
+
+    @Test
+    void testCreateConfig_withChunksFormatAndChunkSize() throws ParseException {
+        String[] args = {"--format", "chunks", "--chunk-size", "256", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isGenerateChunks());
+        assertTrue(config.needsStructuredProcessing());
+        assertEquals(256, config.getChunkSize());
+    }
+
+    @Test
+    void testCreateConfig_withInvalidChunkSize_throws() throws ParseException {
+        String[] args = {"--format", "chunks", "--chunk-size", "many", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+            () -> CLIOptions.createConfigFromCommandLine(cmd));
+        assertTrue(exception.getMessage().contains("--chunk-size"));
+    }
+
+    @Test
+    void testCreateConfig_withSnapshotFormat() throws ParseException {
+        String[] args = {"--format", "snapshot,json", testPdf.getAbsolutePath()};
+        CommandLine cmd = parser.parse(options, args);
+
+        Config config = CLIOptions.createConfigFromCommandLine(cmd);
+
+        assertTrue(config.isGenerateSnapshot());
+        assertTrue(config.isGenerateJSON());
+        assertTrue(config.needsStructuredProcessing());
+    }
+
     private static String captureStderr(ThrowingRunnable r) {
         PrintStream originalErr = System.err;
         ByteArrayOutputStream buf = new ByteArrayOutputStream();
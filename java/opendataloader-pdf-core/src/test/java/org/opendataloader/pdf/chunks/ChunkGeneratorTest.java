@@ -0,0 +1,142 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.chunks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.MemoryOutputSink;
+import org.opendataloader.pdf.json.JsonName;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticParagraph;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextLine;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChunkGeneratorTest {
+
+    @Test
+    void testEstimateTokens() {
+        assertEquals(0, ChunkGenerator.estimateTokens(""));
+        assertEquals(0, ChunkGenerator.estimateTokens("  \n"));
+        assertEquals(4, ChunkGenerator.estimateTokens("hello world"));
+        assertEquals(4, ChunkGenerator.estimateTokens("a, b."));
+        assertEquals(5, ChunkGenerator.estimateTokens("internationalization"));
+        assertEquals(3, ChunkGenerator.estimateTokens("한국어"));
+        assertEquals(5, ChunkGenerator.estimateTokens("PDF 文書です"));
+    }
+
+    @Test
+    void testChunksFollowHeadingsAndBudget() throws IOException {
+        TableBorderRow row = new TableBorderRow(0, 2, null);
+        TableBorderCell firstCell = new TableBorderCell(0, 0, 1, 1, null);
+        firstCell.addContentObject(createTextNode(new SemanticParagraph(), "one", 0));
+        TableBorderCell secondCell = new TableBorderCell(0, 1, 1, 1, null);
+        secondCell.addContentObject(createTextNode(new SemanticParagraph(), "two three", 0));
+        row.getCells()[0] = firstCell;
+        row.getCells()[1] = secondCell;
+        TableBorder table = new TableBorder(null, new TableBorderRow[]{row}, 1, 2);
+
+        List<List<IObject>> contents = new ArrayList<>();
+        contents.add(List.of(createHeading("Intro", 1, 0), createTextNode(new SemanticParagraph(), "alpha beta", 0),
+            table));
+        contents.add(List.of(createHeading("Details", 2, 1),
+            createTextNode(new SemanticParagraph(), "w w w w w w w w w w", 1), createHeading("Next", 1, 1),
+            createTextNode(new SemanticParagraph(), "end", 1)));
+
+        List<JsonNode> chunks = writeChunks(contents, 6);
+
+        assertEquals(5, chunks.size());
+        for (int index = 0; index < chunks.size(); index++) {
+            assertEquals(index, chunks.get(index).get(JsonName.CHUNK_INDEX).asInt());
+            assertTrue(chunks.get(index).get(JsonName.TOKENS).asInt() <= 6);
+        }
+        assertEquals("Intro\nalpha beta", chunks.get(0).get(JsonName.CONTENT).asText());
+        assertEquals(List.of("Intro"), getHeadingPath(chunks.get(0)));
+        JsonNode boundingBoxes = chunks.get(0).get(JsonName.BOUNDING_BOXES);
+        assertEquals(1, boundingBoxes.size());
+        assertEquals(1, boundingBoxes.get(0).get(JsonName.PAGE_NUMBER).asInt());
+
+        assertEquals("one | two three", chunks.get(1).get(JsonName.CONTENT).asText());
+        assertEquals("Details\nw w w w", chunks.get(2).get(JsonName.CONTENT).asText());
+        assertEquals(List.of("Intro", "Details"), getHeadingPath(chunks.get(3)));
+        assertEquals(List.of("Next"), getHeadingPath(chunks.get(4)));
+    }
+
+    @Test
+    void testRowLargerThanBudgetIsNotSplit() throws IOException {
+        TableBorderRow row = new TableBorderRow(0, 1, null);
+        TableBorderCell cell = new TableBorderCell(0, 0, 1, 1, null);
+        cell.addContentObject(createTextNode(new SemanticParagraph(), "a b c d e f g h", 0));
+        row.getCells()[0] = cell;
+        TableBorder table = new TableBorder(null, new TableBorderRow[]{row}, 1, 1);
+
+        List<List<IObject>> contents = new ArrayList<>();
+        contents.add(List.of(createTextNode(new SemanticParagraph(), "before", 0), table));
+
+        List<JsonNode> chunks = writeChunks(contents, 4);
+
+        assertEquals(2, chunks.size());
+        assertEquals("a b c d e f g h", chunks.get(1).get(JsonName.CONTENT).asText());
+        assertEquals(8, chunks.get(1).get(JsonName.TOKENS).asInt());
+    }
+
+    private static List<JsonNode> writeChunks(List<List<IObject>> contents, int chunkSize) throws IOException {
+        Config config = new Config();
+        config.setChunkSize(chunkSize);
+        MemoryOutputSink sink = new MemoryOutputSink();
+        try (ChunkGenerator chunkGenerator = new ChunkGenerator(new File("sample.pdf"), config, sink)) {
+            chunkGenerator.writeChunks(contents);
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> chunks = new ArrayList<>();
+        for (String line : sink.getOutputAsString("sample.chunks.jsonl").split("\n")) {
+            chunks.add(objectMapper.readTree(line));
+        }
+        return chunks;
+    }
+
+    private static List<String> getHeadingPath(JsonNode chunk) {
+        List<String> headingPath = new ArrayList<>();
+        chunk.get(JsonName.HEADING_PATH).forEach(heading -> headingPath.add(heading.asText()));
+        return headingPath;
+    }
+
+    private static SemanticHeading createHeading(String text, int level, int pageNumber) {
+        SemanticHeading heading = createTextNode(new SemanticHeading(), text, pageNumber);
+        heading.setHeadingLevel(level);
+        return heading;
+    }
+
+    private static <T extends SemanticTextNode> T createTextNode(T textNode, String text, int pageNumber) {
+        textNode.add(new TextLine(new TextChunk(new BoundingBox(pageNumber, 10.0, 50.0, 100.0, 60.0),
+            text, 10, 50.0)));
+        return textNode;
+    }
+}
@@ -102,25 +102,6 @@ class StaticLayoutContainersTest {
         assertEquals("/path/to/images", StaticLayoutContainers.getImagesDirectory());
     }
 
-    @Test
-    void testIncrementImageIndex() {
-        StaticLayoutContainers.resetImageIndex();
-
-        assertEquals(1, StaticLayoutContainers.incrementImageIndex());
-        assertEquals(2, StaticLayoutContainers.incrementImageIndex());
-        assertEquals(3, StaticLayoutContainers.incrementImageIndex());
-    }
-
-    @Test
-    void testResetImageIndex() {
-        StaticLayoutContainers.incrementImageIndex();
-        StaticLayoutContainers.incrementImageIndex();
-
-        StaticLayoutContainers.resetImageIndex();
-
-        assertEquals(1, StaticLayoutContainers.incrementImageIndex());
-    }
-
     @Test
     void testCurrentContentId() {
         StaticLayoutContainers.setCurrentContentId(100);
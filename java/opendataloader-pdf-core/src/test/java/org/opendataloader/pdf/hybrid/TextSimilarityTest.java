@@ -81,4 +81,73 @@ class TextSimilarityTest {
     void default_threshold_is_0_5() {
         assertEquals(0.5, TextSimilarity.DEFAULT_THRESHOLD);
     }
+
+    @Test
+    void long_strings_spanning_several_words() {
+        String base = "The quick brown fox jumps over the lazy dog. ".repeat(4);
+        String edited = base.replace("fox", "cat");
+        assertEquals(1.0 - 12.0 / base.length(), TextSimilarity.similarity(base, edited), 1e-12);
+    }
+
+    @Test
+    void distance_is_symmetric() {
+        assertEquals(TextSimilarity.similarity("kitten", "sitting"), TextSimilarity.similarity("sitting", "kitten"));
+        assertEquals(1.0 - 3.0 / 7, TextSimilarity.similarity("kitten", "sitting"), 1e-12);
+    }
+
+    @Test
+    void is_similar_agrees_with_similarity_at_boundary() {
+        double sim = TextSimilarity.similarity("kitten", "sitting");
+        assertTrue(TextSimilarity.isSimilar("kitten", "sitting", sim));
+        assertFalse(TextSimilarity.isSimilar("kitten", "sitting", Math.nextUp(sim)));
+    }
+
+    @Test
+    void trust_stream_with_similarity_matches_thresholded_check() {
+        String[][] pairs = {
+            {",QWURGXFWLRQ", "Introduction"},
+            {"Introduction", "Introductlon"},
+            {"kitten", "sitting"},
+            {"text", null},
+            {"text", ""},
+            {null, "text"},
+            {"", "text"},
+        };
+        for (String[] pair : pairs) {
+            double sim = TextSimilarity.similarity(pair[0], pair[1]);
+            for (double threshold : new double[]{0.0, 0.5, sim, Math.nextUp(sim), 1.0}) {
+                assertEquals(TextSimilarity.trustStream(pair[0], pair[1], threshold),
+                    TextSimilarity.trustStream(pair[0], pair[1], sim, threshold),
+                    pair[0] + " / " + pair[1] + " at " + threshold);
+            }
+        }
+    }
+
+    @Test
+    void is_similar_rejects_length_mismatch() {
+        assertFalse(TextSimilarity.isSimilar("ab", "abcdefgh", 0.5));
+        assertTrue(TextSimilarity.isSimilar("abcd", "abcdefgh", 0.5));
+    }
+
+    @Test
+    void is_similar_rejects_disjoint_characters() {
+        assertFalse(TextSimilarity.isSimilar("aaaaaaaa", "bbbbbbbb", 0.1));
+    }
+
+    @Test
+    void is_similar_handles_null_and_empty() {
+        assertFalse(TextSimilarity.isSimilar(null, "text", 0.5));
+        assertTrue(TextSimilarity.isSimilar(null, "text", 0.0));
+        assertTrue(TextSimilarity.isSimilar("", "", 1.0));
+        assertFalse(TextSimilarity.isSimilar("", "text", 0.5));
+    }
+
+    @Test
+    void is_similar_matches_similarity_for_non_latin_text() {
+        String stream = "\uD55C\uAD6D\uC5B4 \uBB38\uC11C \uCC98\uB9AC";
+        String ocr = "\uD55C\uAD6D\uC5B4 \uBB38\uC0AC \uCC98\uB9AC";
+        double sim = TextSimilarity.similarity(stream, ocr);
+        assertEquals(1.0 - 1.0 / stream.length(), sim, 1e-12);
+        assertTrue(TextSimilarity.isSimilar(stream, ocr, sim));
+    }
 }
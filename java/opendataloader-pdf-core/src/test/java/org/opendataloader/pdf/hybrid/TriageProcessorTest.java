@@ -39,6 +39,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Unit tests for TriageProcessor.
@@ -363,6 +364,58 @@ public class TriageProcessorTest {
         Assertions.assertEquals(1.0, result.getConfidence(), 0.001);
     }
 
+    @Test
+    public void testAlignedLineGroupsCountsRowsWithLargeGaps() {
+        List<IObject> contents = new ArrayList<>();
+        for (int row = 1; row <= 3; row++) {
+            double bottom = 100.0 * row;
+            contents.add(createTextChunk(10, bottom, 50, bottom + 20, "Label" + row));
+            contents.add(createTextChunk(200, bottom, 240, bottom + 20, "Value" + row));
+        }
+        // Same baseline but no large gap: not an aligned group
+        contents.add(createTextChunk(10, 400, 50, 420, "Plain"));
+        contents.add(createTextChunk(55, 400.05, 95, 420.05, "text"));
+
+        TriageSignals signals = TriageProcessor.extractSignals(contents, 0, new TriageThresholds());
+
+        Assertions.assertEquals(3, signals.getAlignedLineGroups());
+        Assertions.assertTrue(signals.hasSuspiciousPattern());
+    }
+
+    @Test
+    public void testParallelTriageMatchesSequential() {
+        StaticLayoutContainers.setReplacementCharRatio(3, 0.5);
+        Map<Integer, List<IObject>> pageContents = new HashMap<>();
+        for (int page = 0; page < 20; page++) {
+            List<IObject> contents = new ArrayList<>();
+            contents.add(createTextChunk(10, 100, 200, 120, "Page " + page));
+            if (page % 4 == 1) {
+                contents.add(createLineChunk(10, 90, 200, 90));
+                contents.add(createLineChunk(10, 80, 200, 80));
+            }
+            pageContents.put(page, contents);
+        }
+
+        Map<Integer, TriageResult> sequential =
+            TriageProcessor.triageAllPages(pageContents, new TriageThresholds(), 1);
+        Map<Integer, TriageResult> parallel =
+            TriageProcessor.triageAllPages(pageContents, new TriageThresholds(), 4);
+
+        Assertions.assertEquals(sequential, parallel);
+        // Thread-local replacement ratios are read on the calling thread
+        Assertions.assertEquals(TriageDecision.BACKEND, parallel.get(3).getDecision());
+        Assertions.assertEquals(TriageDecision.BACKEND, parallel.get(5).getDecision());
+        Assertions.assertEquals(TriageDecision.JAVA, parallel.get(4).getDecision());
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Assertions.assertEquals(sequential,
+                TriageProcessor.triageAllPages(pageContents, new TriageThresholds(), pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     // Helper methods
 
     private TextChunk createTextChunk(double leftX, double bottomY, double rightX, double topY, String text) {
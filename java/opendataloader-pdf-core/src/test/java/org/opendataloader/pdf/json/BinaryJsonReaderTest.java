@@ -0,0 +1,83 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.verapdf.wcag.algorithms.entities.enums.SemanticType;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryJsonReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    @ParameterizedTest
+    @EnumSource(BinaryJsonFormat.class)
+    void binaryOutputReadsBackAsTheJsonStructure(BinaryJsonFormat format) throws IOException {
+        TableBorderCell cell = createCell();
+        Path path = tempDir.resolve("cell." + format.getExtension());
+        try (OutputStream outputStream = Files.newOutputStream(path);
+             JsonGenerator generator = format.getFactory().createGenerator(outputStream)
+                 .setCodec(ObjectMapperHolder.getObjectMapper())) {
+            generator.writePOJO(cell);
+        }
+
+        JsonNode expected = ObjectMapperHolder.getObjectMapper().readTree(
+            ObjectMapperHolder.getObjectMapper().writeValueAsString(cell));
+
+        assertEquals(format, BinaryJsonReader.detectFormat(new ByteArrayInputStream(Files.readAllBytes(path))));
+        assertEquals(expected, BinaryJsonReader.readTree(path));
+    }
+
+    @Test
+    void detectFormatFromSignature() throws IOException {
+        assertEquals(BinaryJsonFormat.SMILE, BinaryJsonReader.detectFormat(
+            new ByteArrayInputStream(new byte[]{':', ')', '\n', 0x01})));
+        assertEquals(BinaryJsonFormat.CBOR, BinaryJsonReader.detectFormat(
+            new ByteArrayInputStream(new byte[]{(byte) 0xD9, (byte) 0xD9, (byte) 0xF7, (byte) 0xA0})));
+        assertNull(BinaryJsonReader.detectFormat(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8))));
+    }
+
+    @Test
+    void jsonTextIsReadToo() throws IOException {
+        JsonNode node = BinaryJsonReader.readTree(
+            new ByteArrayInputStream("{\"type\" : \"paragraph\"}".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("paragraph", node.get(JsonName.TYPE).asText());
+    }
+
+    private static TableBorderCell createCell() {
+        TableBorderCell cell = new TableBorderCell(0, 0, 1, 1, 0L);
+        cell.setBoundingBox(new BoundingBox(0, 10.25, 20.5, 110.125, 220.0));
+        cell.setSemanticType(SemanticType.TABLE_HEADER);
+        return cell;
+    }
+}
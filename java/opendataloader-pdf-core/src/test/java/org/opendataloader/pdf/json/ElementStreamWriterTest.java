@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.api.MemoryOutputSink;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticParagraph;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextLine;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.lists.ListItem;
+import org.verapdf.wcag.algorithms.entities.lists.PDFList;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ElementStreamWriterTest {
+
+    @Test
+    void testFlatRecordsWithHeadingPathAndPositions() throws IOException {
+        TableBorderRow row = new TableBorderRow(0, 2, null);
+        TableBorderCell firstCell = new TableBorderCell(0, 0, 1, 1, null);
+        firstCell.addContentObject(createTextNode(new SemanticParagraph(), "A", 1));
+        TableBorderCell secondCell = new TableBorderCell(0, 1, 1, 1, null);
+        secondCell.addContentObject(createTextNode(new SemanticParagraph(), "B", 1));
+        row.getCells()[0] = firstCell;
+        row.getCells()[1] = secondCell;
+        TableBorder table = new TableBorder(null, new TableBorderRow[]{row}, 1, 2);
+
+        PDFList list = new PDFList();
+        list.add(createTextNode(new ListItem(new BoundingBox(1, 10.0, 30.0, 20.0, 40.0), 7L), "1. one", 1));
+        list.add(createTextNode(new ListItem(new BoundingBox(1, 10.0, 20.0, 20.0, 30.0), 8L), "2. two", 1));
+
+        List<List<IObject>> contents = new ArrayList<>();
+        contents.add(List.of(createHeading("Intro", 1, 0), createTextNode(new SemanticParagraph(), "Body", 0)));
+        contents.add(List.of(table, createHeading("Details", 2, 1), list, createHeading("Next", 1, 1)));
+
+        List<JsonNode> records = writeRecords(contents);
+
+        assertEquals(8, records.size());
+        assertEquals("heading", records.get(0).get(JsonName.TYPE).asText());
+        assertEquals(0, records.get(0).get(JsonName.HEADING_PATH).size());
+        assertEquals("Body", records.get(1).get(JsonName.CONTENT).asText());
+        assertEquals(List.of("Intro"), getHeadingPath(records.get(1)));
+
+        JsonNode secondCellRecord = records.get(3);
+        assertEquals("B", secondCellRecord.get(JsonName.CONTENT).asText());
+        assertEquals(1, secondCellRecord.get(JsonName.TABLE_TYPE).get(JsonName.ROW_NUMBER).asInt());
+        assertEquals(2, secondCellRecord.get(JsonName.TABLE_TYPE).get(JsonName.COLUMN_NUMBER).asInt());
+        assertNull(secondCellRecord.get(JsonName.KIDS));
+
+        JsonNode secondItemRecord = records.get(6);
+        assertEquals(JsonName.LIST_ITEM_TYPE, secondItemRecord.get(JsonName.TYPE).asText());
+        assertEquals(2, secondItemRecord.get(JsonName.LIST_TYPE).get(JsonName.ITEM_NUMBER).asInt());
+        assertEquals(1, secondItemRecord.get(JsonName.LIST_TYPE).get(JsonName.LIST_DEPTH).asInt());
+        assertEquals(List.of("Intro", "Details"), getHeadingPath(secondItemRecord));
+        assertNull(secondItemRecord.get(JsonName.TABLE_TYPE));
+
+        assertEquals(Collections.emptyList(), getHeadingPath(records.get(7)));
+    }
+
+    private static List<JsonNode> writeRecords(List<List<IObject>> contents) throws IOException {
+        MemoryOutputSink sink = new MemoryOutputSink();
+        ElementStreamWriter.writeToElementStream(new File("sample.pdf"), sink, contents, Collections.emptyMap(),
+            false);
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<JsonNode> records = new ArrayList<>();
+        for (String line : sink.getOutputAsString("sample.elements.jsonl").split("\n")) {
+            records.add(objectMapper.readTree(line));
+        }
+        return records;
+    }
+
+    private static List<String> getHeadingPath(JsonNode record) {
+        List<String> headingPath = new ArrayList<>();
+        record.get(JsonName.HEADING_PATH).forEach(heading -> headingPath.add(heading.asText()));
+        return headingPath;
+    }
+
+    private static SemanticHeading createHeading(String text, int level, int pageNumber) {
+        SemanticHeading heading = createTextNode(new SemanticHeading(), text, pageNumber);
+        heading.setHeadingLevel(level);
+        return heading;
+    }
+
+    private static <T extends SemanticTextNode> T createTextNode(T textNode, String text, int pageNumber) {
+        textNode.add(new TextLine(new TextChunk(new BoundingBox(pageNumber, 10.0, 50.0, 100.0, 60.0),
+            text, 10, 50.0)));
+        return textNode;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.json.serializers;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.json.ObjectMapperHolder;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleSerializerTest {
+
+    private static final double[] VALUES = {0.0, -0.0, 0.0004, -0.0004, 0.0005, -0.0005, 1.0, 12.5, -12.25,
+        123.456, 1.0005, 32.5085, -2065.1065, 595.2756, 9999999.9996, 1e8, Double.MAX_VALUE};
+
+    @AfterEach
+    void clearCompactOutput() {
+        SerializerUtil.clearCompactOutput();
+    }
+
+    @Test
+    void compactNumbersMatchIndentedNumbers() throws IOException {
+        for (double value : VALUES) {
+            SerializerUtil.setCompactOutput(false);
+            String general = write(value);
+            SerializerUtil.setCompactOutput(true);
+            String compact = write(value);
+
+            assertEquals(general, compact, "value " + value);
+        }
+    }
+
+    @Test
+    void compactNumbersAreSeparatedInArrays() throws IOException {
+        SerializerUtil.setCompactOutput(true);
+
+        assertEquals("[-0.001,0.0]", write(-0.0005, 0.0004));
+        assertEquals("[1.001,100.0]", write(1.0005, 100.0));
+    }
+
+    @Test
+    void serializerIsResolvedOncePerClass() throws JsonMappingException {
+        assertSame(ObjectMapperHolder.getSerializer(TextChunk.class), ObjectMapperHolder.getSerializer(TextChunk.class));
+        assertInstanceOf(DoubleSerializer.class, ObjectMapperHolder.getSerializer(Double.class));
+    }
+
+    private static String write(double... values) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator jsonGenerator = ObjectMapperHolder.getJsonFactory().createGenerator(writer)) {
+            jsonGenerator.writeStartArray();
+            for (double value : values) {
+                DoubleSerializer.writeNumber(jsonGenerator, value);
+            }
+            jsonGenerator.writeEndArray();
+        }
+        return writer.toString();
+    }
+}
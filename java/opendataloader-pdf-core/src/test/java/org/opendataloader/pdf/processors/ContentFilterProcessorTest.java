@@ -17,7 +17,10 @@ package org.opendataloader.pdf.processors;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.api.Config;
 import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.content.IChunk;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
 import org.verapdf.wcag.algorithms.entities.content.TextChunk;
 import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
 
@@ -110,4 +113,51 @@ public class ContentFilterProcessorTest {
         Assertions.assertEquals(100.0, textChunk.getBoundingBox().getWidth(), 0.01,
             "Long text width should remain unchanged");
     }
+
+    @Test
+    public void testFilteredContentsMergeChunksAroundFilteredTinyText() throws Exception {
+        TextChunk first = createTextChunk(new BoundingBox(0, 10.0, 100.0, 30.0, 110.0), "Hel");
+        first.setTextEnd(30.0);
+        TextChunk tiny = createTextChunk(new BoundingBox(0, 200.0, 300.0, 205.0, 300.5), "x");
+        TextChunk second = createTextChunk(new BoundingBox(0, 30.0, 100.0, 45.0, 110.0), "lo");
+        second.setTextStart(30.0);
+        List<IChunk> contents = new ArrayList<>();
+        contents.add(first);
+        contents.add(tiny);
+        contents.add(second);
+
+        Config config = new Config();
+        config.getFilterConfig().setFilterTinyText(true);
+        List<IObject> filtered = ContentFilterProcessor.getFilteredContents("test.pdf", contents, 0, config);
+
+        // Tiny text is dropped before merging, so the chunks around it become neighbors
+        Assertions.assertEquals(1, filtered.size());
+        Assertions.assertEquals("Hello", ((TextChunk) filtered.get(0)).getValue());
+    }
+
+    @Test
+    public void testFilteredContentsDropDecorationImageAndKeepOrder() throws Exception {
+        List<IChunk> contents = new ArrayList<>();
+        contents.add(new ImageChunk(new BoundingBox(0, 300.0, 500.0, 400.0, 600.0)));
+        contents.add(createTextChunk(new BoundingBox(0, 10.0, 10.0, 20.0, 20.0), "test"));
+        contents.add(new ImageChunk(new BoundingBox(0, 10.0, 10.0, 20.0, 20.0)));
+        contents.add(new ImageChunk(new BoundingBox(0, 300.0, 100.0, 400.0, 200.0)));
+        contents.add(createTextChunk(new BoundingBox(0, 10.0, 50.0, 40.0, 60.0), "next"));
+
+        List<IObject> filtered = ContentFilterProcessor.getFilteredContents("test.pdf", contents, 0, new Config());
+
+        Assertions.assertEquals(4, filtered.size());
+        Assertions.assertTrue(filtered.get(0) instanceof ImageChunk);
+        Assertions.assertEquals("test", ((TextChunk) filtered.get(1)).getValue());
+        Assertions.assertEquals(100.0, filtered.get(2).getBottomY(), 0.01);
+        Assertions.assertEquals("next", ((TextChunk) filtered.get(3)).getValue());
+    }
+
+    private static TextChunk createTextChunk(BoundingBox boundingBox, String value) {
+        TextChunk textChunk = new TextChunk(boundingBox, value, boundingBox.getHeight(), boundingBox.getBottomY());
+        textChunk.adjustSymbolEndsToBoundingBox(null);
+        textChunk.setFontName("Arial");
+        textChunk.setFontWeight(400);
+        return textChunk;
+    }
 }
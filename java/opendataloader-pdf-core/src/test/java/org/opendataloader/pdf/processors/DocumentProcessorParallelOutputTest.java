@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.containers.StaticLayoutContainers;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks that the output generators write the same bytes on a worker pool as on the calling
+ * thread, so that no document state they read is lost on the workers.
+ */
+class DocumentProcessorParallelOutputTest {
+
+    private static final String SAMPLE_PDF_WITH_IMAGES = "../../samples/pdf/1901.03003.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    @AfterEach
+    void tearDown() {
+        StaticLayoutContainers.clearContainers();
+    }
+
+    @Test
+    void testParallelOutputsMatchSequentialOutputs() throws Exception {
+        File samplePdf = new File(SAMPLE_PDF_WITH_IMAGES);
+        if (!samplePdf.exists()) {
+            System.out.println("Skipping test: Sample PDF not found");
+            return;
+        }
+        String inputPdfName = samplePdf.getAbsolutePath();
+        Path sequentialDir = Files.createDirectory(tempDir.resolve("sequential"));
+        Path parallelDir = Files.createDirectory(tempDir.resolve("parallel"));
+
+        try {
+            ExtractionResult extraction = DocumentProcessor.extractContents(inputPdfName, new Config());
+            DocumentProcessor.generateOutputs(inputPdfName, extraction.getContents(),
+                createOutputConfig(sequentialDir, 1), extraction.getElementMetadata());
+            DocumentProcessor.generateOutputs(inputPdfName, extraction.getContents(),
+                createOutputConfig(parallelDir, 4), extraction.getElementMetadata());
+        } finally {
+            DocumentProcessor.closePdfResources();
+        }
+
+        List<Path> sequentialFiles = listFiles(sequentialDir);
+        assertEquals(sequentialFiles, listFiles(parallelDir));
+        assertTrue(sequentialFiles.stream().anyMatch(file -> file.toString().endsWith(".md")));
+        assertTrue(sequentialFiles.stream().anyMatch(file -> file.toString().contains("imageFile")),
+            "The sample should produce image files");
+        for (Path file : sequentialFiles) {
+            assertArrayEquals(Files.readAllBytes(sequentialDir.resolve(file)),
+                Files.readAllBytes(parallelDir.resolve(file)), "Output differs: " + file);
+        }
+    }
+
+    private static Config createOutputConfig(Path outputDir, int threads) throws ReflectiveOperationException {
+        Config config = new Config();
+        config.setOutputFolder(outputDir.toString());
+        config.setImageOutput(Config.IMAGE_OUTPUT_EXTERNAL);
+        config.setGenerateJSON(true);
+        config.setGenerateJsonLines(true);
+        config.setGenerateMarkdown(true);
+        config.setGenerateHtml(true);
+        config.setGenerateText(true);
+        // setThreads caps the count at the available processors; the pool must run on any machine.
+        Field threadsField = Config.class.getDeclaredField("threads");
+        threadsField.setAccessible(true);
+        threadsField.setInt(config, threads);
+        return config;
+    }
+
+    private static List<Path> listFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files.filter(Files::isRegularFile)
+                .map(directory::relativize)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,280 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.api.MemoryOutputSink;
+import org.opendataloader.pdf.hybrid.ElementMetadata;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.SemanticHeaderOrFooter;
+import org.verapdf.wcag.algorithms.entities.SemanticHeading;
+import org.verapdf.wcag.algorithms.entities.SemanticParagraph;
+import org.verapdf.wcag.algorithms.entities.SemanticTextNode;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextLine;
+import org.verapdf.wcag.algorithms.entities.enums.SemanticType;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.lists.ListItem;
+import org.verapdf.wcag.algorithms.entities.lists.PDFList;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorder;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderCell;
+import org.verapdf.wcag.algorithms.entities.tables.tableBorders.TableBorderRow;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ExtractionSnapshotTest {
+
+    @Test
+    void testRoundTrip() throws IOException {
+        ExtractionResult extraction = createExtraction();
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExtractionSnapshot.write(extraction, outputStream);
+        ExtractionResult restored = ExtractionSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals(0L, restored.getExtractionNs());
+        assertNull(restored.getHybridTimings());
+        DocumentInfo documentInfo = restored.getDocumentInfo();
+        assertEquals(2, documentInfo.getNumberOfPages());
+        assertEquals("Author", documentInfo.getAuthor());
+        assertNull(documentInfo.getTitle());
+        assertEquals(595.0, documentInfo.getPageBoundingBox(1).getRightX());
+
+        List<List<IObject>> contents = restored.getContents();
+        assertEquals(2, contents.size());
+        SemanticHeading heading = (SemanticHeading) contents.get(0).get(0);
+        assertEquals("Intro", heading.getValue());
+        assertEquals(2, heading.getHeadingLevel());
+        assertEquals(1L, heading.getRecognizedStructureId());
+        assertEquals("Title", heading.getLevel());
+        assertEquals(0, heading.getPageNumber());
+        SemanticParagraph paragraph = (SemanticParagraph) contents.get(0).get(1);
+        assertEquals("Body text", paragraph.getValue());
+        assertEquals(10.0, paragraph.getFirstLine().getFirstTextChunk().getFontSize());
+        ImageChunk image = (ImageChunk) contents.get(0).get(2);
+        assertEquals(3, image.getIndex());
+        assertEquals(100.0, image.getTopY());
+
+        PDFList list = (PDFList) contents.get(1).get(0);
+        assertEquals(2, list.getListItems().size());
+        assertEquals("2. two", list.getListItems().get(1).getValue());
+        assertEquals(3, list.getListItems().get(1).getLabelLength());
+
+        TableBorder table = (TableBorder) contents.get(1).get(1);
+        assertEquals(2, table.getNumberOfRows());
+        assertEquals(2, table.getNumberOfColumns());
+        TableBorderCell spanningCell = table.getCell(0, 0);
+        assertSame(spanningCell, table.getCell(0, 1));
+        assertEquals(2, spanningCell.getColSpan());
+        assertEquals("A", ((SemanticParagraph) spanningCell.getContents().get(0)).getValue());
+        assertEquals("D", ((SemanticParagraph) table.getCell(1, 1).getContents().get(0)).getValue());
+
+        ElementMetadata metadata = restored.getElementMetadata().get(1L);
+        assertEquals(0.75, metadata.getAiScore());
+        assertEquals("font-size", metadata.getHeadingInferenceMethod());
+        assertEquals(12, metadata.getTsr().getNumCells());
+        assertNull(metadata.getCaption());
+    }
+
+    @Test
+    void testReadsGzipCompressedSnapshot() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzipStream = new GZIPOutputStream(outputStream)) {
+            ExtractionSnapshot.write(createExtraction(), gzipStream);
+        }
+
+        ExtractionResult restored = ExtractionSnapshot.read(new ByteArrayInputStream(outputStream.toByteArray()));
+
+        assertEquals("Intro", ((SemanticHeading) restored.getContents().get(0).get(0)).getValue());
+    }
+
+    @Test
+    void testWriteToSnapshot() throws IOException {
+        ExtractionResult extraction = createExtraction();
+        MemoryOutputSink sink = new MemoryOutputSink();
+
+        ExtractionSnapshot.writeToSnapshot(new File("sample.pdf"), sink, extraction.getContents(),
+            extraction.getElementMetadata());
+
+        ExtractionResult restored = ExtractionSnapshot.read(
+            new ByteArrayInputStream(sink.getOutput("sample.snapshot")));
+        assertEquals(2, restored.getContents().size());
+        assertEquals(2, restored.getDocumentInfo().getNumberOfPages());
+    }
+
+    @Test
+    void testRejectsOtherData() {
+        byte[] bytes = "{\"kids\": []}".getBytes();
+
+        assertThrows(IOException.class, () -> ExtractionSnapshot.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Test
+    void testRejectsTruncatedSnapshot() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExtractionSnapshot.write(createExtraction(), outputStream);
+        byte[] bytes = outputStream.toByteArray();
+
+        for (int length = 0; length < bytes.length; length++) {
+            assertMalformed(Arrays.copyOf(bytes, length));
+        }
+    }
+
+    @Test
+    void testRejectsCountBeyondData() {
+        // A document of 2^31 - 1 pages
+        assertMalformed(createSnapshot(0xFF, 0xFF, 0xFF, 0xFF, 0x07));
+    }
+
+    @Test
+    void testRejectsNumberOutOfRange() {
+        // A document of 2^32 pages
+        assertMalformed(createSnapshot(0x80, 0x80, 0x80, 0x80, 0x10));
+    }
+
+    @Test
+    void testRejectsStringLongerThanData() {
+        // One page, with an author of 2^31 - 1 bytes
+        assertMalformed(createSnapshot(0x01, 0x01, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 'A'));
+    }
+
+    @Test
+    void testRejectsUnknownStringReference() {
+        // No pages, with the third string read so far as author
+        assertMalformed(createSnapshot(0x00, 0x04));
+    }
+
+    @Test
+    void testRejectsUnknownObjectType() {
+        // One page without metadata, holding an object of type 100 without ID, level, index
+        // or bounding box
+        assertMalformed(createSnapshot(0x01, 0x00, 0x00, 0x00, 0x00, 0x00,
+            0x01, 0x01, 0x64, 0x00, 0x00, 0x00, 0x00));
+    }
+
+    @Test
+    void testRejectsUnknownSemanticType() throws IOException {
+        SemanticHeaderOrFooter header = new SemanticHeaderOrFooter(SemanticType.HEADER);
+        header.addContents(List.of(createTextNode(new SemanticParagraph(), "Running head", 0)));
+        List<List<IObject>> contents = new ArrayList<>();
+        contents.add(List.of(header));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ExtractionSnapshot.write(new ExtractionResult(contents, 0, null), outputStream);
+        byte[] bytes = outputStream.toByteArray();
+
+        byte[] name = "HEADER".getBytes(StandardCharsets.UTF_8);
+        int position = indexOf(bytes, name);
+        assertTrue(position >= 0);
+        bytes[position + name.length - 1] = 'X';
+
+        assertMalformed(bytes);
+    }
+
+    private static void assertMalformed(byte[] bytes) {
+        IOException exception = assertThrows(IOException.class,
+            () -> ExtractionSnapshot.read(new ByteArrayInputStream(bytes)));
+        assertTrue(exception.getMessage().startsWith("Malformed extraction snapshot"), exception.getMessage());
+    }
+
+    /**
+     * Creates a snapshot of version 1 with the given data after its header.
+     */
+    private static byte[] createSnapshot(int... data) {
+        byte[] bytes = new byte[8 + data.length];
+        byte[] header = {'O', 'D', 'L', 'S', 0, 0, 0, 1};
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        for (int index = 0; index < data.length; index++) {
+            bytes[8 + index] = (byte) data[index];
+        }
+        return bytes;
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int start = 0; start + part.length <= bytes.length; start++) {
+            if (Arrays.equals(bytes, start, start + part.length, part, 0, part.length)) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    private static ExtractionResult createExtraction() {
+        SemanticHeading heading = createTextNode(new SemanticHeading(), "Intro", 0);
+        heading.setHeadingLevel(2);
+        heading.setRecognizedStructureId(1L);
+        heading.setLevel("Title");
+        ImageChunk image = new ImageChunk(new BoundingBox(0, 10.0, 70.0, 100.0, 100.0));
+        image.setIndex(3);
+
+        PDFList list = new PDFList();
+        list.add(createTextNode(new ListItem(new BoundingBox(1, 10.0, 30.0, 20.0, 40.0), 7L), "1. one", 1));
+        ListItem secondItem = createTextNode(new ListItem(new BoundingBox(1, 10.0, 20.0, 20.0, 30.0), 8L),
+            "2. two", 1);
+        secondItem.setLabelLength(3);
+        list.add(secondItem);
+
+        TableBorderCell spanningCell = createCell(0, 0, 2, "A");
+        TableBorderRow firstRow = new TableBorderRow(0, 2, null);
+        firstRow.setBoundingBox(new BoundingBox(1, 10.0, 60.0, 100.0, 70.0));
+        firstRow.getCells()[0] = spanningCell;
+        firstRow.getCells()[1] = spanningCell;
+        TableBorderRow secondRow = new TableBorderRow(1, 2, null);
+        secondRow.setBoundingBox(new BoundingBox(1, 10.0, 50.0, 100.0, 60.0));
+        secondRow.getCells()[0] = createCell(1, 0, 1, "C");
+        secondRow.getCells()[1] = createCell(1, 1, 1, "D");
+        TableBorder table = new TableBorder(null, new TableBorderRow[]{firstRow, secondRow}, 2, 2);
+        table.setBoundingBox(new BoundingBox(1, 10.0, 50.0, 100.0, 70.0));
+
+        List<List<IObject>> contents = new ArrayList<>();
+        contents.add(List.of(heading, createTextNode(new SemanticParagraph(), "Body text", 0), image));
+        contents.add(List.of(list, table));
+
+        ElementMetadata metadata = new ElementMetadata()
+            .setAiScore(0.75)
+            .setHeadingInferenceMethod("font-size")
+            .setTsr(new ElementMetadata.TsrMetadata().setNumCells(12).setHtml("<table></table>"));
+        List<BoundingBox> pageBoundingBoxes = List.of(new BoundingBox(0, 0.0, 0.0, 595.0, 842.0),
+            new BoundingBox(1, 0.0, 0.0, 595.0, 842.0));
+        return new ExtractionResult(contents, 1234L, null, Map.of(1L, metadata),
+            new DocumentInfo(2, "Author", null, null, null, pageBoundingBoxes));
+    }
+
+    private static TableBorderCell createCell(int rowNumber, int columnNumber, int colSpan, String text) {
+        TableBorderCell cell = new TableBorderCell(rowNumber, columnNumber, 1, colSpan, null);
+        cell.setBoundingBox(new BoundingBox(1, 10.0 + 45.0 * columnNumber, 60.0 - 10.0 * rowNumber,
+            10.0 + 45.0 * (columnNumber + colSpan), 70.0 - 10.0 * rowNumber));
+        cell.addContentObject(createTextNode(new SemanticParagraph(), text, 1));
+        return cell;
+    }
+
+    private static <T extends SemanticTextNode> T createTextNode(T textNode, String text, int pageNumber) {
+        textNode.add(new TextLine(new TextChunk(new BoundingBox(pageNumber, 10.0, 50.0, 100.0, 60.0),
+            text, 10, 50.0)));
+        return textNode;
+    }
+}
@@ -18,6 +18,7 @@ package org.opendataloader.pdf.processors;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.containers.StaticLayoutContainers;
 import org.opendataloader.pdf.hybrid.HancomAISchemaTransformer;
 import org.opendataloader.pdf.hybrid.HybridClient.HybridRequest;
 import org.opendataloader.pdf.hybrid.HybridClient.OutputFormat;
@@ -26,6 +27,12 @@ import org.opendataloader.pdf.hybrid.HybridSchemaTransformer;
 import org.opendataloader.pdf.hybrid.TriageProcessor.TriageDecision;
 import org.opendataloader.pdf.hybrid.TriageProcessor.TriageResult;
 import org.opendataloader.pdf.hybrid.TriageProcessor.TriageSignals;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.content.LineChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+import org.verapdf.wcag.algorithms.entities.tables.TableBordersCollection;
+import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
@@ -484,6 +491,85 @@ public class HybridDocumentProcessorTest {
         Assertions.assertEquals(pages, allChunked);
     }
 
+    // triagePages — triage is sized independently of the hybrid threads=1 rule.
+
+    @Test
+    public void testTriageParallelismIgnoresHybridThreads() {
+        Config config = new Config();
+        config.setHybrid(Config.HYBRID_DOCLING_FAST);
+        config.setThreads(4);
+        config.normalize();
+        Assertions.assertEquals(1, config.getThreads());
+
+        int processors = Runtime.getRuntime().availableProcessors();
+        Assertions.assertEquals(Math.min(processors, 20), HybridDocumentProcessor.triageParallelism(20));
+        Assertions.assertEquals(1, HybridDocumentProcessor.triageParallelism(1));
+        Assertions.assertEquals(1, HybridDocumentProcessor.triageParallelism(0));
+    }
+
+    @Test
+    public void testParallelTriagePagesMatchesSequential() {
+        StaticContainers.setIsIgnoreCharactersWithoutUnicode(false);
+        StaticContainers.setIsDataLoader(true);
+        StaticLayoutContainers.clearContainers();
+        StaticContainers.setTableBordersCollection(new TableBordersCollection());
+        try {
+            StaticLayoutContainers.setReplacementCharRatio(3, 0.5);
+            Map<Integer, List<IObject>> filteredContents = new HashMap<>();
+            for (int page = 0; page < 20; page++) {
+                List<IObject> contents = new ArrayList<>();
+                contents.add(createTextChunk(10, 100, 200, 120, "Page " + page));
+                if (page % 4 == 1) {
+                    contents.add(new LineChunk(0, 10, 90, 200, 90));
+                    contents.add(new LineChunk(0, 10, 80, 200, 80));
+                }
+                filteredContents.put(page, contents);
+            }
+            HybridConfig hybridConfig = new HybridConfig();
+
+            Map<Integer, TriageResult> sequential =
+                HybridDocumentProcessor.triagePages(filteredContents, null, hybridConfig, 1);
+            Map<Integer, TriageResult> parallel =
+                HybridDocumentProcessor.triagePages(filteredContents, null, hybridConfig, 4);
+
+            Assertions.assertEquals(20, parallel.size());
+            Assertions.assertEquals(sequential, parallel);
+            // The thread-local replacement ratio is read on the calling thread
+            Assertions.assertEquals(TriageDecision.BACKEND, parallel.get(3).getDecision());
+            Assertions.assertEquals(TriageDecision.JAVA, parallel.get(4).getDecision());
+        } finally {
+            StaticLayoutContainers.clearContainers();
+        }
+    }
+
+    @Test
+    public void testTriagePagesFullModeRoutesSelectedPagesToBackend() {
+        Map<Integer, List<IObject>> filteredContents = new HashMap<>();
+        for (int page = 0; page < 4; page++) {
+            filteredContents.put(page, new ArrayList<>());
+        }
+        HybridConfig hybridConfig = new HybridConfig();
+        hybridConfig.setMode(HybridConfig.MODE_FULL);
+        Set<Integer> pagesToProcess = new HashSet<>();
+        pagesToProcess.add(1);
+        pagesToProcess.add(2);
+
+        Map<Integer, TriageResult> results =
+            HybridDocumentProcessor.triagePages(filteredContents, pagesToProcess, hybridConfig, 4);
+
+        Assertions.assertEquals(pagesToProcess, results.keySet());
+        for (TriageResult result : results.values()) {
+            Assertions.assertEquals(TriageDecision.BACKEND, result.getDecision());
+        }
+    }
+
+    private static TextChunk createTextChunk(double leftX, double bottomY, double rightX, double topY, String text) {
+        BoundingBox bbox = new BoundingBox(0, leftX, bottomY, rightX, topY);
+        TextChunk chunk = new TextChunk(bbox, text, topY - bottomY, bottomY);
+        chunk.adjustSymbolEndsToBoundingBox(null);
+        return chunk;
+    }
+
     // failFastIfBackendFailedWithoutFallback — fail-fast contract for backend failures.
 
     @Test
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.MemoryOutputSink;
+import org.opendataloader.pdf.api.OpenDataLoaderPDF;
+import org.opendataloader.pdf.hybrid.HybridClientFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class InMemoryDocumentProcessorTest {
+
+    private static final String SAMPLE_PDF = "../../samples/pdf/1901.03003.pdf";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testOutputsMatchFileOutputs() throws IOException {
+        File samplePdf = new File(SAMPLE_PDF);
+        assumeTrue(samplePdf.exists(), "Sample PDF not found at " + samplePdf.getAbsolutePath());
+        HybridClientFactory.shutdown();
+
+        Config fileConfig = createConfig();
+        fileConfig.setOutputFolder(tempDir.toString());
+        DocumentProcessor.processFile(samplePdf.getAbsolutePath(), fileConfig);
+
+        MemoryOutputSink outputs = OpenDataLoaderPDF.processBytes(
+            Files.readAllBytes(samplePdf.toPath()), "1901.03003.pdf", createConfig());
+
+        assertEquals(Files.readString(tempDir.resolve("1901.03003.json")), outputs.getOutputAsString("1901.03003.json"));
+        assertEquals(Files.readString(tempDir.resolve("1901.03003.md")), outputs.getOutputAsString("1901.03003.md"));
+        for (String outputName : outputs.getOutputNames()) {
+            if (outputName.startsWith("1901.03003_images/")) {
+                assertArrayEquals(Files.readAllBytes(tempDir.resolve(outputName)), outputs.getOutput(outputName));
+            }
+        }
+    }
+
+    @Test
+    void testJsonLinesHoldJsonElements() throws IOException {
+        File samplePdf = new File(SAMPLE_PDF);
+        assumeTrue(samplePdf.exists(), "Sample PDF not found at " + samplePdf.getAbsolutePath());
+        HybridClientFactory.shutdown();
+
+        Config config = createConfig();
+        config.setGenerateMarkdown(false);
+        config.setGenerateJsonLines(true);
+        config.setJsonCompact(true);
+        config.setImageOutput(Config.IMAGE_OUTPUT_OFF);
+        MemoryOutputSink outputs = OpenDataLoaderPDF.processBytes(
+            Files.readAllBytes(samplePdf.toPath()), "1901.03003.pdf", config);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode kids = objectMapper.readTree(outputs.getOutputAsString("1901.03003.json")).get("kids");
+        String[] lines = outputs.getOutputAsString("1901.03003.jsonl").split("\n");
+        assertEquals(kids.size(), lines.length);
+        for (int index = 0; index < lines.length; index++) {
+            assertEquals(kids.get(index), objectMapper.readTree(lines[index]));
+        }
+    }
+
+    @Test
+    void testChannelInputWritesToCallerStreams() throws IOException {
+        File samplePdf = new File(SAMPLE_PDF);
+        assumeTrue(samplePdf.exists(), "Sample PDF not found at " + samplePdf.getAbsolutePath());
+        HybridClientFactory.shutdown();
+
+        Config config = createConfig();
+        config.setImageOutput(Config.IMAGE_OUTPUT_OFF);
+        ByteArrayOutputStream markdown = new ByteArrayOutputStream();
+        try (FileChannel channel = FileChannel.open(samplePdf.toPath(), StandardOpenOption.READ)) {
+            channel.position(10);
+            OpenDataLoaderPDF.processChannel(channel, "sample", config, fileName -> fileName.endsWith(".md")
+                ? markdown : new ByteArrayOutputStream());
+            assertEquals(10, channel.position());
+        }
+
+        assertTrue(markdown.size() > 0);
+    }
+
+    @Test
+    void testValidateConfigRejectsPdfOutputs() {
+        Config config = new Config();
+        config.setGenerateTaggedPDF(true);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> InMemoryDocumentProcessor.validateConfig(config, new MemoryOutputSink()));
+    }
+
+    @Test
+    void testValidateConfigRejectsExternalImagesWithoutFolder() {
+        Config config = new Config();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> InMemoryDocumentProcessor.validateConfig(config, fileName -> new ByteArrayOutputStream()));
+        assertDoesNotThrow(() -> InMemoryDocumentProcessor.validateConfig(config, new MemoryOutputSink()));
+
+        config.setImageOutput(Config.IMAGE_OUTPUT_EMBEDDED);
+        assertDoesNotThrow(
+            () -> InMemoryDocumentProcessor.validateConfig(config, fileName -> new ByteArrayOutputStream()));
+    }
+
+    @Test
+    void testGetPdfFileName() {
+        assertEquals("sample.pdf", InMemoryDocumentProcessor.getPdfFileName("sample.pdf"));
+        assertEquals("sample.PDF", InMemoryDocumentProcessor.getPdfFileName("upload/sample.PDF"));
+        assertEquals("sample.pdf", InMemoryDocumentProcessor.getPdfFileName("sample"));
+        assertEquals("document.pdf", InMemoryDocumentProcessor.getPdfFileName(null));
+    }
+
+    private static Config createConfig() {
+        Config config = new Config();
+        config.setGenerateJSON(true);
+        config.setGenerateMarkdown(true);
+        return config;
+    }
+}
@@ -226,6 +226,36 @@ public class TextDecorationProcessorTest {
 //            "Line-art strikethrough should support multiple chunks on one visual line");
 //    }
 
+    @Test
+    public void testRulesOnlyMarkChunksOnTheirOwnTextLine() {
+        List<IObject> contents = new ArrayList<>();
+        TextChunk underlined = new TextChunk(new BoundingBox(0, 10.0, 100.0, 60.0, 120.0),
+            "apple", 12, 100.0);
+        TextChunk struckThrough = new TextChunk(new BoundingBox(0, 10.0, 200.0, 60.0, 220.0),
+            "pear", 12, 200.0);
+        TextChunk untouched = new TextChunk(new BoundingBox(0, 10.0, 300.0, 60.0, 320.0),
+            "plum", 12, 300.0);
+        contents.add(untouched);
+        contents.add(struckThrough);
+        contents.add(underlined);
+
+        StaticContainers.getLinesCollection().getHorizontalLines(0).add(
+            LineChunk.createLineChunk(0, 10.0, 210.0, 60.0, 210.0, 1.0, LineChunk.BUTT_CAP_STYLE));
+        StaticContainers.getLinesCollection().getHorizontalLines(0).add(
+            LineChunk.createLineChunk(0, 10.0, 97.0, 60.0, 97.0, 1.0, LineChunk.BUTT_CAP_STYLE));
+        StaticContainers.getLinesCollection().getHorizontalLines(0).add(
+            LineChunk.createLineChunk(0, 10.0, 260.0, 60.0, 260.0, 1.0, LineChunk.BUTT_CAP_STYLE));
+
+        TextDecorationProcessor.processStrikethroughAndUnderlinedText(contents, 0, true);
+
+        Assertions.assertTrue(underlined.getIsUnderlinedText());
+        Assertions.assertFalse(underlined.getIsStrikethroughText());
+        Assertions.assertTrue(struckThrough.getIsStrikethroughText());
+        Assertions.assertFalse(struckThrough.getIsUnderlinedText());
+        Assertions.assertFalse(untouched.getIsStrikethroughText());
+        Assertions.assertFalse(untouched.getIsUnderlinedText());
+    }
+
     @Test
     public void testLineMuchWiderThanTextRejected() {
         List<IObject> contents = new ArrayList<>();
@@ -103,6 +103,24 @@ public class TextProcessorTest {
         Assertions.assertEquals(1, contents.size());
     }
 
+    @Test
+    public void testRemoveSameTextChunksKeepsLastOfOverprintedGroup() {
+        List<IObject> contents = new ArrayList<>();
+        TextChunk last = new TextChunk(new BoundingBox(1, 10.0, 10.0, 20.0, 20.0), "a", 10, 10.0);
+        TextChunk other = new TextChunk(new BoundingBox(1, 200.0, 10.0, 210.0, 20.0), "a", 10, 10.0);
+        contents.add(new TextChunk(new BoundingBox(1, 10.0, 10.0, 20.0, 20.0), "a", 10, 10.0));
+        contents.add(new TextChunk(new BoundingBox(1, 10.2, 10.0, 20.2, 20.0), "b", 10, 10.0));
+        contents.add(other);
+        contents.add(new TextChunk(new BoundingBox(1, 10.0, 10.0, 20.0, 20.0), "a", 10, 10.0));
+        contents.add(last);
+        TextProcessor.removeSameTextChunks(contents);
+        contents = DocumentProcessor.removeNullObjectsFromList(contents);
+        Assertions.assertEquals(3, contents.size());
+        Assertions.assertEquals("b", ((TextChunk) contents.get(0)).getValue());
+        Assertions.assertSame(other, contents.get(1));
+        Assertions.assertSame(last, contents.get(2));
+    }
+
     @Test
     public void testRemoveTextDecorationImages() {
         List<IObject> contents = new ArrayList<>();
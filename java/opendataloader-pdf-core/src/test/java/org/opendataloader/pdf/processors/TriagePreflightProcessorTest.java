@@ -0,0 +1,151 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.processors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.hybrid.HybridConfig;
+import org.opendataloader.pdf.hybrid.TriageProcessor.TriageDecision;
+import org.opendataloader.pdf.hybrid.TriageProcessor.TriageResult;
+import org.opendataloader.pdf.hybrid.TriageProcessor.TriageSignals;
+import org.opendataloader.pdf.processors.TriagePreflightProcessor.DocumentTriage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Unit tests for TriagePreflightProcessor.
+ */
+public class TriagePreflightProcessorTest {
+
+    private static final String SAMPLE_PDF = "../../samples/pdf/lorem.pdf";
+
+    @Test
+    public void testPreflightJsonAggregatesDocuments() {
+        Map<Integer, TriageResult> first = new HashMap<>();
+        first.put(0, TriageResult.java(0, 0.95, TriageSignals.empty()));
+        first.put(1, TriageResult.backend(1, 0.9, TriageSignals.empty()));
+        Map<Integer, TriageResult> second = new HashMap<>();
+        second.put(0, TriageResult.backend(0, 0.9, TriageSignals.empty()));
+        second.put(1, TriageResult.backend(1, 0.9, TriageSignals.empty()));
+
+        List<DocumentTriage> documents = Arrays.asList(
+            DocumentTriage.success("a.pdf", first),
+            DocumentTriage.success("b.pdf", second),
+            DocumentTriage.failure("broken.pdf", "not a valid PDF file"));
+
+        ObjectNode json = TriagePreflightProcessor.createPreflightJson("docling-fast", documents);
+
+        Assertions.assertEquals("docling-fast", json.get("hybrid").asText());
+        JsonNode documentsNode = json.get("documents");
+        Assertions.assertEquals(3, documentsNode.size());
+        Assertions.assertEquals("a.pdf", documentsNode.get(0).get("document").asText());
+        Assertions.assertFalse(documentsNode.get(0).has("hybrid"));
+        Assertions.assertEquals(2, documentsNode.get(0).get("triage").size());
+        Assertions.assertEquals(1, documentsNode.get(0).get("summary").get("backendPages").asInt());
+        Assertions.assertEquals("not a valid PDF file", documentsNode.get(2).get("error").asText());
+
+        JsonNode summary = json.get("summary");
+        Assertions.assertEquals(3, summary.get("documents").asInt());
+        Assertions.assertEquals(1, summary.get("failedDocuments").asInt());
+        Assertions.assertEquals(4, summary.get("totalPages").asInt());
+        Assertions.assertEquals(1, summary.get("javaPages").asInt());
+        Assertions.assertEquals(3, summary.get("backendPages").asInt());
+        Assertions.assertEquals(0.75, summary.get("backendRatio").asDouble(), 1e-9);
+    }
+
+    @Test
+    public void testPreflightJsonWithNoDocuments() {
+        ObjectNode json = TriagePreflightProcessor.createPreflightJson("off", Collections.emptyList());
+
+        Assertions.assertEquals(0, json.get("documents").size());
+        Assertions.assertEquals(0, json.get("summary").get("totalPages").asInt());
+        Assertions.assertEquals(0.0, json.get("summary").get("backendRatio").asDouble());
+    }
+
+    @Test
+    public void testInvalidDocumentIsReportedNotThrown(@TempDir Path tempDir) throws IOException {
+        Path notPdf = tempDir.resolve("not-a-pdf.pdf");
+        Files.writeString(notPdf, "plain text");
+
+        Config config = new Config();
+        config.setHybrid(Config.HYBRID_DOCLING_FAST);
+        List<DocumentTriage> documents = TriagePreflightProcessor.triageDocuments(
+            Collections.singletonList(notPdf.toString()), config);
+
+        Assertions.assertEquals(1, documents.size());
+        Assertions.assertTrue(documents.get(0).isFailed());
+        Assertions.assertEquals("not-a-pdf.pdf", documents.get(0).getDocumentName());
+    }
+
+    @Test
+    public void testPreflightRequiresHybrid() {
+        Assertions.assertThrows(IllegalArgumentException.class, () ->
+            TriagePreflightProcessor.triageDocuments(Collections.singletonList(SAMPLE_PDF), new Config()));
+    }
+
+    @Test
+    public void testFullModeRoutesAllPagesToBackend() throws IOException {
+        File samplePdf = new File(SAMPLE_PDF);
+        if (!samplePdf.exists()) {
+            System.out.println("Skipping test: Sample PDF not found");
+            return;
+        }
+        Config config = new Config();
+        config.setHybrid(Config.HYBRID_DOCLING_FAST);
+        config.getHybridConfig().setMode(HybridConfig.MODE_FULL);
+
+        Map<Integer, TriageResult> results = TriagePreflightProcessor.triageDocument(
+            samplePdf.getAbsolutePath(), config);
+
+        Assertions.assertFalse(results.isEmpty());
+        for (Map.Entry<Integer, TriageResult> entry : results.entrySet()) {
+            Assertions.assertEquals(TriageDecision.BACKEND, entry.getValue().getDecision());
+            Assertions.assertEquals(entry.getKey().intValue(), entry.getValue().getPageNumber());
+        }
+    }
+
+    @Test
+    public void testWritePreflightFile(@TempDir Path tempDir) throws IOException {
+        Path outputPath = TriagePreflightProcessor.writePreflightFile(tempDir, "docling-fast",
+            Collections.singletonList(DocumentTriage.failure("x.pdf", "error")));
+
+        Assertions.assertEquals(tempDir.resolve(TriagePreflightProcessor.DEFAULT_FILENAME), outputPath);
+        Assertions.assertTrue(Files.readString(outputPath).contains("\"failedDocuments\" : 1"));
+    }
+
+    @Test
+    public void testPreflightKeepsThreadsInHybridMode() {
+        Config config = new Config();
+        config.setHybrid(Config.HYBRID_DOCLING_FAST);
+        config.setThreads(2);
+        config.setTriagePreflight(true);
+        config.normalize();
+
+        Assertions.assertEquals(Math.min(2, Runtime.getRuntime().availableProcessors()), config.getThreads());
+    }
+}
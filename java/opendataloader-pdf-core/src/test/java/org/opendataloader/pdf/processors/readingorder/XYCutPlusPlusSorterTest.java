@@ -26,7 +26,9 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainer
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -223,6 +225,35 @@ class XYCutPlusPlusSorterTest {
         assertEquals("Right", getText(groups.get(1).get(0)));
     }
 
+    @Test
+    void recursiveSegment_horizontalCut_upperGroupFirst() {
+        List<IObject> objects = new ArrayList<>();
+        objects.add(createTextLine(10, 40, 100, 30, "Bottom"));
+        objects.add(createTextLine(10, 90, 100, 80, "Top"));
+
+        List<IObject> result = XYCutPlusPlusSorter.recursiveSegment(objects, true);
+
+        assertEquals(2, result.size());
+        assertEquals("Top", getText(result.get(0)));
+        assertEquals("Bottom", getText(result.get(1)));
+    }
+
+    @Test
+    void recursiveSegment_verticalCut_leftGroupFirst() {
+        // Without the vertical cut, reading order would put R1 between L1 and L2
+        List<IObject> objects = new ArrayList<>();
+        objects.add(createTextLine(80, 70, 110, 60, "R1"));
+        objects.add(createTextLine(10, 90, 40, 80, "L1"));
+        objects.add(createTextLine(10, 50, 40, 40, "L2"));
+
+        List<IObject> result = XYCutPlusPlusSorter.recursiveSegment(objects, true);
+
+        assertEquals(3, result.size());
+        assertEquals("L1", getText(result.get(0)));
+        assertEquals("L2", getText(result.get(1)));
+        assertEquals("R1", getText(result.get(2)));
+    }
+
     // ========== INTEGRATION TESTS ==========
 
     @Test
@@ -911,4 +942,51 @@ class XYCutPlusPlusSorterTest {
             assertEquals(17, result.size());  // 15 grid + 2 header/footer
         });
     }
+
+    // ========== DENSE PAGE TESTS ==========
+
+    @Test
+    void identifyCrossLayoutElements_matchesPairwiseOverlapCheck() {
+        Random random = new Random(7);
+        for (int round = 0; round < 200; round++) {
+            List<IObject> objects = new ArrayList<>();
+            for (int i = 0; i < 60; i++) {
+                double x = Math.round(random.nextDouble() * 60) * 10;
+                double y = random.nextDouble() * 800;
+                double width = random.nextInt(6) == 0 ? random.nextDouble() * 600 : random.nextDouble() * 60;
+                objects.add(createTextLine(x, y + 10, x + width, y, "T" + i));
+            }
+            double beta = new double[]{0.0, 0.3, 0.7, 1.0}[round % 4];
+
+            List<IObject> expected = new ArrayList<>();
+            double maxWidth = objects.stream().mapToDouble(o -> o.getBoundingBox().getWidth()).max().orElse(0);
+            for (IObject obj : objects) {
+                if (obj.getBoundingBox().getWidth() >= beta * maxWidth
+                        && XYCutPlusPlusSorter.hasMinimumOverlaps(obj, objects, XYCutPlusPlusSorter.MIN_OVERLAP_COUNT)) {
+                    expected.add(obj);
+                }
+            }
+
+            assertEquals(expected, XYCutPlusPlusSorter.identifyCrossLayoutElements(objects, beta));
+        }
+    }
+
+    @Test
+    void sort_denseGrid_readsRowByRow() {
+        List<IObject> objects = new ArrayList<>();
+        for (int row = 0; row < 200; row++) {
+            for (int col = 0; col < 20; col++) {
+                double x = 20 + col * 28;
+                double y = 4000 - row * 20;
+                objects.add(createTextLine(x, y, x + 24, y - 10, "R" + row + "C" + col));
+            }
+        }
+        List<IObject> shuffled = new ArrayList<>(objects);
+        Collections.shuffle(shuffled, new Random(3));
+
+        assertTimeout(Duration.ofSeconds(5), () -> {
+            List<IObject> result = XYCutPlusPlusSorter.sort(shuffled);
+            assertEquals(objects, result);
+        });
+    }
 }
@@ -19,12 +19,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Base64;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -77,6 +81,37 @@ class Base64ImageUtilsTest {
         assertNull(dataUri);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 2, 3, 3072, 3073, 10000})
+    void testWriteDataUri_matchesToDataUri(int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        StringWriter writer = new StringWriter();
+        Base64ImageUtils.writeDataUri(writer, content, "png");
+
+        String expected = Base64ImageUtils.toDataUri(content, "png");
+        assertEquals(expected, writer.toString());
+        assertEquals(expected.length(), Base64ImageUtils.getDataUriLength(content, "png"));
+    }
+
+    @Test
+    void testOpenDataUri_readsInSmallChunks() throws IOException {
+        byte[] content = new byte[5000];
+        new Random(1).nextBytes(content);
+
+        StringBuilder dataUri = new StringBuilder();
+        try (Reader reader = Base64ImageUtils.openDataUri(content, "jpeg")) {
+            char[] buffer = new char[7];
+            int count;
+            while ((count = reader.read(buffer, 0, buffer.length)) != -1) {
+                dataUri.append(buffer, 0, count);
+            }
+        }
+
+        assertEquals("data:image/jpeg;base64," + Base64.getEncoder().encodeToString(content), dataUri.toString());
+    }
+
     @ParameterizedTest
     @CsvSource({
         "png, image/png",
@@ -3,6 +3,7 @@ package org.opendataloader.pdf.utils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.opendataloader.pdf.api.FilterConfig;
+import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.content.TextChunk;
 import org.verapdf.wcag.algorithms.entities.content.TextLine;
 import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
@@ -11,6 +12,9 @@ import org.verapdf.wcag.algorithms.semanticalgorithms.utils.StreamInfo;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -111,4 +115,58 @@ class ContentSanitizerTest {
 
         assertChunksContainValues(result, "User: ", "email@example.com", ". Hi!", " Hello!");
     }
+
+    @Test
+    void testRuleSkippedWhenTextLacksRequiredCharacters() {
+        Pattern pattern = Pattern.compile("secret");
+        ContentSanitizer withPrefilter = new ContentSanitizer(Collections.singletonList(
+            new SanitizationRule(pattern, "***", "#")));
+        ContentSanitizer withoutPrefilter = new ContentSanitizer(Collections.singletonList(
+            new SanitizationRule(pattern, "***")));
+
+        assertEquals(0, withPrefilter.findAllReplacements("a secret word").size());
+        assertEquals(1, withPrefilter.findAllReplacements("a #secret word").size());
+        assertEquals(1, withoutPrefilter.findAllReplacements("a secret word").size());
+    }
+
+    @Test
+    void testParallelSanitizationMatchesSequential() {
+        List<List<IObject>> sequentialPages = new ArrayList<>();
+        List<List<IObject>> parallelPages = new ArrayList<>();
+        for (int page = 0; page < 8; page++) {
+            String value = "Mail user" + page + "@corp.com or visit 10.0.0." + page;
+            sequentialPages.add(Collections.singletonList(createTextLine(value)));
+            parallelPages.add(Collections.singletonList(createTextLine(value)));
+        }
+
+        AtomicInteger setupRuns = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            sanitizer.sanitizeContents(sequentialPages);
+            sanitizer.sanitizeContents(parallelPages, pool, setupRuns::incrementAndGet);
+        } finally {
+            pool.shutdown();
+        }
+
+        assertEquals(parallelPages.size(), setupRuns.get());
+
+        for (int page = 0; page < sequentialPages.size(); page++) {
+            assertEquals(getChunkValues(sequentialPages.get(page)), getChunkValues(parallelPages.get(page)));
+        }
+        assertEquals("Mail email@example.com or visit 0.0.0.0", getChunkValues(parallelPages.get(3)));
+    }
+
+    private static String getChunkValues(List<IObject> pageContents) {
+        StringBuilder value = new StringBuilder();
+        for (TextChunk chunk : ((TextLine) pageContents.get(0)).getTextChunks()) {
+            value.append(chunk.getValue());
+        }
+        return value.toString();
+    }
+
+    private TextLine createTextLine(String value) {
+        TextLine line = new TextLine();
+        line.add(createTextChunk(value, 0f, 60f, 300f, 20f));
+        return line;
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImageStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void identicalImagesAreStoredOnce() throws IOException {
+        ImageStore imageStore = new ImageStore(tempDir.resolve("store"));
+        Path firstDocument = Files.createDirectories(tempDir.resolve("first_images"));
+        Path secondDocument = Files.createDirectories(tempDir.resolve("second_images"));
+        byte[] logo = {1, 2, 3, 4};
+        byte[] photo = {5, 6, 7};
+
+        Path storedLogo = imageStore.write(logo, "png", firstDocument.resolve("imageFile1.png"));
+        assertEquals(storedLogo, imageStore.write(logo, "png", secondDocument.resolve("imageFile3.png")));
+        Path storedPhoto = imageStore.write(photo, "png", secondDocument.resolve("imageFile1.png"));
+
+        assertNotEquals(storedLogo, storedPhoto);
+        assertEquals(ImageStore.sha256(logo) + ".png", storedLogo.getFileName().toString());
+        try (Stream<Path> stored = Files.list(tempDir.resolve("store"))) {
+            assertEquals(2, stored.count());
+        }
+        assertArrayEquals(logo, Files.readAllBytes(firstDocument.resolve("imageFile1.png")));
+        assertArrayEquals(logo, Files.readAllBytes(secondDocument.resolve("imageFile3.png")));
+        assertArrayEquals(photo, Files.readAllBytes(secondDocument.resolve("imageFile1.png")));
+    }
+
+    @Test
+    void existingTargetIsReplaced() throws IOException {
+        ImageStore imageStore = new ImageStore(tempDir.resolve("store"));
+        Path target = Files.write(tempDir.resolve("imageFile1.png"), new byte[]{9});
+
+        imageStore.write(new byte[]{1, 2}, "png", target);
+
+        assertArrayEquals(new byte[]{1, 2}, Files.readAllBytes(target));
+    }
+
+    @Test
+    void sha256IsLowercaseHex() {
+        assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", ImageStore.sha256(new byte[0]));
+    }
+}
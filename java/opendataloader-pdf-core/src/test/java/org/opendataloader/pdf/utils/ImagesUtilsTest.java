@@ -16,20 +16,30 @@
 package org.opendataloader.pdf.utils;
 
 import org.junit.jupiter.api.Test;
+import org.opendataloader.pdf.api.Config;
+import org.opendataloader.pdf.api.ZipOutputSink;
 import org.opendataloader.pdf.containers.StaticLayoutContainers;
+import org.opendataloader.pdf.processors.DocumentProcessor;
+import org.verapdf.wcag.algorithms.entities.IObject;
 import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
 import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
 import org.verapdf.wcag.algorithms.semanticalgorithms.containers.StaticContainers;
 
 import javax.imageio.ImageIO;
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.lang.ref.WeakReference;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -110,6 +120,256 @@ class ImagesUtilsTest {
         }
     }
 
+    @Test
+    void testImageIndexIsPerWriter() {
+        ImagesUtils first = new ImagesUtils();
+        assertEquals(1, first.nextImageIndex());
+        assertEquals(2, first.nextImageIndex());
+        assertEquals(3, first.nextImageIndex());
+
+        // A second writer, e.g. for the next document, numbers its images from 1 again.
+        ImagesUtils second = new ImagesUtils();
+        assertEquals(1, second.nextImageIndex());
+        assertEquals(4, first.nextImageIndex());
+    }
+
+    @Test
+    void testWriteImageBytesToFile() throws IOException {
+        StaticLayoutContainers.clearContainers();
+        Path tempDir = Files.createTempDirectory("passthrough-test");
+        byte[] jpegBytes = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9};
+        try {
+            ImagesUtils imagesUtils = new ImagesUtils();
+            String fileName = tempDir.resolve("imageFile1.jpeg").toString();
+            imagesUtils.writeImageBytesToFile(jpegBytes, fileName, "jpeg");
+            assertArrayEquals(jpegBytes, Files.readAllBytes(Path.of(fileName)));
+
+            // Embedded mode caches the bytes instead of writing a file.
+            StaticLayoutContainers.setEmbedImages(true);
+            String embeddedFileName = tempDir.resolve("imageFile2.jpeg").toString();
+            imagesUtils.writeImageBytesToFile(jpegBytes, embeddedFileName, "jpeg");
+            assertArrayEquals(jpegBytes, StaticLayoutContainers.getEmbeddedImageBytes(embeddedFileName));
+            assertFalse(Files.exists(Path.of(embeddedFileName)));
+        } finally {
+            StaticLayoutContainers.clearContainers();
+            Files.walk(tempDir)
+                .sorted((a, b) -> b.compareTo(a))
+                .forEach(p -> {
+                    try {
+                        Files.deleteIfExists(p);
+                    } catch (IOException e) {
+                        // ignore
+                    }
+                });
+        }
+    }
+
+    @Test
+    void testWriteImageBytesToArchive() throws IOException {
+        StaticLayoutContainers.clearContainers();
+        byte[] jpegBytes = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9};
+        ByteArrayOutputStream archiveBytes = new ByteArrayOutputStream();
+        String fileName = Paths.get("out", "sample_images", "imageFile1.jpeg").toString();
+        try (ZipOutputSink archive = new ZipOutputSink(archiveBytes, "sample.zip")) {
+            StaticLayoutContainers.setOutputArchive(archive);
+            new ImagesUtils().writeImageBytesToFile(jpegBytes, fileName, "jpeg");
+
+            assertTrue(ImagesUtils.isImageFileExists(fileName));
+            assertFalse(ImagesUtils.isImageFileExists(Paths.get("out", "sample_images", "imageFile2.jpeg").toString()));
+        } finally {
+            StaticLayoutContainers.clearContainers();
+        }
+        assertFalse(Files.exists(Path.of(fileName)));
+
+        try (ZipInputStream zipInputStream = new ZipInputStream(new ByteArrayInputStream(archiveBytes.toByteArray()))) {
+            ZipEntry entry = zipInputStream.getNextEntry();
+            assertEquals("sample_images/imageFile1.jpeg", entry.getName());
+            assertEquals(ZipEntry.STORED, entry.getMethod());
+            assertArrayEquals(jpegBytes, zipInputStream.readAllBytes());
+        }
+    }
+
+    @Test
+    void testConcurrentWriteMatchesSequentialWrite() throws IOException {
+        StaticLayoutContainers.clearContainers();
+        Path tempDir = Files.createTempDirectory("concurrent-images");
+        File testPdf = new File("../../samples/pdf/lorem.pdf");
+        try {
+            DocumentProcessor.preprocessing(testPdf.getAbsolutePath(), new Config());
+            StaticLayoutContainers.clearContainers();
+
+            List<List<IObject>> sequentialContents = createImageContents();
+            StaticLayoutContainers.setImagesDirectory(tempDir.resolve("sequential_images").toString());
+            new ImagesUtils().write(sequentialContents, 1);
+
+            List<List<IObject>> concurrentContents = createImageContents();
+            StaticLayoutContainers.setImagesDirectory(tempDir.resolve("concurrent_images").toString());
+            new ImagesUtils().write(concurrentContents, 4);
+
+            List<IObject> sequentialImages = sequentialContents.get(0);
+            List<IObject> concurrentImages = concurrentContents.get(0);
+            for (int index = 0; index < sequentialImages.size(); index++) {
+                int imageIndex = ((ImageChunk) sequentialImages.get(index)).getIndex();
+                assertEquals(index + 1, imageIndex);
+                assertEquals(imageIndex, ((ImageChunk) concurrentImages.get(index)).getIndex());
+                String fileName = "imageFile" + imageIndex + ".png";
+                Path sequentialFile = tempDir.resolve("sequential_images").resolve(fileName);
+                Path concurrentFile = tempDir.resolve("concurrent_images").resolve(fileName);
+                assertTrue(Files.exists(sequentialFile), "Sequential write must create " + fileName);
+                assertArrayEquals(Files.readAllBytes(sequentialFile), Files.readAllBytes(concurrentFile),
+                    "Concurrent write must produce the same bytes for " + fileName);
+            }
+            try (java.util.stream.Stream<Path> files = Files.list(tempDir.resolve("concurrent_images"))) {
+                assertEquals(sequentialImages.size(), files.count());
+            }
+        } finally {
+            StaticContainers.closeImagesUtils();
+            StaticLayoutContainers.clearContainers();
+            try (java.util.stream.Stream<Path> paths = Files.walk(tempDir)) {
+                paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(p -> {
+                        try {
+                            Files.deleteIfExists(p);
+                        } catch (IOException ignored) {
+                        }
+                    });
+            }
+        }
+    }
+
+    @Test
+    void testCropsAreTakenPageByPageAndEachPageIsReleased() throws IOException {
+        File testPdf = new File("../../samples/pdf/1901.03003.pdf");
+        if (!testPdf.exists()) {
+            System.out.println("Skipping test: Sample PDF not found");
+            return;
+        }
+        StaticLayoutContainers.clearContainers();
+        Path tempDir = Files.createTempDirectory("paged-crops");
+        try {
+            DocumentProcessor.preprocessing(testPdf.getAbsolutePath(), new Config());
+            StaticLayoutContainers.clearContainers();
+
+            List<String> sequentialEvents = new ArrayList<>();
+            List<List<IObject>> sequentialContents = createPagedImageContents();
+            StaticLayoutContainers.setImagesDirectory(tempDir.resolve("sequential_images").toString());
+            createRecordingImagesUtils(sequentialEvents).write(sequentialContents, 1);
+
+            List<String> concurrentEvents = new ArrayList<>();
+            List<List<IObject>> concurrentContents = createPagedImageContents();
+            StaticLayoutContainers.setImagesDirectory(tempDir.resolve("concurrent_images").toString());
+            createRecordingImagesUtils(concurrentEvents).write(concurrentContents, 4);
+
+            // One rendering per page: the crops of a page are taken in a row, and the rendering
+            // is released when the crops move to the next page and after the last crop.
+            List<String> expectedEvents = List.of("crop 0", "crop 0", "release", "crop 1", "crop 1", "release",
+                "crop 2", "crop 2", "release");
+            assertEquals(expectedEvents, sequentialEvents);
+            assertEquals(expectedEvents, concurrentEvents);
+
+            // Indices follow the page order, including the page 2 crop listed on page 0.
+            int[] expectedIndices = {1, 5, 2, 3, 4, 6};
+            List<ImageChunk> sequentialChunks = getImageChunks(sequentialContents);
+            List<ImageChunk> concurrentChunks = getImageChunks(concurrentContents);
+            for (int chunk = 0; chunk < expectedIndices.length; chunk++) {
+                assertEquals(expectedIndices[chunk], sequentialChunks.get(chunk).getIndex());
+                assertEquals(expectedIndices[chunk], concurrentChunks.get(chunk).getIndex());
+            }
+            for (int imageIndex = 1; imageIndex <= expectedIndices.length; imageIndex++) {
+                String fileName = "imageFile" + imageIndex + ".png";
+                Path sequentialFile = tempDir.resolve("sequential_images").resolve(fileName);
+                Path concurrentFile = tempDir.resolve("concurrent_images").resolve(fileName);
+                assertTrue(Files.exists(sequentialFile), "Sequential write must create " + fileName);
+                assertArrayEquals(Files.readAllBytes(sequentialFile), Files.readAllBytes(concurrentFile),
+                    "Concurrent write must produce the same bytes for " + fileName);
+            }
+        } finally {
+            StaticContainers.closeImagesUtils();
+            StaticLayoutContainers.clearContainers();
+            try (java.util.stream.Stream<Path> paths = Files.walk(tempDir)) {
+                paths.sorted((a, b) -> b.compareTo(a))
+                    .forEach(p -> {
+                        try {
+                            Files.deleteIfExists(p);
+                        } catch (IOException ignored) {
+                        }
+                    });
+            }
+        }
+    }
+
+    /**
+     * An ImagesUtils that records each page crop and each release of the page rendering.
+     */
+    private static ImagesUtils createRecordingImagesUtils(List<String> events) {
+        return new ImagesUtils() {
+            @Override
+            BufferedImage getPageSubImage(BoundingBox boundingBox) {
+                events.add("crop " + boundingBox.getPageNumber());
+                return super.getPageSubImage(boundingBox);
+            }
+
+            @Override
+            void clearRenderedPages() {
+                events.add("release");
+                super.clearRenderedPages();
+            }
+        };
+    }
+
+    /**
+     * Page contents with two crops on each of the first three pages. The second crop listed on
+     * page 0 lies on page 2, as a chunk of a multi-page object may.
+     */
+    private static List<List<IObject>> createPagedImageContents() {
+        List<List<IObject>> contents = new ArrayList<>();
+        for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            contents.add(new ArrayList<>());
+        }
+        int[][] crops = {{0, 0}, {0, 2}, {0, 0}, {1, 1}, {1, 1}, {2, 2}};
+        for (int crop = 0; crop < crops.length; crop++) {
+            double left = 50.0 + 30.0 * crop;
+            contents.get(crops[crop][0]).add(new ImageChunk(new BoundingBox(crops[crop][1], left, 400.0,
+                left + 60.0, 480.0)));
+        }
+        return contents;
+    }
+
+    private static List<ImageChunk> getImageChunks(List<List<IObject>> contents) {
+        List<ImageChunk> chunks = new ArrayList<>();
+        for (List<IObject> pageContents : contents) {
+            for (IObject content : pageContents) {
+                chunks.add((ImageChunk) content);
+            }
+        }
+        return chunks;
+    }
+
+    /**
+     * Page contents with several image crops of different sizes on the first page and no
+     * contents on the others.
+     */
+    private static List<List<IObject>> createImageContents() {
+        List<List<IObject>> contents = new ArrayList<>();
+        for (int pageNumber = 0; pageNumber < StaticContainers.getDocument().getNumberOfPages(); pageNumber++) {
+            contents.add(new ArrayList<>());
+        }
+        for (int image = 0; image < 6; image++) {
+            double left = 50.0 + 20.0 * image;
+            double bottom = 400.0 + 30.0 * image;
+            contents.get(0).add(new ImageChunk(new BoundingBox(0, left, bottom, left + 40.0 + 10.0 * image,
+                bottom + 60.0)));
+        }
+        return contents;
+    }
+
+    @Test
+    void testGetArchiveEntryName() {
+        assertEquals("sample_images/imageFile3.png",
+            ImagesUtils.getArchiveEntryName(Paths.get("out", "sample_images", "imageFile3.png").toString()));
+        assertEquals("imageFile3.png", ImagesUtils.getArchiveEntryName("imageFile3.png"));
+    }
+
     /**
      * Regression guard for issue #458 (OOM).
      *
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.junit.jupiter.api.Test;
+import org.verapdf.as.ASAtom;
+import org.verapdf.cos.COSArray;
+import org.verapdf.cos.COSBoolean;
+import org.verapdf.cos.COSDictionary;
+import org.verapdf.cos.COSInteger;
+import org.verapdf.cos.COSName;
+import org.verapdf.cos.COSObject;
+import org.verapdf.cos.COSStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JpegStreamUtilsTest {
+
+    @Test
+    void plainRgbJpegIsCopied() {
+        assertTrue(JpegStreamUtils.isJpegPassthroughCandidate(createJpegImage(ASAtom.DEVICERGB)));
+        assertTrue(JpegStreamUtils.isJpegPassthroughCandidate(createJpegImage(ASAtom.DEVICEGRAY)));
+    }
+
+    @Test
+    void singleFilterArrayIsAccepted() {
+        COSObject image = createJpegImage(ASAtom.DEVICERGB);
+        COSObject filters = COSArray.construct();
+        filters.add(COSName.construct(ASAtom.DCT_DECODE));
+        image.setKey(ASAtom.FILTER, filters);
+
+        assertTrue(JpegStreamUtils.isJpegPassthroughCandidate(image));
+    }
+
+    @Test
+    void imagesThatNeedTheirDictionaryAreDecoded() {
+        COSObject cmyk = createJpegImage(ASAtom.DEVICECMYK);
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(cmyk));
+
+        COSObject softMask = createJpegImage(ASAtom.DEVICERGB);
+        softMask.setKey(ASAtom.SMASK, COSStream.construct());
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(softMask));
+
+        COSObject decode = createJpegImage(ASAtom.DEVICEGRAY);
+        decode.setKey(ASAtom.DECODE, COSArray.construct());
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(decode));
+
+        COSObject stencil = createJpegImage(ASAtom.DEVICEGRAY);
+        stencil.setKey(ASAtom.IMAGE_MASK, COSBoolean.construct(true));
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(stencil));
+
+        COSObject colorTransform = createJpegImage(ASAtom.DEVICERGB);
+        COSObject decodeParms = COSDictionary.construct();
+        decodeParms.setKey(ASAtom.getASAtom("ColorTransform"), COSInteger.construct(0));
+        colorTransform.setKey(ASAtom.DECODE_PARMS, decodeParms);
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(colorTransform));
+
+        COSObject chained = createJpegImage(ASAtom.DEVICERGB);
+        COSObject filters = COSArray.construct();
+        filters.add(COSName.construct(ASAtom.FLATE_DECODE));
+        filters.add(COSName.construct(ASAtom.DCT_DECODE));
+        chained.setKey(ASAtom.FILTER, filters);
+        assertFalse(JpegStreamUtils.isJpegPassthroughCandidate(chained));
+    }
+
+    @Test
+    void jpegDataStartsWithStartOfImage() {
+        assertTrue(JpegStreamUtils.isJpegData(new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xD9}));
+        assertFalse(JpegStreamUtils.isJpegData(new byte[]{(byte) 0x89, 'P', 'N', 'G'}));
+        assertFalse(JpegStreamUtils.isJpegData(null));
+    }
+
+    private static COSObject createJpegImage(ASAtom colorSpace) {
+        COSObject image = COSStream.construct();
+        image.setKey(ASAtom.SUBTYPE, COSName.construct(ASAtom.IMAGE));
+        image.setKey(ASAtom.FILTER, COSName.construct(ASAtom.DCT_DECODE));
+        image.setKey(ASAtom.COLORSPACE, COSName.construct(colorSpace));
+        return image;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.junit.jupiter.api.Test;
+import org.verapdf.wcag.algorithms.entities.IObject;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
+import org.verapdf.wcag.algorithms.entities.content.TextChunk;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PageSpatialIndexTest {
+
+    @Test
+    void indexesOnlyNonNullObjectsOfTheRequestedType() {
+        ImageChunk image = new ImageChunk(new BoundingBox(0, 0.0, 0.0, 10.0, 10.0));
+        TextChunk text = new TextChunk(new BoundingBox(0, 0.0, 0.0, 10.0, 10.0), "a", 10, 0.0);
+        List<IObject> contents = new ArrayList<>();
+        contents.add(text);
+        contents.add(null);
+        contents.add(image);
+
+        PageSpatialIndex<ImageChunk> images = PageSpatialIndex.ofBoundingBoxes(contents, ImageChunk.class);
+        PageSpatialIndex<IObject> all = PageSpatialIndex.ofBoundingBoxes(contents, IObject.class);
+
+        assertThat(images.query(5.0, 5.0, 6.0, 6.0)).containsExactly(image);
+        assertThat(all.query(5.0, 5.0, 6.0, 6.0)).containsExactly(text, image);
+    }
+
+    @Test
+    void queryWithMarginWidensTheBoundingBox() {
+        ImageChunk image = new ImageChunk(new BoundingBox(0, 20.0, 0.0, 30.0, 10.0));
+        PageSpatialIndex<ImageChunk> index = PageSpatialIndex.ofBoundingBoxes(List.of(image), ImageChunk.class);
+        BoundingBox query = new BoundingBox(0, 0.0, 0.0, 15.0, 10.0);
+
+        assertThat(index.query(query, 0.0)).isEmpty();
+        assertThat(index.query(query, 5.0)).containsExactly(image);
+    }
+
+    @Test
+    void indexIsSnapshotOfContentsAtCreation() {
+        List<IObject> contents = new ArrayList<>();
+        contents.add(new ImageChunk(new BoundingBox(0, 0.0, 0.0, 10.0, 10.0)));
+        PageSpatialIndex<IObject> index = PageSpatialIndex.ofCenters(contents, IObject.class);
+        assertThat(index.query(0.0, 0.0, 100.0, 100.0)).hasSize(1);
+
+        contents.add(new ImageChunk(new BoundingBox(0, 50.0, 50.0, 60.0, 60.0)));
+        assertThat(index.query(0.0, 0.0, 100.0, 100.0)).hasSize(1);
+        assertThat(PageSpatialIndex.ofCenters(contents, IObject.class).query(0.0, 0.0, 100.0, 100.0)).hasSize(2);
+    }
+
+    @Test
+    void changesBeforeFirstQueryAreNotSeen() {
+        List<IObject> contents = new ArrayList<>();
+        contents.add(new ImageChunk(new BoundingBox(0, 0.0, 0.0, 10.0, 10.0)));
+        PageSpatialIndex<IObject> index = PageSpatialIndex.ofBoundingBoxes(contents, IObject.class);
+
+        contents.clear();
+        assertThat(index.query(0.0, 0.0, 100.0, 100.0)).hasSize(1);
+    }
+}
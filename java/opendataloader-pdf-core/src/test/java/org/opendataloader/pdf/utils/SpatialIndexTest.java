@@ -0,0 +1,80 @@
+/*
+ * Copyright 2025-2026 Hancom Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.opendataloader.pdf.utils;
+
+import org.junit.jupiter.api.Test;
+import org.verapdf.wcag.algorithms.entities.content.ImageChunk;
+import org.verapdf.wcag.algorithms.entities.geometry.BoundingBox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpatialIndexTest {
+
+    @Test
+    void candidatesMatchBruteForceScan() {
+        Random random = new Random(42);
+        List<ImageChunk> chunks = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            double left = random.nextDouble() * 600;
+            double bottom = random.nextDouble() * 800;
+            double width = random.nextInt(10) == 0 ? random.nextDouble() * 300 : random.nextDouble() * 20;
+            double height = random.nextDouble() * 15;
+            chunks.add(new ImageChunk(new BoundingBox(0, left, bottom, left + width, bottom + height)));
+        }
+        SpatialIndex<ImageChunk> index = SpatialIndex.ofBoundingBoxes(chunks);
+
+        for (int q = 0; q < 200; q++) {
+            double left = random.nextDouble() * 600;
+            double bottom = random.nextDouble() * 800;
+            double right = left + random.nextDouble() * 100;
+            double top = bottom + random.nextDouble() * 100;
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < chunks.size(); i++) {
+                ImageChunk chunk = chunks.get(i);
+                if (chunk.getLeftX() <= right && chunk.getRightX() >= left
+                        && chunk.getBottomY() <= top && chunk.getTopY() >= bottom) {
+                    expected.add(i);
+                }
+            }
+            assertThat(index.candidates(left, bottom, right, top)).containsExactlyElementsOf(expected);
+        }
+    }
+
+    @Test
+    void centersAreMatchedInclusively() {
+        List<ImageChunk> chunks = List.of(
+            new ImageChunk(new BoundingBox(0, 0.0, 0.0, 10.0, 10.0)),
+            new ImageChunk(new BoundingBox(0, 100.0, 100.0, 110.0, 110.0)),
+            new ImageChunk(new BoundingBox(0, 20.0, 0.0, 30.0, 10.0)));
+        SpatialIndex<ImageChunk> index = SpatialIndex.ofCenters(chunks);
+
+        assertThat(index.query(5.0, 5.0, 25.0, 5.0)).containsExactly(chunks.get(0), chunks.get(2));
+        assertThat(index.query(104.0, 104.0, 106.0, 106.0)).containsExactly(chunks.get(1));
+        assertThat(index.query(40.0, 40.0, 90.0, 90.0)).isEmpty();
+    }
+
+    @Test
+    void emptyIndexReturnsNoCandidates() {
+        SpatialIndex<ImageChunk> index = SpatialIndex.ofBoundingBoxes(new ArrayList<>());
+
+        assertThat(index.isEmpty()).isTrue();
+        assertThat(index.candidates(0, 0, 100, 100)).isEmpty();
+    }
+}
@@ -9,7 +9,9 @@ import { Command } from 'commander';
 export function registerCliOptions(program: Command): void {
   program.option('-o, --output-dir <value>', 'Directory where output files are written. Default: input file directory');
   program.option('-p, --password <value>', 'Password for encrypted PDF files');
-  program.option('-f, --format <value>', 'Output formats (comma-separated). Values: json, text, html, pdf, markdown, tagged-pdf. Default: json. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.');
+  program.option('-f, --format <value>', 'Output formats (comma-separated). Values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot. Default: json. jsonl writes one JSON element per line, page by page. elements writes one flat record per element with its heading path and table or list position. chunks writes the text in chunks of at most --chunk-size tokens for retrieval, one per line. smile and cbor write the JSON structure in a binary encoding. snapshot saves the extracted contents so that other formats can be rendered later without parsing the PDF again. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.');
+  program.option('--output-compression <value>', 'Compression of json, jsonl, elements, chunks, text, html, markdown, smile, cbor and snapshot outputs, applied while writing. Values: none, gzip (appends .gz to file names). Default: none');
+  program.option('--output-archive', 'Write the outputs and extracted images of each document into one ZIP archive named after the document. Images are stored uncompressed. Does not apply to pdf and tagged-pdf outputs');
   program.option('-q, --quiet', 'Suppress console logging output');
   program.option('--content-safety-off <value>', 'Disable content safety filters. Values: all, hidden-text, off-page, tiny, hidden-ocg');
   program.option('--sanitize', 'Enable sensitive data sanitization. Replaces emails, phone numbers, IPs, credit cards, and URLs with placeholders');
@@ -25,6 +27,7 @@ export function registerCliOptions(program: Command): void {
   program.option('--image-output <value>', 'Image output mode. Values: off (no images), embedded (Base64 data URIs), external (file references). Default: external');
   program.option('--image-format <value>', 'Output format for extracted images. Values: png, jpeg. Default: png');
   program.option('--image-dir <value>', 'Directory for extracted images (applies only with --image-output external)');
+  program.option('--image-store <value>', 'Content-addressed image store directory shared across documents. Identical images are stored there once and linked into each image directory (applies only with --image-output external)');
   program.option('--pages <value>', 'Pages to extract (e.g., "1,3,5-7"). Default: all pages');
   program.option('--include-header-footer', 'Include page headers and footers in output');
   program.option('--detect-strikethrough', 'Detect strikethrough text and wrap with ~~ in Markdown output or <del></del> tag in HTML output (experimental)');
@@ -36,8 +39,11 @@ export function registerCliOptions(program: Command): void {
   program.option('--hybrid-hancom-ai-regionlist-strategy <value>', 'DLA label 7 (regionlist) handling. Requires --hybrid=hancom-ai. Values: table-first (default; check TSR overlap), list-only (skip TSR, always treat as list)');
   program.option('--hybrid-hancom-ai-ocr-strategy <value>', 'OCR strategy. Requires --hybrid=hancom-ai. Values: off (stream-only), auto (default; stream first, OCR fallback), force (OCR-only)');
   program.option('--hybrid-hancom-ai-image-cache <value>', 'Page image cache backing. Requires --hybrid=hancom-ai. Values: memory (default), disk');
-  program.option('--to-stdout', 'Write output to stdout instead of file (single format only)');
+  program.option('--to-stdout', 'Write output to stdout instead of file (single format only: text, markdown, html, elements, chunks, jsonl or json, in that order of precedence)');
   program.option('--threads <value>', 'Number of worker threads for per-page processing. Default: 1 (sequential, stable). Values >1 (experimental) run pages in parallel for faster throughput; output may vary slightly on some PDFs. Capped at the number of available CPU cores. Applies to the native Java pipeline only; ignored in --hybrid mode');
+  program.option('--chunk-size <value>', 'Size budget of each chunk of the chunks format, in estimated tokens. Chunks end at headings; table rows and list items are never split. Default: 512');
+  program.option('--triage-preflight', 'Estimate hybrid routing without converting: runs only content filtering and triage, then writes triage-preflight.json with per-document and aggregate page routing (or prints it with --to-stdout). Requires --hybrid; with --hybrid-mode full every page is routed to the backend. No backend is contacted. Documents run in parallel with --threads');
+  program.option('--json-compact', 'Write JSON output without indentation and with coordinates at fixed three-decimal precision, through a large output buffer. Smaller and faster to write for large documents');
   program.option('--image-resolution <value>', 'Set the rendering resolution for images in DPI. Higher values improve image quality but increase memory consumption; lower values reduce memory usage at the cost of detail. Accepts positive decimal DPI values (e.g., 144.0). Default: 144.0.');
   program.option('--space-ratio <value>', 'Set the ratio used to calculate the automatic space-insertion threshold (threshold = space-ratio * font size). If the horizontal gap between two adjacent symbols exceeds this threshold, an extra space is inserted to text value. Accepts decimals (e.g., 0.17). Default: 0.17');
 }
@@ -9,8 +9,12 @@ export interface ConvertOptions {
   outputDir?: string;
   /** Password for encrypted PDF files */
   password?: string;
-  /** Output formats (comma-separated). Values: json, text, html, pdf, markdown, tagged-pdf. Default: json. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output. */
+  /** Output formats (comma-separated). Values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot. Default: json. jsonl writes one JSON element per line, page by page. elements writes one flat record per element with its heading path and table or list position. chunks writes the text in chunks of at most --chunk-size tokens for retrieval, one per line. smile and cbor write the JSON structure in a binary encoding. snapshot saves the extracted contents so that other formats can be rendered later without parsing the PDF again. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output. */
   format?: string | string[];
+  /** Compression of json, jsonl, elements, chunks, text, html, markdown, smile, cbor and snapshot outputs, applied while writing. Values: none, gzip (appends .gz to file names). Default: none */
+  outputCompression?: string;
+  /** Write the outputs and extracted images of each document into one ZIP archive named after the document. Images are stored uncompressed. Does not apply to pdf and tagged-pdf outputs */
+  outputArchive?: boolean;
   /** Suppress console logging output */
   quiet?: boolean;
   /** Disable content safety filters. Values: all, hidden-text, off-page, tiny, hidden-ocg */
@@ -41,6 +45,8 @@ export interface ConvertOptions {
   imageFormat?: string;
   /** Directory for extracted images (applies only with --image-output external) */
   imageDir?: string;
+  /** Content-addressed image store directory shared across documents. Identical images are stored there once and linked into each image directory (applies only with --image-output external) */
+  imageStore?: string;
   /** Pages to extract (e.g., "1,3,5-7"). Default: all pages */
   pages?: string;
   /** Include page headers and footers in output */
@@ -63,10 +69,16 @@ export interface ConvertOptions {
   hybridHancomAiOcrStrategy?: string;
   /** Page image cache backing. Requires --hybrid=hancom-ai. Values: memory (default), disk */
   hybridHancomAiImageCache?: string;
-  /** Write output to stdout instead of file (single format only) */
+  /** Write output to stdout instead of file (single format only: text, markdown, html, elements, chunks, jsonl or json, in that order of precedence) */
   toStdout?: boolean;
   /** Number of worker threads for per-page processing. Default: 1 (sequential, stable). Values >1 (experimental) run pages in parallel for faster throughput; output may vary slightly on some PDFs. Capped at the number of available CPU cores. Applies to the native Java pipeline only; ignored in --hybrid mode */
   threads?: string;
+  /** Size budget of each chunk of the chunks format, in estimated tokens. Chunks end at headings; table rows and list items are never split. Default: 512 */
+  chunkSize?: string;
+  /** Estimate hybrid routing without converting: runs only content filtering and triage, then writes triage-preflight.json with per-document and aggregate page routing (or prints it with --to-stdout). Requires --hybrid; with --hybrid-mode full every page is routed to the backend. No backend is contacted. Documents run in parallel with --threads */
+  triagePreflight?: boolean;
+  /** Write JSON output without indentation and with coordinates at fixed three-decimal precision, through a large output buffer. Smaller and faster to write for large documents */
+  jsonCompact?: boolean;
   /** Set the rendering resolution for images in DPI. Higher values improve image quality but increase memory consumption; lower values reduce memory usage at the cost of detail. Accepts positive decimal DPI values (e.g., 144.0). Default: 144.0. */
   imageResolution?: string;
   /** Set the ratio used to calculate the automatic space-insertion threshold (threshold = space-ratio * font size). If the horizontal gap between two adjacent symbols exceeds this threshold, an extra space is inserted to text value. Accepts decimals (e.g., 0.17). Default: 0.17 */
@@ -80,6 +92,8 @@ export interface CliOptions {
   outputDir?: string;
   password?: string;
   format?: string;
+  outputCompression?: string;
+  outputArchive?: boolean;
   quiet?: boolean;
   contentSafetyOff?: string;
   sanitize?: boolean;
@@ -95,6 +109,7 @@ export interface CliOptions {
   imageOutput?: string;
   imageFormat?: string;
   imageDir?: string;
+  imageStore?: string;
   pages?: string;
   includeHeaderFooter?: boolean;
   detectStrikethrough?: boolean;
@@ -108,6 +123,9 @@ export interface CliOptions {
   hybridHancomAiImageCache?: string;
   toStdout?: boolean;
   threads?: string;
+  chunkSize?: string;
+  triagePreflight?: boolean;
+  jsonCompact?: boolean;
   imageResolution?: string;
   spaceRatio?: string;
 }
@@ -127,6 +145,12 @@ export function buildConvertOptions(cliOptions: CliOptions): ConvertOptions {
   if (cliOptions.format) {
     convertOptions.format = cliOptions.format;
   }
+  if (cliOptions.outputCompression) {
+    convertOptions.outputCompression = cliOptions.outputCompression;
+  }
+  if (cliOptions.outputArchive) {
+    convertOptions.outputArchive = true;
+  }
   if (cliOptions.quiet) {
     convertOptions.quiet = true;
   }
@@ -172,6 +196,9 @@ export function buildConvertOptions(cliOptions: CliOptions): ConvertOptions {
   if (cliOptions.imageDir) {
     convertOptions.imageDir = cliOptions.imageDir;
   }
+  if (cliOptions.imageStore) {
+    convertOptions.imageStore = cliOptions.imageStore;
+  }
   if (cliOptions.pages) {
     convertOptions.pages = cliOptions.pages;
   }
@@ -211,6 +238,15 @@ export function buildConvertOptions(cliOptions: CliOptions): ConvertOptions {
   if (cliOptions.threads) {
     convertOptions.threads = cliOptions.threads;
   }
+  if (cliOptions.chunkSize) {
+    convertOptions.chunkSize = cliOptions.chunkSize;
+  }
+  if (cliOptions.triagePreflight) {
+    convertOptions.triagePreflight = true;
+  }
+  if (cliOptions.jsonCompact) {
+    convertOptions.jsonCompact = true;
+  }
   if (cliOptions.imageResolution) {
     convertOptions.imageResolution = cliOptions.imageResolution;
   }
@@ -242,6 +278,12 @@ export function buildArgs(options: ConvertOptions): string[] {
       args.push('--format', options.format);
     }
   }
+  if (options.outputCompression) {
+    args.push('--output-compression', options.outputCompression);
+  }
+  if (options.outputArchive) {
+    args.push('--output-archive');
+  }
   if (options.quiet) {
     args.push('--quiet');
   }
@@ -293,6 +335,9 @@ export function buildArgs(options: ConvertOptions): string[] {
   if (options.imageDir) {
     args.push('--image-dir', options.imageDir);
   }
+  if (options.imageStore) {
+    args.push('--image-store', options.imageStore);
+  }
   if (options.pages) {
     args.push('--pages', options.pages);
   }
@@ -332,6 +377,15 @@ export function buildArgs(options: ConvertOptions): string[] {
   if (options.threads) {
     args.push('--threads', options.threads);
   }
+  if (options.chunkSize) {
+    args.push('--chunk-size', options.chunkSize);
+  }
+  if (options.triagePreflight) {
+    args.push('--triage-preflight');
+  }
+  if (options.jsonCompact) {
+    args.push('--json-compact');
+  }
   if (options.imageResolution) {
     args.push('--image-resolution', options.imageResolution);
   }
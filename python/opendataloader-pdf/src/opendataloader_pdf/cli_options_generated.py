@@ -34,7 +34,25 @@ CLI_OPTIONS: List[Dict[str, Any]] = [
         "type": "string",
         "required": False,
         "default": None,
-        "description": "Output formats (comma-separated). Values: json, text, html, pdf, markdown, tagged-pdf. Default: json. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.",
+        "description": "Output formats (comma-separated). Values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot. Default: json. jsonl writes one JSON element per line, page by page. elements writes one flat record per element with its heading path and table or list position. chunks writes the text in chunks of at most --chunk-size tokens for retrieval, one per line. smile and cbor write the JSON structure in a binary encoding. snapshot saves the extracted contents so that other formats can be rendered later without parsing the PDF again. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.",
+    },
+    {
+        "name": "output-compression",
+        "python_name": "output_compression",
+        "short_name": None,
+        "type": "string",
+        "required": False,
+        "default": "none",
+        "description": "Compression of json, jsonl, elements, chunks, text, html, markdown, smile, cbor and snapshot outputs, applied while writing. Values: none, gzip (appends .gz to file names). Default: none",
+    },
+    {
+        "name": "output-archive",
+        "python_name": "output_archive",
+        "short_name": None,
+        "type": "boolean",
+        "required": False,
+        "default": False,
+        "description": "Write the outputs and extracted images of each document into one ZIP archive named after the document. Images are stored uncompressed. Does not apply to pdf and tagged-pdf outputs",
     },
     {
         "name": "quiet",
@@ -171,6 +189,15 @@ CLI_OPTIONS: List[Dict[str, Any]] = [
         "default": None,
         "description": "Directory for extracted images (applies only with --image-output external)",
     },
+    {
+        "name": "image-store",
+        "python_name": "image_store",
+        "short_name": None,
+        "type": "string",
+        "required": False,
+        "default": None,
+        "description": "Content-addressed image store directory shared across documents. Identical images are stored there once and linked into each image directory (applies only with --image-output external)",
+    },
     {
         "name": "pages",
         "python_name": "pages",
@@ -277,7 +304,7 @@ CLI_OPTIONS: List[Dict[str, Any]] = [
         "type": "boolean",
         "required": False,
         "default": False,
-        "description": "Write output to stdout instead of file (single format only)",
+        "description": "Write output to stdout instead of file (single format only: text, markdown, html, elements, chunks, jsonl or json, in that order of precedence)",
     },
     {
         "name": "threads",
@@ -288,6 +315,33 @@ CLI_OPTIONS: List[Dict[str, Any]] = [
         "default": "1",
         "description": "Number of worker threads for per-page processing. Default: 1 (sequential, stable). Values >1 (experimental) run pages in parallel for faster throughput; output may vary slightly on some PDFs. Capped at the number of available CPU cores. Applies to the native Java pipeline only; ignored in --hybrid mode",
     },
+    {
+        "name": "chunk-size",
+        "python_name": "chunk_size",
+        "short_name": None,
+        "type": "string",
+        "required": False,
+        "default": "512",
+        "description": "Size budget of each chunk of the chunks format, in estimated tokens. Chunks end at headings; table rows and list items are never split. Default: 512",
+    },
+    {
+        "name": "triage-preflight",
+        "python_name": "triage_preflight",
+        "short_name": None,
+        "type": "boolean",
+        "required": False,
+        "default": False,
+        "description": "Estimate hybrid routing without converting: runs only content filtering and triage, then writes triage-preflight.json with per-document and aggregate page routing (or prints it with --to-stdout). Requires --hybrid; with --hybrid-mode full every page is routed to the backend. No backend is contacted. Documents run in parallel with --threads",
+    },
+    {
+        "name": "json-compact",
+        "python_name": "json_compact",
+        "short_name": None,
+        "type": "boolean",
+        "required": False,
+        "default": False,
+        "description": "Write JSON output without indentation and with coordinates at fixed three-decimal precision, through a large output buffer. Smaller and faster to write for large documents",
+    },
     {
         "name": "image-resolution",
         "python_name": "image_resolution",
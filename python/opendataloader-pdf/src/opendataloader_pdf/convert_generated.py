@@ -14,6 +14,8 @@ def convert(
     output_dir: Optional[str] = None,
     password: Optional[str] = None,
     format: Optional[Union[str, List[str]]] = None,
+    output_compression: Optional[str] = None,
+    output_archive: bool = False,
     quiet: bool = False,
     content_safety_off: Optional[Union[str, List[str]]] = None,
     sanitize: bool = False,
@@ -29,6 +31,7 @@ def convert(
     image_output: Optional[str] = None,
     image_format: Optional[str] = None,
     image_dir: Optional[str] = None,
+    image_store: Optional[str] = None,
     pages: Optional[str] = None,
     include_header_footer: bool = False,
     detect_strikethrough: bool = False,
@@ -42,6 +45,9 @@ def convert(
     hybrid_hancom_ai_image_cache: Optional[str] = None,
     to_stdout: bool = False,
     threads: Optional[str] = None,
+    chunk_size: Optional[str] = None,
+    triage_preflight: bool = False,
+    json_compact: bool = False,
     image_resolution: Optional[str] = None,
     space_ratio: Optional[str] = None,
 ) -> None:
@@ -52,7 +58,9 @@ def convert(
         input_path: One or more input PDF file paths or directories
         output_dir: Directory where output files are written. Default: input file directory
         password: Password for encrypted PDF files
-        format: Output formats (comma-separated). Values: json, text, html, pdf, markdown, tagged-pdf. Default: json. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.
+        format: Output formats (comma-separated). Values: json, jsonl, elements, chunks, text, html, pdf, markdown, tagged-pdf, smile, cbor, snapshot. Default: json. jsonl writes one JSON element per line, page by page. elements writes one flat record per element with its heading path and table or list position. chunks writes the text in chunks of at most --chunk-size tokens for retrieval, one per line. smile and cbor write the JSON structure in a binary encoding. snapshot saves the extracted contents so that other formats can be rendered later without parsing the PDF again. For HTML inside Markdown use --markdown-with-html. For image extraction control use --image-output.
+        output_compression: Compression of json, jsonl, elements, chunks, text, html, markdown, smile, cbor and snapshot outputs, applied while writing. Values: none, gzip (appends .gz to file names). Default: none
+        output_archive: Write the outputs and extracted images of each document into one ZIP archive named after the document. Images are stored uncompressed. Does not apply to pdf and tagged-pdf outputs
         quiet: Suppress console logging output
         content_safety_off: Disable content safety filters. Values: all, hidden-text, off-page, tiny, hidden-ocg
         sanitize: Enable sensitive data sanitization. Replaces emails, phone numbers, IPs, credit cards, and URLs with placeholders
@@ -68,6 +76,7 @@ def convert(
         image_output: Image output mode. Values: off (no images), embedded (Base64 data URIs), external (file references). Default: external
         image_format: Output format for extracted images. Values: png, jpeg. Default: png
         image_dir: Directory for extracted images (applies only with --image-output external)
+        image_store: Content-addressed image store directory shared across documents. Identical images are stored there once and linked into each image directory (applies only with --image-output external)
         pages: Pages to extract (e.g., "1,3,5-7"). Default: all pages
         include_header_footer: Include page headers and footers in output
         detect_strikethrough: Detect strikethrough text and wrap with ~~ in Markdown output or <del></del> tag in HTML output (experimental)
@@ -79,8 +88,11 @@ def convert(
         hybrid_hancom_ai_regionlist_strategy: DLA label 7 (regionlist) handling. Requires --hybrid=hancom-ai. Values: table-first (default; check TSR overlap), list-only (skip TSR, always treat as list)
         hybrid_hancom_ai_ocr_strategy: OCR strategy. Requires --hybrid=hancom-ai. Values: off (stream-only), auto (default; stream first, OCR fallback), force (OCR-only)
         hybrid_hancom_ai_image_cache: Page image cache backing. Requires --hybrid=hancom-ai. Values: memory (default), disk
-        to_stdout: Write output to stdout instead of file (single format only)
+        to_stdout: Write output to stdout instead of file (single format only: text, markdown, html, elements, chunks, jsonl or json, in that order of precedence)
         threads: Number of worker threads for per-page processing. Default: 1 (sequential, stable). Values >1 (experimental) run pages in parallel for faster throughput; output may vary slightly on some PDFs. Capped at the number of available CPU cores. Applies to the native Java pipeline only; ignored in --hybrid mode
+        chunk_size: Size budget of each chunk of the chunks format, in estimated tokens. Chunks end at headings; table rows and list items are never split. Default: 512
+        triage_preflight: Estimate hybrid routing without converting: runs only content filtering and triage, then writes triage-preflight.json with per-document and aggregate page routing (or prints it with --to-stdout). Requires --hybrid; with --hybrid-mode full every page is routed to the backend. No backend is contacted. Documents run in parallel with --threads
+        json_compact: Write JSON output without indentation and with coordinates at fixed three-decimal precision, through a large output buffer. Smaller and faster to write for large documents
         image_resolution: Set the rendering resolution for images in DPI. Higher values improve image quality but increase memory consumption; lower values reduce memory usage at the cost of detail. Accepts positive decimal DPI values (e.g., 144.0). Default: 144.0.
         space_ratio: Set the ratio used to calculate the automatic space-insertion threshold (threshold = space-ratio * font size). If the horizontal gap between two adjacent symbols exceeds this threshold, an extra space is inserted to text value. Accepts decimals (e.g., 0.17). Default: 0.17
     """
@@ -102,6 +114,10 @@ def convert(
                 args.extend(["--format", ",".join(format)])
         else:
             args.extend(["--format", format])
+    if output_compression:
+        args.extend(["--output-compression", output_compression])
+    if output_archive:
+        args.append("--output-archive")
     if quiet:
         args.append("--quiet")
     if content_safety_off:
@@ -136,6 +152,8 @@ def convert(
         args.extend(["--image-format", image_format])
     if image_dir:
         args.extend(["--image-dir", image_dir])
+    if image_store:
+        args.extend(["--image-store", image_store])
     if pages:
         args.extend(["--pages", pages])
     if include_header_footer:
@@ -162,6 +180,12 @@ def convert(
         args.append("--to-stdout")
     if threads:
         args.extend(["--threads", threads])
+    if chunk_size:
+        args.extend(["--chunk-size", chunk_size])
+    if triage_preflight:
+        args.append("--triage-preflight")
+    if json_compact:
+        args.append("--json-compact")
     if image_resolution:
         args.extend(["--image-resolution", image_resolution])
     if space_ratio: